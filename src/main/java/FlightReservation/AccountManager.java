@@ -0,0 +1,13 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AccountManager.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public interface AccountManager extends AccountManagerOperations, org.omg.CORBA.Object, org.omg.CORBA.portable.IDLEntity 
+{
+} // interface AccountManager
@@ -0,0 +1,41 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AccountManagerOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public interface AccountManagerOperations 
+{
+
+  // Historique des r??servations
+  FlightReservation.BookingHistory[] getBookingHistory (String customerId);
+  FlightReservation.BookingHistory getBookingDetails (String reservationId);
+
+  // Gestion du profil
+  boolean updateProfile (FlightReservation.ProfileUpdate profileData) throws FlightReservation.InvalidPasswordException;
+  boolean changePassword (String customerId, String currentPassword, String newPassword) throws FlightReservation.InvalidPasswordException;
+
+  // R??initialisation mot de passe
+  String requestPasswordReset (String email);
+  boolean resetPassword (FlightReservation.PasswordReset resetData) throws FlightReservation.ResetTokenExpiredException;
+
+  // M??thodes de paiement sauvegard??es
+  FlightReservation.SavedPaymentMethod savePaymentMethod (FlightReservation.SavedPaymentMethod paymentMethod);
+  FlightReservation.SavedPaymentMethod[] getSavedPaymentMethods (String customerId);
+  boolean deletePaymentMethod (String paymentMethodId);
+  boolean setDefaultPaymentMethod (String paymentMethodId);
+
+  // Destinations favorites
+  FlightReservation.Destination[] getPopularDestinations ();
+  FlightReservation.Destination[] getFavoriteDestinations (String customerId);
+  boolean addFavoriteDestination (String customerId, String cityName);
+  boolean removeFavoriteDestination (String customerId, String cityName);
+
+  // Newsletter
+  boolean subscribeNewsletter (FlightReservation.Newsletter newsletter);
+  boolean unsubscribeNewsletter (String email);
+} // interface AccountManagerOperations
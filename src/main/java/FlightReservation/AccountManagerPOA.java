@@ -0,0 +1,268 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AccountManagerPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public abstract class AccountManagerPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.AccountManagerOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("getBookingHistory", new java.lang.Integer (0));
+    _methods.put ("getBookingDetails", new java.lang.Integer (1));
+    _methods.put ("updateProfile", new java.lang.Integer (2));
+    _methods.put ("changePassword", new java.lang.Integer (3));
+    _methods.put ("requestPasswordReset", new java.lang.Integer (4));
+    _methods.put ("resetPassword", new java.lang.Integer (5));
+    _methods.put ("savePaymentMethod", new java.lang.Integer (6));
+    _methods.put ("getSavedPaymentMethods", new java.lang.Integer (7));
+    _methods.put ("deletePaymentMethod", new java.lang.Integer (8));
+    _methods.put ("setDefaultPaymentMethod", new java.lang.Integer (9));
+    _methods.put ("getPopularDestinations", new java.lang.Integer (10));
+    _methods.put ("getFavoriteDestinations", new java.lang.Integer (11));
+    _methods.put ("addFavoriteDestination", new java.lang.Integer (12));
+    _methods.put ("removeFavoriteDestination", new java.lang.Integer (13));
+    _methods.put ("subscribeNewsletter", new java.lang.Integer (14));
+    _methods.put ("unsubscribeNewsletter", new java.lang.Integer (15));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+
+  // Historique des r??servations
+       case 0:  // FlightReservation/AccountManager/getBookingHistory
+       {
+         String customerId = in.read_string ();
+         FlightReservation.BookingHistory $result[] = null;
+         $result = this.getBookingHistory (customerId);
+         out = $rh.createReply();
+         FlightReservation.BookingHistoryListHelper.write (out, $result);
+         break;
+       }
+
+       case 1:  // FlightReservation/AccountManager/getBookingDetails
+       {
+         String reservationId = in.read_string ();
+         FlightReservation.BookingHistory $result = null;
+         $result = this.getBookingDetails (reservationId);
+         out = $rh.createReply();
+         FlightReservation.BookingHistoryHelper.write (out, $result);
+         break;
+       }
+
+
+  // Gestion du profil
+       case 2:  // FlightReservation/AccountManager/updateProfile
+       {
+         try {
+           FlightReservation.ProfileUpdate profileData = FlightReservation.ProfileUpdateHelper.read (in);
+           boolean $result = false;
+           $result = this.updateProfile (profileData);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.InvalidPasswordException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.InvalidPasswordExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 3:  // FlightReservation/AccountManager/changePassword
+       {
+         try {
+           String customerId = in.read_string ();
+           String currentPassword = in.read_string ();
+           String newPassword = in.read_string ();
+           boolean $result = false;
+           $result = this.changePassword (customerId, currentPassword, newPassword);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.InvalidPasswordException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.InvalidPasswordExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // R??initialisation mot de passe
+       case 4:  // FlightReservation/AccountManager/requestPasswordReset
+       {
+         String email = in.read_string ();
+         String $result = null;
+         $result = this.requestPasswordReset (email);
+         out = $rh.createReply();
+         out.write_string ($result);
+         break;
+       }
+
+       case 5:  // FlightReservation/AccountManager/resetPassword
+       {
+         try {
+           FlightReservation.PasswordReset resetData = FlightReservation.PasswordResetHelper.read (in);
+           boolean $result = false;
+           $result = this.resetPassword (resetData);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.ResetTokenExpiredException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.ResetTokenExpiredExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // M??thodes de paiement sauvegard??es
+       case 6:  // FlightReservation/AccountManager/savePaymentMethod
+       {
+         FlightReservation.SavedPaymentMethod paymentMethod = FlightReservation.SavedPaymentMethodHelper.read (in);
+         FlightReservation.SavedPaymentMethod $result = null;
+         $result = this.savePaymentMethod (paymentMethod);
+         out = $rh.createReply();
+         FlightReservation.SavedPaymentMethodHelper.write (out, $result);
+         break;
+       }
+
+       case 7:  // FlightReservation/AccountManager/getSavedPaymentMethods
+       {
+         String customerId = in.read_string ();
+         FlightReservation.SavedPaymentMethod $result[] = null;
+         $result = this.getSavedPaymentMethods (customerId);
+         out = $rh.createReply();
+         FlightReservation.PaymentMethodListHelper.write (out, $result);
+         break;
+       }
+
+       case 8:  // FlightReservation/AccountManager/deletePaymentMethod
+       {
+         String paymentMethodId = in.read_string ();
+         boolean $result = false;
+         $result = this.deletePaymentMethod (paymentMethodId);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 9:  // FlightReservation/AccountManager/setDefaultPaymentMethod
+       {
+         String paymentMethodId = in.read_string ();
+         boolean $result = false;
+         $result = this.setDefaultPaymentMethod (paymentMethodId);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // Destinations favorites
+       case 10:  // FlightReservation/AccountManager/getPopularDestinations
+       {
+         FlightReservation.Destination $result[] = null;
+         $result = this.getPopularDestinations ();
+         out = $rh.createReply();
+         FlightReservation.DestinationListHelper.write (out, $result);
+         break;
+       }
+
+       case 11:  // FlightReservation/AccountManager/getFavoriteDestinations
+       {
+         String customerId = in.read_string ();
+         FlightReservation.Destination $result[] = null;
+         $result = this.getFavoriteDestinations (customerId);
+         out = $rh.createReply();
+         FlightReservation.DestinationListHelper.write (out, $result);
+         break;
+       }
+
+       case 12:  // FlightReservation/AccountManager/addFavoriteDestination
+       {
+         String customerId = in.read_string ();
+         String cityName = in.read_string ();
+         boolean $result = false;
+         $result = this.addFavoriteDestination (customerId, cityName);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 13:  // FlightReservation/AccountManager/removeFavoriteDestination
+       {
+         String customerId = in.read_string ();
+         String cityName = in.read_string ();
+         boolean $result = false;
+         $result = this.removeFavoriteDestination (customerId, cityName);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // Newsletter
+       case 14:  // FlightReservation/AccountManager/subscribeNewsletter
+       {
+         FlightReservation.Newsletter newsletter = FlightReservation.NewsletterHelper.read (in);
+         boolean $result = false;
+         $result = this.subscribeNewsletter (newsletter);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 15:  // FlightReservation/AccountManager/unsubscribeNewsletter
+       {
+         String email = in.read_string ();
+         boolean $result = false;
+         $result = this.unsubscribeNewsletter (email);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/AccountManager:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public AccountManager _this() 
+  {
+    return AccountManagerHelper.narrow(
+    super._this_object());
+  }
+
+  public AccountManager _this(org.omg.CORBA.ORB orb) 
+  {
+    return AccountManagerHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class AccountManagerPOA
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AdminAuthException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class AdminAuthException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public AdminAuthException ()
+  {
+    super(AdminAuthExceptionHelper.id());
+  } // ctor
+
+  public AdminAuthException (String _message)
+  {
+    super(AdminAuthExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public AdminAuthException (String $reason, String _message)
+  {
+    super(AdminAuthExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class AdminAuthException
@@ -0,0 +1,87 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AdminManagerHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== INTERFACE ADMIN ====================
+abstract public class AdminManagerHelper
+{
+  private static String  _id = "IDL:FlightReservation/AdminManager:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.AdminManager that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.AdminManager extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      __typeCode = org.omg.CORBA.ORB.init ().create_interface_tc (FlightReservation.AdminManagerHelper.id (), "AdminManager");
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.AdminManager read (org.omg.CORBA.portable.InputStream istream)
+  {
+    return narrow (istream.read_Object (_AdminManagerStub.class));
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.AdminManager value)
+  {
+    ostream.write_Object ((org.omg.CORBA.Object) value);
+  }
+
+  public static FlightReservation.AdminManager narrow (org.omg.CORBA.Object obj)
+  {
+    if (obj == null)
+      return null;
+    else if (obj instanceof FlightReservation.AdminManager)
+      return (FlightReservation.AdminManager)obj;
+    else if (!obj._is_a (id ()))
+      throw new org.omg.CORBA.BAD_PARAM ();
+    else
+    {
+      org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl)obj)._get_delegate ();
+      FlightReservation._AdminManagerStub stub = new FlightReservation._AdminManagerStub ();
+      stub._set_delegate(delegate);
+      return stub;
+    }
+  }
+
+  public static FlightReservation.AdminManager unchecked_narrow (org.omg.CORBA.Object obj)
+  {
+    if (obj == null)
+      return null;
+    else if (obj instanceof FlightReservation.AdminManager)
+      return (FlightReservation.AdminManager)obj;
+    else
+    {
+      org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl)obj)._get_delegate ();
+      FlightReservation._AdminManagerStub stub = new FlightReservation._AdminManagerStub ();
+      stub._set_delegate(delegate);
+      return stub;
+    }
+  }
+
+}
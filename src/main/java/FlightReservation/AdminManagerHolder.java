@@ -0,0 +1,40 @@
+package FlightReservation;
+
+/**
+* FlightReservation/AdminManagerHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== INTERFACE ADMIN ====================
+public final class AdminManagerHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.AdminManager value = null;
+
+  public AdminManagerHolder ()
+  {
+  }
+
+  public AdminManagerHolder (FlightReservation.AdminManager initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.AdminManagerHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.AdminManagerHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.AdminManagerHelper.type ();
+  }
+
+}
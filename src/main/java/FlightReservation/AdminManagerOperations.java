@@ -0,0 +1,90 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AdminManagerOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== INTERFACE ADMIN ====================
+public interface AdminManagerOperations 
+{
+
+  // ========== AUTHENTIFICATION ==========
+  FlightReservation.AdminUser adminLogin (String username, String password) throws FlightReservation.AdminAuthException;
+  boolean validateAdminSession (String adminId, String token) throws FlightReservation.AdminAuthException;
+  void adminLogout (String adminId);
+
+  // ========== DASHBOARD ==========
+  FlightReservation.DashboardStats getDashboardStats ();
+  FlightReservation.FinancialReport getFinancialReport (String period, String startDate, String endDate);
+
+  // ========== GESTION DES VOLS ==========
+  FlightReservation.FlightManagementData[] getAllFlights ();
+  FlightReservation.FlightManagementData getFlightDetails (String flightId) throws FlightReservation.FlightNotFoundException;
+  String createFlight (FlightReservation.FlightManagementData flightData) throws FlightReservation.FlightManagementException;
+  boolean updateFlight (FlightReservation.FlightManagementData flightData) throws FlightReservation.FlightManagementException;
+  boolean deleteFlight (String flightId) throws FlightReservation.FlightManagementException;
+  boolean cancelFlight (String flightId, String reason) throws FlightReservation.FlightManagementException;
+
+  // ========== GESTION DES UTILISATEURS ==========
+  FlightReservation.UserManagementData[] getAllUsers ();
+  FlightReservation.UserManagementData getUserDetails (String customerId);
+  boolean suspendUser (String customerId, String reason);
+  boolean activateUser (String customerId);
+  boolean deleteUser (String customerId);
+
+  // ========== GESTION DES R??SERVATIONS ==========
+  FlightReservation.BookingManagementData[] getAllBookings ();
+  FlightReservation.BookingManagementData[] getBookingsByStatus (String status);
+  FlightReservation.BookingManagementData[] getBookingsByDate (String startDate, String endDate);
+  boolean cancelBookingAdmin (String reservationId, String reason);
+  boolean modifyBookingAdmin (String reservationId, String[] newSeats);
+
+  // ========== GESTION DES SI??GES ==========
+  FlightReservation.SeatMapData[] getSeatMap (String flightId);
+  boolean updateSeatPrice (String flightId, String seatNumber, double newPrice);
+  boolean blockSeat (String flightId, String seatNumber, String reason);
+  boolean unblockSeat (String flightId, String seatNumber);
+
+  // ???? Compteurs de places / plans de si??ges
+  FlightReservation.SeatDriftReport getSeatDriftReport ();
+  boolean startSeatReconciliation (boolean repair);
+
+  // ========== GESTION DES PRIX ==========
+  FlightReservation.PricingRule[] getPricingRules (String flightId);
+  String createPricingRule (FlightReservation.PricingRule rule);
+  boolean updatePricingRule (FlightReservation.PricingRule rule);
+  boolean deletePricingRule (String ruleId);
+
+  // ========== GESTION DES H??TELS ==========
+  FlightReservation.HotelManagementData[] getAllHotels ();
+  FlightReservation.HotelManagementData getHotelDetails (String hotelId) throws FlightReservation.HotelNotFoundException;
+  String createHotel (FlightReservation.HotelManagementData hotelData) throws FlightReservation.HotelManagementException;
+  boolean updateHotel (FlightReservation.HotelManagementData hotelData) throws FlightReservation.HotelManagementException;
+  boolean deleteHotel (String hotelId) throws FlightReservation.HotelManagementException;
+  boolean suspendHotel (String hotelId, String reason) throws FlightReservation.HotelManagementException;
+  boolean activateHotel (String hotelId) throws FlightReservation.HotelManagementException;
+
+  // ========== GESTION DES R??SERVATIONS D'H??TELS ==========
+  FlightReservation.HotelBookingManagementData[] getAllHotelBookings ();
+  FlightReservation.HotelBookingManagementData[] getHotelBookingsByStatus (String status);
+  FlightReservation.HotelBookingManagementData[] getHotelBookingsByDateRange (String startDate, String endDate);
+  FlightReservation.HotelBookingManagementData[] getHotelBookingsByHotel (String hotelId);
+  boolean cancelHotelBookingAdmin (String hotelReservationId, String reason);
+
+  // ========== STATISTIQUES H??TELS ==========
+  FlightReservation.HotelStatistics getHotelStatistics ();
+
+  // ========== RAPPORTS ==========
+  String generateFullReport (String reportType, String startDate, String endDate);
+  String[] getTopRoutes (int limit);
+  String[] getTopCustomers (int limit);
+
+  // ========== RAPPORTS H??TELS ==========
+  String[] getTopHotels (int limit);
+  String[] getTopCities (int limit);
+} // interface AdminManagerOperations
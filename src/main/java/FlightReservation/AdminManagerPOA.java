@@ -0,0 +1,703 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AdminManagerPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== INTERFACE ADMIN ====================
+public abstract class AdminManagerPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.AdminManagerOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("adminLogin", new java.lang.Integer (0));
+    _methods.put ("validateAdminSession", new java.lang.Integer (1));
+    _methods.put ("adminLogout", new java.lang.Integer (2));
+    _methods.put ("getDashboardStats", new java.lang.Integer (3));
+    _methods.put ("getFinancialReport", new java.lang.Integer (4));
+    _methods.put ("getAllFlights", new java.lang.Integer (5));
+    _methods.put ("getFlightDetails", new java.lang.Integer (6));
+    _methods.put ("createFlight", new java.lang.Integer (7));
+    _methods.put ("updateFlight", new java.lang.Integer (8));
+    _methods.put ("deleteFlight", new java.lang.Integer (9));
+    _methods.put ("cancelFlight", new java.lang.Integer (10));
+    _methods.put ("getAllUsers", new java.lang.Integer (11));
+    _methods.put ("getUserDetails", new java.lang.Integer (12));
+    _methods.put ("suspendUser", new java.lang.Integer (13));
+    _methods.put ("activateUser", new java.lang.Integer (14));
+    _methods.put ("deleteUser", new java.lang.Integer (15));
+    _methods.put ("getAllBookings", new java.lang.Integer (16));
+    _methods.put ("getBookingsByStatus", new java.lang.Integer (17));
+    _methods.put ("getBookingsByDate", new java.lang.Integer (18));
+    _methods.put ("cancelBookingAdmin", new java.lang.Integer (19));
+    _methods.put ("modifyBookingAdmin", new java.lang.Integer (20));
+    _methods.put ("getSeatMap", new java.lang.Integer (21));
+    _methods.put ("updateSeatPrice", new java.lang.Integer (22));
+    _methods.put ("blockSeat", new java.lang.Integer (23));
+    _methods.put ("unblockSeat", new java.lang.Integer (24));
+    _methods.put ("getSeatDriftReport", new java.lang.Integer (25));
+    _methods.put ("startSeatReconciliation", new java.lang.Integer (26));
+    _methods.put ("getPricingRules", new java.lang.Integer (27));
+    _methods.put ("createPricingRule", new java.lang.Integer (28));
+    _methods.put ("updatePricingRule", new java.lang.Integer (29));
+    _methods.put ("deletePricingRule", new java.lang.Integer (30));
+    _methods.put ("getAllHotels", new java.lang.Integer (31));
+    _methods.put ("getHotelDetails", new java.lang.Integer (32));
+    _methods.put ("createHotel", new java.lang.Integer (33));
+    _methods.put ("updateHotel", new java.lang.Integer (34));
+    _methods.put ("deleteHotel", new java.lang.Integer (35));
+    _methods.put ("suspendHotel", new java.lang.Integer (36));
+    _methods.put ("activateHotel", new java.lang.Integer (37));
+    _methods.put ("getAllHotelBookings", new java.lang.Integer (38));
+    _methods.put ("getHotelBookingsByStatus", new java.lang.Integer (39));
+    _methods.put ("getHotelBookingsByDateRange", new java.lang.Integer (40));
+    _methods.put ("getHotelBookingsByHotel", new java.lang.Integer (41));
+    _methods.put ("cancelHotelBookingAdmin", new java.lang.Integer (42));
+    _methods.put ("getHotelStatistics", new java.lang.Integer (43));
+    _methods.put ("generateFullReport", new java.lang.Integer (44));
+    _methods.put ("getTopRoutes", new java.lang.Integer (45));
+    _methods.put ("getTopCustomers", new java.lang.Integer (46));
+    _methods.put ("getTopHotels", new java.lang.Integer (47));
+    _methods.put ("getTopCities", new java.lang.Integer (48));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+
+  // ========== AUTHENTIFICATION ==========
+       case 0:  // FlightReservation/AdminManager/adminLogin
+       {
+         try {
+           String username = in.read_string ();
+           String password = in.read_string ();
+           FlightReservation.AdminUser $result = null;
+           $result = this.adminLogin (username, password);
+           out = $rh.createReply();
+           FlightReservation.AdminUserHelper.write (out, $result);
+         } catch (FlightReservation.AdminAuthException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.AdminAuthExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 1:  // FlightReservation/AdminManager/validateAdminSession
+       {
+         try {
+           String adminId = in.read_string ();
+           String token = in.read_string ();
+           boolean $result = false;
+           $result = this.validateAdminSession (adminId, token);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.AdminAuthException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.AdminAuthExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 2:  // FlightReservation/AdminManager/adminLogout
+       {
+         String adminId = in.read_string ();
+         this.adminLogout (adminId);
+         out = $rh.createReply();
+         break;
+       }
+
+
+  // ========== DASHBOARD ==========
+       case 3:  // FlightReservation/AdminManager/getDashboardStats
+       {
+         FlightReservation.DashboardStats $result = null;
+         $result = this.getDashboardStats ();
+         out = $rh.createReply();
+         FlightReservation.DashboardStatsHelper.write (out, $result);
+         break;
+       }
+
+       case 4:  // FlightReservation/AdminManager/getFinancialReport
+       {
+         String period = in.read_string ();
+         String startDate = in.read_string ();
+         String endDate = in.read_string ();
+         FlightReservation.FinancialReport $result = null;
+         $result = this.getFinancialReport (period, startDate, endDate);
+         out = $rh.createReply();
+         FlightReservation.FinancialReportHelper.write (out, $result);
+         break;
+       }
+
+
+  // ========== GESTION DES VOLS ==========
+       case 5:  // FlightReservation/AdminManager/getAllFlights
+       {
+         FlightReservation.FlightManagementData $result[] = null;
+         $result = this.getAllFlights ();
+         out = $rh.createReply();
+         FlightReservation.FlightManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 6:  // FlightReservation/AdminManager/getFlightDetails
+       {
+         try {
+           String flightId = in.read_string ();
+           FlightReservation.FlightManagementData $result = null;
+           $result = this.getFlightDetails (flightId);
+           out = $rh.createReply();
+           FlightReservation.FlightManagementDataHelper.write (out, $result);
+         } catch (FlightReservation.FlightNotFoundException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.FlightNotFoundExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 7:  // FlightReservation/AdminManager/createFlight
+       {
+         try {
+           FlightReservation.FlightManagementData flightData = FlightReservation.FlightManagementDataHelper.read (in);
+           String $result = null;
+           $result = this.createFlight (flightData);
+           out = $rh.createReply();
+           out.write_string ($result);
+         } catch (FlightReservation.FlightManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.FlightManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 8:  // FlightReservation/AdminManager/updateFlight
+       {
+         try {
+           FlightReservation.FlightManagementData flightData = FlightReservation.FlightManagementDataHelper.read (in);
+           boolean $result = false;
+           $result = this.updateFlight (flightData);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.FlightManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.FlightManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 9:  // FlightReservation/AdminManager/deleteFlight
+       {
+         try {
+           String flightId = in.read_string ();
+           boolean $result = false;
+           $result = this.deleteFlight (flightId);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.FlightManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.FlightManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 10:  // FlightReservation/AdminManager/cancelFlight
+       {
+         try {
+           String flightId = in.read_string ();
+           String reason = in.read_string ();
+           boolean $result = false;
+           $result = this.cancelFlight (flightId, reason);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.FlightManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.FlightManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // ========== GESTION DES UTILISATEURS ==========
+       case 11:  // FlightReservation/AdminManager/getAllUsers
+       {
+         FlightReservation.UserManagementData $result[] = null;
+         $result = this.getAllUsers ();
+         out = $rh.createReply();
+         FlightReservation.UserManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 12:  // FlightReservation/AdminManager/getUserDetails
+       {
+         String customerId = in.read_string ();
+         FlightReservation.UserManagementData $result = null;
+         $result = this.getUserDetails (customerId);
+         out = $rh.createReply();
+         FlightReservation.UserManagementDataHelper.write (out, $result);
+         break;
+       }
+
+       case 13:  // FlightReservation/AdminManager/suspendUser
+       {
+         String customerId = in.read_string ();
+         String reason = in.read_string ();
+         boolean $result = false;
+         $result = this.suspendUser (customerId, reason);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 14:  // FlightReservation/AdminManager/activateUser
+       {
+         String customerId = in.read_string ();
+         boolean $result = false;
+         $result = this.activateUser (customerId);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 15:  // FlightReservation/AdminManager/deleteUser
+       {
+         String customerId = in.read_string ();
+         boolean $result = false;
+         $result = this.deleteUser (customerId);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // ========== GESTION DES R??SERVATIONS ==========
+       case 16:  // FlightReservation/AdminManager/getAllBookings
+       {
+         FlightReservation.BookingManagementData $result[] = null;
+         $result = this.getAllBookings ();
+         out = $rh.createReply();
+         FlightReservation.BookingManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 17:  // FlightReservation/AdminManager/getBookingsByStatus
+       {
+         String status = in.read_string ();
+         FlightReservation.BookingManagementData $result[] = null;
+         $result = this.getBookingsByStatus (status);
+         out = $rh.createReply();
+         FlightReservation.BookingManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 18:  // FlightReservation/AdminManager/getBookingsByDate
+       {
+         String startDate = in.read_string ();
+         String endDate = in.read_string ();
+         FlightReservation.BookingManagementData $result[] = null;
+         $result = this.getBookingsByDate (startDate, endDate);
+         out = $rh.createReply();
+         FlightReservation.BookingManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 19:  // FlightReservation/AdminManager/cancelBookingAdmin
+       {
+         String reservationId = in.read_string ();
+         String reason = in.read_string ();
+         boolean $result = false;
+         $result = this.cancelBookingAdmin (reservationId, reason);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 20:  // FlightReservation/AdminManager/modifyBookingAdmin
+       {
+         String reservationId = in.read_string ();
+         String newSeats[] = FlightReservation.SeatNumberListHelper.read (in);
+         boolean $result = false;
+         $result = this.modifyBookingAdmin (reservationId, newSeats);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // ========== GESTION DES SI??GES ==========
+       case 21:  // FlightReservation/AdminManager/getSeatMap
+       {
+         String flightId = in.read_string ();
+         FlightReservation.SeatMapData $result[] = null;
+         $result = this.getSeatMap (flightId);
+         out = $rh.createReply();
+         FlightReservation.SeatMapListHelper.write (out, $result);
+         break;
+       }
+
+       case 22:  // FlightReservation/AdminManager/updateSeatPrice
+       {
+         String flightId = in.read_string ();
+         String seatNumber = in.read_string ();
+         double newPrice = in.read_double ();
+         boolean $result = false;
+         $result = this.updateSeatPrice (flightId, seatNumber, newPrice);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 23:  // FlightReservation/AdminManager/blockSeat
+       {
+         String flightId = in.read_string ();
+         String seatNumber = in.read_string ();
+         String reason = in.read_string ();
+         boolean $result = false;
+         $result = this.blockSeat (flightId, seatNumber, reason);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 24:  // FlightReservation/AdminManager/unblockSeat
+       {
+         String flightId = in.read_string ();
+         String seatNumber = in.read_string ();
+         boolean $result = false;
+         $result = this.unblockSeat (flightId, seatNumber);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // ???? Compteurs de places / plans de si??ges
+       case 25:  // FlightReservation/AdminManager/getSeatDriftReport
+       {
+         FlightReservation.SeatDriftReport $result = null;
+         $result = this.getSeatDriftReport ();
+         out = $rh.createReply();
+         FlightReservation.SeatDriftReportHelper.write (out, $result);
+         break;
+       }
+
+       case 26:  // FlightReservation/AdminManager/startSeatReconciliation
+       {
+         boolean repair = in.read_boolean ();
+         boolean $result = false;
+         $result = this.startSeatReconciliation (repair);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // ========== GESTION DES PRIX ==========
+       case 27:  // FlightReservation/AdminManager/getPricingRules
+       {
+         String flightId = in.read_string ();
+         FlightReservation.PricingRule $result[] = null;
+         $result = this.getPricingRules (flightId);
+         out = $rh.createReply();
+         FlightReservation.PricingRuleListHelper.write (out, $result);
+         break;
+       }
+
+       case 28:  // FlightReservation/AdminManager/createPricingRule
+       {
+         FlightReservation.PricingRule rule = FlightReservation.PricingRuleHelper.read (in);
+         String $result = null;
+         $result = this.createPricingRule (rule);
+         out = $rh.createReply();
+         out.write_string ($result);
+         break;
+       }
+
+       case 29:  // FlightReservation/AdminManager/updatePricingRule
+       {
+         FlightReservation.PricingRule rule = FlightReservation.PricingRuleHelper.read (in);
+         boolean $result = false;
+         $result = this.updatePricingRule (rule);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 30:  // FlightReservation/AdminManager/deletePricingRule
+       {
+         String ruleId = in.read_string ();
+         boolean $result = false;
+         $result = this.deletePricingRule (ruleId);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // ========== GESTION DES H??TELS ==========
+       case 31:  // FlightReservation/AdminManager/getAllHotels
+       {
+         FlightReservation.HotelManagementData $result[] = null;
+         $result = this.getAllHotels ();
+         out = $rh.createReply();
+         FlightReservation.HotelManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 32:  // FlightReservation/AdminManager/getHotelDetails
+       {
+         try {
+           String hotelId = in.read_string ();
+           FlightReservation.HotelManagementData $result = null;
+           $result = this.getHotelDetails (hotelId);
+           out = $rh.createReply();
+           FlightReservation.HotelManagementDataHelper.write (out, $result);
+         } catch (FlightReservation.HotelNotFoundException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelNotFoundExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 33:  // FlightReservation/AdminManager/createHotel
+       {
+         try {
+           FlightReservation.HotelManagementData hotelData = FlightReservation.HotelManagementDataHelper.read (in);
+           String $result = null;
+           $result = this.createHotel (hotelData);
+           out = $rh.createReply();
+           out.write_string ($result);
+         } catch (FlightReservation.HotelManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 34:  // FlightReservation/AdminManager/updateHotel
+       {
+         try {
+           FlightReservation.HotelManagementData hotelData = FlightReservation.HotelManagementDataHelper.read (in);
+           boolean $result = false;
+           $result = this.updateHotel (hotelData);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.HotelManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 35:  // FlightReservation/AdminManager/deleteHotel
+       {
+         try {
+           String hotelId = in.read_string ();
+           boolean $result = false;
+           $result = this.deleteHotel (hotelId);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.HotelManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 36:  // FlightReservation/AdminManager/suspendHotel
+       {
+         try {
+           String hotelId = in.read_string ();
+           String reason = in.read_string ();
+           boolean $result = false;
+           $result = this.suspendHotel (hotelId, reason);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.HotelManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 37:  // FlightReservation/AdminManager/activateHotel
+       {
+         try {
+           String hotelId = in.read_string ();
+           boolean $result = false;
+           $result = this.activateHotel (hotelId);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.HotelManagementException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelManagementExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // ========== GESTION DES R??SERVATIONS D'H??TELS ==========
+       case 38:  // FlightReservation/AdminManager/getAllHotelBookings
+       {
+         FlightReservation.HotelBookingManagementData $result[] = null;
+         $result = this.getAllHotelBookings ();
+         out = $rh.createReply();
+         FlightReservation.HotelBookingManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 39:  // FlightReservation/AdminManager/getHotelBookingsByStatus
+       {
+         String status = in.read_string ();
+         FlightReservation.HotelBookingManagementData $result[] = null;
+         $result = this.getHotelBookingsByStatus (status);
+         out = $rh.createReply();
+         FlightReservation.HotelBookingManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 40:  // FlightReservation/AdminManager/getHotelBookingsByDateRange
+       {
+         String startDate = in.read_string ();
+         String endDate = in.read_string ();
+         FlightReservation.HotelBookingManagementData $result[] = null;
+         $result = this.getHotelBookingsByDateRange (startDate, endDate);
+         out = $rh.createReply();
+         FlightReservation.HotelBookingManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 41:  // FlightReservation/AdminManager/getHotelBookingsByHotel
+       {
+         String hotelId = in.read_string ();
+         FlightReservation.HotelBookingManagementData $result[] = null;
+         $result = this.getHotelBookingsByHotel (hotelId);
+         out = $rh.createReply();
+         FlightReservation.HotelBookingManagementListHelper.write (out, $result);
+         break;
+       }
+
+       case 42:  // FlightReservation/AdminManager/cancelHotelBookingAdmin
+       {
+         String hotelReservationId = in.read_string ();
+         String reason = in.read_string ();
+         boolean $result = false;
+         $result = this.cancelHotelBookingAdmin (hotelReservationId, reason);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // ========== STATISTIQUES H??TELS ==========
+       case 43:  // FlightReservation/AdminManager/getHotelStatistics
+       {
+         FlightReservation.HotelStatistics $result = null;
+         $result = this.getHotelStatistics ();
+         out = $rh.createReply();
+         FlightReservation.HotelStatisticsHelper.write (out, $result);
+         break;
+       }
+
+
+  // ========== RAPPORTS ==========
+       case 44:  // FlightReservation/AdminManager/generateFullReport
+       {
+         String reportType = in.read_string ();
+         String startDate = in.read_string ();
+         String endDate = in.read_string ();
+         String $result = null;
+         $result = this.generateFullReport (reportType, startDate, endDate);
+         out = $rh.createReply();
+         out.write_string ($result);
+         break;
+       }
+
+       case 45:  // FlightReservation/AdminManager/getTopRoutes
+       {
+         int limit = in.read_long ();
+         String $result[] = null;
+         $result = this.getTopRoutes (limit);
+         out = $rh.createReply();
+         FlightReservation.AdminManagerPackage.StringListHelper.write (out, $result);
+         break;
+       }
+
+       case 46:  // FlightReservation/AdminManager/getTopCustomers
+       {
+         int limit = in.read_long ();
+         String $result[] = null;
+         $result = this.getTopCustomers (limit);
+         out = $rh.createReply();
+         FlightReservation.AdminManagerPackage.StringListHelper.write (out, $result);
+         break;
+       }
+
+
+  // ========== RAPPORTS H??TELS ==========
+       case 47:  // FlightReservation/AdminManager/getTopHotels
+       {
+         int limit = in.read_long ();
+         String $result[] = null;
+         $result = this.getTopHotels (limit);
+         out = $rh.createReply();
+         FlightReservation.AdminManagerPackage.StringListHelper.write (out, $result);
+         break;
+       }
+
+       case 48:  // FlightReservation/AdminManager/getTopCities
+       {
+         int limit = in.read_long ();
+         String $result[] = null;
+         $result = this.getTopCities (limit);
+         out = $rh.createReply();
+         FlightReservation.AdminManagerPackage.StringListHelper.write (out, $result);
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/AdminManager:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public AdminManager _this() 
+  {
+    return AdminManagerHelper.narrow(
+    super._this_object());
+  }
+
+  public AdminManager _this(org.omg.CORBA.ORB orb) 
+  {
+    return AdminManagerHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class AdminManagerPOA
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AdminPermissionException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class AdminPermissionException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public AdminPermissionException ()
+  {
+    super(AdminPermissionExceptionHelper.id());
+  } // ctor
+
+  public AdminPermissionException (String _message)
+  {
+    super(AdminPermissionExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public AdminPermissionException (String $reason, String _message)
+  {
+    super(AdminPermissionExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class AdminPermissionException
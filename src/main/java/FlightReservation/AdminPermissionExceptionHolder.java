@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/AdminPermissionExceptionHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class AdminPermissionExceptionHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.AdminPermissionException value = null;
+
+  public AdminPermissionExceptionHolder ()
+  {
+  }
+
+  public AdminPermissionExceptionHolder (FlightReservation.AdminPermissionException initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.AdminPermissionExceptionHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.AdminPermissionExceptionHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.AdminPermissionExceptionHelper.type ();
+  }
+
+}
@@ -0,0 +1,36 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AdminUser.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class AdminUser implements org.omg.CORBA.portable.IDLEntity
+{
+  public String adminId = null;
+  public String username = null;
+  public String email = null;
+  public String role = null;
+
+  // SUPER_ADMIN, ADMIN, OPERATOR
+  public boolean isActive = false;
+  public String createdAt = null;
+
+  public AdminUser ()
+  {
+  } // ctor
+
+  public AdminUser (String _adminId, String _username, String _email, String _role, boolean _isActive, String _createdAt)
+  {
+    adminId = _adminId;
+    username = _username;
+    email = _email;
+    role = _role;
+    isActive = _isActive;
+    createdAt = _createdAt;
+  } // ctor
+
+} // class AdminUser
@@ -0,0 +1,110 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/AdminUserHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class AdminUserHelper
+{
+  private static String  _id = "IDL:FlightReservation/AdminUser:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.AdminUser that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.AdminUser extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [6];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "adminId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "username",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "email",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "role",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_boolean);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "isActive",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "createdAt",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.AdminUserHelper.id (), "AdminUser", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.AdminUser read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.AdminUser value = new FlightReservation.AdminUser ();
+    value.adminId = istream.read_string ();
+    value.username = istream.read_string ();
+    value.email = istream.read_string ();
+    value.role = istream.read_string ();
+    value.isActive = istream.read_boolean ();
+    value.createdAt = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.AdminUser value)
+  {
+    ostream.write_string (value.adminId);
+    ostream.write_string (value.username);
+    ostream.write_string (value.email);
+    ostream.write_string (value.role);
+    ostream.write_boolean (value.isActive);
+    ostream.write_string (value.createdAt);
+  }
+
+}
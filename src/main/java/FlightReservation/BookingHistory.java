@@ -0,0 +1,44 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/BookingHistory.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class BookingHistory implements org.omg.CORBA.portable.IDLEntity
+{
+  public String reservationId = null;
+  public String flightNumber = null;
+  public String departureCity = null;
+  public String arrivalCity = null;
+  public String departureDate = null;
+  public String status = null;
+
+  // CONFIRMED, CANCELLED, COMPLETED, REFUNDED
+  public double totalPrice = (double)0;
+  public String bookingDate = null;
+  public boolean canCancel = false;
+  public boolean canModify = false;
+
+  public BookingHistory ()
+  {
+  } // ctor
+
+  public BookingHistory (String _reservationId, String _flightNumber, String _departureCity, String _arrivalCity, String _departureDate, String _status, double _totalPrice, String _bookingDate, boolean _canCancel, boolean _canModify)
+  {
+    reservationId = _reservationId;
+    flightNumber = _flightNumber;
+    departureCity = _departureCity;
+    arrivalCity = _arrivalCity;
+    departureDate = _departureDate;
+    status = _status;
+    totalPrice = _totalPrice;
+    bookingDate = _bookingDate;
+    canCancel = _canCancel;
+    canModify = _canModify;
+  } // ctor
+
+} // class BookingHistory
@@ -0,0 +1,138 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/BookingHistoryHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class BookingHistoryHelper
+{
+  private static String  _id = "IDL:FlightReservation/BookingHistory:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.BookingHistory that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.BookingHistory extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [10];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "reservationId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "flightNumber",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "departureCity",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "arrivalCity",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "departureDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "status",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "totalPrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "bookingDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_boolean);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "canCancel",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_boolean);
+          _members0[9] = new org.omg.CORBA.StructMember (
+            "canModify",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.BookingHistoryHelper.id (), "BookingHistory", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.BookingHistory read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.BookingHistory value = new FlightReservation.BookingHistory ();
+    value.reservationId = istream.read_string ();
+    value.flightNumber = istream.read_string ();
+    value.departureCity = istream.read_string ();
+    value.arrivalCity = istream.read_string ();
+    value.departureDate = istream.read_string ();
+    value.status = istream.read_string ();
+    value.totalPrice = istream.read_double ();
+    value.bookingDate = istream.read_string ();
+    value.canCancel = istream.read_boolean ();
+    value.canModify = istream.read_boolean ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.BookingHistory value)
+  {
+    ostream.write_string (value.reservationId);
+    ostream.write_string (value.flightNumber);
+    ostream.write_string (value.departureCity);
+    ostream.write_string (value.arrivalCity);
+    ostream.write_string (value.departureDate);
+    ostream.write_string (value.status);
+    ostream.write_double (value.totalPrice);
+    ostream.write_string (value.bookingDate);
+    ostream.write_boolean (value.canCancel);
+    ostream.write_boolean (value.canModify);
+  }
+
+}
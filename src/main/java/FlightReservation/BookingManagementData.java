@@ -0,0 +1,44 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/BookingManagementData.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class BookingManagementData implements org.omg.CORBA.portable.IDLEntity
+{
+  public String reservationId = null;
+  public String customerId = null;
+  public String customerName = null;
+  public String flightNumber = null;
+  public String route = null;
+  public String departureDate = null;
+  public String status = null;
+  public double amount = (double)0;
+  public String paymentStatus = null;
+  public String bookingDate = null;
+  public int passengerCount = (int)0;
+
+  public BookingManagementData ()
+  {
+  } // ctor
+
+  public BookingManagementData (String _reservationId, String _customerId, String _customerName, String _flightNumber, String _route, String _departureDate, String _status, double _amount, String _paymentStatus, String _bookingDate, int _passengerCount)
+  {
+    reservationId = _reservationId;
+    customerId = _customerId;
+    customerName = _customerName;
+    flightNumber = _flightNumber;
+    route = _route;
+    departureDate = _departureDate;
+    status = _status;
+    amount = _amount;
+    paymentStatus = _paymentStatus;
+    bookingDate = _bookingDate;
+    passengerCount = _passengerCount;
+  } // ctor
+
+} // class BookingManagementData
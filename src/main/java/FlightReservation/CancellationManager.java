@@ -0,0 +1,15 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CancellationManager.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// GESTIONNAIRE D'ANNULATION/MODIFICATION
+public interface CancellationManager extends CancellationManagerOperations, org.omg.CORBA.Object, org.omg.CORBA.portable.IDLEntity 
+{
+} // interface CancellationManager
@@ -0,0 +1,40 @@
+package FlightReservation;
+
+/**
+* FlightReservation/CancellationManagerHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// GESTIONNAIRE D'ANNULATION/MODIFICATION
+public final class CancellationManagerHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.CancellationManager value = null;
+
+  public CancellationManagerHolder ()
+  {
+  }
+
+  public CancellationManagerHolder (FlightReservation.CancellationManager initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.CancellationManagerHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.CancellationManagerHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.CancellationManagerHelper.type ();
+  }
+
+}
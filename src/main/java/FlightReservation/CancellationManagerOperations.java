@@ -0,0 +1,30 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CancellationManagerOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// GESTIONNAIRE D'ANNULATION/MODIFICATION
+public interface CancellationManagerOperations 
+{
+
+  // Politique d'annulation
+  FlightReservation.CancellationPolicy getCancellationPolicy (String reservationId);
+  double calculateRefundAmount (String reservationId);
+
+  // Annulation
+  boolean cancelReservation (String reservationId, String reason) throws FlightReservation.CancellationNotAllowedException;
+
+  // Modification
+  boolean canModifyReservation (String reservationId);
+  boolean modifySeats (String reservationId, String[] newSeats) throws FlightReservation.ModificationNotAllowedException, FlightReservation.SeatNotAvailableException;
+
+  // Changement de vol (upgrade complexe)
+  FlightReservation.Flight[] getAlternativeFlights (String reservationId);
+  boolean changeFlight (String reservationId, String newFlightId) throws FlightReservation.ModificationNotAllowedException;
+} // interface CancellationManagerOperations
@@ -0,0 +1,170 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CancellationManagerPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// GESTIONNAIRE D'ANNULATION/MODIFICATION
+public abstract class CancellationManagerPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.CancellationManagerOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("getCancellationPolicy", new java.lang.Integer (0));
+    _methods.put ("calculateRefundAmount", new java.lang.Integer (1));
+    _methods.put ("cancelReservation", new java.lang.Integer (2));
+    _methods.put ("canModifyReservation", new java.lang.Integer (3));
+    _methods.put ("modifySeats", new java.lang.Integer (4));
+    _methods.put ("getAlternativeFlights", new java.lang.Integer (5));
+    _methods.put ("changeFlight", new java.lang.Integer (6));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+
+  // Politique d'annulation
+       case 0:  // FlightReservation/CancellationManager/getCancellationPolicy
+       {
+         String reservationId = in.read_string ();
+         FlightReservation.CancellationPolicy $result = null;
+         $result = this.getCancellationPolicy (reservationId);
+         out = $rh.createReply();
+         FlightReservation.CancellationPolicyHelper.write (out, $result);
+         break;
+       }
+
+       case 1:  // FlightReservation/CancellationManager/calculateRefundAmount
+       {
+         String reservationId = in.read_string ();
+         double $result = (double)0;
+         $result = this.calculateRefundAmount (reservationId);
+         out = $rh.createReply();
+         out.write_double ($result);
+         break;
+       }
+
+
+  // Annulation
+       case 2:  // FlightReservation/CancellationManager/cancelReservation
+       {
+         try {
+           String reservationId = in.read_string ();
+           String reason = in.read_string ();
+           boolean $result = false;
+           $result = this.cancelReservation (reservationId, reason);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.CancellationNotAllowedException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.CancellationNotAllowedExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // Modification
+       case 3:  // FlightReservation/CancellationManager/canModifyReservation
+       {
+         String reservationId = in.read_string ();
+         boolean $result = false;
+         $result = this.canModifyReservation (reservationId);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 4:  // FlightReservation/CancellationManager/modifySeats
+       {
+         try {
+           String reservationId = in.read_string ();
+           String newSeats[] = FlightReservation.SeatNumberListHelper.read (in);
+           boolean $result = false;
+           $result = this.modifySeats (reservationId, newSeats);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.ModificationNotAllowedException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.ModificationNotAllowedExceptionHelper.write (out, $ex);
+         } catch (FlightReservation.SeatNotAvailableException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.SeatNotAvailableExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // Changement de vol (upgrade complexe)
+       case 5:  // FlightReservation/CancellationManager/getAlternativeFlights
+       {
+         String reservationId = in.read_string ();
+         FlightReservation.Flight $result[] = null;
+         $result = this.getAlternativeFlights (reservationId);
+         out = $rh.createReply();
+         FlightReservation.FlightListHelper.write (out, $result);
+         break;
+       }
+
+       case 6:  // FlightReservation/CancellationManager/changeFlight
+       {
+         try {
+           String reservationId = in.read_string ();
+           String newFlightId = in.read_string ();
+           boolean $result = false;
+           $result = this.changeFlight (reservationId, newFlightId);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.ModificationNotAllowedException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.ModificationNotAllowedExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/CancellationManager:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public CancellationManager _this() 
+  {
+    return CancellationManagerHelper.narrow(
+    super._this_object());
+  }
+
+  public CancellationManager _this(org.omg.CORBA.ORB orb) 
+  {
+    return CancellationManagerHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class CancellationManagerPOA
@@ -0,0 +1,36 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CancellationNotAllowedException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class CancellationNotAllowedException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+  public int hoursRemaining = (int)0;
+
+  public CancellationNotAllowedException ()
+  {
+    super(CancellationNotAllowedExceptionHelper.id());
+  } // ctor
+
+  public CancellationNotAllowedException (String _message, int _hoursRemaining)
+  {
+    super(CancellationNotAllowedExceptionHelper.id());
+    message = _message;
+    hoursRemaining = _hoursRemaining;
+  } // ctor
+
+
+  public CancellationNotAllowedException (String $reason, String _message, int _hoursRemaining)
+  {
+    super(CancellationNotAllowedExceptionHelper.id() + "  " + $reason);
+    message = _message;
+    hoursRemaining = _hoursRemaining;
+  } // ctor
+
+} // class CancellationNotAllowedException
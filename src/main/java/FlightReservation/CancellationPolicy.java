@@ -0,0 +1,28 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CancellationPolicy.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class CancellationPolicy implements org.omg.CORBA.portable.IDLEntity
+{
+  public int hoursBeforeDeparture = (int)0;
+  public double refundPercentage = (double)0;
+  public double penaltyFee = (double)0;
+
+  public CancellationPolicy ()
+  {
+  } // ctor
+
+  public CancellationPolicy (int _hoursBeforeDeparture, double _refundPercentage, double _penaltyFee)
+  {
+    hoursBeforeDeparture = _hoursBeforeDeparture;
+    refundPercentage = _refundPercentage;
+    penaltyFee = _penaltyFee;
+  } // ctor
+
+} // class CancellationPolicy
@@ -0,0 +1,89 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CancellationPolicyHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class CancellationPolicyHelper
+{
+  private static String  _id = "IDL:FlightReservation/CancellationPolicy:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.CancellationPolicy that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.CancellationPolicy extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [3];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "hoursBeforeDeparture",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "refundPercentage",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "penaltyFee",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.CancellationPolicyHelper.id (), "CancellationPolicy", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.CancellationPolicy read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.CancellationPolicy value = new FlightReservation.CancellationPolicy ();
+    value.hoursBeforeDeparture = istream.read_long ();
+    value.refundPercentage = istream.read_double ();
+    value.penaltyFee = istream.read_double ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.CancellationPolicy value)
+  {
+    ostream.write_long (value.hoursBeforeDeparture);
+    ostream.write_double (value.refundPercentage);
+    ostream.write_double (value.penaltyFee);
+  }
+
+}
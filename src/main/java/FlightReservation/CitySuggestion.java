@@ -0,0 +1,30 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CitySuggestion.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class CitySuggestion implements org.omg.CORBA.portable.IDLEntity
+{
+  public String cityKey = null;
+  public String cityName = null;
+  public int flightCount = (int)0;
+  public int hotelCount = (int)0;
+
+  public CitySuggestion ()
+  {
+  } // ctor
+
+  public CitySuggestion (String _cityKey, String _cityName, int _flightCount, int _hotelCount)
+  {
+    cityKey = _cityKey;
+    cityName = _cityName;
+    flightCount = _flightCount;
+    hotelCount = _hotelCount;
+  } // ctor
+
+} // class CitySuggestion
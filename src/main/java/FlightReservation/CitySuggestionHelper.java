@@ -0,0 +1,96 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CitySuggestionHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class CitySuggestionHelper
+{
+  private static String  _id = "IDL:FlightReservation/CitySuggestion:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.CitySuggestion that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.CitySuggestion extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [4];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "cityKey",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "cityName",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "flightCount",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "hotelCount",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.CitySuggestionHelper.id (), "CitySuggestion", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.CitySuggestion read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.CitySuggestion value = new FlightReservation.CitySuggestion ();
+    value.cityKey = istream.read_string ();
+    value.cityName = istream.read_string ();
+    value.flightCount = istream.read_long ();
+    value.hotelCount = istream.read_long ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.CitySuggestion value)
+  {
+    ostream.write_string (value.cityKey);
+    ostream.write_string (value.cityName);
+    ostream.write_long (value.flightCount);
+    ostream.write_long (value.hotelCount);
+  }
+
+}
@@ -0,0 +1,62 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CitySuggestionListHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class CitySuggestionListHelper
+{
+  private static String  _id = "IDL:FlightReservation/CitySuggestionList:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.CitySuggestion[] that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.CitySuggestion[] extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      __typeCode = FlightReservation.CitySuggestionHelper.type ();
+      __typeCode = org.omg.CORBA.ORB.init ().create_sequence_tc (0, __typeCode);
+      __typeCode = org.omg.CORBA.ORB.init ().create_alias_tc (FlightReservation.CitySuggestionListHelper.id (), "CitySuggestionList", __typeCode);
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.CitySuggestion[] read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.CitySuggestion value[] = null;
+    int _len0 = istream.read_long ();
+    value = new FlightReservation.CitySuggestion[_len0];
+    for (int _o1 = 0;_o1 < value.length; ++_o1)
+      value[_o1] = FlightReservation.CitySuggestionHelper.read (istream);
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.CitySuggestion[] value)
+  {
+    ostream.write_long (value.length);
+    for (int _i0 = 0;_i0 < value.length; ++_i0)
+      FlightReservation.CitySuggestionHelper.write (ostream, value[_i0]);
+  }
+
+}
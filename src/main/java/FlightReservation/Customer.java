@@ -0,0 +1,34 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Customer.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Customer implements org.omg.CORBA.portable.IDLEntity
+{
+  public String customerId = null;
+  public String username = null;
+  public String firstName = null;
+  public String lastName = null;
+  public String email = null;
+  public String phoneNumber = null;
+
+  public Customer ()
+  {
+  } // ctor
+
+  public Customer (String _customerId, String _username, String _firstName, String _lastName, String _email, String _phoneNumber)
+  {
+    customerId = _customerId;
+    username = _username;
+    firstName = _firstName;
+    lastName = _lastName;
+    email = _email;
+    phoneNumber = _phoneNumber;
+  } // ctor
+
+} // class Customer
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CustomerAlreadyExistsException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class CustomerAlreadyExistsException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public CustomerAlreadyExistsException ()
+  {
+    super(CustomerAlreadyExistsExceptionHelper.id());
+  } // ctor
+
+  public CustomerAlreadyExistsException (String _message)
+  {
+    super(CustomerAlreadyExistsExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public CustomerAlreadyExistsException (String $reason, String _message)
+  {
+    super(CustomerAlreadyExistsExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class CustomerAlreadyExistsException
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/CustomerHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class CustomerHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.Customer value = null;
+
+  public CustomerHolder ()
+  {
+  }
+
+  public CustomerHolder (FlightReservation.Customer initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.CustomerHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.CustomerHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.CustomerHelper.type ();
+  }
+
+}
@@ -0,0 +1,15 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CustomerManager.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des clients
+public interface CustomerManager extends CustomerManagerOperations, org.omg.CORBA.Object, org.omg.CORBA.portable.IDLEntity 
+{
+} // interface CustomerManager
@@ -0,0 +1,40 @@
+package FlightReservation;
+
+/**
+* FlightReservation/CustomerManagerHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des clients
+public final class CustomerManagerHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.CustomerManager value = null;
+
+  public CustomerManagerHolder ()
+  {
+  }
+
+  public CustomerManagerHolder (FlightReservation.CustomerManager initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.CustomerManagerHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.CustomerManagerHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.CustomerManagerHelper.type ();
+  }
+
+}
@@ -0,0 +1,21 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CustomerManagerOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des clients
+public interface CustomerManagerOperations 
+{
+  FlightReservation.LoginResponse login (String username, String password) throws FlightReservation.InvalidCredentialsException;
+  FlightReservation.LoginResponse registerCustomer (String username, String password, String firstName, String lastName, String email, String phoneNumber) throws FlightReservation.CustomerAlreadyExistsException;
+  FlightReservation.Customer getCustomerById (String customerId);
+  boolean updateCustomer (FlightReservation.Customer customer);
+  void logout (String customerId);
+  FlightReservation.Customer validateSession (String customerId, String token) throws FlightReservation.InvalidCredentialsException;
+} // interface CustomerManagerOperations
@@ -0,0 +1,150 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/CustomerManagerPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des clients
+public abstract class CustomerManagerPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.CustomerManagerOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("login", new java.lang.Integer (0));
+    _methods.put ("registerCustomer", new java.lang.Integer (1));
+    _methods.put ("getCustomerById", new java.lang.Integer (2));
+    _methods.put ("updateCustomer", new java.lang.Integer (3));
+    _methods.put ("logout", new java.lang.Integer (4));
+    _methods.put ("validateSession", new java.lang.Integer (5));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+       case 0:  // FlightReservation/CustomerManager/login
+       {
+         try {
+           String username = in.read_string ();
+           String password = in.read_string ();
+           FlightReservation.LoginResponse $result = null;
+           $result = this.login (username, password);
+           out = $rh.createReply();
+           FlightReservation.LoginResponseHelper.write (out, $result);
+         } catch (FlightReservation.InvalidCredentialsException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.InvalidCredentialsExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 1:  // FlightReservation/CustomerManager/registerCustomer
+       {
+         try {
+           String username = in.read_string ();
+           String password = in.read_string ();
+           String firstName = in.read_string ();
+           String lastName = in.read_string ();
+           String email = in.read_string ();
+           String phoneNumber = in.read_string ();
+           FlightReservation.LoginResponse $result = null;
+           $result = this.registerCustomer (username, password, firstName, lastName, email, phoneNumber);
+           out = $rh.createReply();
+           FlightReservation.LoginResponseHelper.write (out, $result);
+         } catch (FlightReservation.CustomerAlreadyExistsException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.CustomerAlreadyExistsExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 2:  // FlightReservation/CustomerManager/getCustomerById
+       {
+         String customerId = in.read_string ();
+         FlightReservation.Customer $result = null;
+         $result = this.getCustomerById (customerId);
+         out = $rh.createReply();
+         FlightReservation.CustomerHelper.write (out, $result);
+         break;
+       }
+
+       case 3:  // FlightReservation/CustomerManager/updateCustomer
+       {
+         FlightReservation.Customer customer = FlightReservation.CustomerHelper.read (in);
+         boolean $result = false;
+         $result = this.updateCustomer (customer);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 4:  // FlightReservation/CustomerManager/logout
+       {
+         String customerId = in.read_string ();
+         this.logout (customerId);
+         out = $rh.createReply();
+         break;
+       }
+
+       case 5:  // FlightReservation/CustomerManager/validateSession
+       {
+         try {
+           String customerId = in.read_string ();
+           String token = in.read_string ();
+           FlightReservation.Customer $result = null;
+           $result = this.validateSession (customerId, token);
+           out = $rh.createReply();
+           FlightReservation.CustomerHelper.write (out, $result);
+         } catch (FlightReservation.InvalidCredentialsException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.InvalidCredentialsExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/CustomerManager:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public CustomerManager _this() 
+  {
+    return CustomerManagerHelper.narrow(
+    super._this_object());
+  }
+
+  public CustomerManager _this(org.omg.CORBA.ORB orb) 
+  {
+    return CustomerManagerHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class CustomerManagerPOA
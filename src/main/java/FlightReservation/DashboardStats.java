@@ -0,0 +1,38 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/DashboardStats.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class DashboardStats implements org.omg.CORBA.portable.IDLEntity
+{
+  public int totalFlights = (int)0;
+  public int totalBookings = (int)0;
+  public int totalCustomers = (int)0;
+  public double totalRevenue = (double)0;
+  public int todayBookings = (int)0;
+  public int pendingPayments = (int)0;
+  public int availableSeats = (int)0;
+  public double occupancyRate = (double)0;
+
+  public DashboardStats ()
+  {
+  } // ctor
+
+  public DashboardStats (int _totalFlights, int _totalBookings, int _totalCustomers, double _totalRevenue, int _todayBookings, int _pendingPayments, int _availableSeats, double _occupancyRate)
+  {
+    totalFlights = _totalFlights;
+    totalBookings = _totalBookings;
+    totalCustomers = _totalCustomers;
+    totalRevenue = _totalRevenue;
+    todayBookings = _todayBookings;
+    pendingPayments = _pendingPayments;
+    availableSeats = _availableSeats;
+    occupancyRate = _occupancyRate;
+  } // ctor
+
+} // class DashboardStats
@@ -0,0 +1,124 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/DashboardStatsHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class DashboardStatsHelper
+{
+  private static String  _id = "IDL:FlightReservation/DashboardStats:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.DashboardStats that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.DashboardStats extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [8];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "totalFlights",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "totalBookings",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "totalCustomers",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "totalRevenue",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "todayBookings",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "pendingPayments",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "availableSeats",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "occupancyRate",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.DashboardStatsHelper.id (), "DashboardStats", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.DashboardStats read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.DashboardStats value = new FlightReservation.DashboardStats ();
+    value.totalFlights = istream.read_long ();
+    value.totalBookings = istream.read_long ();
+    value.totalCustomers = istream.read_long ();
+    value.totalRevenue = istream.read_double ();
+    value.todayBookings = istream.read_long ();
+    value.pendingPayments = istream.read_long ();
+    value.availableSeats = istream.read_long ();
+    value.occupancyRate = istream.read_double ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.DashboardStats value)
+  {
+    ostream.write_long (value.totalFlights);
+    ostream.write_long (value.totalBookings);
+    ostream.write_long (value.totalCustomers);
+    ostream.write_double (value.totalRevenue);
+    ostream.write_long (value.todayBookings);
+    ostream.write_long (value.pendingPayments);
+    ostream.write_long (value.availableSeats);
+    ostream.write_double (value.occupancyRate);
+  }
+
+}
@@ -0,0 +1,32 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Destination.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Destination implements org.omg.CORBA.portable.IDLEntity
+{
+  public String cityName = null;
+  public String countryCode = null;
+  public String imageUrl = null;
+  public int flightCount = (int)0;
+  public double startingPrice = (double)0;
+
+  public Destination ()
+  {
+  } // ctor
+
+  public Destination (String _cityName, String _countryCode, String _imageUrl, int _flightCount, double _startingPrice)
+  {
+    cityName = _cityName;
+    countryCode = _countryCode;
+    imageUrl = _imageUrl;
+    flightCount = _flightCount;
+    startingPrice = _startingPrice;
+  } // ctor
+
+} // class Destination
@@ -0,0 +1,32 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/DestinationFare.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class DestinationFare implements org.omg.CORBA.portable.IDLEntity
+{
+  public String arrivalCity = null;
+  public String cheapestDate = null;
+  public String flightId = null;
+  public double minPrice = (double)0;
+  public int flightCount = (int)0;
+
+  public DestinationFare ()
+  {
+  } // ctor
+
+  public DestinationFare (String _arrivalCity, String _cheapestDate, String _flightId, double _minPrice, int _flightCount)
+  {
+    arrivalCity = _arrivalCity;
+    cheapestDate = _cheapestDate;
+    flightId = _flightId;
+    minPrice = _minPrice;
+    flightCount = _flightCount;
+  } // ctor
+
+} // class DestinationFare
@@ -0,0 +1,39 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/DestinationFareListHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class DestinationFareListHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.DestinationFare value[] = null;
+
+  public DestinationFareListHolder ()
+  {
+  }
+
+  public DestinationFareListHolder (FlightReservation.DestinationFare[] initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.DestinationFareListHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.DestinationFareListHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.DestinationFareListHelper.type ();
+  }
+
+}
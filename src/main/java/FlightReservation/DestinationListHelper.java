@@ -0,0 +1,62 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/DestinationListHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class DestinationListHelper
+{
+  private static String  _id = "IDL:FlightReservation/DestinationList:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.Destination[] that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.Destination[] extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      __typeCode = FlightReservation.DestinationHelper.type ();
+      __typeCode = org.omg.CORBA.ORB.init ().create_sequence_tc (0, __typeCode);
+      __typeCode = org.omg.CORBA.ORB.init ().create_alias_tc (FlightReservation.DestinationListHelper.id (), "DestinationList", __typeCode);
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.Destination[] read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.Destination value[] = null;
+    int _len0 = istream.read_long ();
+    value = new FlightReservation.Destination[_len0];
+    for (int _o1 = 0;_o1 < value.length; ++_o1)
+      value[_o1] = FlightReservation.DestinationHelper.read (istream);
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.Destination[] value)
+  {
+    ostream.write_long (value.length);
+    for (int _i0 = 0;_i0 < value.length; ++_i0)
+      FlightReservation.DestinationHelper.write (ostream, value[_i0]);
+  }
+
+}
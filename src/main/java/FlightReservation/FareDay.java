@@ -0,0 +1,30 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FareDay.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class FareDay implements org.omg.CORBA.portable.IDLEntity
+{
+  public String date = null;
+  public double minPrice = (double)0;
+  public int availableSeats = (int)0;
+  public int flightCount = (int)0;
+
+  public FareDay ()
+  {
+  } // ctor
+
+  public FareDay (String _date, double _minPrice, int _availableSeats, int _flightCount)
+  {
+    date = _date;
+    minPrice = _minPrice;
+    availableSeats = _availableSeats;
+    flightCount = _flightCount;
+  } // ctor
+
+} // class FareDay
@@ -0,0 +1,96 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FareDayHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class FareDayHelper
+{
+  private static String  _id = "IDL:FlightReservation/FareDay:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.FareDay that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.FareDay extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [4];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "date",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "minPrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "availableSeats",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "flightCount",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.FareDayHelper.id (), "FareDay", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.FareDay read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.FareDay value = new FlightReservation.FareDay ();
+    value.date = istream.read_string ();
+    value.minPrice = istream.read_double ();
+    value.availableSeats = istream.read_long ();
+    value.flightCount = istream.read_long ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.FareDay value)
+  {
+    ostream.write_string (value.date);
+    ostream.write_double (value.minPrice);
+    ostream.write_long (value.availableSeats);
+    ostream.write_long (value.flightCount);
+  }
+
+}
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/FareDayHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class FareDayHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.FareDay value = null;
+
+  public FareDayHolder ()
+  {
+  }
+
+  public FareDayHolder (FlightReservation.FareDay initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.FareDayHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.FareDayHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.FareDayHelper.type ();
+  }
+
+}
@@ -0,0 +1,40 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FinancialReport.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class FinancialReport implements org.omg.CORBA.portable.IDLEntity
+{
+  public String period = null;
+
+  // DAILY, WEEKLY, MONTHLY, YEARLY
+  public double totalRevenue = (double)0;
+  public double totalRefunds = (double)0;
+  public double netRevenue = (double)0;
+  public int totalTransactions = (int)0;
+  public double averageBookingValue = (double)0;
+  public String topRoute = null;
+  public String reportDate = null;
+
+  public FinancialReport ()
+  {
+  } // ctor
+
+  public FinancialReport (String _period, double _totalRevenue, double _totalRefunds, double _netRevenue, int _totalTransactions, double _averageBookingValue, String _topRoute, String _reportDate)
+  {
+    period = _period;
+    totalRevenue = _totalRevenue;
+    totalRefunds = _totalRefunds;
+    netRevenue = _netRevenue;
+    totalTransactions = _totalTransactions;
+    averageBookingValue = _averageBookingValue;
+    topRoute = _topRoute;
+    reportDate = _reportDate;
+  } // ctor
+
+} // class FinancialReport
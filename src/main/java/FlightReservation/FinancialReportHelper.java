@@ -0,0 +1,124 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FinancialReportHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class FinancialReportHelper
+{
+  private static String  _id = "IDL:FlightReservation/FinancialReport:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.FinancialReport that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.FinancialReport extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [8];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "period",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "totalRevenue",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "totalRefunds",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "netRevenue",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "totalTransactions",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "averageBookingValue",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "topRoute",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "reportDate",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.FinancialReportHelper.id (), "FinancialReport", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.FinancialReport read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.FinancialReport value = new FlightReservation.FinancialReport ();
+    value.period = istream.read_string ();
+    value.totalRevenue = istream.read_double ();
+    value.totalRefunds = istream.read_double ();
+    value.netRevenue = istream.read_double ();
+    value.totalTransactions = istream.read_long ();
+    value.averageBookingValue = istream.read_double ();
+    value.topRoute = istream.read_string ();
+    value.reportDate = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.FinancialReport value)
+  {
+    ostream.write_string (value.period);
+    ostream.write_double (value.totalRevenue);
+    ostream.write_double (value.totalRefunds);
+    ostream.write_double (value.netRevenue);
+    ostream.write_long (value.totalTransactions);
+    ostream.write_double (value.averageBookingValue);
+    ostream.write_string (value.topRoute);
+    ostream.write_string (value.reportDate);
+  }
+
+}
@@ -0,0 +1,40 @@
+package FlightReservation;
+
+/**
+* FlightReservation/FlightBookingSystemHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface principale du syst??me
+public final class FlightBookingSystemHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.FlightBookingSystem value = null;
+
+  public FlightBookingSystemHolder ()
+  {
+  }
+
+  public FlightBookingSystemHolder (FlightReservation.FlightBookingSystem initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.FlightBookingSystemHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.FlightBookingSystemHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.FlightBookingSystemHelper.type ();
+  }
+
+}
@@ -0,0 +1,23 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightBookingSystemOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface principale du syst??me
+public interface FlightBookingSystemOperations 
+{
+  FlightReservation.CustomerManager getCustomerManager ();
+  FlightReservation.FlightManager getFlightManager ();
+  FlightReservation.ReservationManager getReservationManager ();
+  FlightReservation.PaymentManager getPaymentManager ();
+  FlightReservation.AccountManager getAccountManager ();
+  FlightReservation.CancellationManager getCancellationManager ();
+  FlightReservation.AdminManager getAdminManager ();
+  FlightReservation.HotelManager getHotelManager ();
+} // interface FlightBookingSystemOperations
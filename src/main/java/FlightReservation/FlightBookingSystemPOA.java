@@ -0,0 +1,144 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightBookingSystemPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface principale du syst??me
+public abstract class FlightBookingSystemPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.FlightBookingSystemOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("getCustomerManager", new java.lang.Integer (0));
+    _methods.put ("getFlightManager", new java.lang.Integer (1));
+    _methods.put ("getReservationManager", new java.lang.Integer (2));
+    _methods.put ("getPaymentManager", new java.lang.Integer (3));
+    _methods.put ("getAccountManager", new java.lang.Integer (4));
+    _methods.put ("getCancellationManager", new java.lang.Integer (5));
+    _methods.put ("getAdminManager", new java.lang.Integer (6));
+    _methods.put ("getHotelManager", new java.lang.Integer (7));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+       case 0:  // FlightReservation/FlightBookingSystem/getCustomerManager
+       {
+         FlightReservation.CustomerManager $result = null;
+         $result = this.getCustomerManager ();
+         out = $rh.createReply();
+         FlightReservation.CustomerManagerHelper.write (out, $result);
+         break;
+       }
+
+       case 1:  // FlightReservation/FlightBookingSystem/getFlightManager
+       {
+         FlightReservation.FlightManager $result = null;
+         $result = this.getFlightManager ();
+         out = $rh.createReply();
+         FlightReservation.FlightManagerHelper.write (out, $result);
+         break;
+       }
+
+       case 2:  // FlightReservation/FlightBookingSystem/getReservationManager
+       {
+         FlightReservation.ReservationManager $result = null;
+         $result = this.getReservationManager ();
+         out = $rh.createReply();
+         FlightReservation.ReservationManagerHelper.write (out, $result);
+         break;
+       }
+
+       case 3:  // FlightReservation/FlightBookingSystem/getPaymentManager
+       {
+         FlightReservation.PaymentManager $result = null;
+         $result = this.getPaymentManager ();
+         out = $rh.createReply();
+         FlightReservation.PaymentManagerHelper.write (out, $result);
+         break;
+       }
+
+       case 4:  // FlightReservation/FlightBookingSystem/getAccountManager
+       {
+         FlightReservation.AccountManager $result = null;
+         $result = this.getAccountManager ();
+         out = $rh.createReply();
+         FlightReservation.AccountManagerHelper.write (out, $result);
+         break;
+       }
+
+       case 5:  // FlightReservation/FlightBookingSystem/getCancellationManager
+       {
+         FlightReservation.CancellationManager $result = null;
+         $result = this.getCancellationManager ();
+         out = $rh.createReply();
+         FlightReservation.CancellationManagerHelper.write (out, $result);
+         break;
+       }
+
+       case 6:  // FlightReservation/FlightBookingSystem/getAdminManager
+       {
+         FlightReservation.AdminManager $result = null;
+         $result = this.getAdminManager ();
+         out = $rh.createReply();
+         FlightReservation.AdminManagerHelper.write (out, $result);
+         break;
+       }
+
+       case 7:  // FlightReservation/FlightBookingSystem/getHotelManager
+       {
+         FlightReservation.HotelManager $result = null;
+         $result = this.getHotelManager ();
+         out = $rh.createReply();
+         FlightReservation.HotelManagerHelper.write (out, $result);
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/FlightBookingSystem:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public FlightBookingSystem _this() 
+  {
+    return FlightBookingSystemHelper.narrow(
+    super._this_object());
+  }
+
+  public FlightBookingSystem _this(org.omg.CORBA.ORB orb) 
+  {
+    return FlightBookingSystemHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class FlightBookingSystemPOA
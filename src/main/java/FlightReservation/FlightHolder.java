@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/FlightHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class FlightHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.Flight value = null;
+
+  public FlightHolder ()
+  {
+  }
+
+  public FlightHolder (FlightReservation.Flight initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.FlightHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.FlightHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.FlightHelper.type ();
+  }
+
+}
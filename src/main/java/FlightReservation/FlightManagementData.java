@@ -0,0 +1,56 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightManagementData.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class FlightManagementData implements org.omg.CORBA.portable.IDLEntity
+{
+  public String flightId = null;
+  public String flightNumber = null;
+  public String airline = null;
+  public String departureCity = null;
+  public String arrivalCity = null;
+  public String departureDate = null;
+  public String departureTime = null;
+  public String arrivalDate = null;
+  public String arrivalTime = null;
+  public String duration = null;
+  public double economyPrice = (double)0;
+  public double businessPrice = (double)0;
+  public double firstClassPrice = (double)0;
+  public int totalSeats = (int)0;
+  public int availableSeats = (int)0;
+  public String aircraftType = null;
+  public String status = null;
+
+  public FlightManagementData ()
+  {
+  } // ctor
+
+  public FlightManagementData (String _flightId, String _flightNumber, String _airline, String _departureCity, String _arrivalCity, String _departureDate, String _departureTime, String _arrivalDate, String _arrivalTime, String _duration, double _economyPrice, double _businessPrice, double _firstClassPrice, int _totalSeats, int _availableSeats, String _aircraftType, String _status)
+  {
+    flightId = _flightId;
+    flightNumber = _flightNumber;
+    airline = _airline;
+    departureCity = _departureCity;
+    arrivalCity = _arrivalCity;
+    departureDate = _departureDate;
+    departureTime = _departureTime;
+    arrivalDate = _arrivalDate;
+    arrivalTime = _arrivalTime;
+    duration = _duration;
+    economyPrice = _economyPrice;
+    businessPrice = _businessPrice;
+    firstClassPrice = _firstClassPrice;
+    totalSeats = _totalSeats;
+    availableSeats = _availableSeats;
+    aircraftType = _aircraftType;
+    status = _status;
+  } // ctor
+
+} // class FlightManagementData
@@ -0,0 +1,187 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightManagementDataHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class FlightManagementDataHelper
+{
+  private static String  _id = "IDL:FlightReservation/FlightManagementData:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.FlightManagementData that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.FlightManagementData extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [17];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "flightId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "flightNumber",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "airline",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "departureCity",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "arrivalCity",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "departureDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "departureTime",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "arrivalDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "arrivalTime",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[9] = new org.omg.CORBA.StructMember (
+            "duration",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[10] = new org.omg.CORBA.StructMember (
+            "economyPrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[11] = new org.omg.CORBA.StructMember (
+            "businessPrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[12] = new org.omg.CORBA.StructMember (
+            "firstClassPrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[13] = new org.omg.CORBA.StructMember (
+            "totalSeats",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[14] = new org.omg.CORBA.StructMember (
+            "availableSeats",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[15] = new org.omg.CORBA.StructMember (
+            "aircraftType",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[16] = new org.omg.CORBA.StructMember (
+            "status",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.FlightManagementDataHelper.id (), "FlightManagementData", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.FlightManagementData read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.FlightManagementData value = new FlightReservation.FlightManagementData ();
+    value.flightId = istream.read_string ();
+    value.flightNumber = istream.read_string ();
+    value.airline = istream.read_string ();
+    value.departureCity = istream.read_string ();
+    value.arrivalCity = istream.read_string ();
+    value.departureDate = istream.read_string ();
+    value.departureTime = istream.read_string ();
+    value.arrivalDate = istream.read_string ();
+    value.arrivalTime = istream.read_string ();
+    value.duration = istream.read_string ();
+    value.economyPrice = istream.read_double ();
+    value.businessPrice = istream.read_double ();
+    value.firstClassPrice = istream.read_double ();
+    value.totalSeats = istream.read_long ();
+    value.availableSeats = istream.read_long ();
+    value.aircraftType = istream.read_string ();
+    value.status = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.FlightManagementData value)
+  {
+    ostream.write_string (value.flightId);
+    ostream.write_string (value.flightNumber);
+    ostream.write_string (value.airline);
+    ostream.write_string (value.departureCity);
+    ostream.write_string (value.arrivalCity);
+    ostream.write_string (value.departureDate);
+    ostream.write_string (value.departureTime);
+    ostream.write_string (value.arrivalDate);
+    ostream.write_string (value.arrivalTime);
+    ostream.write_string (value.duration);
+    ostream.write_double (value.economyPrice);
+    ostream.write_double (value.businessPrice);
+    ostream.write_double (value.firstClassPrice);
+    ostream.write_long (value.totalSeats);
+    ostream.write_long (value.availableSeats);
+    ostream.write_string (value.aircraftType);
+    ostream.write_string (value.status);
+  }
+
+}
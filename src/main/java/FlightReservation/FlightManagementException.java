@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightManagementException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class FlightManagementException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public FlightManagementException ()
+  {
+    super(FlightManagementExceptionHelper.id());
+  } // ctor
+
+  public FlightManagementException (String _message)
+  {
+    super(FlightManagementExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public FlightManagementException (String $reason, String _message)
+  {
+    super(FlightManagementExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class FlightManagementException
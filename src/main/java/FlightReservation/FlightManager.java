@@ -0,0 +1,15 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightManager.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de recherche et gestion des vols
+public interface FlightManager extends FlightManagerOperations, org.omg.CORBA.Object, org.omg.CORBA.portable.IDLEntity 
+{
+} // interface FlightManager
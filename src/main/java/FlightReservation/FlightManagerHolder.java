@@ -0,0 +1,40 @@
+package FlightReservation;
+
+/**
+* FlightReservation/FlightManagerHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de recherche et gestion des vols
+public final class FlightManagerHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.FlightManager value = null;
+
+  public FlightManagerHolder ()
+  {
+  }
+
+  public FlightManagerHolder (FlightReservation.FlightManager initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.FlightManagerHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.FlightManagerHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.FlightManagerHelper.type ();
+  }
+
+}
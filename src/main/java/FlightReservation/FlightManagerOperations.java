@@ -0,0 +1,37 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightManagerOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de recherche et gestion des vols
+public interface FlightManagerOperations 
+{
+
+  // ???? Autocompl??tion des villes (pr??fixe sans accents, class?? par popularit??)
+  FlightReservation.CitySuggestion[] suggestCities (String prefix, int limit);
+
+  // ???? Recherche tri??e, filtr??e et pagin??e c??t?? serveur
+  FlightReservation.FlightPage searchFlightsPage (String departureCity, String arrivalCity, String date, String seatClass, FlightReservation.SearchOptions options);
+  FlightReservation.Flight[] searchFlights (String departureCity, String arrivalCity, String date, String seatClass);
+  FlightReservation.Flight getFlightById (String flightId) throws FlightReservation.FlightNotFoundException;
+  FlightReservation.Seat[] getAvailableSeats (String flightId) throws FlightReservation.FlightNotFoundException;
+  boolean isSeatAvailable (String flightId, String seatNumber);
+
+  // Version courte du vol (ETag / Last-Modified c??t?? REST)
+  String getFlightVersion (String flightId) throws FlightReservation.FlightNotFoundException;
+
+  // sortBy : "price" ou "duration" ; 0 = valeur par d??faut pour les entiers
+  FlightReservation.Itinerary[] searchConnections (String departureCity, String arrivalCity, String date, String seatClass, int maxLegs, int minConnectionMinutes, String sortBy, int limit);
+
+  // ???? Tarif minimum par jour sur une fen??tre de dates (bornes incluses)
+  FlightReservation.FareDay[] getFareCalendar (String departureCity, String arrivalCity, String fromDate, String toDate, String seatClass);
+
+  // maxBudget = 0 : sans limite de prix
+  FlightReservation.DestinationFare[] exploreDestinations (String departureCity, String month, String seatClass, double maxBudget, int limit);
+} // interface FlightManagerOperations
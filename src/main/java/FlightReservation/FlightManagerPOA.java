@@ -0,0 +1,225 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightManagerPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de recherche et gestion des vols
+public abstract class FlightManagerPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.FlightManagerOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("suggestCities", new java.lang.Integer (0));
+    _methods.put ("searchFlightsPage", new java.lang.Integer (1));
+    _methods.put ("searchFlights", new java.lang.Integer (2));
+    _methods.put ("getFlightById", new java.lang.Integer (3));
+    _methods.put ("getAvailableSeats", new java.lang.Integer (4));
+    _methods.put ("isSeatAvailable", new java.lang.Integer (5));
+    _methods.put ("getFlightVersion", new java.lang.Integer (6));
+    _methods.put ("searchConnections", new java.lang.Integer (7));
+    _methods.put ("getFareCalendar", new java.lang.Integer (8));
+    _methods.put ("exploreDestinations", new java.lang.Integer (9));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+
+  // ???? Autocompl??tion des villes (pr??fixe sans accents, class?? par popularit??)
+       case 0:  // FlightReservation/FlightManager/suggestCities
+       {
+         String prefix = in.read_string ();
+         int limit = in.read_long ();
+         FlightReservation.CitySuggestion $result[] = null;
+         $result = this.suggestCities (prefix, limit);
+         out = $rh.createReply();
+         FlightReservation.CitySuggestionListHelper.write (out, $result);
+         break;
+       }
+
+
+  // ???? Recherche tri??e, filtr??e et pagin??e c??t?? serveur
+       case 1:  // FlightReservation/FlightManager/searchFlightsPage
+       {
+         String departureCity = in.read_string ();
+         String arrivalCity = in.read_string ();
+         String date = in.read_string ();
+         String seatClass = in.read_string ();
+         FlightReservation.SearchOptions options = FlightReservation.SearchOptionsHelper.read (in);
+         FlightReservation.FlightPage $result = null;
+         $result = this.searchFlightsPage (departureCity, arrivalCity, date, seatClass, options);
+         out = $rh.createReply();
+         FlightReservation.FlightPageHelper.write (out, $result);
+         break;
+       }
+
+       case 2:  // FlightReservation/FlightManager/searchFlights
+       {
+         String departureCity = in.read_string ();
+         String arrivalCity = in.read_string ();
+         String date = in.read_string ();
+         String seatClass = in.read_string ();
+         FlightReservation.Flight $result[] = null;
+         $result = this.searchFlights (departureCity, arrivalCity, date, seatClass);
+         out = $rh.createReply();
+         FlightReservation.FlightListHelper.write (out, $result);
+         break;
+       }
+
+       case 3:  // FlightReservation/FlightManager/getFlightById
+       {
+         try {
+           String flightId = in.read_string ();
+           FlightReservation.Flight $result = null;
+           $result = this.getFlightById (flightId);
+           out = $rh.createReply();
+           FlightReservation.FlightHelper.write (out, $result);
+         } catch (FlightReservation.FlightNotFoundException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.FlightNotFoundExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 4:  // FlightReservation/FlightManager/getAvailableSeats
+       {
+         try {
+           String flightId = in.read_string ();
+           FlightReservation.Seat $result[] = null;
+           $result = this.getAvailableSeats (flightId);
+           out = $rh.createReply();
+           FlightReservation.SeatListHelper.write (out, $result);
+         } catch (FlightReservation.FlightNotFoundException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.FlightNotFoundExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 5:  // FlightReservation/FlightManager/isSeatAvailable
+       {
+         String flightId = in.read_string ();
+         String seatNumber = in.read_string ();
+         boolean $result = false;
+         $result = this.isSeatAvailable (flightId, seatNumber);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // Version courte du vol (ETag / Last-Modified c??t?? REST)
+       case 6:  // FlightReservation/FlightManager/getFlightVersion
+       {
+         try {
+           String flightId = in.read_string ();
+           String $result = null;
+           $result = this.getFlightVersion (flightId);
+           out = $rh.createReply();
+           out.write_string ($result);
+         } catch (FlightReservation.FlightNotFoundException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.FlightNotFoundExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // sortBy : "price" ou "duration" ; 0 = valeur par d??faut pour les entiers
+       case 7:  // FlightReservation/FlightManager/searchConnections
+       {
+         String departureCity = in.read_string ();
+         String arrivalCity = in.read_string ();
+         String date = in.read_string ();
+         String seatClass = in.read_string ();
+         int maxLegs = in.read_long ();
+         int minConnectionMinutes = in.read_long ();
+         String sortBy = in.read_string ();
+         int limit = in.read_long ();
+         FlightReservation.Itinerary $result[] = null;
+         $result = this.searchConnections (departureCity, arrivalCity, date, seatClass, maxLegs, minConnectionMinutes, sortBy, limit);
+         out = $rh.createReply();
+         FlightReservation.ItineraryListHelper.write (out, $result);
+         break;
+       }
+
+
+  // ???? Tarif minimum par jour sur une fen??tre de dates (bornes incluses)
+       case 8:  // FlightReservation/FlightManager/getFareCalendar
+       {
+         String departureCity = in.read_string ();
+         String arrivalCity = in.read_string ();
+         String fromDate = in.read_string ();
+         String toDate = in.read_string ();
+         String seatClass = in.read_string ();
+         FlightReservation.FareDay $result[] = null;
+         $result = this.getFareCalendar (departureCity, arrivalCity, fromDate, toDate, seatClass);
+         out = $rh.createReply();
+         FlightReservation.FareCalendarHelper.write (out, $result);
+         break;
+       }
+
+
+  // maxBudget = 0 : sans limite de prix
+       case 9:  // FlightReservation/FlightManager/exploreDestinations
+       {
+         String departureCity = in.read_string ();
+         String month = in.read_string ();
+         String seatClass = in.read_string ();
+         double maxBudget = in.read_double ();
+         int limit = in.read_long ();
+         FlightReservation.DestinationFare $result[] = null;
+         $result = this.exploreDestinations (departureCity, month, seatClass, maxBudget, limit);
+         out = $rh.createReply();
+         FlightReservation.DestinationFareListHelper.write (out, $result);
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/FlightManager:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public FlightManager _this() 
+  {
+    return FlightManagerHelper.narrow(
+    super._this_object());
+  }
+
+  public FlightManager _this(org.omg.CORBA.ORB orb) 
+  {
+    return FlightManagerHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class FlightManagerPOA
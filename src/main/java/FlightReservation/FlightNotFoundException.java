@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightNotFoundException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class FlightNotFoundException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public FlightNotFoundException ()
+  {
+    super(FlightNotFoundExceptionHelper.id());
+  } // ctor
+
+  public FlightNotFoundException (String _message)
+  {
+    super(FlightNotFoundExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public FlightNotFoundException (String $reason, String _message)
+  {
+    super(FlightNotFoundExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class FlightNotFoundException
@@ -0,0 +1,28 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightPage.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class FlightPage implements org.omg.CORBA.portable.IDLEntity
+{
+  public FlightReservation.Flight flights[] = null;
+  public int totalMatches = (int)0;
+  public String nextPageToken = null;
+
+  public FlightPage ()
+  {
+  } // ctor
+
+  public FlightPage (FlightReservation.Flight[] _flights, int _totalMatches, String _nextPageToken)
+  {
+    flights = _flights;
+    totalMatches = _totalMatches;
+    nextPageToken = _nextPageToken;
+  } // ctor
+
+} // class FlightPage
@@ -0,0 +1,91 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/FlightPageHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class FlightPageHelper
+{
+  private static String  _id = "IDL:FlightReservation/FlightPage:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.FlightPage that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.FlightPage extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [3];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = FlightReservation.FlightHelper.type ();
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_sequence_tc (0, _tcOf_members0);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_alias_tc (FlightReservation.FlightListHelper.id (), "FlightList", _tcOf_members0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "flights",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "totalMatches",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "nextPageToken",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.FlightPageHelper.id (), "FlightPage", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.FlightPage read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.FlightPage value = new FlightReservation.FlightPage ();
+    value.flights = FlightReservation.FlightListHelper.read (istream);
+    value.totalMatches = istream.read_long ();
+    value.nextPageToken = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.FlightPage value)
+  {
+    FlightReservation.FlightListHelper.write (ostream, value.flights);
+    ostream.write_long (value.totalMatches);
+    ostream.write_string (value.nextPageToken);
+  }
+
+}
@@ -0,0 +1,46 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Hotel.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Hotel implements org.omg.CORBA.portable.IDLEntity
+{
+  public String hotelId = null;
+  public String hotelName = null;
+  public String city = null;
+  public String address = null;
+  public int starRating = (int)0;
+  public String description = null;
+  public double pricePerNight = (double)0;
+  public int availableRooms = (int)0;
+  public String imageUrl = null;
+  public String amenities = null;
+  public double reviewScore = (double)0;
+  public int reviewCount = (int)0;
+
+  public Hotel ()
+  {
+  } // ctor
+
+  public Hotel (String _hotelId, String _hotelName, String _city, String _address, int _starRating, String _description, double _pricePerNight, int _availableRooms, String _imageUrl, String _amenities, double _reviewScore, int _reviewCount)
+  {
+    hotelId = _hotelId;
+    hotelName = _hotelName;
+    city = _city;
+    address = _address;
+    starRating = _starRating;
+    description = _description;
+    pricePerNight = _pricePerNight;
+    availableRooms = _availableRooms;
+    imageUrl = _imageUrl;
+    amenities = _amenities;
+    reviewScore = _reviewScore;
+    reviewCount = _reviewCount;
+  } // ctor
+
+} // class Hotel
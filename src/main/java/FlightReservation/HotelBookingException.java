@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelBookingException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelBookingException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public HotelBookingException ()
+  {
+    super(HotelBookingExceptionHelper.id());
+  } // ctor
+
+  public HotelBookingException (String _message)
+  {
+    super(HotelBookingExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public HotelBookingException (String $reason, String _message)
+  {
+    super(HotelBookingExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class HotelBookingException
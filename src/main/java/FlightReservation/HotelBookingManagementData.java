@@ -0,0 +1,54 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelBookingManagementData.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelBookingManagementData implements org.omg.CORBA.portable.IDLEntity
+{
+  public String hotelReservationId = null;
+  public String customerId = null;
+  public String customerName = null;
+  public String hotelName = null;
+  public String city = null;
+  public String checkInDate = null;
+  public String checkOutDate = null;
+  public int numberOfNights = (int)0;
+  public int numberOfRooms = (int)0;
+  public double originalPrice = (double)0;
+  public double discountPercentage = (double)0;
+  public double finalPrice = (double)0;
+  public String status = null;
+  public String reservationDate = null;
+  public String flightReservationId = null;
+  public boolean hasFlightDiscount = false;
+
+  public HotelBookingManagementData ()
+  {
+  } // ctor
+
+  public HotelBookingManagementData (String _hotelReservationId, String _customerId, String _customerName, String _hotelName, String _city, String _checkInDate, String _checkOutDate, int _numberOfNights, int _numberOfRooms, double _originalPrice, double _discountPercentage, double _finalPrice, String _status, String _reservationDate, String _flightReservationId, boolean _hasFlightDiscount)
+  {
+    hotelReservationId = _hotelReservationId;
+    customerId = _customerId;
+    customerName = _customerName;
+    hotelName = _hotelName;
+    city = _city;
+    checkInDate = _checkInDate;
+    checkOutDate = _checkOutDate;
+    numberOfNights = _numberOfNights;
+    numberOfRooms = _numberOfRooms;
+    originalPrice = _originalPrice;
+    discountPercentage = _discountPercentage;
+    finalPrice = _finalPrice;
+    status = _status;
+    reservationDate = _reservationDate;
+    flightReservationId = _flightReservationId;
+    hasFlightDiscount = _hasFlightDiscount;
+  } // ctor
+
+} // class HotelBookingManagementData
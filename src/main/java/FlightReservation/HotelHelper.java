@@ -0,0 +1,152 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class HotelHelper
+{
+  private static String  _id = "IDL:FlightReservation/Hotel:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.Hotel that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.Hotel extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [12];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "hotelId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "hotelName",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "city",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "address",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "starRating",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "description",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "pricePerNight",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "availableRooms",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "imageUrl",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[9] = new org.omg.CORBA.StructMember (
+            "amenities",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[10] = new org.omg.CORBA.StructMember (
+            "reviewScore",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[11] = new org.omg.CORBA.StructMember (
+            "reviewCount",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.HotelHelper.id (), "Hotel", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.Hotel read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.Hotel value = new FlightReservation.Hotel ();
+    value.hotelId = istream.read_string ();
+    value.hotelName = istream.read_string ();
+    value.city = istream.read_string ();
+    value.address = istream.read_string ();
+    value.starRating = istream.read_long ();
+    value.description = istream.read_string ();
+    value.pricePerNight = istream.read_double ();
+    value.availableRooms = istream.read_long ();
+    value.imageUrl = istream.read_string ();
+    value.amenities = istream.read_string ();
+    value.reviewScore = istream.read_double ();
+    value.reviewCount = istream.read_long ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.Hotel value)
+  {
+    ostream.write_string (value.hotelId);
+    ostream.write_string (value.hotelName);
+    ostream.write_string (value.city);
+    ostream.write_string (value.address);
+    ostream.write_long (value.starRating);
+    ostream.write_string (value.description);
+    ostream.write_double (value.pricePerNight);
+    ostream.write_long (value.availableRooms);
+    ostream.write_string (value.imageUrl);
+    ostream.write_string (value.amenities);
+    ostream.write_double (value.reviewScore);
+    ostream.write_long (value.reviewCount);
+  }
+
+}
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/HotelHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class HotelHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.Hotel value = null;
+
+  public HotelHolder ()
+  {
+  }
+
+  public HotelHolder (FlightReservation.Hotel initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.HotelHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.HotelHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.HotelHelper.type ();
+  }
+
+}
@@ -0,0 +1,39 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelListHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelListHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.Hotel value[] = null;
+
+  public HotelListHolder ()
+  {
+  }
+
+  public HotelListHolder (FlightReservation.Hotel[] initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.HotelListHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.HotelListHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.HotelListHelper.type ();
+  }
+
+}
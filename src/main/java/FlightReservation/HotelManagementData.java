@@ -0,0 +1,58 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelManagementData.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelManagementData implements org.omg.CORBA.portable.IDLEntity
+{
+  public String hotelId = null;
+  public String hotelName = null;
+  public String city = null;
+  public String address = null;
+  public int starRating = (int)0;
+  public String description = null;
+  public double pricePerNight = (double)0;
+  public int totalRooms = (int)0;
+  public int availableRooms = (int)0;
+  public int occupiedRooms = (int)0;
+  public String imageUrl = null;
+  public String amenities = null;
+  public double reviewScore = (double)0;
+  public int reviewCount = (int)0;
+  public String status = null;
+
+  // ACTIVE, SUSPENDED, MAINTENANCE
+  public String createdAt = null;
+  public String updatedAt = null;
+
+  public HotelManagementData ()
+  {
+  } // ctor
+
+  public HotelManagementData (String _hotelId, String _hotelName, String _city, String _address, int _starRating, String _description, double _pricePerNight, int _totalRooms, int _availableRooms, int _occupiedRooms, String _imageUrl, String _amenities, double _reviewScore, int _reviewCount, String _status, String _createdAt, String _updatedAt)
+  {
+    hotelId = _hotelId;
+    hotelName = _hotelName;
+    city = _city;
+    address = _address;
+    starRating = _starRating;
+    description = _description;
+    pricePerNight = _pricePerNight;
+    totalRooms = _totalRooms;
+    availableRooms = _availableRooms;
+    occupiedRooms = _occupiedRooms;
+    imageUrl = _imageUrl;
+    amenities = _amenities;
+    reviewScore = _reviewScore;
+    reviewCount = _reviewCount;
+    status = _status;
+    createdAt = _createdAt;
+    updatedAt = _updatedAt;
+  } // ctor
+
+} // class HotelManagementData
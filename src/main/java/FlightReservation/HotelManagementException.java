@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelManagementException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelManagementException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public HotelManagementException ()
+  {
+    super(HotelManagementExceptionHelper.id());
+  } // ctor
+
+  public HotelManagementException (String _message)
+  {
+    super(HotelManagementExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public HotelManagementException (String $reason, String _message)
+  {
+    super(HotelManagementExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class HotelManagementException
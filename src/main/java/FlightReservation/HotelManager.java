@@ -0,0 +1,15 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelManager.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== Interface HotelManager ====================
+public interface HotelManager extends HotelManagerOperations, org.omg.CORBA.Object, org.omg.CORBA.portable.IDLEntity 
+{
+} // interface HotelManager
@@ -0,0 +1,40 @@
+package FlightReservation;
+
+/**
+* FlightReservation/HotelManagerHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== Interface HotelManager ====================
+public final class HotelManagerHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.HotelManager value = null;
+
+  public HotelManagerHolder ()
+  {
+  }
+
+  public HotelManagerHolder (FlightReservation.HotelManager initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.HotelManagerHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.HotelManagerHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.HotelManagerHelper.type ();
+  }
+
+}
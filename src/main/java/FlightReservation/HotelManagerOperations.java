@@ -0,0 +1,25 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelManagerOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== Interface HotelManager ====================
+public interface HotelManagerOperations 
+{
+  FlightReservation.Hotel[] searchHotels (String city, String checkInDate, String checkOutDate, int numberOfRooms, int minStarRating);
+  FlightReservation.Hotel getHotelById (String hotelId) throws FlightReservation.HotelNotFoundException;
+
+  // Version courte de l'h??tel (ETag / Last-Modified c??t?? REST)
+  String getHotelVersion (String hotelId) throws FlightReservation.HotelNotFoundException;
+  FlightReservation.HotelReservation bookHotel (String customerId, String hotelId, String checkInDate, String checkOutDate, int numberOfRooms, String flightReservationId) throws FlightReservation.HotelBookingException, FlightReservation.NoRoomsAvailableException;
+  FlightReservation.HotelReservation[] getCustomerHotelReservations (String customerId);
+  FlightReservation.HotelReservation getHotelReservation (String hotelReservationId) throws FlightReservation.HotelBookingException;
+  boolean cancelHotelReservation (String hotelReservationId) throws FlightReservation.HotelBookingException;
+  boolean checkAvailability (String hotelId, String checkInDate, String checkOutDate, int numberOfRooms);
+} // interface HotelManagerOperations
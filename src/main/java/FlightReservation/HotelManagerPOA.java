@@ -0,0 +1,194 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelManagerPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== Interface HotelManager ====================
+public abstract class HotelManagerPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.HotelManagerOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("searchHotels", new java.lang.Integer (0));
+    _methods.put ("getHotelById", new java.lang.Integer (1));
+    _methods.put ("getHotelVersion", new java.lang.Integer (2));
+    _methods.put ("bookHotel", new java.lang.Integer (3));
+    _methods.put ("getCustomerHotelReservations", new java.lang.Integer (4));
+    _methods.put ("getHotelReservation", new java.lang.Integer (5));
+    _methods.put ("cancelHotelReservation", new java.lang.Integer (6));
+    _methods.put ("checkAvailability", new java.lang.Integer (7));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+       case 0:  // FlightReservation/HotelManager/searchHotels
+       {
+         String city = in.read_string ();
+         String checkInDate = in.read_string ();
+         String checkOutDate = in.read_string ();
+         int numberOfRooms = in.read_long ();
+         int minStarRating = in.read_long ();
+         FlightReservation.Hotel $result[] = null;
+         $result = this.searchHotels (city, checkInDate, checkOutDate, numberOfRooms, minStarRating);
+         out = $rh.createReply();
+         FlightReservation.HotelListHelper.write (out, $result);
+         break;
+       }
+
+       case 1:  // FlightReservation/HotelManager/getHotelById
+       {
+         try {
+           String hotelId = in.read_string ();
+           FlightReservation.Hotel $result = null;
+           $result = this.getHotelById (hotelId);
+           out = $rh.createReply();
+           FlightReservation.HotelHelper.write (out, $result);
+         } catch (FlightReservation.HotelNotFoundException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelNotFoundExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // Version courte de l'h??tel (ETag / Last-Modified c??t?? REST)
+       case 2:  // FlightReservation/HotelManager/getHotelVersion
+       {
+         try {
+           String hotelId = in.read_string ();
+           String $result = null;
+           $result = this.getHotelVersion (hotelId);
+           out = $rh.createReply();
+           out.write_string ($result);
+         } catch (FlightReservation.HotelNotFoundException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelNotFoundExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 3:  // FlightReservation/HotelManager/bookHotel
+       {
+         try {
+           String customerId = in.read_string ();
+           String hotelId = in.read_string ();
+           String checkInDate = in.read_string ();
+           String checkOutDate = in.read_string ();
+           int numberOfRooms = in.read_long ();
+           String flightReservationId = in.read_string ();
+           FlightReservation.HotelReservation $result = null;
+           $result = this.bookHotel (customerId, hotelId, checkInDate, checkOutDate, numberOfRooms, flightReservationId);
+           out = $rh.createReply();
+           FlightReservation.HotelReservationHelper.write (out, $result);
+         } catch (FlightReservation.HotelBookingException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelBookingExceptionHelper.write (out, $ex);
+         } catch (FlightReservation.NoRoomsAvailableException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.NoRoomsAvailableExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 4:  // FlightReservation/HotelManager/getCustomerHotelReservations
+       {
+         String customerId = in.read_string ();
+         FlightReservation.HotelReservation $result[] = null;
+         $result = this.getCustomerHotelReservations (customerId);
+         out = $rh.createReply();
+         FlightReservation.HotelReservationListHelper.write (out, $result);
+         break;
+       }
+
+       case 5:  // FlightReservation/HotelManager/getHotelReservation
+       {
+         try {
+           String hotelReservationId = in.read_string ();
+           FlightReservation.HotelReservation $result = null;
+           $result = this.getHotelReservation (hotelReservationId);
+           out = $rh.createReply();
+           FlightReservation.HotelReservationHelper.write (out, $result);
+         } catch (FlightReservation.HotelBookingException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelBookingExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 6:  // FlightReservation/HotelManager/cancelHotelReservation
+       {
+         try {
+           String hotelReservationId = in.read_string ();
+           boolean $result = false;
+           $result = this.cancelHotelReservation (hotelReservationId);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.HotelBookingException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.HotelBookingExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 7:  // FlightReservation/HotelManager/checkAvailability
+       {
+         String hotelId = in.read_string ();
+         String checkInDate = in.read_string ();
+         String checkOutDate = in.read_string ();
+         int numberOfRooms = in.read_long ();
+         boolean $result = false;
+         $result = this.checkAvailability (hotelId, checkInDate, checkOutDate, numberOfRooms);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/HotelManager:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public HotelManager _this() 
+  {
+    return HotelManagerHelper.narrow(
+    super._this_object());
+  }
+
+  public HotelManager _this(org.omg.CORBA.ORB orb) 
+  {
+    return HotelManagerHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class HotelManagerPOA
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelNotFoundException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelNotFoundException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public HotelNotFoundException ()
+  {
+    super(HotelNotFoundExceptionHelper.id());
+  } // ctor
+
+  public HotelNotFoundException (String _message)
+  {
+    super(HotelNotFoundExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public HotelNotFoundException (String $reason, String _message)
+  {
+    super(HotelNotFoundExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class HotelNotFoundException
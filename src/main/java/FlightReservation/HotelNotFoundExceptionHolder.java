@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/HotelNotFoundExceptionHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelNotFoundExceptionHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.HotelNotFoundException value = null;
+
+  public HotelNotFoundExceptionHolder ()
+  {
+  }
+
+  public HotelNotFoundExceptionHolder (FlightReservation.HotelNotFoundException initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.HotelNotFoundExceptionHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.HotelNotFoundExceptionHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.HotelNotFoundExceptionHelper.type ();
+  }
+
+}
@@ -0,0 +1,173 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelReservationHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class HotelReservationHelper
+{
+  private static String  _id = "IDL:FlightReservation/HotelReservation:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.HotelReservation that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.HotelReservation extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [15];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "hotelReservationId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "customerId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "hotelId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "hotelName",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "checkInDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "checkOutDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "numberOfNights",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "numberOfRooms",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "originalPrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[9] = new org.omg.CORBA.StructMember (
+            "discountPercentage",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[10] = new org.omg.CORBA.StructMember (
+            "finalPrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[11] = new org.omg.CORBA.StructMember (
+            "status",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[12] = new org.omg.CORBA.StructMember (
+            "reservationDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[13] = new org.omg.CORBA.StructMember (
+            "flightReservationId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_boolean);
+          _members0[14] = new org.omg.CORBA.StructMember (
+            "hasFlightDiscount",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.HotelReservationHelper.id (), "HotelReservation", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.HotelReservation read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.HotelReservation value = new FlightReservation.HotelReservation ();
+    value.hotelReservationId = istream.read_string ();
+    value.customerId = istream.read_string ();
+    value.hotelId = istream.read_string ();
+    value.hotelName = istream.read_string ();
+    value.checkInDate = istream.read_string ();
+    value.checkOutDate = istream.read_string ();
+    value.numberOfNights = istream.read_long ();
+    value.numberOfRooms = istream.read_long ();
+    value.originalPrice = istream.read_double ();
+    value.discountPercentage = istream.read_double ();
+    value.finalPrice = istream.read_double ();
+    value.status = istream.read_string ();
+    value.reservationDate = istream.read_string ();
+    value.flightReservationId = istream.read_string ();
+    value.hasFlightDiscount = istream.read_boolean ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.HotelReservation value)
+  {
+    ostream.write_string (value.hotelReservationId);
+    ostream.write_string (value.customerId);
+    ostream.write_string (value.hotelId);
+    ostream.write_string (value.hotelName);
+    ostream.write_string (value.checkInDate);
+    ostream.write_string (value.checkOutDate);
+    ostream.write_long (value.numberOfNights);
+    ostream.write_long (value.numberOfRooms);
+    ostream.write_double (value.originalPrice);
+    ostream.write_double (value.discountPercentage);
+    ostream.write_double (value.finalPrice);
+    ostream.write_string (value.status);
+    ostream.write_string (value.reservationDate);
+    ostream.write_string (value.flightReservationId);
+    ostream.write_boolean (value.hasFlightDiscount);
+  }
+
+}
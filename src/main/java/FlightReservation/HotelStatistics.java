@@ -0,0 +1,40 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelStatistics.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelStatistics implements org.omg.CORBA.portable.IDLEntity
+{
+  public int totalHotels = (int)0;
+  public int activeHotels = (int)0;
+  public int totalRooms = (int)0;
+  public int occupiedRooms = (int)0;
+  public double occupancyRate = (double)0;
+  public int totalBookings = (int)0;
+  public double totalRevenue = (double)0;
+  public String topCity = null;
+  public String topHotel = null;
+
+  public HotelStatistics ()
+  {
+  } // ctor
+
+  public HotelStatistics (int _totalHotels, int _activeHotels, int _totalRooms, int _occupiedRooms, double _occupancyRate, int _totalBookings, double _totalRevenue, String _topCity, String _topHotel)
+  {
+    totalHotels = _totalHotels;
+    activeHotels = _activeHotels;
+    totalRooms = _totalRooms;
+    occupiedRooms = _occupiedRooms;
+    occupancyRate = _occupancyRate;
+    totalBookings = _totalBookings;
+    totalRevenue = _totalRevenue;
+    topCity = _topCity;
+    topHotel = _topHotel;
+  } // ctor
+
+} // class HotelStatistics
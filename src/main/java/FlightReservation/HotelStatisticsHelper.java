@@ -0,0 +1,131 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/HotelStatisticsHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class HotelStatisticsHelper
+{
+  private static String  _id = "IDL:FlightReservation/HotelStatistics:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.HotelStatistics that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.HotelStatistics extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [9];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "totalHotels",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "activeHotels",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "totalRooms",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "occupiedRooms",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "occupancyRate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "totalBookings",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "totalRevenue",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "topCity",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "topHotel",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.HotelStatisticsHelper.id (), "HotelStatistics", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.HotelStatistics read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.HotelStatistics value = new FlightReservation.HotelStatistics ();
+    value.totalHotels = istream.read_long ();
+    value.activeHotels = istream.read_long ();
+    value.totalRooms = istream.read_long ();
+    value.occupiedRooms = istream.read_long ();
+    value.occupancyRate = istream.read_double ();
+    value.totalBookings = istream.read_long ();
+    value.totalRevenue = istream.read_double ();
+    value.topCity = istream.read_string ();
+    value.topHotel = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.HotelStatistics value)
+  {
+    ostream.write_long (value.totalHotels);
+    ostream.write_long (value.activeHotels);
+    ostream.write_long (value.totalRooms);
+    ostream.write_long (value.occupiedRooms);
+    ostream.write_double (value.occupancyRate);
+    ostream.write_long (value.totalBookings);
+    ostream.write_double (value.totalRevenue);
+    ostream.write_string (value.topCity);
+    ostream.write_string (value.topHotel);
+  }
+
+}
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/HotelStatisticsHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class HotelStatisticsHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.HotelStatistics value = null;
+
+  public HotelStatisticsHolder ()
+  {
+  }
+
+  public HotelStatisticsHolder (FlightReservation.HotelStatistics initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.HotelStatisticsHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.HotelStatisticsHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.HotelStatisticsHelper.type ();
+  }
+
+}
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/InsufficientFundsException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class InsufficientFundsException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public InsufficientFundsException ()
+  {
+    super(InsufficientFundsExceptionHelper.id());
+  } // ctor
+
+  public InsufficientFundsException (String _message)
+  {
+    super(InsufficientFundsExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public InsufficientFundsException (String $reason, String _message)
+  {
+    super(InsufficientFundsExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class InsufficientFundsException
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/InvalidCardException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class InvalidCardException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public InvalidCardException ()
+  {
+    super(InvalidCardExceptionHelper.id());
+  } // ctor
+
+  public InvalidCardException (String _message)
+  {
+    super(InvalidCardExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public InvalidCardException (String $reason, String _message)
+  {
+    super(InvalidCardExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class InvalidCardException
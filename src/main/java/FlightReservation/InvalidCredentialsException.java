@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/InvalidCredentialsException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class InvalidCredentialsException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public InvalidCredentialsException ()
+  {
+    super(InvalidCredentialsExceptionHelper.id());
+  } // ctor
+
+  public InvalidCredentialsException (String _message)
+  {
+    super(InvalidCredentialsExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public InvalidCredentialsException (String $reason, String _message)
+  {
+    super(InvalidCredentialsExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class InvalidCredentialsException
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/InvalidCredentialsExceptionHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class InvalidCredentialsExceptionHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.InvalidCredentialsException value = null;
+
+  public InvalidCredentialsExceptionHolder ()
+  {
+  }
+
+  public InvalidCredentialsExceptionHolder (FlightReservation.InvalidCredentialsException initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.InvalidCredentialsExceptionHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.InvalidCredentialsExceptionHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.InvalidCredentialsExceptionHelper.type ();
+  }
+
+}
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/InvalidPasswordException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class InvalidPasswordException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public InvalidPasswordException ()
+  {
+    super(InvalidPasswordExceptionHelper.id());
+  } // ctor
+
+  public InvalidPasswordException (String _message)
+  {
+    super(InvalidPasswordExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public InvalidPasswordException (String $reason, String _message)
+  {
+    super(InvalidPasswordExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class InvalidPasswordException
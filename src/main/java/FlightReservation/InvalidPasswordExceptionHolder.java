@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/InvalidPasswordExceptionHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class InvalidPasswordExceptionHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.InvalidPasswordException value = null;
+
+  public InvalidPasswordExceptionHolder ()
+  {
+  }
+
+  public InvalidPasswordExceptionHolder (FlightReservation.InvalidPasswordException initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.InvalidPasswordExceptionHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.InvalidPasswordExceptionHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.InvalidPasswordExceptionHelper.type ();
+  }
+
+}
@@ -0,0 +1,42 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Invoice.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Invoice implements org.omg.CORBA.portable.IDLEntity
+{
+  public String invoiceId = null;
+  public String paymentId = null;
+  public String reservationId = null;
+  public String customerName = null;
+  public String email = null;
+  public double amount = (double)0;
+  public double taxAmount = (double)0;
+  public double totalAmount = (double)0;
+  public String issueDate = null;
+  public String dueDate = null;
+
+  public Invoice ()
+  {
+  } // ctor
+
+  public Invoice (String _invoiceId, String _paymentId, String _reservationId, String _customerName, String _email, double _amount, double _taxAmount, double _totalAmount, String _issueDate, String _dueDate)
+  {
+    invoiceId = _invoiceId;
+    paymentId = _paymentId;
+    reservationId = _reservationId;
+    customerName = _customerName;
+    email = _email;
+    amount = _amount;
+    taxAmount = _taxAmount;
+    totalAmount = _totalAmount;
+    issueDate = _issueDate;
+    dueDate = _dueDate;
+  } // ctor
+
+} // class Invoice
@@ -0,0 +1,138 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/InvoiceHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class InvoiceHelper
+{
+  private static String  _id = "IDL:FlightReservation/Invoice:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.Invoice that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.Invoice extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [10];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "invoiceId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "paymentId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "reservationId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "customerName",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "email",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "amount",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "taxAmount",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "totalAmount",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "issueDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[9] = new org.omg.CORBA.StructMember (
+            "dueDate",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.InvoiceHelper.id (), "Invoice", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.Invoice read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.Invoice value = new FlightReservation.Invoice ();
+    value.invoiceId = istream.read_string ();
+    value.paymentId = istream.read_string ();
+    value.reservationId = istream.read_string ();
+    value.customerName = istream.read_string ();
+    value.email = istream.read_string ();
+    value.amount = istream.read_double ();
+    value.taxAmount = istream.read_double ();
+    value.totalAmount = istream.read_double ();
+    value.issueDate = istream.read_string ();
+    value.dueDate = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.Invoice value)
+  {
+    ostream.write_string (value.invoiceId);
+    ostream.write_string (value.paymentId);
+    ostream.write_string (value.reservationId);
+    ostream.write_string (value.customerName);
+    ostream.write_string (value.email);
+    ostream.write_double (value.amount);
+    ostream.write_double (value.taxAmount);
+    ostream.write_double (value.totalAmount);
+    ostream.write_string (value.issueDate);
+    ostream.write_string (value.dueDate);
+  }
+
+}
@@ -0,0 +1,30 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Itinerary.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class Itinerary implements org.omg.CORBA.portable.IDLEntity
+{
+  public FlightReservation.Flight legs[] = null;
+  public double totalPrice = (double)0;
+  public int totalMinutes = (int)0;
+  public int connections = (int)0;
+
+  public Itinerary ()
+  {
+  } // ctor
+
+  public Itinerary (FlightReservation.Flight[] _legs, double _totalPrice, int _totalMinutes, int _connections)
+  {
+    legs = _legs;
+    totalPrice = _totalPrice;
+    totalMinutes = _totalMinutes;
+    connections = _connections;
+  } // ctor
+
+} // class Itinerary
@@ -0,0 +1,98 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/ItineraryHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class ItineraryHelper
+{
+  private static String  _id = "IDL:FlightReservation/Itinerary:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.Itinerary that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.Itinerary extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [4];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = FlightReservation.FlightHelper.type ();
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_sequence_tc (0, _tcOf_members0);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_alias_tc (FlightReservation.FlightListHelper.id (), "FlightList", _tcOf_members0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "legs",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "totalPrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "totalMinutes",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "connections",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.ItineraryHelper.id (), "Itinerary", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.Itinerary read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.Itinerary value = new FlightReservation.Itinerary ();
+    value.legs = FlightReservation.FlightListHelper.read (istream);
+    value.totalPrice = istream.read_double ();
+    value.totalMinutes = istream.read_long ();
+    value.connections = istream.read_long ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.Itinerary value)
+  {
+    FlightReservation.FlightListHelper.write (ostream, value.legs);
+    ostream.write_double (value.totalPrice);
+    ostream.write_long (value.totalMinutes);
+    ostream.write_long (value.connections);
+  }
+
+}
@@ -0,0 +1,26 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/LoginResponse.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class LoginResponse implements org.omg.CORBA.portable.IDLEntity
+{
+  public FlightReservation.Customer customer = null;
+  public String sessionToken = null;
+
+  public LoginResponse ()
+  {
+  } // ctor
+
+  public LoginResponse (FlightReservation.Customer _customer, String _sessionToken)
+  {
+    customer = _customer;
+    sessionToken = _sessionToken;
+  } // ctor
+
+} // class LoginResponse
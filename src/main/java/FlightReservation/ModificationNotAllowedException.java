@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/ModificationNotAllowedException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class ModificationNotAllowedException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public ModificationNotAllowedException ()
+  {
+    super(ModificationNotAllowedExceptionHelper.id());
+  } // ctor
+
+  public ModificationNotAllowedException (String _message)
+  {
+    super(ModificationNotAllowedExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public ModificationNotAllowedException (String $reason, String _message)
+  {
+    super(ModificationNotAllowedExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class ModificationNotAllowedException
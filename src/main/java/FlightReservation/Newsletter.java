@@ -0,0 +1,30 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Newsletter.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Newsletter implements org.omg.CORBA.portable.IDLEntity
+{
+  public String email = null;
+  public String customerId = null;
+  public boolean subscribed = false;
+  public String subscriptionDate = null;
+
+  public Newsletter ()
+  {
+  } // ctor
+
+  public Newsletter (String _email, String _customerId, boolean _subscribed, String _subscriptionDate)
+  {
+    email = _email;
+    customerId = _customerId;
+    subscribed = _subscribed;
+    subscriptionDate = _subscriptionDate;
+  } // ctor
+
+} // class Newsletter
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/NoRoomsAvailableException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class NoRoomsAvailableException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public NoRoomsAvailableException ()
+  {
+    super(NoRoomsAvailableExceptionHelper.id());
+  } // ctor
+
+  public NoRoomsAvailableException (String _message)
+  {
+    super(NoRoomsAvailableExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public NoRoomsAvailableException (String $reason, String _message)
+  {
+    super(NoRoomsAvailableExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class NoRoomsAvailableException
@@ -0,0 +1,34 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Passenger.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Passenger implements org.omg.CORBA.portable.IDLEntity
+{
+  public String firstName = null;
+  public String lastName = null;
+  public String passportNumber = null;
+  public String dateOfBirth = null;
+  public String email = null;
+  public String phone = null;
+
+  public Passenger ()
+  {
+  } // ctor
+
+  public Passenger (String _firstName, String _lastName, String _passportNumber, String _dateOfBirth, String _email, String _phone)
+  {
+    firstName = _firstName;
+    lastName = _lastName;
+    passportNumber = _passportNumber;
+    dateOfBirth = _dateOfBirth;
+    email = _email;
+    phone = _phone;
+  } // ctor
+
+} // class Passenger
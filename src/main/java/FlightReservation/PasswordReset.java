@@ -0,0 +1,28 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PasswordReset.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class PasswordReset implements org.omg.CORBA.portable.IDLEntity
+{
+  public String email = null;
+  public String resetToken = null;
+  public String newPassword = null;
+
+  public PasswordReset ()
+  {
+  } // ctor
+
+  public PasswordReset (String _email, String _resetToken, String _newPassword)
+  {
+    email = _email;
+    resetToken = _resetToken;
+    newPassword = _newPassword;
+  } // ctor
+
+} // class PasswordReset
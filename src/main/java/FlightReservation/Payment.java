@@ -0,0 +1,44 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Payment.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Payment implements org.omg.CORBA.portable.IDLEntity
+{
+  public String paymentId = null;
+  public String reservationId = null;
+  public String customerId = null;
+  public double amount = (double)0;
+  public FlightReservation.PaymentMethod method = null;
+  public FlightReservation.PaymentStatus status = null;
+  public String transactionId = null;
+  public String cardNumber = null;
+
+  // 4 derniers chiffres seulement
+  public String paymentDate = null;
+  public String bankReference = null;
+
+  public Payment ()
+  {
+  } // ctor
+
+  public Payment (String _paymentId, String _reservationId, String _customerId, double _amount, FlightReservation.PaymentMethod _method, FlightReservation.PaymentStatus _status, String _transactionId, String _cardNumber, String _paymentDate, String _bankReference)
+  {
+    paymentId = _paymentId;
+    reservationId = _reservationId;
+    customerId = _customerId;
+    amount = _amount;
+    method = _method;
+    status = _status;
+    transactionId = _transactionId;
+    cardNumber = _cardNumber;
+    paymentDate = _paymentDate;
+    bankReference = _bankReference;
+  } // ctor
+
+} // class Payment
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PaymentException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class PaymentException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public PaymentException ()
+  {
+    super(PaymentExceptionHelper.id());
+  } // ctor
+
+  public PaymentException (String _message)
+  {
+    super(PaymentExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public PaymentException (String $reason, String _message)
+  {
+    super(PaymentExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class PaymentException
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/PaymentExceptionHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class PaymentExceptionHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.PaymentException value = null;
+
+  public PaymentExceptionHolder ()
+  {
+  }
+
+  public PaymentExceptionHolder (FlightReservation.PaymentException initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.PaymentExceptionHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.PaymentExceptionHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.PaymentExceptionHelper.type ();
+  }
+
+}
@@ -0,0 +1,138 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PaymentHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class PaymentHelper
+{
+  private static String  _id = "IDL:FlightReservation/Payment:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.Payment that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.Payment extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [10];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "paymentId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "reservationId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "customerId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "amount",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = FlightReservation.PaymentMethodHelper.type ();
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "method",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = FlightReservation.PaymentStatusHelper.type ();
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "status",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "transactionId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "cardNumber",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "paymentDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[9] = new org.omg.CORBA.StructMember (
+            "bankReference",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.PaymentHelper.id (), "Payment", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.Payment read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.Payment value = new FlightReservation.Payment ();
+    value.paymentId = istream.read_string ();
+    value.reservationId = istream.read_string ();
+    value.customerId = istream.read_string ();
+    value.amount = istream.read_double ();
+    value.method = FlightReservation.PaymentMethodHelper.read (istream);
+    value.status = FlightReservation.PaymentStatusHelper.read (istream);
+    value.transactionId = istream.read_string ();
+    value.cardNumber = istream.read_string ();
+    value.paymentDate = istream.read_string ();
+    value.bankReference = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.Payment value)
+  {
+    ostream.write_string (value.paymentId);
+    ostream.write_string (value.reservationId);
+    ostream.write_string (value.customerId);
+    ostream.write_double (value.amount);
+    FlightReservation.PaymentMethodHelper.write (ostream, value.method);
+    FlightReservation.PaymentStatusHelper.write (ostream, value.status);
+    ostream.write_string (value.transactionId);
+    ostream.write_string (value.cardNumber);
+    ostream.write_string (value.paymentDate);
+    ostream.write_string (value.bankReference);
+  }
+
+}
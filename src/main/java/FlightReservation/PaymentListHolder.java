@@ -0,0 +1,39 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PaymentListHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class PaymentListHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.Payment value[] = null;
+
+  public PaymentListHolder ()
+  {
+  }
+
+  public PaymentListHolder (FlightReservation.Payment[] initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.PaymentListHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.PaymentListHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.PaymentListHelper.type ();
+  }
+
+}
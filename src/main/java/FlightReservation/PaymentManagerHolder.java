@@ -0,0 +1,40 @@
+package FlightReservation;
+
+/**
+* FlightReservation/PaymentManagerHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// interface Payment
+public final class PaymentManagerHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.PaymentManager value = null;
+
+  public PaymentManagerHolder ()
+  {
+  }
+
+  public PaymentManagerHolder (FlightReservation.PaymentManager initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.PaymentManagerHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.PaymentManagerHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.PaymentManagerHelper.type ();
+  }
+
+}
@@ -0,0 +1,22 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PaymentManagerOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// interface Payment
+public interface PaymentManagerOperations 
+{
+  FlightReservation.Payment processPayment (String reservationId, String customerId, double amount, FlightReservation.PaymentMethod method, String cardNumber, String _cardHolder, String expiryDate, String cvv) throws FlightReservation.PaymentException, FlightReservation.InsufficientFundsException, FlightReservation.InvalidCardException;
+  FlightReservation.Payment getPayment (String paymentId);
+  FlightReservation.Payment[] getCustomerPayments (String customerId);
+  boolean refundPayment (String paymentId) throws FlightReservation.RefundException;
+  FlightReservation.Invoice generateInvoice (String paymentId);
+  FlightReservation.Invoice getInvoice (String invoiceId);
+  FlightReservation.Invoice[] getCustomerInvoices (String customerId);
+} // interface PaymentManagerOperations
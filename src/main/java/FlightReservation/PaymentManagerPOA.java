@@ -0,0 +1,164 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PaymentManagerPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// interface Payment
+public abstract class PaymentManagerPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.PaymentManagerOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("processPayment", new java.lang.Integer (0));
+    _methods.put ("getPayment", new java.lang.Integer (1));
+    _methods.put ("getCustomerPayments", new java.lang.Integer (2));
+    _methods.put ("refundPayment", new java.lang.Integer (3));
+    _methods.put ("generateInvoice", new java.lang.Integer (4));
+    _methods.put ("getInvoice", new java.lang.Integer (5));
+    _methods.put ("getCustomerInvoices", new java.lang.Integer (6));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+       case 0:  // FlightReservation/PaymentManager/processPayment
+       {
+         try {
+           String reservationId = in.read_string ();
+           String customerId = in.read_string ();
+           double amount = in.read_double ();
+           FlightReservation.PaymentMethod method = FlightReservation.PaymentMethodHelper.read (in);
+           String cardNumber = in.read_string ();
+           String _cardHolder = in.read_string ();
+           String expiryDate = in.read_string ();
+           String cvv = in.read_string ();
+           FlightReservation.Payment $result = null;
+           $result = this.processPayment (reservationId, customerId, amount, method, cardNumber, _cardHolder, expiryDate, cvv);
+           out = $rh.createReply();
+           FlightReservation.PaymentHelper.write (out, $result);
+         } catch (FlightReservation.PaymentException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.PaymentExceptionHelper.write (out, $ex);
+         } catch (FlightReservation.InsufficientFundsException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.InsufficientFundsExceptionHelper.write (out, $ex);
+         } catch (FlightReservation.InvalidCardException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.InvalidCardExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 1:  // FlightReservation/PaymentManager/getPayment
+       {
+         String paymentId = in.read_string ();
+         FlightReservation.Payment $result = null;
+         $result = this.getPayment (paymentId);
+         out = $rh.createReply();
+         FlightReservation.PaymentHelper.write (out, $result);
+         break;
+       }
+
+       case 2:  // FlightReservation/PaymentManager/getCustomerPayments
+       {
+         String customerId = in.read_string ();
+         FlightReservation.Payment $result[] = null;
+         $result = this.getCustomerPayments (customerId);
+         out = $rh.createReply();
+         FlightReservation.PaymentListHelper.write (out, $result);
+         break;
+       }
+
+       case 3:  // FlightReservation/PaymentManager/refundPayment
+       {
+         try {
+           String paymentId = in.read_string ();
+           boolean $result = false;
+           $result = this.refundPayment (paymentId);
+           out = $rh.createReply();
+           out.write_boolean ($result);
+         } catch (FlightReservation.RefundException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.RefundExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 4:  // FlightReservation/PaymentManager/generateInvoice
+       {
+         String paymentId = in.read_string ();
+         FlightReservation.Invoice $result = null;
+         $result = this.generateInvoice (paymentId);
+         out = $rh.createReply();
+         FlightReservation.InvoiceHelper.write (out, $result);
+         break;
+       }
+
+       case 5:  // FlightReservation/PaymentManager/getInvoice
+       {
+         String invoiceId = in.read_string ();
+         FlightReservation.Invoice $result = null;
+         $result = this.getInvoice (invoiceId);
+         out = $rh.createReply();
+         FlightReservation.InvoiceHelper.write (out, $result);
+         break;
+       }
+
+       case 6:  // FlightReservation/PaymentManager/getCustomerInvoices
+       {
+         String customerId = in.read_string ();
+         FlightReservation.Invoice $result[] = null;
+         $result = this.getCustomerInvoices (customerId);
+         out = $rh.createReply();
+         FlightReservation.InvoiceListHelper.write (out, $result);
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/PaymentManager:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public PaymentManager _this() 
+  {
+    return PaymentManagerHelper.narrow(
+    super._this_object());
+  }
+
+  public PaymentManager _this(org.omg.CORBA.ORB orb) 
+  {
+    return PaymentManagerHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class PaymentManagerPOA
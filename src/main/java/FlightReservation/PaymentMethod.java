@@ -0,0 +1,40 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PaymentMethod.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public class PaymentMethod implements org.omg.CORBA.portable.IDLEntity
+{
+  private        int __value;
+  private static int __size = 2;
+  private static FlightReservation.PaymentMethod[] __array = new FlightReservation.PaymentMethod [__size];
+
+  public static final int _CIB = 0;
+  public static final FlightReservation.PaymentMethod CIB = new FlightReservation.PaymentMethod(_CIB);
+  public static final int _EDAHABIA = 1;
+  public static final FlightReservation.PaymentMethod EDAHABIA = new FlightReservation.PaymentMethod(_EDAHABIA);
+
+  public int value ()
+  {
+    return __value;
+  }
+
+  public static FlightReservation.PaymentMethod from_int (int value)
+  {
+    if (value >= 0 && value < __size)
+      return __array[value];
+    else
+      throw new org.omg.CORBA.BAD_PARAM ();
+  }
+
+  protected PaymentMethod (int value)
+  {
+    __value = value;
+    __array[__value] = this;
+  }
+} // class PaymentMethod
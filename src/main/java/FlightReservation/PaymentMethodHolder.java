@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/PaymentMethodHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class PaymentMethodHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.PaymentMethod value = null;
+
+  public PaymentMethodHolder ()
+  {
+  }
+
+  public PaymentMethodHolder (FlightReservation.PaymentMethod initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.PaymentMethodHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.PaymentMethodHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.PaymentMethodHelper.type ();
+  }
+
+}
@@ -0,0 +1,46 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PaymentStatus.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public class PaymentStatus implements org.omg.CORBA.portable.IDLEntity
+{
+  private        int __value;
+  private static int __size = 5;
+  private static FlightReservation.PaymentStatus[] __array = new FlightReservation.PaymentStatus [__size];
+
+  public static final int _PENDING = 0;
+  public static final FlightReservation.PaymentStatus PENDING = new FlightReservation.PaymentStatus(_PENDING);
+  public static final int _PROCESSING = 1;
+  public static final FlightReservation.PaymentStatus PROCESSING = new FlightReservation.PaymentStatus(_PROCESSING);
+  public static final int _COMPLETED = 2;
+  public static final FlightReservation.PaymentStatus COMPLETED = new FlightReservation.PaymentStatus(_COMPLETED);
+  public static final int _FAILED = 3;
+  public static final FlightReservation.PaymentStatus FAILED = new FlightReservation.PaymentStatus(_FAILED);
+  public static final int _REFUNDED = 4;
+  public static final FlightReservation.PaymentStatus REFUNDED = new FlightReservation.PaymentStatus(_REFUNDED);
+
+  public int value ()
+  {
+    return __value;
+  }
+
+  public static FlightReservation.PaymentStatus from_int (int value)
+  {
+    if (value >= 0 && value < __size)
+      return __array[value];
+    else
+      throw new org.omg.CORBA.BAD_PARAM ();
+  }
+
+  protected PaymentStatus (int value)
+  {
+    __value = value;
+    __array[__value] = this;
+  }
+} // class PaymentStatus
@@ -0,0 +1,53 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PaymentStatusHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class PaymentStatusHelper
+{
+  private static String  _id = "IDL:FlightReservation/PaymentStatus:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.PaymentStatus that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.PaymentStatus extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      __typeCode = org.omg.CORBA.ORB.init ().create_enum_tc (FlightReservation.PaymentStatusHelper.id (), "PaymentStatus", new String[] { "PENDING", "PROCESSING", "COMPLETED", "FAILED", "REFUNDED"} );
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.PaymentStatus read (org.omg.CORBA.portable.InputStream istream)
+  {
+    return FlightReservation.PaymentStatus.from_int (istream.read_long ());
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.PaymentStatus value)
+  {
+    ostream.write_long (value.value ());
+  }
+
+}
@@ -0,0 +1,40 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PricingRule.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class PricingRule implements org.omg.CORBA.portable.IDLEntity
+{
+  public String ruleId = null;
+  public String flightId = null;
+  public String seatClass = null;
+  public double basePrice = (double)0;
+  public double peakSeasonMultiplier = (double)0;
+  public double earlyBirdDiscount = (double)0;
+  public double lastMinuteMultiplier = (double)0;
+  public String validFrom = null;
+  public String validTo = null;
+
+  public PricingRule ()
+  {
+  } // ctor
+
+  public PricingRule (String _ruleId, String _flightId, String _seatClass, double _basePrice, double _peakSeasonMultiplier, double _earlyBirdDiscount, double _lastMinuteMultiplier, String _validFrom, String _validTo)
+  {
+    ruleId = _ruleId;
+    flightId = _flightId;
+    seatClass = _seatClass;
+    basePrice = _basePrice;
+    peakSeasonMultiplier = _peakSeasonMultiplier;
+    earlyBirdDiscount = _earlyBirdDiscount;
+    lastMinuteMultiplier = _lastMinuteMultiplier;
+    validFrom = _validFrom;
+    validTo = _validTo;
+  } // ctor
+
+} // class PricingRule
@@ -0,0 +1,131 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/PricingRuleHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class PricingRuleHelper
+{
+  private static String  _id = "IDL:FlightReservation/PricingRule:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.PricingRule that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.PricingRule extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [9];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "ruleId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "flightId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "seatClass",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "basePrice",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "peakSeasonMultiplier",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "earlyBirdDiscount",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "lastMinuteMultiplier",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "validFrom",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "validTo",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.PricingRuleHelper.id (), "PricingRule", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.PricingRule read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.PricingRule value = new FlightReservation.PricingRule ();
+    value.ruleId = istream.read_string ();
+    value.flightId = istream.read_string ();
+    value.seatClass = istream.read_string ();
+    value.basePrice = istream.read_double ();
+    value.peakSeasonMultiplier = istream.read_double ();
+    value.earlyBirdDiscount = istream.read_double ();
+    value.lastMinuteMultiplier = istream.read_double ();
+    value.validFrom = istream.read_string ();
+    value.validTo = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.PricingRule value)
+  {
+    ostream.write_string (value.ruleId);
+    ostream.write_string (value.flightId);
+    ostream.write_string (value.seatClass);
+    ostream.write_double (value.basePrice);
+    ostream.write_double (value.peakSeasonMultiplier);
+    ostream.write_double (value.earlyBirdDiscount);
+    ostream.write_double (value.lastMinuteMultiplier);
+    ostream.write_string (value.validFrom);
+    ostream.write_string (value.validTo);
+  }
+
+}
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/ProfileUpdate.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class ProfileUpdate implements org.omg.CORBA.portable.IDLEntity
+{
+  public String customerId = null;
+  public String firstName = null;
+  public String lastName = null;
+  public String email = null;
+  public String phoneNumber = null;
+  public String currentPassword = null;
+
+  // Pour v??rification
+  public String newPassword = null;
+
+  public ProfileUpdate ()
+  {
+  } // ctor
+
+  public ProfileUpdate (String _customerId, String _firstName, String _lastName, String _email, String _phoneNumber, String _currentPassword, String _newPassword)
+  {
+    customerId = _customerId;
+    firstName = _firstName;
+    lastName = _lastName;
+    email = _email;
+    phoneNumber = _phoneNumber;
+    currentPassword = _currentPassword;
+    newPassword = _newPassword;
+  } // ctor
+
+} // class ProfileUpdate
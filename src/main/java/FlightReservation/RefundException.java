@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/RefundException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class RefundException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public RefundException ()
+  {
+    super(RefundExceptionHelper.id());
+  } // ctor
+
+  public RefundException (String _message)
+  {
+    super(RefundExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public RefundException (String $reason, String _message)
+  {
+    super(RefundExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class RefundException
@@ -0,0 +1,34 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Reservation.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Reservation implements org.omg.CORBA.portable.IDLEntity
+{
+  public String reservationId = null;
+  public String customerId = null;
+  public String flightId = null;
+  public String status = null;
+  public double totalPrice = (double)0;
+  public String reservationDate = null;
+
+  public Reservation ()
+  {
+  } // ctor
+
+  public Reservation (String _reservationId, String _customerId, String _flightId, String _status, double _totalPrice, String _reservationDate)
+  {
+    reservationId = _reservationId;
+    customerId = _customerId;
+    flightId = _flightId;
+    status = _status;
+    totalPrice = _totalPrice;
+    reservationDate = _reservationDate;
+  } // ctor
+
+} // class Reservation
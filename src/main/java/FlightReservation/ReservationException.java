@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/ReservationException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class ReservationException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public ReservationException ()
+  {
+    super(ReservationExceptionHelper.id());
+  } // ctor
+
+  public ReservationException (String _message)
+  {
+    super(ReservationExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public ReservationException (String $reason, String _message)
+  {
+    super(ReservationExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class ReservationException
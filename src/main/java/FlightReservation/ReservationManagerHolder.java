@@ -0,0 +1,40 @@
+package FlightReservation;
+
+/**
+* FlightReservation/ReservationManagerHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des r??servations
+public final class ReservationManagerHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.ReservationManager value = null;
+
+  public ReservationManagerHolder ()
+  {
+  }
+
+  public ReservationManagerHolder (FlightReservation.ReservationManager initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.ReservationManagerHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.ReservationManagerHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.ReservationManagerHelper.type ();
+  }
+
+}
@@ -0,0 +1,29 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/ReservationManagerOperations.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des r??servations
+public interface ReservationManagerOperations 
+{
+  FlightReservation.Reservation createReservation (String customerId, String flightId, String[] seatNumbers, FlightReservation.Passenger[] passengers) throws FlightReservation.SeatNotAvailableException, FlightReservation.ReservationException;
+  FlightReservation.Reservation getReservation (String reservationId);
+  FlightReservation.Ticket[] getTickets (String reservationId);
+  FlightReservation.Ticket getTicketById (String ticketId) throws FlightReservation.ReservationException;
+  FlightReservation.Reservation getReservationByTicketId (String ticketId) throws FlightReservation.ReservationException;
+  boolean cancelReservation (String reservationId);
+
+  // ???? Retenir des si??ges (une retenue par client et par vol, remplac??e si renouvel??e)
+  FlightReservation.SeatHold holdSeats (String customerId, String flightId, String[] seatNumbers) throws FlightReservation.SeatNotAvailableException, FlightReservation.ReservationException;
+
+  // ???? Attribuer et retenir les meilleurs si??ges voisins d'une classe (groupes)
+  FlightReservation.SeatHold autoAssignSeats (String customerId, String flightId, String seatClass, int seatCount, boolean keepTogether) throws FlightReservation.SeatNotAvailableException, FlightReservation.ReservationException;
+  boolean releaseHold (String holdId);
+  FlightReservation.Reservation[] getCustomerReservations (String customerId);
+} // interface ReservationManagerOperations
@@ -0,0 +1,221 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/ReservationManagerPOA.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des r??servations
+public abstract class ReservationManagerPOA extends org.omg.PortableServer.Servant
+ implements FlightReservation.ReservationManagerOperations, org.omg.CORBA.portable.InvokeHandler
+{
+
+  // Constructors
+
+  private static java.util.Hashtable _methods = new java.util.Hashtable ();
+  static
+  {
+    _methods.put ("createReservation", new java.lang.Integer (0));
+    _methods.put ("getReservation", new java.lang.Integer (1));
+    _methods.put ("getTickets", new java.lang.Integer (2));
+    _methods.put ("getTicketById", new java.lang.Integer (3));
+    _methods.put ("getReservationByTicketId", new java.lang.Integer (4));
+    _methods.put ("cancelReservation", new java.lang.Integer (5));
+    _methods.put ("holdSeats", new java.lang.Integer (6));
+    _methods.put ("autoAssignSeats", new java.lang.Integer (7));
+    _methods.put ("releaseHold", new java.lang.Integer (8));
+    _methods.put ("getCustomerReservations", new java.lang.Integer (9));
+  }
+
+  public org.omg.CORBA.portable.OutputStream _invoke (String $method,
+                                org.omg.CORBA.portable.InputStream in,
+                                org.omg.CORBA.portable.ResponseHandler $rh)
+  {
+    org.omg.CORBA.portable.OutputStream out = null;
+    java.lang.Integer __method = (java.lang.Integer)_methods.get ($method);
+    if (__method == null)
+      throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+
+    switch (__method.intValue ())
+    {
+       case 0:  // FlightReservation/ReservationManager/createReservation
+       {
+         try {
+           String customerId = in.read_string ();
+           String flightId = in.read_string ();
+           String seatNumbers[] = FlightReservation.SeatNumberListHelper.read (in);
+           FlightReservation.Passenger passengers[] = FlightReservation.PassengerListHelper.read (in);
+           FlightReservation.Reservation $result = null;
+           $result = this.createReservation (customerId, flightId, seatNumbers, passengers);
+           out = $rh.createReply();
+           FlightReservation.ReservationHelper.write (out, $result);
+         } catch (FlightReservation.SeatNotAvailableException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.SeatNotAvailableExceptionHelper.write (out, $ex);
+         } catch (FlightReservation.ReservationException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.ReservationExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 1:  // FlightReservation/ReservationManager/getReservation
+       {
+         String reservationId = in.read_string ();
+         FlightReservation.Reservation $result = null;
+         $result = this.getReservation (reservationId);
+         out = $rh.createReply();
+         FlightReservation.ReservationHelper.write (out, $result);
+         break;
+       }
+
+       case 2:  // FlightReservation/ReservationManager/getTickets
+       {
+         String reservationId = in.read_string ();
+         FlightReservation.Ticket $result[] = null;
+         $result = this.getTickets (reservationId);
+         out = $rh.createReply();
+         FlightReservation.TicketListHelper.write (out, $result);
+         break;
+       }
+
+       case 3:  // FlightReservation/ReservationManager/getTicketById
+       {
+         try {
+           String ticketId = in.read_string ();
+           FlightReservation.Ticket $result = null;
+           $result = this.getTicketById (ticketId);
+           out = $rh.createReply();
+           FlightReservation.TicketHelper.write (out, $result);
+         } catch (FlightReservation.ReservationException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.ReservationExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 4:  // FlightReservation/ReservationManager/getReservationByTicketId
+       {
+         try {
+           String ticketId = in.read_string ();
+           FlightReservation.Reservation $result = null;
+           $result = this.getReservationByTicketId (ticketId);
+           out = $rh.createReply();
+           FlightReservation.ReservationHelper.write (out, $result);
+         } catch (FlightReservation.ReservationException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.ReservationExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 5:  // FlightReservation/ReservationManager/cancelReservation
+       {
+         String reservationId = in.read_string ();
+         boolean $result = false;
+         $result = this.cancelReservation (reservationId);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+
+  // ???? Retenir des si??ges (une retenue par client et par vol, remplac??e si renouvel??e)
+       case 6:  // FlightReservation/ReservationManager/holdSeats
+       {
+         try {
+           String customerId = in.read_string ();
+           String flightId = in.read_string ();
+           String seatNumbers[] = FlightReservation.SeatNumberListHelper.read (in);
+           FlightReservation.SeatHold $result = null;
+           $result = this.holdSeats (customerId, flightId, seatNumbers);
+           out = $rh.createReply();
+           FlightReservation.SeatHoldHelper.write (out, $result);
+         } catch (FlightReservation.SeatNotAvailableException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.SeatNotAvailableExceptionHelper.write (out, $ex);
+         } catch (FlightReservation.ReservationException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.ReservationExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+
+  // ???? Attribuer et retenir les meilleurs si??ges voisins d'une classe (groupes)
+       case 7:  // FlightReservation/ReservationManager/autoAssignSeats
+       {
+         try {
+           String customerId = in.read_string ();
+           String flightId = in.read_string ();
+           String seatClass = in.read_string ();
+           int seatCount = in.read_long ();
+           boolean keepTogether = in.read_boolean ();
+           FlightReservation.SeatHold $result = null;
+           $result = this.autoAssignSeats (customerId, flightId, seatClass, seatCount, keepTogether);
+           out = $rh.createReply();
+           FlightReservation.SeatHoldHelper.write (out, $result);
+         } catch (FlightReservation.SeatNotAvailableException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.SeatNotAvailableExceptionHelper.write (out, $ex);
+         } catch (FlightReservation.ReservationException $ex) {
+           out = $rh.createExceptionReply ();
+           FlightReservation.ReservationExceptionHelper.write (out, $ex);
+         }
+         break;
+       }
+
+       case 8:  // FlightReservation/ReservationManager/releaseHold
+       {
+         String holdId = in.read_string ();
+         boolean $result = false;
+         $result = this.releaseHold (holdId);
+         out = $rh.createReply();
+         out.write_boolean ($result);
+         break;
+       }
+
+       case 9:  // FlightReservation/ReservationManager/getCustomerReservations
+       {
+         String customerId = in.read_string ();
+         FlightReservation.Reservation $result[] = null;
+         $result = this.getCustomerReservations (customerId);
+         out = $rh.createReply();
+         FlightReservation.ReservationManagerPackage.ReservationListHelper.write (out, $result);
+         break;
+       }
+
+       default:
+         throw new org.omg.CORBA.BAD_OPERATION (0, org.omg.CORBA.CompletionStatus.COMPLETED_MAYBE);
+    }
+
+    return out;
+  } // _invoke
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/ReservationManager:1.0"};
+
+  public String[] _all_interfaces (org.omg.PortableServer.POA poa, byte[] objectId)
+  {
+    return (String[])__ids.clone ();
+  }
+
+  public ReservationManager _this() 
+  {
+    return ReservationManagerHelper.narrow(
+    super._this_object());
+  }
+
+  public ReservationManager _this(org.omg.CORBA.ORB orb) 
+  {
+    return ReservationManagerHelper.narrow(
+    super._this_object(orb));
+  }
+
+
+} // class ReservationManagerPOA
@@ -0,0 +1,39 @@
+package FlightReservation.ReservationManagerPackage;
+
+
+/**
+* FlightReservation/ReservationManagerPackage/ReservationListHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class ReservationListHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.Reservation value[] = null;
+
+  public ReservationListHolder ()
+  {
+  }
+
+  public ReservationListHolder (FlightReservation.Reservation[] initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.ReservationManagerPackage.ReservationListHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.ReservationManagerPackage.ReservationListHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.ReservationManagerPackage.ReservationListHelper.type ();
+  }
+
+}
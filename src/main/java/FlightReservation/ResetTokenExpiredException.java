@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/ResetTokenExpiredException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class ResetTokenExpiredException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public ResetTokenExpiredException ()
+  {
+    super(ResetTokenExpiredExceptionHelper.id());
+  } // ctor
+
+  public ResetTokenExpiredException (String _message)
+  {
+    super(ResetTokenExpiredExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public ResetTokenExpiredException (String $reason, String _message)
+  {
+    super(ResetTokenExpiredExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class ResetTokenExpiredException
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SavedPaymentMethod.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class SavedPaymentMethod implements org.omg.CORBA.portable.IDLEntity
+{
+  public String paymentMethodId = null;
+  public String customerId = null;
+  public String cardType = null;
+
+  // CIB, EDAHABIA
+  public String maskedCardNumber = null;
+  public String cardHolderName = null;
+  public String expiryDate = null;
+  public boolean isDefault = false;
+
+  public SavedPaymentMethod ()
+  {
+  } // ctor
+
+  public SavedPaymentMethod (String _paymentMethodId, String _customerId, String _cardType, String _maskedCardNumber, String _cardHolderName, String _expiryDate, boolean _isDefault)
+  {
+    paymentMethodId = _paymentMethodId;
+    customerId = _customerId;
+    cardType = _cardType;
+    maskedCardNumber = _maskedCardNumber;
+    cardHolderName = _cardHolderName;
+    expiryDate = _expiryDate;
+    isDefault = _isDefault;
+  } // ctor
+
+} // class SavedPaymentMethod
@@ -0,0 +1,117 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SavedPaymentMethodHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class SavedPaymentMethodHelper
+{
+  private static String  _id = "IDL:FlightReservation/SavedPaymentMethod:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.SavedPaymentMethod that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.SavedPaymentMethod extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [7];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "paymentMethodId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "customerId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "cardType",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "maskedCardNumber",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "cardHolderName",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "expiryDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_boolean);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "isDefault",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.SavedPaymentMethodHelper.id (), "SavedPaymentMethod", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.SavedPaymentMethod read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.SavedPaymentMethod value = new FlightReservation.SavedPaymentMethod ();
+    value.paymentMethodId = istream.read_string ();
+    value.customerId = istream.read_string ();
+    value.cardType = istream.read_string ();
+    value.maskedCardNumber = istream.read_string ();
+    value.cardHolderName = istream.read_string ();
+    value.expiryDate = istream.read_string ();
+    value.isDefault = istream.read_boolean ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.SavedPaymentMethod value)
+  {
+    ostream.write_string (value.paymentMethodId);
+    ostream.write_string (value.customerId);
+    ostream.write_string (value.cardType);
+    ostream.write_string (value.maskedCardNumber);
+    ostream.write_string (value.cardHolderName);
+    ostream.write_string (value.expiryDate);
+    ostream.write_boolean (value.isDefault);
+  }
+
+}
@@ -0,0 +1,48 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SearchOptions.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class SearchOptions implements org.omg.CORBA.portable.IDLEntity
+{
+  public String sortBy = null;
+
+  // "price", "departure" ou "duration"
+  public boolean descending = false;
+  public String airlines = null;
+
+  // compagnies s??par??es par des virgules
+  public String departureFrom = null;
+
+  // "HH:mm"
+  public String departureTo = null;
+
+  // "HH:mm"
+  public int maxDurationMinutes = (int)0;
+  public String aircraftType = null;
+  public int limit = (int)0;
+  public String pageToken = null;
+
+  public SearchOptions ()
+  {
+  } // ctor
+
+  public SearchOptions (String _sortBy, boolean _descending, String _airlines, String _departureFrom, String _departureTo, int _maxDurationMinutes, String _aircraftType, int _limit, String _pageToken)
+  {
+    sortBy = _sortBy;
+    descending = _descending;
+    airlines = _airlines;
+    departureFrom = _departureFrom;
+    departureTo = _departureTo;
+    maxDurationMinutes = _maxDurationMinutes;
+    aircraftType = _aircraftType;
+    limit = _limit;
+    pageToken = _pageToken;
+  } // ctor
+
+} // class SearchOptions
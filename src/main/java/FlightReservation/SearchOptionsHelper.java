@@ -0,0 +1,131 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SearchOptionsHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class SearchOptionsHelper
+{
+  private static String  _id = "IDL:FlightReservation/SearchOptions:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.SearchOptions that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.SearchOptions extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [9];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "sortBy",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_boolean);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "descending",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "airlines",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "departureFrom",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "departureTo",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "maxDurationMinutes",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "aircraftType",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "limit",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "pageToken",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.SearchOptionsHelper.id (), "SearchOptions", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.SearchOptions read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.SearchOptions value = new FlightReservation.SearchOptions ();
+    value.sortBy = istream.read_string ();
+    value.descending = istream.read_boolean ();
+    value.airlines = istream.read_string ();
+    value.departureFrom = istream.read_string ();
+    value.departureTo = istream.read_string ();
+    value.maxDurationMinutes = istream.read_long ();
+    value.aircraftType = istream.read_string ();
+    value.limit = istream.read_long ();
+    value.pageToken = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.SearchOptions value)
+  {
+    ostream.write_string (value.sortBy);
+    ostream.write_boolean (value.descending);
+    ostream.write_string (value.airlines);
+    ostream.write_string (value.departureFrom);
+    ostream.write_string (value.departureTo);
+    ostream.write_long (value.maxDurationMinutes);
+    ostream.write_string (value.aircraftType);
+    ostream.write_long (value.limit);
+    ostream.write_string (value.pageToken);
+  }
+
+}
@@ -0,0 +1,30 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Seat.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Seat implements org.omg.CORBA.portable.IDLEntity
+{
+  public String seatNumber = null;
+  public String seatClass = null;
+  public String status = null;
+  public double price = (double)0;
+
+  public Seat ()
+  {
+  } // ctor
+
+  public Seat (String _seatNumber, String _seatClass, String _status, double _price)
+  {
+    seatNumber = _seatNumber;
+    seatClass = _seatClass;
+    status = _status;
+    price = _price;
+  } // ctor
+
+} // class Seat
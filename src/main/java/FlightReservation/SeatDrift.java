@@ -0,0 +1,44 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SeatDrift.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class SeatDrift implements org.omg.CORBA.portable.IDLEntity
+{
+  public String flightId = null;
+  public String flightNumber = null;
+  public String departureDate = null;
+  public int recordedSeats = (int)0;
+  public int actualSeats = (int)0;
+  public int recordedEconomy = (int)0;
+  public int actualEconomy = (int)0;
+  public int recordedBusiness = (int)0;
+  public int actualBusiness = (int)0;
+  public int recordedFirst = (int)0;
+  public int actualFirst = (int)0;
+
+  public SeatDrift ()
+  {
+  } // ctor
+
+  public SeatDrift (String _flightId, String _flightNumber, String _departureDate, int _recordedSeats, int _actualSeats, int _recordedEconomy, int _actualEconomy, int _recordedBusiness, int _actualBusiness, int _recordedFirst, int _actualFirst)
+  {
+    flightId = _flightId;
+    flightNumber = _flightNumber;
+    departureDate = _departureDate;
+    recordedSeats = _recordedSeats;
+    actualSeats = _actualSeats;
+    recordedEconomy = _recordedEconomy;
+    actualEconomy = _actualEconomy;
+    recordedBusiness = _recordedBusiness;
+    actualBusiness = _actualBusiness;
+    recordedFirst = _recordedFirst;
+    actualFirst = _actualFirst;
+  } // ctor
+
+} // class SeatDrift
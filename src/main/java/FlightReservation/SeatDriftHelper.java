@@ -0,0 +1,145 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SeatDriftHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class SeatDriftHelper
+{
+  private static String  _id = "IDL:FlightReservation/SeatDrift:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.SeatDrift that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.SeatDrift extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [11];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "flightId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "flightNumber",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "departureDate",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "recordedSeats",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "actualSeats",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "recordedEconomy",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "actualEconomy",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "recordedBusiness",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "actualBusiness",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[9] = new org.omg.CORBA.StructMember (
+            "recordedFirst",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[10] = new org.omg.CORBA.StructMember (
+            "actualFirst",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.SeatDriftHelper.id (), "SeatDrift", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.SeatDrift read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.SeatDrift value = new FlightReservation.SeatDrift ();
+    value.flightId = istream.read_string ();
+    value.flightNumber = istream.read_string ();
+    value.departureDate = istream.read_string ();
+    value.recordedSeats = istream.read_long ();
+    value.actualSeats = istream.read_long ();
+    value.recordedEconomy = istream.read_long ();
+    value.actualEconomy = istream.read_long ();
+    value.recordedBusiness = istream.read_long ();
+    value.actualBusiness = istream.read_long ();
+    value.recordedFirst = istream.read_long ();
+    value.actualFirst = istream.read_long ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.SeatDrift value)
+  {
+    ostream.write_string (value.flightId);
+    ostream.write_string (value.flightNumber);
+    ostream.write_string (value.departureDate);
+    ostream.write_long (value.recordedSeats);
+    ostream.write_long (value.actualSeats);
+    ostream.write_long (value.recordedEconomy);
+    ostream.write_long (value.actualEconomy);
+    ostream.write_long (value.recordedBusiness);
+    ostream.write_long (value.actualBusiness);
+    ostream.write_long (value.recordedFirst);
+    ostream.write_long (value.actualFirst);
+  }
+
+}
@@ -0,0 +1,44 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SeatDriftReport.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class SeatDriftReport implements org.omg.CORBA.portable.IDLEntity
+{
+  public boolean running = false;
+
+  // passage en cours
+  public String lastRunAt = null;
+
+  // vide : aucun passage termin??
+  public int durationMs = (int)0;
+  public int flightsScanned = (int)0;
+  public int driftedFlights = (int)0;
+  public int repairedFlights = (int)0;
+  public int totalRepaired = (int)0;
+
+  // depuis le d??marrage du serveur
+  public FlightReservation.SeatDrift drifts[] = null;
+
+  public SeatDriftReport ()
+  {
+  } // ctor
+
+  public SeatDriftReport (boolean _running, String _lastRunAt, int _durationMs, int _flightsScanned, int _driftedFlights, int _repairedFlights, int _totalRepaired, FlightReservation.SeatDrift[] _drifts)
+  {
+    running = _running;
+    lastRunAt = _lastRunAt;
+    durationMs = _durationMs;
+    flightsScanned = _flightsScanned;
+    driftedFlights = _driftedFlights;
+    repairedFlights = _repairedFlights;
+    totalRepaired = _totalRepaired;
+    drifts = _drifts;
+  } // ctor
+
+} // class SeatDriftReport
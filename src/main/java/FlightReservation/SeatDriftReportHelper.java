@@ -0,0 +1,126 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SeatDriftReportHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class SeatDriftReportHelper
+{
+  private static String  _id = "IDL:FlightReservation/SeatDriftReport:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.SeatDriftReport that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.SeatDriftReport extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [8];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_boolean);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "running",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "lastRunAt",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "durationMs",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "flightsScanned",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "driftedFlights",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "repairedFlights",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "totalRepaired",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = FlightReservation.SeatDriftHelper.type ();
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_sequence_tc (0, _tcOf_members0);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_alias_tc (FlightReservation.SeatDriftListHelper.id (), "SeatDriftList", _tcOf_members0);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "drifts",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.SeatDriftReportHelper.id (), "SeatDriftReport", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.SeatDriftReport read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.SeatDriftReport value = new FlightReservation.SeatDriftReport ();
+    value.running = istream.read_boolean ();
+    value.lastRunAt = istream.read_string ();
+    value.durationMs = istream.read_long ();
+    value.flightsScanned = istream.read_long ();
+    value.driftedFlights = istream.read_long ();
+    value.repairedFlights = istream.read_long ();
+    value.totalRepaired = istream.read_long ();
+    value.drifts = FlightReservation.SeatDriftListHelper.read (istream);
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.SeatDriftReport value)
+  {
+    ostream.write_boolean (value.running);
+    ostream.write_string (value.lastRunAt);
+    ostream.write_long (value.durationMs);
+    ostream.write_long (value.flightsScanned);
+    ostream.write_long (value.driftedFlights);
+    ostream.write_long (value.repairedFlights);
+    ostream.write_long (value.totalRepaired);
+    FlightReservation.SeatDriftListHelper.write (ostream, value.drifts);
+  }
+
+}
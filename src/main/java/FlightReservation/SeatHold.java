@@ -0,0 +1,36 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SeatHold.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class SeatHold implements org.omg.CORBA.portable.IDLEntity
+{
+  public String holdId = null;
+  public String customerId = null;
+  public String flightId = null;
+  public String seatNumbers[] = null;
+  public String expiresAt = null;
+
+  // ISO-8601
+  public int ttlSeconds = (int)0;
+
+  public SeatHold ()
+  {
+  } // ctor
+
+  public SeatHold (String _holdId, String _customerId, String _flightId, String[] _seatNumbers, String _expiresAt, int _ttlSeconds)
+  {
+    holdId = _holdId;
+    customerId = _customerId;
+    flightId = _flightId;
+    seatNumbers = _seatNumbers;
+    expiresAt = _expiresAt;
+    ttlSeconds = _ttlSeconds;
+  } // ctor
+
+} // class SeatHold
@@ -0,0 +1,112 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SeatHoldHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+abstract public class SeatHoldHelper
+{
+  private static String  _id = "IDL:FlightReservation/SeatHold:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.SeatHold that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.SeatHold extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [6];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "holdId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "customerId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "flightId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_sequence_tc (0, _tcOf_members0);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_alias_tc (FlightReservation.SeatNumberListHelper.id (), "SeatNumberList", _tcOf_members0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "seatNumbers",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "expiresAt",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "ttlSeconds",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.SeatHoldHelper.id (), "SeatHold", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.SeatHold read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.SeatHold value = new FlightReservation.SeatHold ();
+    value.holdId = istream.read_string ();
+    value.customerId = istream.read_string ();
+    value.flightId = istream.read_string ();
+    value.seatNumbers = FlightReservation.SeatNumberListHelper.read (istream);
+    value.expiresAt = istream.read_string ();
+    value.ttlSeconds = istream.read_long ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.SeatHold value)
+  {
+    ostream.write_string (value.holdId);
+    ostream.write_string (value.customerId);
+    ostream.write_string (value.flightId);
+    FlightReservation.SeatNumberListHelper.write (ostream, value.seatNumbers);
+    ostream.write_string (value.expiresAt);
+    ostream.write_long (value.ttlSeconds);
+  }
+
+}
@@ -0,0 +1,38 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SeatMapData.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class SeatMapData implements org.omg.CORBA.portable.IDLEntity
+{
+  public String flightId = null;
+  public String seatNumber = null;
+  public String seatClass = null;
+  public String status = null;
+  public double price = (double)0;
+  public String passengerName = null;
+
+  // si occup??
+  public String reservationId = null;
+
+  public SeatMapData ()
+  {
+  } // ctor
+
+  public SeatMapData (String _flightId, String _seatNumber, String _seatClass, String _status, double _price, String _passengerName, String _reservationId)
+  {
+    flightId = _flightId;
+    seatNumber = _seatNumber;
+    seatClass = _seatClass;
+    status = _status;
+    price = _price;
+    passengerName = _passengerName;
+    reservationId = _reservationId;
+  } // ctor
+
+} // class SeatMapData
@@ -0,0 +1,33 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/SeatNotAvailableException.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class SeatNotAvailableException extends org.omg.CORBA.UserException
+{
+  public String message = null;
+
+  public SeatNotAvailableException ()
+  {
+    super(SeatNotAvailableExceptionHelper.id());
+  } // ctor
+
+  public SeatNotAvailableException (String _message)
+  {
+    super(SeatNotAvailableExceptionHelper.id());
+    message = _message;
+  } // ctor
+
+
+  public SeatNotAvailableException (String $reason, String _message)
+  {
+    super(SeatNotAvailableExceptionHelper.id() + "  " + $reason);
+    message = _message;
+  } // ctor
+
+} // class SeatNotAvailableException
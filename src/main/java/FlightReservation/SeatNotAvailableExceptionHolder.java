@@ -0,0 +1,38 @@
+package FlightReservation;
+
+/**
+* FlightReservation/SeatNotAvailableExceptionHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class SeatNotAvailableExceptionHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.SeatNotAvailableException value = null;
+
+  public SeatNotAvailableExceptionHolder ()
+  {
+  }
+
+  public SeatNotAvailableExceptionHolder (FlightReservation.SeatNotAvailableException initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.SeatNotAvailableExceptionHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.SeatNotAvailableExceptionHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.SeatNotAvailableExceptionHelper.type ();
+  }
+
+}
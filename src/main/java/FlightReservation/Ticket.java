@@ -0,0 +1,42 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/Ticket.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class Ticket implements org.omg.CORBA.portable.IDLEntity
+{
+  public String ticketId = null;
+  public String reservationId = null;
+  public String passengerName = null;
+  public String seatNumber = null;
+  public String flightNumber = null;
+  public String departureCity = null;
+  public String arrivalCity = null;
+  public String departureDate = null;
+  public String departureTime = null;
+  public double price = (double)0;
+
+  public Ticket ()
+  {
+  } // ctor
+
+  public Ticket (String _ticketId, String _reservationId, String _passengerName, String _seatNumber, String _flightNumber, String _departureCity, String _arrivalCity, String _departureDate, String _departureTime, double _price)
+  {
+    ticketId = _ticketId;
+    reservationId = _reservationId;
+    passengerName = _passengerName;
+    seatNumber = _seatNumber;
+    flightNumber = _flightNumber;
+    departureCity = _departureCity;
+    arrivalCity = _arrivalCity;
+    departureDate = _departureDate;
+    departureTime = _departureTime;
+    price = _price;
+  } // ctor
+
+} // class Ticket
@@ -0,0 +1,39 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/TicketListHolder.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public final class TicketListHolder implements org.omg.CORBA.portable.Streamable
+{
+  public FlightReservation.Ticket value[] = null;
+
+  public TicketListHolder ()
+  {
+  }
+
+  public TicketListHolder (FlightReservation.Ticket[] initialValue)
+  {
+    value = initialValue;
+  }
+
+  public void _read (org.omg.CORBA.portable.InputStream i)
+  {
+    value = FlightReservation.TicketListHelper.read (i);
+  }
+
+  public void _write (org.omg.CORBA.portable.OutputStream o)
+  {
+    FlightReservation.TicketListHelper.write (o, value);
+  }
+
+  public org.omg.CORBA.TypeCode _type ()
+  {
+    return FlightReservation.TicketListHelper.type ();
+  }
+
+}
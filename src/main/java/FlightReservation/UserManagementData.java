@@ -0,0 +1,44 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/UserManagementData.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+public final class UserManagementData implements org.omg.CORBA.portable.IDLEntity
+{
+  public String customerId = null;
+  public String username = null;
+  public String firstName = null;
+  public String lastName = null;
+  public String email = null;
+  public String phoneNumber = null;
+  public int totalBookings = (int)0;
+  public double totalSpent = (double)0;
+  public String lastBooking = null;
+  public boolean isActive = false;
+  public String registeredAt = null;
+
+  public UserManagementData ()
+  {
+  } // ctor
+
+  public UserManagementData (String _customerId, String _username, String _firstName, String _lastName, String _email, String _phoneNumber, int _totalBookings, double _totalSpent, String _lastBooking, boolean _isActive, String _registeredAt)
+  {
+    customerId = _customerId;
+    username = _username;
+    firstName = _firstName;
+    lastName = _lastName;
+    email = _email;
+    phoneNumber = _phoneNumber;
+    totalBookings = _totalBookings;
+    totalSpent = _totalSpent;
+    lastBooking = _lastBooking;
+    isActive = _isActive;
+    registeredAt = _registeredAt;
+  } // ctor
+
+} // class UserManagementData
@@ -0,0 +1,145 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/UserManagementDataHelper.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:27 AM UTC
+*/
+
+abstract public class UserManagementDataHelper
+{
+  private static String  _id = "IDL:FlightReservation/UserManagementData:1.0";
+
+  public static void insert (org.omg.CORBA.Any a, FlightReservation.UserManagementData that)
+  {
+    org.omg.CORBA.portable.OutputStream out = a.create_output_stream ();
+    a.type (type ());
+    write (out, that);
+    a.read_value (out.create_input_stream (), type ());
+  }
+
+  public static FlightReservation.UserManagementData extract (org.omg.CORBA.Any a)
+  {
+    return read (a.create_input_stream ());
+  }
+
+  private static org.omg.CORBA.TypeCode __typeCode = null;
+  private static boolean __active = false;
+  synchronized public static org.omg.CORBA.TypeCode type ()
+  {
+    if (__typeCode == null)
+    {
+      synchronized (org.omg.CORBA.TypeCode.class)
+      {
+        if (__typeCode == null)
+        {
+          if (__active)
+          {
+            return org.omg.CORBA.ORB.init().create_recursive_tc ( _id );
+          }
+          __active = true;
+          org.omg.CORBA.StructMember[] _members0 = new org.omg.CORBA.StructMember [11];
+          org.omg.CORBA.TypeCode _tcOf_members0 = null;
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[0] = new org.omg.CORBA.StructMember (
+            "customerId",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[1] = new org.omg.CORBA.StructMember (
+            "username",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[2] = new org.omg.CORBA.StructMember (
+            "firstName",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[3] = new org.omg.CORBA.StructMember (
+            "lastName",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[4] = new org.omg.CORBA.StructMember (
+            "email",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[5] = new org.omg.CORBA.StructMember (
+            "phoneNumber",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_long);
+          _members0[6] = new org.omg.CORBA.StructMember (
+            "totalBookings",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_double);
+          _members0[7] = new org.omg.CORBA.StructMember (
+            "totalSpent",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[8] = new org.omg.CORBA.StructMember (
+            "lastBooking",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().get_primitive_tc (org.omg.CORBA.TCKind.tk_boolean);
+          _members0[9] = new org.omg.CORBA.StructMember (
+            "isActive",
+            _tcOf_members0,
+            null);
+          _tcOf_members0 = org.omg.CORBA.ORB.init ().create_string_tc (0);
+          _members0[10] = new org.omg.CORBA.StructMember (
+            "registeredAt",
+            _tcOf_members0,
+            null);
+          __typeCode = org.omg.CORBA.ORB.init ().create_struct_tc (FlightReservation.UserManagementDataHelper.id (), "UserManagementData", _members0);
+          __active = false;
+        }
+      }
+    }
+    return __typeCode;
+  }
+
+  public static String id ()
+  {
+    return _id;
+  }
+
+  public static FlightReservation.UserManagementData read (org.omg.CORBA.portable.InputStream istream)
+  {
+    FlightReservation.UserManagementData value = new FlightReservation.UserManagementData ();
+    value.customerId = istream.read_string ();
+    value.username = istream.read_string ();
+    value.firstName = istream.read_string ();
+    value.lastName = istream.read_string ();
+    value.email = istream.read_string ();
+    value.phoneNumber = istream.read_string ();
+    value.totalBookings = istream.read_long ();
+    value.totalSpent = istream.read_double ();
+    value.lastBooking = istream.read_string ();
+    value.isActive = istream.read_boolean ();
+    value.registeredAt = istream.read_string ();
+    return value;
+  }
+
+  public static void write (org.omg.CORBA.portable.OutputStream ostream, FlightReservation.UserManagementData value)
+  {
+    ostream.write_string (value.customerId);
+    ostream.write_string (value.username);
+    ostream.write_string (value.firstName);
+    ostream.write_string (value.lastName);
+    ostream.write_string (value.email);
+    ostream.write_string (value.phoneNumber);
+    ostream.write_long (value.totalBookings);
+    ostream.write_double (value.totalSpent);
+    ostream.write_string (value.lastBooking);
+    ostream.write_boolean (value.isActive);
+    ostream.write_string (value.registeredAt);
+  }
+
+}
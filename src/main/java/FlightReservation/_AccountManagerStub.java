@@ -0,0 +1,395 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_AccountManagerStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+public class _AccountManagerStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.AccountManager
+{
+
+
+  // Historique des r??servations
+  public FlightReservation.BookingHistory[] getBookingHistory (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getBookingHistory", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.BookingHistory $result[] = FlightReservation.BookingHistoryListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getBookingHistory (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getBookingHistory
+
+  public FlightReservation.BookingHistory getBookingDetails (String reservationId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getBookingDetails", true);
+                $out.write_string (reservationId);
+                $in = _invoke ($out);
+                FlightReservation.BookingHistory $result = FlightReservation.BookingHistoryHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getBookingDetails (reservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getBookingDetails
+
+
+  // Gestion du profil
+  public boolean updateProfile (FlightReservation.ProfileUpdate profileData) throws FlightReservation.InvalidPasswordException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("updateProfile", true);
+                FlightReservation.ProfileUpdateHelper.write ($out, profileData);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/InvalidPasswordException:1.0"))
+                    throw FlightReservation.InvalidPasswordExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return updateProfile (profileData        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // updateProfile
+
+  public boolean changePassword (String customerId, String currentPassword, String newPassword) throws FlightReservation.InvalidPasswordException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("changePassword", true);
+                $out.write_string (customerId);
+                $out.write_string (currentPassword);
+                $out.write_string (newPassword);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/InvalidPasswordException:1.0"))
+                    throw FlightReservation.InvalidPasswordExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return changePassword (customerId, currentPassword, newPassword        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // changePassword
+
+
+  // R??initialisation mot de passe
+  public String requestPasswordReset (String email)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("requestPasswordReset", true);
+                $out.write_string (email);
+                $in = _invoke ($out);
+                String $result = $in.read_string ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return requestPasswordReset (email        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // requestPasswordReset
+
+  public boolean resetPassword (FlightReservation.PasswordReset resetData) throws FlightReservation.ResetTokenExpiredException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("resetPassword", true);
+                FlightReservation.PasswordResetHelper.write ($out, resetData);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/ResetTokenExpiredException:1.0"))
+                    throw FlightReservation.ResetTokenExpiredExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return resetPassword (resetData        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // resetPassword
+
+
+  // M??thodes de paiement sauvegard??es
+  public FlightReservation.SavedPaymentMethod savePaymentMethod (FlightReservation.SavedPaymentMethod paymentMethod)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("savePaymentMethod", true);
+                FlightReservation.SavedPaymentMethodHelper.write ($out, paymentMethod);
+                $in = _invoke ($out);
+                FlightReservation.SavedPaymentMethod $result = FlightReservation.SavedPaymentMethodHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return savePaymentMethod (paymentMethod        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // savePaymentMethod
+
+  public FlightReservation.SavedPaymentMethod[] getSavedPaymentMethods (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getSavedPaymentMethods", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.SavedPaymentMethod $result[] = FlightReservation.PaymentMethodListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getSavedPaymentMethods (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getSavedPaymentMethods
+
+  public boolean deletePaymentMethod (String paymentMethodId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("deletePaymentMethod", true);
+                $out.write_string (paymentMethodId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return deletePaymentMethod (paymentMethodId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // deletePaymentMethod
+
+  public boolean setDefaultPaymentMethod (String paymentMethodId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("setDefaultPaymentMethod", true);
+                $out.write_string (paymentMethodId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return setDefaultPaymentMethod (paymentMethodId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // setDefaultPaymentMethod
+
+
+  // Destinations favorites
+  public FlightReservation.Destination[] getPopularDestinations ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getPopularDestinations", true);
+                $in = _invoke ($out);
+                FlightReservation.Destination $result[] = FlightReservation.DestinationListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getPopularDestinations (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getPopularDestinations
+
+  public FlightReservation.Destination[] getFavoriteDestinations (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getFavoriteDestinations", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.Destination $result[] = FlightReservation.DestinationListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getFavoriteDestinations (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getFavoriteDestinations
+
+  public boolean addFavoriteDestination (String customerId, String cityName)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("addFavoriteDestination", true);
+                $out.write_string (customerId);
+                $out.write_string (cityName);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return addFavoriteDestination (customerId, cityName        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // addFavoriteDestination
+
+  public boolean removeFavoriteDestination (String customerId, String cityName)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("removeFavoriteDestination", true);
+                $out.write_string (customerId);
+                $out.write_string (cityName);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return removeFavoriteDestination (customerId, cityName        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // removeFavoriteDestination
+
+
+  // Newsletter
+  public boolean subscribeNewsletter (FlightReservation.Newsletter newsletter)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("subscribeNewsletter", true);
+                FlightReservation.NewsletterHelper.write ($out, newsletter);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return subscribeNewsletter (newsletter        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // subscribeNewsletter
+
+  public boolean unsubscribeNewsletter (String email)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("unsubscribeNewsletter", true);
+                $out.write_string (email);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return unsubscribeNewsletter (email        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // unsubscribeNewsletter
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/AccountManager:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._AccountManagerStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _AccountManagerStub
@@ -0,0 +1,1108 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_AdminManagerStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== INTERFACE ADMIN ====================
+public class _AdminManagerStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.AdminManager
+{
+
+
+  // ========== AUTHENTIFICATION ==========
+  public FlightReservation.AdminUser adminLogin (String username, String password) throws FlightReservation.AdminAuthException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("adminLogin", true);
+                $out.write_string (username);
+                $out.write_string (password);
+                $in = _invoke ($out);
+                FlightReservation.AdminUser $result = FlightReservation.AdminUserHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/AdminAuthException:1.0"))
+                    throw FlightReservation.AdminAuthExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return adminLogin (username, password        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // adminLogin
+
+  public boolean validateAdminSession (String adminId, String token) throws FlightReservation.AdminAuthException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("validateAdminSession", true);
+                $out.write_string (adminId);
+                $out.write_string (token);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/AdminAuthException:1.0"))
+                    throw FlightReservation.AdminAuthExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return validateAdminSession (adminId, token        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // validateAdminSession
+
+  public void adminLogout (String adminId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("adminLogout", true);
+                $out.write_string (adminId);
+                $in = _invoke ($out);
+                return;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                adminLogout (adminId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // adminLogout
+
+
+  // ========== DASHBOARD ==========
+  public FlightReservation.DashboardStats getDashboardStats ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getDashboardStats", true);
+                $in = _invoke ($out);
+                FlightReservation.DashboardStats $result = FlightReservation.DashboardStatsHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getDashboardStats (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getDashboardStats
+
+  public FlightReservation.FinancialReport getFinancialReport (String period, String startDate, String endDate)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getFinancialReport", true);
+                $out.write_string (period);
+                $out.write_string (startDate);
+                $out.write_string (endDate);
+                $in = _invoke ($out);
+                FlightReservation.FinancialReport $result = FlightReservation.FinancialReportHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getFinancialReport (period, startDate, endDate        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getFinancialReport
+
+
+  // ========== GESTION DES VOLS ==========
+  public FlightReservation.FlightManagementData[] getAllFlights ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAllFlights", true);
+                $in = _invoke ($out);
+                FlightReservation.FlightManagementData $result[] = FlightReservation.FlightManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAllFlights (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAllFlights
+
+  public FlightReservation.FlightManagementData getFlightDetails (String flightId) throws FlightReservation.FlightNotFoundException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getFlightDetails", true);
+                $out.write_string (flightId);
+                $in = _invoke ($out);
+                FlightReservation.FlightManagementData $result = FlightReservation.FlightManagementDataHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/FlightNotFoundException:1.0"))
+                    throw FlightReservation.FlightNotFoundExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getFlightDetails (flightId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getFlightDetails
+
+  public String createFlight (FlightReservation.FlightManagementData flightData) throws FlightReservation.FlightManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("createFlight", true);
+                FlightReservation.FlightManagementDataHelper.write ($out, flightData);
+                $in = _invoke ($out);
+                String $result = $in.read_string ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/FlightManagementException:1.0"))
+                    throw FlightReservation.FlightManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return createFlight (flightData        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // createFlight
+
+  public boolean updateFlight (FlightReservation.FlightManagementData flightData) throws FlightReservation.FlightManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("updateFlight", true);
+                FlightReservation.FlightManagementDataHelper.write ($out, flightData);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/FlightManagementException:1.0"))
+                    throw FlightReservation.FlightManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return updateFlight (flightData        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // updateFlight
+
+  public boolean deleteFlight (String flightId) throws FlightReservation.FlightManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("deleteFlight", true);
+                $out.write_string (flightId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/FlightManagementException:1.0"))
+                    throw FlightReservation.FlightManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return deleteFlight (flightId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // deleteFlight
+
+  public boolean cancelFlight (String flightId, String reason) throws FlightReservation.FlightManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("cancelFlight", true);
+                $out.write_string (flightId);
+                $out.write_string (reason);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/FlightManagementException:1.0"))
+                    throw FlightReservation.FlightManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return cancelFlight (flightId, reason        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // cancelFlight
+
+
+  // ========== GESTION DES UTILISATEURS ==========
+  public FlightReservation.UserManagementData[] getAllUsers ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAllUsers", true);
+                $in = _invoke ($out);
+                FlightReservation.UserManagementData $result[] = FlightReservation.UserManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAllUsers (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAllUsers
+
+  public FlightReservation.UserManagementData getUserDetails (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getUserDetails", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.UserManagementData $result = FlightReservation.UserManagementDataHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getUserDetails (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getUserDetails
+
+  public boolean suspendUser (String customerId, String reason)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("suspendUser", true);
+                $out.write_string (customerId);
+                $out.write_string (reason);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return suspendUser (customerId, reason        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // suspendUser
+
+  public boolean activateUser (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("activateUser", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return activateUser (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // activateUser
+
+  public boolean deleteUser (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("deleteUser", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return deleteUser (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // deleteUser
+
+
+  // ========== GESTION DES R??SERVATIONS ==========
+  public FlightReservation.BookingManagementData[] getAllBookings ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAllBookings", true);
+                $in = _invoke ($out);
+                FlightReservation.BookingManagementData $result[] = FlightReservation.BookingManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAllBookings (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAllBookings
+
+  public FlightReservation.BookingManagementData[] getBookingsByStatus (String status)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getBookingsByStatus", true);
+                $out.write_string (status);
+                $in = _invoke ($out);
+                FlightReservation.BookingManagementData $result[] = FlightReservation.BookingManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getBookingsByStatus (status        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getBookingsByStatus
+
+  public FlightReservation.BookingManagementData[] getBookingsByDate (String startDate, String endDate)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getBookingsByDate", true);
+                $out.write_string (startDate);
+                $out.write_string (endDate);
+                $in = _invoke ($out);
+                FlightReservation.BookingManagementData $result[] = FlightReservation.BookingManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getBookingsByDate (startDate, endDate        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getBookingsByDate
+
+  public boolean cancelBookingAdmin (String reservationId, String reason)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("cancelBookingAdmin", true);
+                $out.write_string (reservationId);
+                $out.write_string (reason);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return cancelBookingAdmin (reservationId, reason        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // cancelBookingAdmin
+
+  public boolean modifyBookingAdmin (String reservationId, String[] newSeats)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("modifyBookingAdmin", true);
+                $out.write_string (reservationId);
+                FlightReservation.SeatNumberListHelper.write ($out, newSeats);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return modifyBookingAdmin (reservationId, newSeats        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // modifyBookingAdmin
+
+
+  // ========== GESTION DES SI??GES ==========
+  public FlightReservation.SeatMapData[] getSeatMap (String flightId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getSeatMap", true);
+                $out.write_string (flightId);
+                $in = _invoke ($out);
+                FlightReservation.SeatMapData $result[] = FlightReservation.SeatMapListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getSeatMap (flightId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getSeatMap
+
+  public boolean updateSeatPrice (String flightId, String seatNumber, double newPrice)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("updateSeatPrice", true);
+                $out.write_string (flightId);
+                $out.write_string (seatNumber);
+                $out.write_double (newPrice);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return updateSeatPrice (flightId, seatNumber, newPrice        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // updateSeatPrice
+
+  public boolean blockSeat (String flightId, String seatNumber, String reason)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("blockSeat", true);
+                $out.write_string (flightId);
+                $out.write_string (seatNumber);
+                $out.write_string (reason);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return blockSeat (flightId, seatNumber, reason        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // blockSeat
+
+  public boolean unblockSeat (String flightId, String seatNumber)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("unblockSeat", true);
+                $out.write_string (flightId);
+                $out.write_string (seatNumber);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return unblockSeat (flightId, seatNumber        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // unblockSeat
+
+
+  // ???? Compteurs de places / plans de si??ges
+  public FlightReservation.SeatDriftReport getSeatDriftReport ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getSeatDriftReport", true);
+                $in = _invoke ($out);
+                FlightReservation.SeatDriftReport $result = FlightReservation.SeatDriftReportHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getSeatDriftReport (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getSeatDriftReport
+
+  public boolean startSeatReconciliation (boolean repair)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("startSeatReconciliation", true);
+                $out.write_boolean (repair);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return startSeatReconciliation (repair        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // startSeatReconciliation
+
+
+  // ========== GESTION DES PRIX ==========
+  public FlightReservation.PricingRule[] getPricingRules (String flightId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getPricingRules", true);
+                $out.write_string (flightId);
+                $in = _invoke ($out);
+                FlightReservation.PricingRule $result[] = FlightReservation.PricingRuleListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getPricingRules (flightId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getPricingRules
+
+  public String createPricingRule (FlightReservation.PricingRule rule)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("createPricingRule", true);
+                FlightReservation.PricingRuleHelper.write ($out, rule);
+                $in = _invoke ($out);
+                String $result = $in.read_string ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return createPricingRule (rule        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // createPricingRule
+
+  public boolean updatePricingRule (FlightReservation.PricingRule rule)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("updatePricingRule", true);
+                FlightReservation.PricingRuleHelper.write ($out, rule);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return updatePricingRule (rule        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // updatePricingRule
+
+  public boolean deletePricingRule (String ruleId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("deletePricingRule", true);
+                $out.write_string (ruleId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return deletePricingRule (ruleId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // deletePricingRule
+
+
+  // ========== GESTION DES H??TELS ==========
+  public FlightReservation.HotelManagementData[] getAllHotels ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAllHotels", true);
+                $in = _invoke ($out);
+                FlightReservation.HotelManagementData $result[] = FlightReservation.HotelManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAllHotels (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAllHotels
+
+  public FlightReservation.HotelManagementData getHotelDetails (String hotelId) throws FlightReservation.HotelNotFoundException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelDetails", true);
+                $out.write_string (hotelId);
+                $in = _invoke ($out);
+                FlightReservation.HotelManagementData $result = FlightReservation.HotelManagementDataHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelNotFoundException:1.0"))
+                    throw FlightReservation.HotelNotFoundExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelDetails (hotelId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelDetails
+
+  public String createHotel (FlightReservation.HotelManagementData hotelData) throws FlightReservation.HotelManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("createHotel", true);
+                FlightReservation.HotelManagementDataHelper.write ($out, hotelData);
+                $in = _invoke ($out);
+                String $result = $in.read_string ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelManagementException:1.0"))
+                    throw FlightReservation.HotelManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return createHotel (hotelData        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // createHotel
+
+  public boolean updateHotel (FlightReservation.HotelManagementData hotelData) throws FlightReservation.HotelManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("updateHotel", true);
+                FlightReservation.HotelManagementDataHelper.write ($out, hotelData);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelManagementException:1.0"))
+                    throw FlightReservation.HotelManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return updateHotel (hotelData        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // updateHotel
+
+  public boolean deleteHotel (String hotelId) throws FlightReservation.HotelManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("deleteHotel", true);
+                $out.write_string (hotelId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelManagementException:1.0"))
+                    throw FlightReservation.HotelManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return deleteHotel (hotelId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // deleteHotel
+
+  public boolean suspendHotel (String hotelId, String reason) throws FlightReservation.HotelManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("suspendHotel", true);
+                $out.write_string (hotelId);
+                $out.write_string (reason);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelManagementException:1.0"))
+                    throw FlightReservation.HotelManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return suspendHotel (hotelId, reason        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // suspendHotel
+
+  public boolean activateHotel (String hotelId) throws FlightReservation.HotelManagementException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("activateHotel", true);
+                $out.write_string (hotelId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelManagementException:1.0"))
+                    throw FlightReservation.HotelManagementExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return activateHotel (hotelId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // activateHotel
+
+
+  // ========== GESTION DES R??SERVATIONS D'H??TELS ==========
+  public FlightReservation.HotelBookingManagementData[] getAllHotelBookings ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAllHotelBookings", true);
+                $in = _invoke ($out);
+                FlightReservation.HotelBookingManagementData $result[] = FlightReservation.HotelBookingManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAllHotelBookings (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAllHotelBookings
+
+  public FlightReservation.HotelBookingManagementData[] getHotelBookingsByStatus (String status)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelBookingsByStatus", true);
+                $out.write_string (status);
+                $in = _invoke ($out);
+                FlightReservation.HotelBookingManagementData $result[] = FlightReservation.HotelBookingManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelBookingsByStatus (status        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelBookingsByStatus
+
+  public FlightReservation.HotelBookingManagementData[] getHotelBookingsByDateRange (String startDate, String endDate)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelBookingsByDateRange", true);
+                $out.write_string (startDate);
+                $out.write_string (endDate);
+                $in = _invoke ($out);
+                FlightReservation.HotelBookingManagementData $result[] = FlightReservation.HotelBookingManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelBookingsByDateRange (startDate, endDate        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelBookingsByDateRange
+
+  public FlightReservation.HotelBookingManagementData[] getHotelBookingsByHotel (String hotelId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelBookingsByHotel", true);
+                $out.write_string (hotelId);
+                $in = _invoke ($out);
+                FlightReservation.HotelBookingManagementData $result[] = FlightReservation.HotelBookingManagementListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelBookingsByHotel (hotelId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelBookingsByHotel
+
+  public boolean cancelHotelBookingAdmin (String hotelReservationId, String reason)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("cancelHotelBookingAdmin", true);
+                $out.write_string (hotelReservationId);
+                $out.write_string (reason);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return cancelHotelBookingAdmin (hotelReservationId, reason        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // cancelHotelBookingAdmin
+
+
+  // ========== STATISTIQUES H??TELS ==========
+  public FlightReservation.HotelStatistics getHotelStatistics ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelStatistics", true);
+                $in = _invoke ($out);
+                FlightReservation.HotelStatistics $result = FlightReservation.HotelStatisticsHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelStatistics (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelStatistics
+
+
+  // ========== RAPPORTS ==========
+  public String generateFullReport (String reportType, String startDate, String endDate)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("generateFullReport", true);
+                $out.write_string (reportType);
+                $out.write_string (startDate);
+                $out.write_string (endDate);
+                $in = _invoke ($out);
+                String $result = $in.read_string ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return generateFullReport (reportType, startDate, endDate        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // generateFullReport
+
+  public String[] getTopRoutes (int limit)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getTopRoutes", true);
+                $out.write_long (limit);
+                $in = _invoke ($out);
+                String $result[] = FlightReservation.AdminManagerPackage.StringListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getTopRoutes (limit        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getTopRoutes
+
+  public String[] getTopCustomers (int limit)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getTopCustomers", true);
+                $out.write_long (limit);
+                $in = _invoke ($out);
+                String $result[] = FlightReservation.AdminManagerPackage.StringListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getTopCustomers (limit        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getTopCustomers
+
+
+  // ========== RAPPORTS H??TELS ==========
+  public String[] getTopHotels (int limit)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getTopHotels", true);
+                $out.write_long (limit);
+                $in = _invoke ($out);
+                String $result[] = FlightReservation.AdminManagerPackage.StringListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getTopHotels (limit        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getTopHotels
+
+  public String[] getTopCities (int limit)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getTopCities", true);
+                $out.write_long (limit);
+                $in = _invoke ($out);
+                String $result[] = FlightReservation.AdminManagerPackage.StringListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getTopCities (limit        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getTopCities
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/AdminManager:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._AdminManagerStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _AdminManagerStub
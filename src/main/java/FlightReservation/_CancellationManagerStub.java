@@ -0,0 +1,215 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_CancellationManagerStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// GESTIONNAIRE D'ANNULATION/MODIFICATION
+public class _CancellationManagerStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.CancellationManager
+{
+
+
+  // Politique d'annulation
+  public FlightReservation.CancellationPolicy getCancellationPolicy (String reservationId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getCancellationPolicy", true);
+                $out.write_string (reservationId);
+                $in = _invoke ($out);
+                FlightReservation.CancellationPolicy $result = FlightReservation.CancellationPolicyHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getCancellationPolicy (reservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getCancellationPolicy
+
+  public double calculateRefundAmount (String reservationId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("calculateRefundAmount", true);
+                $out.write_string (reservationId);
+                $in = _invoke ($out);
+                double $result = $in.read_double ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return calculateRefundAmount (reservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // calculateRefundAmount
+
+
+  // Annulation
+  public boolean cancelReservation (String reservationId, String reason) throws FlightReservation.CancellationNotAllowedException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("cancelReservation", true);
+                $out.write_string (reservationId);
+                $out.write_string (reason);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/CancellationNotAllowedException:1.0"))
+                    throw FlightReservation.CancellationNotAllowedExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return cancelReservation (reservationId, reason        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // cancelReservation
+
+
+  // Modification
+  public boolean canModifyReservation (String reservationId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("canModifyReservation", true);
+                $out.write_string (reservationId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return canModifyReservation (reservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // canModifyReservation
+
+  public boolean modifySeats (String reservationId, String[] newSeats) throws FlightReservation.ModificationNotAllowedException, FlightReservation.SeatNotAvailableException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("modifySeats", true);
+                $out.write_string (reservationId);
+                FlightReservation.SeatNumberListHelper.write ($out, newSeats);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/ModificationNotAllowedException:1.0"))
+                    throw FlightReservation.ModificationNotAllowedExceptionHelper.read ($in);
+                else if (_id.equals ("IDL:FlightReservation/SeatNotAvailableException:1.0"))
+                    throw FlightReservation.SeatNotAvailableExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return modifySeats (reservationId, newSeats        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // modifySeats
+
+
+  // Changement de vol (upgrade complexe)
+  public FlightReservation.Flight[] getAlternativeFlights (String reservationId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAlternativeFlights", true);
+                $out.write_string (reservationId);
+                $in = _invoke ($out);
+                FlightReservation.Flight $result[] = FlightReservation.FlightListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAlternativeFlights (reservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAlternativeFlights
+
+  public boolean changeFlight (String reservationId, String newFlightId) throws FlightReservation.ModificationNotAllowedException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("changeFlight", true);
+                $out.write_string (reservationId);
+                $out.write_string (newFlightId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/ModificationNotAllowedException:1.0"))
+                    throw FlightReservation.ModificationNotAllowedExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return changeFlight (reservationId, newFlightId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // changeFlight
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/CancellationManager:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._CancellationManagerStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _CancellationManagerStub
@@ -0,0 +1,188 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_CustomerManagerStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des clients
+public class _CustomerManagerStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.CustomerManager
+{
+
+  public FlightReservation.LoginResponse login (String username, String password) throws FlightReservation.InvalidCredentialsException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("login", true);
+                $out.write_string (username);
+                $out.write_string (password);
+                $in = _invoke ($out);
+                FlightReservation.LoginResponse $result = FlightReservation.LoginResponseHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/InvalidCredentialsException:1.0"))
+                    throw FlightReservation.InvalidCredentialsExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return login (username, password        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // login
+
+  public FlightReservation.LoginResponse registerCustomer (String username, String password, String firstName, String lastName, String email, String phoneNumber) throws FlightReservation.CustomerAlreadyExistsException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("registerCustomer", true);
+                $out.write_string (username);
+                $out.write_string (password);
+                $out.write_string (firstName);
+                $out.write_string (lastName);
+                $out.write_string (email);
+                $out.write_string (phoneNumber);
+                $in = _invoke ($out);
+                FlightReservation.LoginResponse $result = FlightReservation.LoginResponseHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/CustomerAlreadyExistsException:1.0"))
+                    throw FlightReservation.CustomerAlreadyExistsExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return registerCustomer (username, password, firstName, lastName, email, phoneNumber        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // registerCustomer
+
+  public FlightReservation.Customer getCustomerById (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getCustomerById", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.Customer $result = FlightReservation.CustomerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getCustomerById (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getCustomerById
+
+  public boolean updateCustomer (FlightReservation.Customer customer)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("updateCustomer", true);
+                FlightReservation.CustomerHelper.write ($out, customer);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return updateCustomer (customer        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // updateCustomer
+
+  public void logout (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("logout", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                return;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                logout (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // logout
+
+  public FlightReservation.Customer validateSession (String customerId, String token) throws FlightReservation.InvalidCredentialsException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("validateSession", true);
+                $out.write_string (customerId);
+                $out.write_string (token);
+                $in = _invoke ($out);
+                FlightReservation.Customer $result = FlightReservation.CustomerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/InvalidCredentialsException:1.0"))
+                    throw FlightReservation.InvalidCredentialsExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return validateSession (customerId, token        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // validateSession
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/CustomerManager:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._CustomerManagerStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _CustomerManagerStub
@@ -0,0 +1,205 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_FlightBookingSystemStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface principale du syst??me
+public class _FlightBookingSystemStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.FlightBookingSystem
+{
+
+  public FlightReservation.CustomerManager getCustomerManager ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getCustomerManager", true);
+                $in = _invoke ($out);
+                FlightReservation.CustomerManager $result = FlightReservation.CustomerManagerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getCustomerManager (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getCustomerManager
+
+  public FlightReservation.FlightManager getFlightManager ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getFlightManager", true);
+                $in = _invoke ($out);
+                FlightReservation.FlightManager $result = FlightReservation.FlightManagerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getFlightManager (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getFlightManager
+
+  public FlightReservation.ReservationManager getReservationManager ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getReservationManager", true);
+                $in = _invoke ($out);
+                FlightReservation.ReservationManager $result = FlightReservation.ReservationManagerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getReservationManager (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getReservationManager
+
+  public FlightReservation.PaymentManager getPaymentManager ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getPaymentManager", true);
+                $in = _invoke ($out);
+                FlightReservation.PaymentManager $result = FlightReservation.PaymentManagerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getPaymentManager (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getPaymentManager
+
+  public FlightReservation.AccountManager getAccountManager ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAccountManager", true);
+                $in = _invoke ($out);
+                FlightReservation.AccountManager $result = FlightReservation.AccountManagerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAccountManager (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAccountManager
+
+  public FlightReservation.CancellationManager getCancellationManager ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getCancellationManager", true);
+                $in = _invoke ($out);
+                FlightReservation.CancellationManager $result = FlightReservation.CancellationManagerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getCancellationManager (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getCancellationManager
+
+  public FlightReservation.AdminManager getAdminManager ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAdminManager", true);
+                $in = _invoke ($out);
+                FlightReservation.AdminManager $result = FlightReservation.AdminManagerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAdminManager (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAdminManager
+
+  public FlightReservation.HotelManager getHotelManager ()
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelManager", true);
+                $in = _invoke ($out);
+                FlightReservation.HotelManager $result = FlightReservation.HotelManagerHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelManager (        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelManager
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/FlightBookingSystem:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._FlightBookingSystemStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _FlightBookingSystemStub
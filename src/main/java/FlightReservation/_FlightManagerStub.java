@@ -0,0 +1,298 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_FlightManagerStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de recherche et gestion des vols
+public class _FlightManagerStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.FlightManager
+{
+
+
+  // ???? Autocompl??tion des villes (pr??fixe sans accents, class?? par popularit??)
+  public FlightReservation.CitySuggestion[] suggestCities (String prefix, int limit)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("suggestCities", true);
+                $out.write_string (prefix);
+                $out.write_long (limit);
+                $in = _invoke ($out);
+                FlightReservation.CitySuggestion $result[] = FlightReservation.CitySuggestionListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return suggestCities (prefix, limit        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // suggestCities
+
+
+  // ???? Recherche tri??e, filtr??e et pagin??e c??t?? serveur
+  public FlightReservation.FlightPage searchFlightsPage (String departureCity, String arrivalCity, String date, String seatClass, FlightReservation.SearchOptions options)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("searchFlightsPage", true);
+                $out.write_string (departureCity);
+                $out.write_string (arrivalCity);
+                $out.write_string (date);
+                $out.write_string (seatClass);
+                FlightReservation.SearchOptionsHelper.write ($out, options);
+                $in = _invoke ($out);
+                FlightReservation.FlightPage $result = FlightReservation.FlightPageHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return searchFlightsPage (departureCity, arrivalCity, date, seatClass, options        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // searchFlightsPage
+
+  public FlightReservation.Flight[] searchFlights (String departureCity, String arrivalCity, String date, String seatClass)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("searchFlights", true);
+                $out.write_string (departureCity);
+                $out.write_string (arrivalCity);
+                $out.write_string (date);
+                $out.write_string (seatClass);
+                $in = _invoke ($out);
+                FlightReservation.Flight $result[] = FlightReservation.FlightListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return searchFlights (departureCity, arrivalCity, date, seatClass        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // searchFlights
+
+  public FlightReservation.Flight getFlightById (String flightId) throws FlightReservation.FlightNotFoundException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getFlightById", true);
+                $out.write_string (flightId);
+                $in = _invoke ($out);
+                FlightReservation.Flight $result = FlightReservation.FlightHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/FlightNotFoundException:1.0"))
+                    throw FlightReservation.FlightNotFoundExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getFlightById (flightId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getFlightById
+
+  public FlightReservation.Seat[] getAvailableSeats (String flightId) throws FlightReservation.FlightNotFoundException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getAvailableSeats", true);
+                $out.write_string (flightId);
+                $in = _invoke ($out);
+                FlightReservation.Seat $result[] = FlightReservation.SeatListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/FlightNotFoundException:1.0"))
+                    throw FlightReservation.FlightNotFoundExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getAvailableSeats (flightId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getAvailableSeats
+
+  public boolean isSeatAvailable (String flightId, String seatNumber)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("isSeatAvailable", true);
+                $out.write_string (flightId);
+                $out.write_string (seatNumber);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return isSeatAvailable (flightId, seatNumber        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // isSeatAvailable
+
+
+  // Version courte du vol (ETag / Last-Modified c??t?? REST)
+  public String getFlightVersion (String flightId) throws FlightReservation.FlightNotFoundException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getFlightVersion", true);
+                $out.write_string (flightId);
+                $in = _invoke ($out);
+                String $result = $in.read_string ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/FlightNotFoundException:1.0"))
+                    throw FlightReservation.FlightNotFoundExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getFlightVersion (flightId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getFlightVersion
+
+
+  // sortBy : "price" ou "duration" ; 0 = valeur par d??faut pour les entiers
+  public FlightReservation.Itinerary[] searchConnections (String departureCity, String arrivalCity, String date, String seatClass, int maxLegs, int minConnectionMinutes, String sortBy, int limit)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("searchConnections", true);
+                $out.write_string (departureCity);
+                $out.write_string (arrivalCity);
+                $out.write_string (date);
+                $out.write_string (seatClass);
+                $out.write_long (maxLegs);
+                $out.write_long (minConnectionMinutes);
+                $out.write_string (sortBy);
+                $out.write_long (limit);
+                $in = _invoke ($out);
+                FlightReservation.Itinerary $result[] = FlightReservation.ItineraryListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return searchConnections (departureCity, arrivalCity, date, seatClass, maxLegs, minConnectionMinutes, sortBy, limit        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // searchConnections
+
+
+  // ???? Tarif minimum par jour sur une fen??tre de dates (bornes incluses)
+  public FlightReservation.FareDay[] getFareCalendar (String departureCity, String arrivalCity, String fromDate, String toDate, String seatClass)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getFareCalendar", true);
+                $out.write_string (departureCity);
+                $out.write_string (arrivalCity);
+                $out.write_string (fromDate);
+                $out.write_string (toDate);
+                $out.write_string (seatClass);
+                $in = _invoke ($out);
+                FlightReservation.FareDay $result[] = FlightReservation.FareCalendarHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getFareCalendar (departureCity, arrivalCity, fromDate, toDate, seatClass        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getFareCalendar
+
+
+  // maxBudget = 0 : sans limite de prix
+  public FlightReservation.DestinationFare[] exploreDestinations (String departureCity, String month, String seatClass, double maxBudget, int limit)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("exploreDestinations", true);
+                $out.write_string (departureCity);
+                $out.write_string (month);
+                $out.write_string (seatClass);
+                $out.write_double (maxBudget);
+                $out.write_long (limit);
+                $in = _invoke ($out);
+                FlightReservation.DestinationFare $result[] = FlightReservation.DestinationFareListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return exploreDestinations (departureCity, month, seatClass, maxBudget, limit        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // exploreDestinations
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/FlightManager:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._FlightManagerStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _FlightManagerStub
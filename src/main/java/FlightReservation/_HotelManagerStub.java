@@ -0,0 +1,244 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_HotelManagerStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// ==================== Interface HotelManager ====================
+public class _HotelManagerStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.HotelManager
+{
+
+  public FlightReservation.Hotel[] searchHotels (String city, String checkInDate, String checkOutDate, int numberOfRooms, int minStarRating)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("searchHotels", true);
+                $out.write_string (city);
+                $out.write_string (checkInDate);
+                $out.write_string (checkOutDate);
+                $out.write_long (numberOfRooms);
+                $out.write_long (minStarRating);
+                $in = _invoke ($out);
+                FlightReservation.Hotel $result[] = FlightReservation.HotelListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return searchHotels (city, checkInDate, checkOutDate, numberOfRooms, minStarRating        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // searchHotels
+
+  public FlightReservation.Hotel getHotelById (String hotelId) throws FlightReservation.HotelNotFoundException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelById", true);
+                $out.write_string (hotelId);
+                $in = _invoke ($out);
+                FlightReservation.Hotel $result = FlightReservation.HotelHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelNotFoundException:1.0"))
+                    throw FlightReservation.HotelNotFoundExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelById (hotelId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelById
+
+
+  // Version courte de l'h??tel (ETag / Last-Modified c??t?? REST)
+  public String getHotelVersion (String hotelId) throws FlightReservation.HotelNotFoundException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelVersion", true);
+                $out.write_string (hotelId);
+                $in = _invoke ($out);
+                String $result = $in.read_string ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelNotFoundException:1.0"))
+                    throw FlightReservation.HotelNotFoundExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelVersion (hotelId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelVersion
+
+  public FlightReservation.HotelReservation bookHotel (String customerId, String hotelId, String checkInDate, String checkOutDate, int numberOfRooms, String flightReservationId) throws FlightReservation.HotelBookingException, FlightReservation.NoRoomsAvailableException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("bookHotel", true);
+                $out.write_string (customerId);
+                $out.write_string (hotelId);
+                $out.write_string (checkInDate);
+                $out.write_string (checkOutDate);
+                $out.write_long (numberOfRooms);
+                $out.write_string (flightReservationId);
+                $in = _invoke ($out);
+                FlightReservation.HotelReservation $result = FlightReservation.HotelReservationHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelBookingException:1.0"))
+                    throw FlightReservation.HotelBookingExceptionHelper.read ($in);
+                else if (_id.equals ("IDL:FlightReservation/NoRoomsAvailableException:1.0"))
+                    throw FlightReservation.NoRoomsAvailableExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return bookHotel (customerId, hotelId, checkInDate, checkOutDate, numberOfRooms, flightReservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // bookHotel
+
+  public FlightReservation.HotelReservation[] getCustomerHotelReservations (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getCustomerHotelReservations", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.HotelReservation $result[] = FlightReservation.HotelReservationListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getCustomerHotelReservations (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getCustomerHotelReservations
+
+  public FlightReservation.HotelReservation getHotelReservation (String hotelReservationId) throws FlightReservation.HotelBookingException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getHotelReservation", true);
+                $out.write_string (hotelReservationId);
+                $in = _invoke ($out);
+                FlightReservation.HotelReservation $result = FlightReservation.HotelReservationHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelBookingException:1.0"))
+                    throw FlightReservation.HotelBookingExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getHotelReservation (hotelReservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getHotelReservation
+
+  public boolean cancelHotelReservation (String hotelReservationId) throws FlightReservation.HotelBookingException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("cancelHotelReservation", true);
+                $out.write_string (hotelReservationId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/HotelBookingException:1.0"))
+                    throw FlightReservation.HotelBookingExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return cancelHotelReservation (hotelReservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // cancelHotelReservation
+
+  public boolean checkAvailability (String hotelId, String checkInDate, String checkOutDate, int numberOfRooms)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("checkAvailability", true);
+                $out.write_string (hotelId);
+                $out.write_string (checkInDate);
+                $out.write_string (checkOutDate);
+                $out.write_long (numberOfRooms);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return checkAvailability (hotelId, checkInDate, checkOutDate, numberOfRooms        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // checkAvailability
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/HotelManager:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._HotelManagerStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _HotelManagerStub
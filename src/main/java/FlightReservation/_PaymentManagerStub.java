@@ -0,0 +1,210 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_PaymentManagerStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// interface Payment
+public class _PaymentManagerStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.PaymentManager
+{
+
+  public FlightReservation.Payment processPayment (String reservationId, String customerId, double amount, FlightReservation.PaymentMethod method, String cardNumber, String _cardHolder, String expiryDate, String cvv) throws FlightReservation.PaymentException, FlightReservation.InsufficientFundsException, FlightReservation.InvalidCardException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("processPayment", true);
+                $out.write_string (reservationId);
+                $out.write_string (customerId);
+                $out.write_double (amount);
+                FlightReservation.PaymentMethodHelper.write ($out, method);
+                $out.write_string (cardNumber);
+                $out.write_string (_cardHolder);
+                $out.write_string (expiryDate);
+                $out.write_string (cvv);
+                $in = _invoke ($out);
+                FlightReservation.Payment $result = FlightReservation.PaymentHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/PaymentException:1.0"))
+                    throw FlightReservation.PaymentExceptionHelper.read ($in);
+                else if (_id.equals ("IDL:FlightReservation/InsufficientFundsException:1.0"))
+                    throw FlightReservation.InsufficientFundsExceptionHelper.read ($in);
+                else if (_id.equals ("IDL:FlightReservation/InvalidCardException:1.0"))
+                    throw FlightReservation.InvalidCardExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return processPayment (reservationId, customerId, amount, method, cardNumber, _cardHolder, expiryDate, cvv        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // processPayment
+
+  public FlightReservation.Payment getPayment (String paymentId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getPayment", true);
+                $out.write_string (paymentId);
+                $in = _invoke ($out);
+                FlightReservation.Payment $result = FlightReservation.PaymentHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getPayment (paymentId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getPayment
+
+  public FlightReservation.Payment[] getCustomerPayments (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getCustomerPayments", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.Payment $result[] = FlightReservation.PaymentListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getCustomerPayments (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getCustomerPayments
+
+  public boolean refundPayment (String paymentId) throws FlightReservation.RefundException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("refundPayment", true);
+                $out.write_string (paymentId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/RefundException:1.0"))
+                    throw FlightReservation.RefundExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return refundPayment (paymentId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // refundPayment
+
+  public FlightReservation.Invoice generateInvoice (String paymentId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("generateInvoice", true);
+                $out.write_string (paymentId);
+                $in = _invoke ($out);
+                FlightReservation.Invoice $result = FlightReservation.InvoiceHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return generateInvoice (paymentId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // generateInvoice
+
+  public FlightReservation.Invoice getInvoice (String invoiceId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getInvoice", true);
+                $out.write_string (invoiceId);
+                $in = _invoke ($out);
+                FlightReservation.Invoice $result = FlightReservation.InvoiceHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getInvoice (invoiceId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getInvoice
+
+  public FlightReservation.Invoice[] getCustomerInvoices (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getCustomerInvoices", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.Invoice $result[] = FlightReservation.InvoiceListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getCustomerInvoices (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getCustomerInvoices
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/PaymentManager:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._PaymentManagerStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _PaymentManagerStub
@@ -0,0 +1,287 @@
+package FlightReservation;
+
+
+/**
+* FlightReservation/_ReservationManagerStub.java .
+* Generated by the IDL-to-Java compiler (portable), version "3.2"
+* from src/main/idl/FlightReservation.idl
+* Saturday, October 17, 2026 12:41:28 AM UTC
+*/
+
+
+// Interface de gestion des r??servations
+public class _ReservationManagerStub extends org.omg.CORBA.portable.ObjectImpl implements FlightReservation.ReservationManager
+{
+
+  public FlightReservation.Reservation createReservation (String customerId, String flightId, String[] seatNumbers, FlightReservation.Passenger[] passengers) throws FlightReservation.SeatNotAvailableException, FlightReservation.ReservationException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("createReservation", true);
+                $out.write_string (customerId);
+                $out.write_string (flightId);
+                FlightReservation.SeatNumberListHelper.write ($out, seatNumbers);
+                FlightReservation.PassengerListHelper.write ($out, passengers);
+                $in = _invoke ($out);
+                FlightReservation.Reservation $result = FlightReservation.ReservationHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/SeatNotAvailableException:1.0"))
+                    throw FlightReservation.SeatNotAvailableExceptionHelper.read ($in);
+                else if (_id.equals ("IDL:FlightReservation/ReservationException:1.0"))
+                    throw FlightReservation.ReservationExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return createReservation (customerId, flightId, seatNumbers, passengers        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // createReservation
+
+  public FlightReservation.Reservation getReservation (String reservationId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getReservation", true);
+                $out.write_string (reservationId);
+                $in = _invoke ($out);
+                FlightReservation.Reservation $result = FlightReservation.ReservationHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getReservation (reservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getReservation
+
+  public FlightReservation.Ticket[] getTickets (String reservationId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getTickets", true);
+                $out.write_string (reservationId);
+                $in = _invoke ($out);
+                FlightReservation.Ticket $result[] = FlightReservation.TicketListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getTickets (reservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getTickets
+
+  public FlightReservation.Ticket getTicketById (String ticketId) throws FlightReservation.ReservationException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getTicketById", true);
+                $out.write_string (ticketId);
+                $in = _invoke ($out);
+                FlightReservation.Ticket $result = FlightReservation.TicketHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/ReservationException:1.0"))
+                    throw FlightReservation.ReservationExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getTicketById (ticketId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getTicketById
+
+  public FlightReservation.Reservation getReservationByTicketId (String ticketId) throws FlightReservation.ReservationException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getReservationByTicketId", true);
+                $out.write_string (ticketId);
+                $in = _invoke ($out);
+                FlightReservation.Reservation $result = FlightReservation.ReservationHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/ReservationException:1.0"))
+                    throw FlightReservation.ReservationExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getReservationByTicketId (ticketId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getReservationByTicketId
+
+  public boolean cancelReservation (String reservationId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("cancelReservation", true);
+                $out.write_string (reservationId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return cancelReservation (reservationId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // cancelReservation
+
+
+  // ???? Retenir des si??ges (une retenue par client et par vol, remplac??e si renouvel??e)
+  public FlightReservation.SeatHold holdSeats (String customerId, String flightId, String[] seatNumbers) throws FlightReservation.SeatNotAvailableException, FlightReservation.ReservationException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("holdSeats", true);
+                $out.write_string (customerId);
+                $out.write_string (flightId);
+                FlightReservation.SeatNumberListHelper.write ($out, seatNumbers);
+                $in = _invoke ($out);
+                FlightReservation.SeatHold $result = FlightReservation.SeatHoldHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/SeatNotAvailableException:1.0"))
+                    throw FlightReservation.SeatNotAvailableExceptionHelper.read ($in);
+                else if (_id.equals ("IDL:FlightReservation/ReservationException:1.0"))
+                    throw FlightReservation.ReservationExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return holdSeats (customerId, flightId, seatNumbers        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // holdSeats
+
+
+  // ???? Attribuer et retenir les meilleurs si??ges voisins d'une classe (groupes)
+  public FlightReservation.SeatHold autoAssignSeats (String customerId, String flightId, String seatClass, int seatCount, boolean keepTogether) throws FlightReservation.SeatNotAvailableException, FlightReservation.ReservationException
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("autoAssignSeats", true);
+                $out.write_string (customerId);
+                $out.write_string (flightId);
+                $out.write_string (seatClass);
+                $out.write_long (seatCount);
+                $out.write_boolean (keepTogether);
+                $in = _invoke ($out);
+                FlightReservation.SeatHold $result = FlightReservation.SeatHoldHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                if (_id.equals ("IDL:FlightReservation/SeatNotAvailableException:1.0"))
+                    throw FlightReservation.SeatNotAvailableExceptionHelper.read ($in);
+                else if (_id.equals ("IDL:FlightReservation/ReservationException:1.0"))
+                    throw FlightReservation.ReservationExceptionHelper.read ($in);
+                else
+                    throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return autoAssignSeats (customerId, flightId, seatClass, seatCount, keepTogether        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // autoAssignSeats
+
+  public boolean releaseHold (String holdId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("releaseHold", true);
+                $out.write_string (holdId);
+                $in = _invoke ($out);
+                boolean $result = $in.read_boolean ();
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return releaseHold (holdId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // releaseHold
+
+  public FlightReservation.Reservation[] getCustomerReservations (String customerId)
+  {
+            org.omg.CORBA.portable.InputStream $in = null;
+            try {
+                org.omg.CORBA.portable.OutputStream $out = _request ("getCustomerReservations", true);
+                $out.write_string (customerId);
+                $in = _invoke ($out);
+                FlightReservation.Reservation $result[] = FlightReservation.ReservationManagerPackage.ReservationListHelper.read ($in);
+                return $result;
+            } catch (org.omg.CORBA.portable.ApplicationException $ex) {
+                $in = $ex.getInputStream ();
+                String _id = $ex.getId ();
+                throw new org.omg.CORBA.MARSHAL (_id);
+            } catch (org.omg.CORBA.portable.RemarshalException $rm) {
+                return getCustomerReservations (customerId        );
+            } finally {
+                _releaseReply ($in);
+            }
+  } // getCustomerReservations
+
+  // Type-specific CORBA::Object operations
+  private static String[] __ids = {
+    "IDL:FlightReservation/ReservationManager:1.0"};
+
+  public String[] _ids ()
+  {
+    return (String[])__ids.clone ();
+  }
+
+  private void readObject (java.io.ObjectInputStream s) throws java.io.IOException
+  {
+     String str = s.readUTF ();
+     com.sun.corba.se.impl.orbutil.IORCheckImpl.check(str, "FlightReservation._ReservationManagerStub");
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     org.omg.CORBA.Object obj = orb.string_to_object (str);
+     org.omg.CORBA.portable.Delegate delegate = ((org.omg.CORBA.portable.ObjectImpl) obj)._get_delegate ();
+     _set_delegate (delegate);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+
+  private void writeObject (java.io.ObjectOutputStream s) throws java.io.IOException
+  {
+     String[] args = null;
+     java.util.Properties props = null;
+     org.omg.CORBA.ORB orb = org.omg.CORBA.ORB.init (args, props);
+   try {
+     String str = orb.object_to_string (this);
+     s.writeUTF (str);
+   } finally {
+     orb.destroy() ;
+   }
+  }
+} // class _ReservationManagerStub
@@ -2,11 +2,15 @@
 
 package com.skybooking.database;
 
+import com.mongodb.ReadPreference;
+import com.mongodb.TransactionOptions;
+import com.mongodb.WriteConcern;
 import com.mongodb.client.*;
 import com.mongodb.client.model.IndexOptions;
 import com.mongodb.client.model.Indexes;
 import com.skybooking.utils.Constants;
 import org.bson.Document;
+import java.util.function.Function;
 
 /**
  * 🔌 CONNECTEUR MONGODB - SINGLETON
@@ -23,6 +27,13 @@ public class MongoDBConnector {
     private static MongoDBConnector instance;
     private final MongoClient mongoClient;
     private final MongoDatabase database;
+    private final boolean transactionsSupported; // 🆕 Replica set ou mongos
+    
+    // 🆕 Transactions : écriture majoritaire, lectures sur le primaire
+    private static final TransactionOptions TRANSACTION_OPTIONS = TransactionOptions.builder()
+        .writeConcern(WriteConcern.MAJORITY)
+        .readPreference(ReadPreference.primary())
+        .build();
     
     private MongoDBConnector() {
         try {
@@ -36,6 +47,7 @@ public class MongoDBConnector {
             this.database = mongoClient.getDatabase(Constants.DB_NAME);
             
             createIndexes();
+            this.transactionsSupported = detectTransactionSupport();
             
             System.out.println("✅ Connexion MongoDB établie avec succès");
             System.out.println("✅ Base de données : " + Constants.DB_NAME);
@@ -80,6 +92,16 @@ public class MongoDBConnector {
     database.getCollection(Constants.COLLECTION_FLIGHTS).createIndex(
         Indexes.ascending("departureCity", "arrivalCity")
     );
+    // 🆕 Recherche par clés de ville normalisées (égalité + date + disponibilité)
+    database.getCollection(Constants.COLLECTION_FLIGHTS).createIndex(
+        Indexes.ascending("depKey", "arrKey", "departureDate", "availableSeats")
+    );
+    // 🆕 Recherche filtrée par classe (compteur de places de la classe demandée)
+    for (String counter : new String[]{"availableEconomy", "availableBusiness", "availableFirst"}) {
+        database.getCollection(Constants.COLLECTION_FLIGHTS).createIndex(
+            Indexes.ascending("depKey", "arrKey", "departureDate", counter)
+        );
+    }
     database.getCollection(Constants.COLLECTION_FLIGHTS).createIndex(
         Indexes.ascending("departureDate")
     );
@@ -91,17 +113,34 @@ public class MongoDBConnector {
     );
     
     // ==================== SIÈGES ====================
-    database.getCollection(Constants.COLLECTION_SEATS).createIndex(
-        Indexes.ascending("flightId", "seatNumber")
+    // 🆕 Plan compact : un seul index, une entrée par vol (l'ancienne
+    // collection siège par siège est supprimée, avec ses index, une fois convertie)
+    database.getCollection(Constants.COLLECTION_SEAT_MAPS).createIndex(
+        Indexes.ascending("flightId"),
+        new IndexOptions().unique(true)
     );
-    database.getCollection(Constants.COLLECTION_SEATS).createIndex(
-        Indexes.ascending("status")
+    
+    // 🆕 ==================== RETENUES DE SIÈGES ====================
+    database.getCollection(Constants.COLLECTION_SEAT_HOLDS).createIndex(
+        Indexes.ascending("holdId"),
+        new IndexOptions().unique(true)
+    );
+    database.getCollection(Constants.COLLECTION_SEAT_HOLDS).createIndex(
+        Indexes.ascending("flightId")
+    );
+    // Index TTL de secours : la libération des sièges est faite par SeatHolds
+    database.getCollection(Constants.COLLECTION_SEAT_HOLDS).createIndex(
+        Indexes.ascending("purgeAt"),
+        new IndexOptions().expireAfter(0L, java.util.concurrent.TimeUnit.SECONDS)
     );
-    database.getCollection(Constants.COLLECTION_SEATS).createIndex(
-        Indexes.ascending("flightId", "status")
+    
+    // 🆕 Intentions de réservation : reprise par processus et ancienneté
+    database.getCollection(Constants.COLLECTION_BOOKING_INTENTS).createIndex(
+        Indexes.ascending("intentId"),
+        new IndexOptions().unique(true)
     );
-    database.getCollection(Constants.COLLECTION_SEATS).createIndex(
-        Indexes.ascending("seatClass")
+    database.getCollection(Constants.COLLECTION_BOOKING_INTENTS).createIndex(
+        Indexes.ascending("owner", "updatedAt")
     );
     
     // ==================== RÉSERVATIONS ====================
@@ -279,6 +318,10 @@ public class MongoDBConnector {
     database.getCollection("hotels").createIndex(
         Indexes.ascending("city", "availableRooms")
     );
+    // 🆕 Recherche par clé de ville normalisée
+    database.getCollection("hotels").createIndex(
+        Indexes.ascending("cityKey", "availableRooms")
+    );
 
     // RÉSERVATIONS HÔTELS
     database.getCollection("hotel_reservations").createIndex(
@@ -393,6 +436,39 @@ public class MongoDBConnector {
         System.out.println("╚════════════════════════════════════════════════════╝\n");
     }
     
+    /**
+     * 🆕 Transactions multi-documents disponibles (replica set ou mongos ;
+     * un serveur isolé les refuse)
+     */
+    public boolean supportsTransactions() {
+        return transactionsSupported;
+    }
+    
+    /**
+     * 🆕 Exécuter des écritures dans une transaction
+     * Rejouée en entier sur erreur transitoire (TransientTransactionError)
+     * et validation réessayée si son résultat est inconnu (withTransaction)
+     */
+    public <T> T inTransaction(Function<ClientSession, T> work) {
+        try (ClientSession session = mongoClient.startSession()) {
+            return session.withTransaction(() -> work.apply(session), TRANSACTION_OPTIONS);
+        }
+    }
+    
+    private boolean detectTransactionSupport() {
+        try {
+            Document hello = database.runCommand(new Document("hello", 1));
+            boolean supported = hello.containsKey("setName") || "isdbgrid".equals(hello.getString("msg"));
+            System.out.println(supported
+                ? "✅ Transactions MongoDB disponibles"
+                : "⚠️ Serveur MongoDB isolé : réservations écrites sans transaction");
+            return supported;
+        } catch (Exception e) {
+            System.err.println("⚠️ Détection des transactions impossible : " + e.getMessage());
+            return false;
+        }
+    }
+    
     /**
      * Vérifier la santé de la connexion
      */
@@ -0,0 +1,102 @@
+// src/main/java/com/skybooking/database/repositories/BookingIntentRepository.java
+
+package com.skybooking.database.repositories;
+
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.Updates;
+import org.bson.Document;
+import com.skybooking.utils.Constants;
+import java.util.*;
+
+/**
+ * 🧾 Repository des intentions de réservation (journal d'écriture anticipée)
+ * 
+ * Une intention est écrite avant la prise des sièges d'une réservation et
+ * supprimée une fois la réservation écrite (ou défaite) ; celles qui restent
+ * sont terminées ou compensées par BookingIntents.
+ */
+public class BookingIntentRepository extends BaseRepository {
+    
+    public BookingIntentRepository() {
+        super(Constants.COLLECTION_BOOKING_INTENTS);
+    }
+    
+    /**
+     * Enregistrer une intention
+     */
+    public void insertIntent(Document intent) {
+        insert(intent);
+    }
+    
+    /**
+     * Passer une intention à l'étape suivante
+     */
+    public void updateStep(String intentId, String step) {
+        collection.updateOne(
+            Filters.eq("intentId", intentId),
+            Updates.combine(
+                Updates.set("step", step),
+                Updates.set("updatedAt", new Date())
+            )
+        );
+    }
+    
+    /**
+     * Supprimer une intention (réservation écrite ou défaite)
+     */
+    public void deleteIntent(String intentId) {
+        collection.deleteOne(Filters.eq("intentId", intentId));
+    }
+    
+    /**
+     * Supprimer une intention dans la transaction de la réservation
+     */
+    public void deleteIntent(ClientSession session, String intentId) {
+        collection.deleteOne(session, Filters.eq("intentId", intentId));
+    }
+    
+    /**
+     * Supprimer des intentions traitées par lot
+     */
+    public void deleteIntents(Collection<String> intentIds) {
+        if (!intentIds.isEmpty()) {
+            collection.deleteMany(Filters.in("intentId", intentIds));
+        }
+    }
+    
+    /**
+     * Intentions d'un autre processus sans nouvelles depuis la date donnée
+     * (arrêt brutal du serveur ; celles d'un serveur actif sont plus récentes)
+     */
+    public List<Document> findForeign(String owner, Date before, int limit) {
+        return collection.find(Filters.and(
+                Filters.ne("owner", owner),
+                Filters.lt("updatedAt", before)
+            ))
+            .sort(Sorts.ascending("updatedAt"))
+            .limit(limit)
+            .into(new ArrayList<>());
+    }
+    
+    /**
+     * Intentions de ce processus sans nouvelles depuis la date donnée
+     */
+    public List<Document> findStale(String owner, Date before, int limit) {
+        return collection.find(Filters.and(
+                Filters.eq("owner", owner),
+                Filters.lt("updatedAt", before)
+            ))
+            .sort(Sorts.ascending("updatedAt"))
+            .limit(limit)
+            .into(new ArrayList<>());
+    }
+    
+    /**
+     * Vols ayant une réservation en cours (compteurs pas encore à jour)
+     */
+    public Set<String> findFlightIds() {
+        return collection.distinct("flightId", String.class).into(new HashSet<>());
+    }
+}
@@ -3,6 +3,7 @@
 package com.skybooking.database.repositories;
 
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Updates;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -32,6 +33,15 @@ public class CustomerRepository extends BaseRepository {
         return collection.find(Filters.eq("customerId", customerId)).first();
     }
     
+    /**
+     * 🆕 Vérifier l'existence d'un client (index customerId, sans lire le document)
+     */
+    public boolean exists(String customerId) {
+        return collection.find(Filters.eq("customerId", customerId))
+            .projection(Projections.fields(Projections.include("customerId"), Projections.excludeId()))
+            .first() != null;
+    }
+    
     /**
      * Trouver un client par email
      */
@@ -2,14 +2,30 @@
 
 package com.skybooking.database.repositories;
 
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.ClientSession;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Field;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.Updates;
 import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import com.skybooking.utils.CityKeys;
 import com.skybooking.utils.Constants;
 import com.skybooking.utils.DateUtils;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * ✈️ Repository pour la gestion des vols
@@ -20,11 +36,83 @@ import java.util.*;
  * - Méthodes de recherche optimisées
  * - Gestion avancée de la cohérence
  * - Insertion en batch pour performance
+ * - 🆕 Recherche par clés de ville normalisées (depKey / arrKey, index composé)
+ * - 🆕 Compteurs de places par classe (availableEconomy / availableBusiness / availableFirst)
+ *   mis à jour dans la même écriture atomique que availableSeats
+ * - 🆕 Notification des écritures (document après mise à jour) aux index en mémoire
+ * - 🆕 Comparaison compteurs / plan de sièges en une agrégation ($lookup seat_maps)
  */
 public class FlightRepository extends BaseRepository {
     
+    // 🆕 Migration des clés de ville exécutée une seule fois par JVM
+    private static final AtomicBoolean CITY_KEYS_CHECKED = new AtomicBoolean(false);
+    
+    // 🆕 Compteur de places disponibles par classe de siège
+    private static final Map<String, String> CLASS_COUNTERS = new LinkedHashMap<>();
+    
+    static {
+        CLASS_COUNTERS.put("ECONOMY", "availableEconomy");
+        CLASS_COUNTERS.put("BUSINESS", "availableBusiness");
+        CLASS_COUNTERS.put("FIRST_CLASS", "availableFirst");
+    }
+    
+    // 🆕 Abonnés aux écritures, partagés par toutes les instances du repository
+    private static final List<ChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
+    
+    // 🆕 Rechargements après écriture en masse : hors du thread de l'écriture,
+    // regroupés (une demande pendant qu'un rechargement attend n'en ajoute pas)
+    private static final AtomicBoolean RESET_PENDING = new AtomicBoolean(false);
+    private static final ExecutorService RESETS = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "flight-listeners-reset");
+        thread.setDaemon(true);
+        return thread;
+    });
+    
+    private static final FindOneAndUpdateOptions RETURN_AFTER =
+        new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER);
+    
+    // 🆕 Incrémenté par chaque écriture d'un vol (absent à la création : 0)
+    public static final String VERSION_FIELD = "version";
+    
+    /**
+     * 🆕 Écoute des écritures sur la collection des vols
+     * Appelé sur le thread de l'écriture, après sa confirmation par MongoDB ;
+     * deux écritures concurrentes peuvent arriver dans le désordre : un
+     * document de version inférieure à celle déjà appliquée est à ignorer
+     */
+    public interface ChangeListener {
+        /** Vol inséré ou modifié (document complet après écriture) */
+        void flightChanged(Document flight);
+        
+        /** Vol supprimé */
+        void flightRemoved(String flightId);
+        
+        /** Écriture en masse : l'état connu doit être rechargé (thread dédié) */
+        void flightsReset();
+    }
+    
+    public static void addChangeListener(ChangeListener listener) {
+        LISTENERS.add(listener);
+    }
+    
+    public static void removeChangeListener(ChangeListener listener) {
+        LISTENERS.remove(listener);
+    }
+    
+    /**
+     * 🆕 Version d'un document de vol (0 si jamais modifié)
+     */
+    public static long versionOf(Document flight) {
+        Object version = flight.get(VERSION_FIELD);
+        return version instanceof Number ? ((Number) version).longValue() : 0;
+    }
+    
     public FlightRepository() {
         super(Constants.COLLECTION_FLIGHTS);
+        
+        if (CITY_KEYS_CHECKED.compareAndSet(false, true)) {
+            backfillCityKeys();
+        }
     }
     
     /**
@@ -34,6 +122,41 @@ public class FlightRepository extends BaseRepository {
         return collection.find(Filters.eq("flightId", flightId)).first();
     }
     
+    /**
+     * 🆕 Champs utiles à une réservation (en-tête des billets, validité)
+     */
+    public Document findBookingFields(String flightId) {
+        return collection.find(Filters.eq("flightId", flightId))
+            .projection(Projections.include(
+                "flightId", "flightNumber", "departureCity", "arrivalCity",
+                "departureDate", "departureTime", "arrivalDate", "arrivalTime"
+            ))
+            .first();
+    }
+    
+    /**
+     * 🆕 Champs de version d'un vol (projection légère pour ETag / Last-Modified)
+     */
+    public Document findVersionFields(String flightId) {
+        return collection.find(Filters.eq("flightId", flightId))
+            .projection(Projections.include(
+                "createdAt", "updatedAt", "pricesUpdatedAt", "lastSyncAt",
+                "availableSeats", "status"
+            ))
+            .first();
+    }
+    
+    /**
+     * 🆕 Marquer un vol comme modifié (plan de sièges ou prix d'un siège changé
+     * sans variation du compteur de places)
+     */
+    public void touchFlight(String flightId) {
+        collection.updateOne(
+            Filters.eq("flightId", flightId),
+            withVersion(Updates.set("updatedAt", new Date()))
+        );
+    }
+    
     /**
      * Insérer un nouveau vol
      */
@@ -41,7 +164,9 @@ public class FlightRepository extends BaseRepository {
         if (!flight.containsKey("createdAt")) {
             flight.append("createdAt", new Date());
         }
+        applyCityKeys(flight);
         insert(flight);
+        publishChanged(flight);
     }
     
     /**
@@ -59,6 +184,7 @@ public class FlightRepository extends BaseRepository {
             if (!flight.containsKey("createdAt")) {
                 flight.append("createdAt", now);
             }
+            applyCityKeys(flight);
         }
         
         // Insertion par lots de 1000 pour éviter les timeouts
@@ -86,6 +212,7 @@ public class FlightRepository extends BaseRepository {
             
             System.out.println("✅ Insertion batch terminée: " + processedCount + 
                              " vols dans MongoDB");
+            publishReset();
             
         } catch (Exception e) {
             System.err.println("⚠️ Erreur lors de l'insertion batch: " + e.getMessage());
@@ -96,18 +223,16 @@ public class FlightRepository extends BaseRepository {
     
     /**
      * Rechercher des vols avec filtres
+     * 🆕 Villes résolues en clés normalisées : index {depKey, arrKey, departureDate, availableSeats}
+     * 🆕 Classe connue : seuls les vols ayant encore des places dans cette classe
+     *    (index {depKey, arrKey, departureDate, available<Classe>})
      */
     public List<Document> searchFlights(String departureCity, String arrivalCity, 
                                        String date, String seatClass) {
         List<Bson> filters = new ArrayList<>();
         
-        if (departureCity != null && !departureCity.isEmpty()) {
-            filters.add(Filters.regex("departureCity", departureCity, "i"));
-        }
-        
-        if (arrivalCity != null && !arrivalCity.isEmpty()) {
-            filters.add(Filters.regex("arrivalCity", arrivalCity, "i"));
-        }
+        addCityKeyFilter(filters, "depKey", departureCity);
+        addCityKeyFilter(filters, "arrKey", arrivalCity);
         
         if (date != null && !date.isEmpty()) {
             // Vérifier que la date n'est pas dans le passé
@@ -117,7 +242,10 @@ public class FlightRepository extends BaseRepository {
             filters.add(Filters.eq("departureDate", date));
         }
         
-        filters.add(Filters.gt("availableSeats", 0));
+        filters.add(Filters.ne("status", "CANCELLED"));
+        
+        String classCounter = classCounterField(seatClass);
+        filters.add(Filters.gt(classCounter != null ? classCounter : "availableSeats", 0));
         
         Bson combinedFilter = filters.isEmpty() 
             ? new Document() 
@@ -126,6 +254,26 @@ public class FlightRepository extends BaseRepository {
         return collection.find(combinedFilter).into(new ArrayList<>());
     }
     
+    /**
+     * 🆕 Vols non annulés à partir d'une date, réduits aux champs servis par la
+     * recherche (chargement des index en mémoire)
+     */
+    public List<Document> findSearchableFlights(String fromDate) {
+        return collection.find(Filters.and(
+                Filters.gte("departureDate", fromDate),
+                Filters.ne("status", "CANCELLED")
+            ))
+            .projection(Projections.include(
+                "flightId", "flightNumber", "airline", "departureCity", "arrivalCity",
+                "depKey", "arrKey", "departureDate", "departureTime", "arrivalDate",
+                "arrivalTime", "duration", "economyPrice", "businessPrice",
+                "firstClassPrice", "availableSeats", "availableEconomy",
+                "availableBusiness", "availableFirst", "aircraftType", VERSION_FIELD
+            ))
+            .batchSize(2000)
+            .into(new ArrayList<>());
+    }
+    
     /**
      * Rechercher des vols similaires (pour alternatives)
      */
@@ -133,8 +281,8 @@ public class FlightRepository extends BaseRepository {
                                                String departureDate, String excludeFlightId) {
         List<Bson> filters = new ArrayList<>();
         
-        filters.add(Filters.regex("departureCity", departureCity, "i"));
-        filters.add(Filters.regex("arrivalCity", arrivalCity, "i"));
+        addCityKeyFilter(filters, "depKey", departureCity);
+        addCityKeyFilter(filters, "arrKey", arrivalCity);
         filters.add(Filters.ne("flightId", excludeFlightId));
         filters.add(Filters.gt("availableSeats", 0));
         
@@ -182,7 +330,7 @@ public class FlightRepository extends BaseRepository {
             Updates.set("updatedAt", new Date())
         );
         
-        return collection.updateOne(filter, update).getModifiedCount() > 0;
+        return updateAndPublish(filter, update);
     }
     
     /**
@@ -205,18 +353,156 @@ public class FlightRepository extends BaseRepository {
             Updates.set("updatedAt", new Date())
         );
         
-        return collection.updateOne(
-            Filters.eq("flightId", flightId), 
-            update
-        ).getModifiedCount() > 0;
+        return updateAndPublish(Filters.eq("flightId", flightId), update);
+    }
+    
+    /**
+     * 🆕 Décrémenter les places par classe (ex: {ECONOMY=2, BUSINESS=1})
+     * availableSeats et chaque compteur de classe dans une seule écriture atomique,
+     * refusée si l'un d'eux deviendrait négatif
+     */
+    public boolean decrementAvailableSeats(String flightId, Map<String, Integer> seatsByClass) {
+        Map<String, Integer> deltas = new HashMap<>();
+        int quantity = 0;
+        for (Map.Entry<String, Integer> entry : seatsByClass.entrySet()) {
+            deltas.put(entry.getKey(), -entry.getValue());
+            quantity += entry.getValue();
+        }
+        
+        if (quantity <= 0) {
+            return false;
+        }
+        
+        return applySeatDeltas(flightId, -quantity, deltas);
+    }
+    
+    /**
+     * 🆕 Décrémenter les places par classe dans une transaction
+     * Les abonnés ne sont prévenus qu'après validation : publishChanged(vol)
+     * @return le vol modifié, ou null si un compteur deviendrait négatif
+     */
+    public Document decrementAvailableSeats(ClientSession session, String flightId,
+                                            Map<String, Integer> seatsByClass) {
+        Map<String, Integer> deltas = new HashMap<>();
+        int quantity = 0;
+        for (Map.Entry<String, Integer> entry : seatsByClass.entrySet()) {
+            deltas.put(entry.getKey(), -entry.getValue());
+            quantity += entry.getValue();
+        }
+        
+        return quantity <= 0 ? null : applySeatDeltas(session, flightId, -quantity, deltas);
+    }
+    
+    /**
+     * 🆕 Incrémenter les places par classe
+     */
+    public boolean incrementAvailableSeats(String flightId, Map<String, Integer> seatsByClass) {
+        int quantity = 0;
+        for (int count : seatsByClass.values()) {
+            quantity += count;
+        }
+        
+        if (quantity <= 0) {
+            return false;
+        }
+        
+        return applySeatDeltas(flightId, quantity, seatsByClass);
+    }
+    
+    /**
+     * 🆕 Rendre des places à plusieurs vols en un seul bulkWrite
+     * (compensation des réservations interrompues : vol → places par classe)
+     * Vols modifiés relus et transmis un par un aux abonnés
+     */
+    public void incrementAvailableSeatsBatch(Map<String, Map<String, Integer>> seatsByFlight) {
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Integer>> flight : seatsByFlight.entrySet()) {
+            List<Bson> incs = new ArrayList<>();
+            int quantity = 0;
+            for (Map.Entry<String, Integer> entry : flight.getValue().entrySet()) {
+                String field = classCounterField(entry.getKey());
+                if (field != null && entry.getValue() > 0) {
+                    incs.add(Updates.inc(field, entry.getValue()));
+                    quantity += entry.getValue();
+                }
+            }
+            if (quantity == 0) {
+                continue;
+            }
+            incs.add(Updates.inc("availableSeats", quantity));
+            incs.add(Updates.set("updatedAt", new Date()));
+            incs.add(Updates.inc(VERSION_FIELD, 1));
+            updates.add(new UpdateOneModel<>(Filters.eq("flightId", flight.getKey()), Updates.combine(incs)));
+        }
+        
+        if (updates.isEmpty()) {
+            return;
+        }
+        collection.bulkWrite(updates, new BulkWriteOptions().ordered(false));
+        collection.find(Filters.in("flightId", seatsByFlight.keySet())).forEach(FlightRepository::publishChanged);
+    }
+    
+    /**
+     * 🆕 Transférer des places d'une classe à l'autre sans changer le total
+     * (changement de siège entre classes : {ECONOMY=+1, BUSINESS=-1})
+     */
+    public boolean moveSeatsBetweenClasses(String flightId, Map<String, Integer> deltas) {
+        boolean changed = false;
+        for (int delta : deltas.values()) {
+            changed |= delta != 0;
+        }
+        
+        return !changed || applySeatDeltas(flightId, 0, deltas);
+    }
+    
+    /**
+     * 🆕 Fixer les compteurs par classe (création de vol, resynchronisation)
+     * Les classes absentes de la map sont mises à 0
+     */
+    public void setClassCounters(String flightId, Map<String, Integer> availableByClass) {
+        updateAndPublish(
+            Filters.eq("flightId", flightId),
+            classCountersUpdate(availableByClass)
+        );
+    }
+    
+    /**
+     * 🆕 Fixer les compteurs par classe de plusieurs vols (migration)
+     */
+    public void setClassCountersBatch(Map<String, Map<String, Integer>> availableByFlight) {
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Integer>> entry : availableByFlight.entrySet()) {
+            updates.add(new UpdateOneModel<>(
+                Filters.eq("flightId", entry.getKey()),
+                withVersion(classCountersUpdate(entry.getValue()))
+            ));
+        }
+        
+        for (int i = 0; i < updates.size(); i += 1000) {
+            collection.bulkWrite(
+                updates.subList(i, Math.min(i + 1000, updates.size())),
+                new BulkWriteOptions().ordered(false)
+            );
+        }
+        publishReset();
+    }
+    
+    /**
+     * 🆕 Vols créés avant l'ajout des compteurs par classe (identifiant et type d'appareil)
+     */
+    public List<Document> findFlightsWithoutClassCounters() {
+        return collection.find(Filters.exists("availableEconomy", false))
+            .projection(Projections.include("flightId", "aircraftType"))
+            .into(new ArrayList<>());
     }
     
     /**
      * Mettre à jour un vol
      */
     public void updateFlight(String flightId, Document updates) {
+        applyCityKeys(updates);
         updates.append("updatedAt", new Date());
-        collection.updateOne(
+        updateAndPublish(
             Filters.eq("flightId", flightId),
             new Document("$set", updates)
         );
@@ -226,8 +512,14 @@ public class FlightRepository extends BaseRepository {
      * Supprimer un vol
      */
     public boolean deleteFlight(String flightId) {
-        return collection.deleteOne(Filters.eq("flightId", flightId))
-                        .getDeletedCount() > 0;
+        boolean deleted = collection.deleteOne(Filters.eq("flightId", flightId))
+                                    .getDeletedCount() > 0;
+        if (deleted) {
+            for (ChangeListener listener : LISTENERS) {
+                listener.flightRemoved(flightId);
+            }
+        }
+        return deleted;
     }
     
     /**
@@ -262,12 +554,81 @@ public class FlightRepository extends BaseRepository {
     /**
      * Obtenir les vols avec incohérence
      * Pour le monitoring et la maintenance
+     * 🆕 Compteurs du vol ≠ sièges AVAILABLE de son plan (voir seatCountStages)
      */
     public List<Document> findInconsistentFlights() {
-        // Cette méthode nécessite une agrégation avec lookup
-        // Pour simplifier, on retourne une liste vide
-        // À implémenter avec aggregation pipeline si nécessaire
-        return new ArrayList<>();
+        List<Bson> pipeline = new ArrayList<>(seatCountStages());
+        pipeline.add(Aggregates.match(Filters.eq("drift", true)));
+        return collection.aggregate(pipeline).allowDiskUse(true).into(new ArrayList<>());
+    }
+    
+    /**
+     * 🆕 Compteurs et places réellement disponibles d'une page de vols
+     * (flightId croissant, départ à partir de fromDate), en une agrégation
+     */
+    public List<Document> findSeatCounts(String afterFlightId, String fromDate, int limit) {
+        List<Bson> filters = new ArrayList<>();
+        filters.add(Filters.gte("departureDate", fromDate));
+        if (afterFlightId != null) {
+            filters.add(Filters.gt("flightId", afterFlightId));
+        }
+        
+        List<Bson> pipeline = new ArrayList<>();
+        pipeline.add(Aggregates.match(Filters.and(filters)));
+        pipeline.add(Aggregates.sort(Sorts.ascending("flightId")));
+        pipeline.add(Aggregates.limit(limit));
+        pipeline.addAll(seatCountStages());
+        return collection.aggregate(pipeline).into(new ArrayList<>());
+    }
+    
+    /**
+     * 🆕 Compteurs et places réellement disponibles de vols donnés
+     */
+    public List<Document> findSeatCounts(Collection<String> flightIds) {
+        List<Bson> pipeline = new ArrayList<>();
+        pipeline.add(Aggregates.match(Filters.in("flightId", flightIds)));
+        pipeline.addAll(seatCountStages());
+        return collection.aggregate(pipeline).into(new ArrayList<>());
+    }
+    
+    /**
+     * 🆕 Corriger les compteurs de plusieurs vols en un seul bulkWrite
+     * Entrées de findSeatCounts : un vol n'est corrigé que si ses compteurs
+     * n'ont pas changé depuis la lecture (réservation passée entre-temps)
+     * @return nombre de vols corrigés
+     */
+    public int repairSeatCounters(List<Document> drifts) {
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        List<String> flightIds = new ArrayList<>();
+        Date now = new Date();
+        
+        for (Document drift : drifts) {
+            Document recorded = drift.get("recorded", Document.class);
+            Document actual = drift.get("actual", Document.class);
+            
+            List<Bson> filters = new ArrayList<>();
+            List<Bson> sets = new ArrayList<>();
+            filters.add(Filters.eq("flightId", drift.getString("flightId")));
+            for (Map.Entry<String, Object> counter : actual.entrySet()) {
+                filters.add(Filters.eq(counter.getKey(), recorded.get(counter.getKey())));
+                sets.add(Updates.set(counter.getKey(), counter.getValue()));
+            }
+            sets.add(Updates.set("lastSyncAt", now));
+            sets.add(Updates.inc(VERSION_FIELD, 1));
+            
+            updates.add(new UpdateOneModel<>(Filters.and(filters), Updates.combine(sets)));
+            flightIds.add(drift.getString("flightId"));
+        }
+        
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        BulkWriteResult result = collection.bulkWrite(updates, new BulkWriteOptions().ordered(false));
+        if (result.getModifiedCount() > 0) {
+            // Vols relus et transmis un par un : pas de rechargement complet des index
+            collection.find(Filters.in("flightId", flightIds)).forEach(FlightRepository::publishChanged);
+        }
+        return result.getModifiedCount();
     }
     
     /**
@@ -280,10 +641,7 @@ public class FlightRepository extends BaseRepository {
             Updates.set("lastSyncAt", new Date())
         );
         
-        return collection.updateOne(
-            Filters.eq("flightId", flightId),
-            update
-        ).getModifiedCount() > 0;
+        return updateAndPublish(Filters.eq("flightId", flightId), update);
     }
     
     /**
@@ -339,6 +697,23 @@ public class FlightRepository extends BaseRepository {
         return stats;
     }
     
+    /**
+     * 🆕 Nombre de vols par ville (départs et arrivées), par clé normalisée
+     * _id : clé, name : nom de ville, count : nombre de vols
+     */
+    public List<Document> countFlightsByCityKey() {
+        return collection.aggregate(Arrays.asList(
+            new Document("$project", new Document("cities", Arrays.asList(
+                new Document("key", "$depKey").append("name", "$departureCity"),
+                new Document("key", "$arrKey").append("name", "$arrivalCity")
+            ))),
+            new Document("$unwind", "$cities"),
+            new Document("$group", new Document("_id", "$cities.key")
+                .append("name", new Document("$first", "$cities.name"))
+                .append("count", new Document("$sum", 1)))
+        )).into(new ArrayList<>());
+    }
+    
     /**
      * Calculer le taux d'occupation moyen
      */
@@ -401,10 +776,7 @@ public class FlightRepository extends BaseRepository {
             Updates.set("pricesUpdatedAt", new Date())
         );
         
-        return collection.updateOne(
-            Filters.eq("flightId", flightId),
-            update
-        ).getModifiedCount() > 0;
+        return updateAndPublish(Filters.eq("flightId", flightId), update);
     }
     
     /**
@@ -420,8 +792,8 @@ public class FlightRepository extends BaseRepository {
         
         List<Document> flights = collection.find(
             Filters.and(
-                Filters.eq("departureCity", departureCity),
-                Filters.eq("arrivalCity", arrivalCity)
+                Filters.eq("depKey", CityKeys.toKey(departureCity)),
+                Filters.eq("arrKey", CityKeys.toKey(arrivalCity))
             )
         ).into(new ArrayList<>());
         
@@ -446,7 +818,9 @@ public class FlightRepository extends BaseRepository {
      * ATTENTION: Utiliser avec précaution!
      */
     public long deleteAllFlights() {
-        return collection.deleteMany(new Document()).getDeletedCount();
+        long deleted = collection.deleteMany(new Document()).getDeletedCount();
+        publishReset();
+        return deleted;
     }
     
     /**
@@ -463,4 +837,251 @@ public class FlightRepository extends BaseRepository {
         
         return stats;
     }
-}
\ No newline at end of file
+    
+    // ==================== COMPTEURS PAR CLASSE ====================
+    
+    /**
+     * 🆕 Champ compteur d'une classe de siège (null si classe absente ou inconnue)
+     * Accepte "ECONOMY", "business", "FIRST" ou "FIRST_CLASS"
+     */
+    public static String classCounterField(String seatClass) {
+        if (seatClass == null) {
+            return null;
+        }
+        String normalized = seatClass.trim().toUpperCase(Locale.ROOT).replace(' ', '_');
+        if ("FIRST".equals(normalized)) {
+            normalized = "FIRST_CLASS";
+        }
+        return CLASS_COUNTERS.get(normalized);
+    }
+    
+    /**
+     * 🆕 Compteurs par classe à placer dans un nouveau document de vol
+     */
+    public static Document classCounters(Map<String, Integer> availableByClass) {
+        Document counters = new Document();
+        for (Map.Entry<String, String> entry : CLASS_COUNTERS.entrySet()) {
+            counters.append(entry.getValue(), availableByClass.getOrDefault(entry.getKey(), 0));
+        }
+        return counters;
+    }
+    
+    private static Bson classCountersUpdate(Map<String, Integer> availableByClass) {
+        List<Bson> updates = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : classCounters(availableByClass).entrySet()) {
+            updates.add(Updates.set(entry.getKey(), entry.getValue()));
+        }
+        return Updates.combine(updates);
+    }
+    
+    /**
+     * Un seul updateOne : les compteurs qui baissent sont gardés par un filtre >=
+     */
+    private boolean applySeatDeltas(String flightId, int totalDelta, Map<String, Integer> classDeltas) {
+        Document updated = applySeatDeltas(null, flightId, totalDelta, classDeltas);
+        if (updated == null) {
+            return false;
+        }
+        publishChanged(updated);
+        return true;
+    }
+    
+    private Document applySeatDeltas(ClientSession session, String flightId, int totalDelta,
+                                     Map<String, Integer> classDeltas) {
+        List<Bson> filters = new ArrayList<>();
+        List<Bson> updates = new ArrayList<>();
+        filters.add(Filters.eq("flightId", flightId));
+        
+        if (totalDelta != 0) {
+            if (totalDelta < 0) {
+                filters.add(Filters.gte("availableSeats", -totalDelta));
+            }
+            updates.add(Updates.inc("availableSeats", totalDelta));
+        }
+        
+        for (Map.Entry<String, Integer> entry : classDeltas.entrySet()) {
+            String field = classCounterField(entry.getKey());
+            int delta = entry.getValue();
+            if (field == null || delta == 0) {
+                continue;
+            }
+            if (delta < 0) {
+                filters.add(Filters.gte(field, -delta));
+            }
+            updates.add(Updates.inc(field, delta));
+        }
+        
+        updates.add(Updates.set("updatedAt", new Date()));
+        updates.add(Updates.inc(VERSION_FIELD, 1));
+        
+        Bson filter = Filters.and(filters);
+        Bson update = Updates.combine(updates);
+        return session == null
+            ? collection.findOneAndUpdate(filter, update, RETURN_AFTER)
+            : collection.findOneAndUpdate(session, filter, update, RETURN_AFTER);
+    }
+    
+    // ==================== COHÉRENCE SIÈGES / COMPTEURS ====================
+    
+    /**
+     * 🆕 Étapes communes : plan compact du vol ($lookup seat_maps), puis
+     * { flightId, flightNumber, departureDate,
+     *   recorded: {availableSeats, availableEconomy, ...},
+     *   actual:   {availableSeats, availableEconomy, ...}, drift }
+     * Les vols sans plan compact (plan lazy pas encore généré) sont ignorés.
+     */
+    private static List<Bson> seatCountStages() {
+        Document recorded = new Document("availableSeats", "$availableSeats");
+        Document actual = new Document("availableSeats", availableInSeatMap(null));
+        for (Map.Entry<String, String> entry : CLASS_COUNTERS.entrySet()) {
+            recorded.append(entry.getValue(), "$" + entry.getValue());
+            actual.append(entry.getValue(), availableInSeatMap(entry.getKey()));
+        }
+        
+        List<Document> differences = new ArrayList<>();
+        for (String counter : actual.keySet()) {
+            differences.add(new Document("$ne", Arrays.asList("$recorded." + counter, "$actual." + counter)));
+        }
+        
+        return Arrays.asList(
+            Aggregates.lookup(Constants.COLLECTION_SEAT_MAPS, "flightId", "flightId", "seatMap"),
+            Aggregates.unwind("$seatMap"),
+            Aggregates.project(new Document("_id", 0)
+                .append("flightId", 1)
+                .append("flightNumber", 1)
+                .append("departureDate", 1)
+                .append("recorded", recorded)
+                .append("actual", actual)),
+            Aggregates.addFields(new Field<>("drift", new Document("$or", differences)))
+        );
+    }
+    
+    /**
+     * Sièges AVAILABLE du plan, d'une classe ou de toutes (seatClass null)
+     */
+    private static Document availableInSeatMap(String seatClass) {
+        Document condition = new Document("$eq", Arrays.asList("$$seat.s", "AVAILABLE"));
+        if (seatClass != null) {
+            condition = new Document("$and", Arrays.asList(
+                condition,
+                new Document("$eq", Arrays.asList("$$seat.c", seatClass))
+            ));
+        }
+        return new Document("$size", new Document("$filter", new Document("input", "$seatMap.seats")
+            .append("as", "seat")
+            .append("cond", condition)));
+    }
+    
+    // ==================== NOTIFICATIONS ====================
+    
+    /**
+     * 🆕 Mise à jour d'un vol renvoyant le document modifié (même aller-retour
+     * qu'un updateOne), transmis aux abonnés
+     * @return true si un vol correspondait au filtre
+     */
+    private boolean updateAndPublish(Bson filter, Bson update) {
+        Document updated = collection.findOneAndUpdate(filter, withVersion(update), RETURN_AFTER);
+        if (updated == null) {
+            return false;
+        }
+        publishChanged(updated);
+        return true;
+    }
+    
+    /**
+     * 🆕 Prévenir les abonnés d'un vol modifié hors de ce repository
+     * (transaction validée)
+     */
+    public static void publishChanged(Document flight) {
+        for (ChangeListener listener : LISTENERS) {
+            listener.flightChanged(flight);
+        }
+    }
+    
+    private static void publishReset() {
+        if (!RESET_PENDING.compareAndSet(false, true)) {
+            return;
+        }
+        RESETS.execute(() -> {
+            RESET_PENDING.set(false);
+            for (ChangeListener listener : LISTENERS) {
+                try {
+                    listener.flightsReset();
+                } catch (RuntimeException e) {
+                    System.err.println("❌ Rechargement après écriture en masse: " + e.getMessage());
+                }
+            }
+        });
+    }
+    
+    /**
+     * 🆕 Même mise à jour, version du vol incrémentée
+     */
+    private static Bson withVersion(Bson update) {
+        return Updates.combine(update, Updates.inc(VERSION_FIELD, 1));
+    }
+    
+    // ==================== CLÉS DE VILLE ====================
+    
+    /**
+     * 🆕 Filtre d'égalité sur une clé de ville (une ou plusieurs clés candidates)
+     * Saisie vide ou sans lettre (espaces, ponctuation) : aucun filtre plutôt
+     * qu'un $in vide qui ne correspondrait à aucun vol
+     */
+    private static void addCityKeyFilter(List<Bson> filters, String field, String input) {
+        Set<String> keys = input == null ? Collections.<String>emptySet() : CityKeys.resolve(input);
+        if (keys.isEmpty()) {
+            return;
+        }
+        filters.add(keys.size() == 1
+            ? Filters.eq(field, keys.iterator().next())
+            : Filters.in(field, keys));
+    }
+    
+    /**
+     * 🆕 Calculer depKey / arrKey dès que les noms de ville sont écrits
+     */
+    private static void applyCityKeys(Document flight) {
+        if (flight.containsKey("departureCity")) {
+            flight.put("depKey", CityKeys.toKey(flight.getString("departureCity")));
+        }
+        if (flight.containsKey("arrivalCity")) {
+            flight.put("arrKey", CityKeys.toKey(flight.getString("arrivalCity")));
+        }
+    }
+    
+    /**
+     * 🆕 Compléter les clés de ville des vols existants (bases créées avant leur ajout)
+     */
+    private void backfillCityKeys() {
+        List<Document> missing = collection.find(
+            Filters.or(Filters.exists("depKey", false), Filters.exists("arrKey", false))
+        ).projection(Projections.include("departureCity", "arrivalCity"))
+         .into(new ArrayList<>());
+        
+        if (missing.isEmpty()) {
+            return;
+        }
+        
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        for (Document flight : missing) {
+            updates.add(new UpdateOneModel<>(
+                Filters.eq("_id", flight.get("_id")),
+                Updates.combine(
+                    Updates.set("depKey", CityKeys.toKey(flight.getString("departureCity"))),
+                    Updates.set("arrKey", CityKeys.toKey(flight.getString("arrivalCity"))),
+                    Updates.inc(VERSION_FIELD, 1)
+                )
+            ));
+        }
+        
+        for (int i = 0; i < updates.size(); i += 1000) {
+            collection.bulkWrite(
+                updates.subList(i, Math.min(i + 1000, updates.size())),
+                new BulkWriteOptions().ordered(false)
+            );
+        }
+        System.out.println("✅ Clés de ville ajoutées à " + updates.size() + " vol(s)");
+        publishReset();
+    }
+}
@@ -2,19 +2,32 @@
 
 package com.skybooking.database.repositories;
 
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.UpdateOneModel;
 import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import com.skybooking.utils.CityKeys;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * 🏨 Repository pour la gestion des hôtels
  */
 public class HotelRepository extends BaseRepository {
     
+    // 🆕 Migration des clés de ville exécutée une seule fois par JVM
+    private static final AtomicBoolean CITY_KEYS_CHECKED = new AtomicBoolean(false);
+    
     public HotelRepository() {
         super("hotels");
+        
+        if (CITY_KEYS_CHECKED.compareAndSet(false, true)) {
+            backfillCityKeys();
+        }
     }
     
     /**
@@ -24,6 +37,17 @@ public class HotelRepository extends BaseRepository {
         return collection.find(Filters.eq("hotelId", hotelId)).first();
     }
     
+    /**
+     * 🆕 Champs de version d'un hôtel (projection légère pour ETag / Last-Modified)
+     */
+    public Document findVersionFields(String hotelId) {
+        return collection.find(Filters.eq("hotelId", hotelId))
+            .projection(Projections.include(
+                "createdAt", "updatedAt", "availableRooms", "status"
+            ))
+            .first();
+    }
+    
     /**
      * 🆕 CORRECTION: Méthode publique pour insérer un hôtel
      * Remplace l'appel direct à insert() protégé
@@ -35,17 +59,22 @@ public class HotelRepository extends BaseRepository {
         if (!hotel.containsKey("updatedAt")) {
             hotel.append("updatedAt", new Date());
         }
+        applyCityKey(hotel);
         insert(hotel); // Appel protected autorisé depuis la sous-classe
     }
     
     /**
      * Rechercher des hôtels avec filtres
+     * 🆕 Ville résolue en clé normalisée : index {cityKey, availableRooms}
      */
     public List<Document> searchHotels(String city, int numberOfRooms, int minStarRating) {
         List<Bson> filters = new ArrayList<>();
         
         if (city != null && !city.isEmpty()) {
-            filters.add(Filters.regex("city", city, "i"));
+            Set<String> keys = CityKeys.resolve(city);
+            filters.add(keys.size() == 1
+                ? Filters.eq("cityKey", keys.iterator().next())
+                : Filters.in("cityKey", keys));
         }
         
         filters.add(Filters.gte("availableRooms", numberOfRooms));
@@ -111,6 +140,7 @@ public class HotelRepository extends BaseRepository {
      * Mettre à jour un hôtel
      */
     public boolean update(String hotelId, Document updates) {
+        applyCityKey(updates);
         return collection.updateOne(
             Filters.eq("hotelId", hotelId),
             new Document("$set", updates)
@@ -191,6 +221,9 @@ public class HotelRepository extends BaseRepository {
         }
         
         // Insertion en batch
+        for (Document hotel : hotels) {
+            applyCityKey(hotel);
+        }
         if (!hotels.isEmpty()) {
             collection.insertMany(hotels);
             System.out.println("✅ " + hotels.size() + " hôtels insérés dans MongoDB");
@@ -286,4 +319,46 @@ public class HotelRepository extends BaseRepository {
     private String generateImageUrl(int stars) {
         return "https://placeholder.com/hotel-" + stars + "-stars.jpg";
     }
+    
+    /**
+     * 🆕 Nombre d'hôtels par clé de ville
+     * _id : clé, name : nom de ville, count : nombre d'hôtels
+     */
+    public List<Document> countHotelsByCityKey() {
+        return collection.aggregate(Arrays.asList(
+            new Document("$group", new Document("_id", "$cityKey")
+                .append("name", new Document("$first", "$city"))
+                .append("count", new Document("$sum", 1)))
+        )).into(new ArrayList<>());
+    }
+    
+    // ==================== CLÉS DE VILLE ====================
+    
+    /**
+     * 🆕 Calculer cityKey dès que le nom de ville est écrit
+     */
+    private static void applyCityKey(Document hotel) {
+        if (hotel.containsKey("city")) {
+            hotel.put("cityKey", CityKeys.toKey(hotel.getString("city")));
+        }
+    }
+    
+    /**
+     * 🆕 Compléter la clé de ville des hôtels existants
+     */
+    private void backfillCityKeys() {
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        for (Document hotel : collection.find(Filters.exists("cityKey", false))
+                .projection(Projections.include("city"))) {
+            updates.add(new UpdateOneModel<>(
+                Filters.eq("_id", hotel.get("_id")),
+                Updates.set("cityKey", CityKeys.toKey(hotel.getString("city")))
+            ));
+        }
+        
+        if (!updates.isEmpty()) {
+            collection.bulkWrite(updates, new BulkWriteOptions().ordered(false));
+            System.out.println("✅ Clés de ville ajoutées à " + updates.size() + " hôtel(s)");
+        }
+    }
 }
@@ -2,7 +2,9 @@
 
 package com.skybooking.database.repositories;
 
+import com.mongodb.client.ClientSession;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.Updates;
 import org.bson.Document;
@@ -45,6 +47,16 @@ public class ReservationRepository extends BaseRepository {
         insert(reservation);
     }
     
+    /**
+     * 🆕 Insérer une réservation dans une transaction
+     */
+    public void insertReservation(ClientSession session, Document reservation) {
+        if (!reservation.containsKey("createdAt")) {
+            reservation.append("createdAt", new Date());
+        }
+        collection.insertOne(session, reservation);
+    }
+    
     /**
      * Mettre à jour le statut d'une réservation
      */
@@ -153,6 +165,42 @@ public class ReservationRepository extends BaseRepository {
         ).into(new ArrayList<>());
     }
     
+    /**
+     * 🆕 Sièges des réservations confirmées d'un vol (reprise de SeatInventory)
+     */
+    public Set<String> findOccupiedSeatNumbers(String flightId) {
+        Set<String> seatNumbers = new HashSet<>();
+        for (Document reservation : collection.find(
+                Filters.and(
+                    Filters.eq("flightId", flightId),
+                    Filters.eq("status", "CONFIRMED")
+                ))
+                .projection(Projections.include("seatNumbers"))) {
+            List<?> seats = reservation.get("seatNumbers", List.class);
+            if (seats != null) {
+                for (Object seat : seats) {
+                    seatNumbers.add(String.valueOf(seat));
+                }
+            }
+        }
+        return seatNumbers;
+    }
+    
+    /**
+     * 🆕 Réservations existantes parmi des identifiants (reprise des intentions)
+     */
+    public Set<String> findExistingIds(Collection<String> reservationIds) {
+        Set<String> existing = new HashSet<>();
+        if (reservationIds.isEmpty()) {
+            return existing;
+        }
+        for (Document reservation : collection.find(Filters.in("reservationId", reservationIds))
+                .projection(Projections.include("reservationId"))) {
+            existing.add(reservation.getString("reservationId"));
+        }
+        return existing;
+    }
+    
     /**
      * Compter les réservations du jour
      */
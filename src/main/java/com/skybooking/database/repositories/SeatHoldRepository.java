@@ -0,0 +1,62 @@
+// src/main/java/com/skybooking/database/repositories/SeatHoldRepository.java
+
+package com.skybooking.database.repositories;
+
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import org.bson.Document;
+import com.skybooking.utils.Constants;
+import java.util.*;
+
+/**
+ * 🛒 Repository des retenues de sièges (panier)
+ * 
+ * Une retenue est écrite avant la prise des sièges et supprimée après leur
+ * confirmation ou leur libération : au redémarrage, les retenues encore en
+ * base sont reprises, et un siège HELD sans retenue est rendu disponible.
+ * L'index TTL (purgeAt) ne sert que de filet pour les retenues oubliées.
+ */
+public class SeatHoldRepository extends BaseRepository {
+    
+    public SeatHoldRepository() {
+        super(Constants.COLLECTION_SEAT_HOLDS);
+    }
+    
+    /**
+     * Enregistrer une retenue
+     */
+    public void insertHold(Document hold) {
+        insert(hold);
+    }
+    
+    /**
+     * Supprimer une retenue (confirmée, annulée ou expirée)
+     */
+    public void deleteHold(String holdId) {
+        collection.deleteOne(Filters.eq("holdId", holdId));
+    }
+    
+    /**
+     * Toutes les retenues (reprise au démarrage)
+     */
+    public List<Document> findAllHolds() {
+        return collection.find().into(new ArrayList<>());
+    }
+    
+    /**
+     * Sièges couverts par une retenue sur un vol (chargement de SeatInventory)
+     */
+    public Set<String> findHeldSeatNumbers(String flightId) {
+        Set<String> seatNumbers = new HashSet<>();
+        for (Document hold : collection.find(Filters.eq("flightId", flightId))
+                .projection(Projections.include("seatNumbers"))) {
+            List<?> seats = hold.get("seatNumbers", List.class);
+            if (seats != null) {
+                for (Object seat : seats) {
+                    seatNumbers.add(String.valueOf(seat));
+                }
+            }
+        }
+        return seatNumbers;
+    }
+}
@@ -2,8 +2,23 @@
 
 package com.skybooking.database.repositories;
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Accumulators;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
 import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import com.skybooking.utils.Constants;
@@ -19,51 +34,116 @@ import java.util.*;
  * - Gestion avancée des statuts
  * - Méthodes batch pour réservations atomiques
  * - ✅ NOUVEAU: countTotalAvailableSeats() pour dashboard admin
+ * - 🆕 Répartition par classe pour les compteurs du vol
+ * - 🆕 Plan de sièges et écritures groupées pour SeatInventory (write-behind)
+ * - 🆕 Plan compact : un document par vol (collection seat_maps) au lieu
+ *   d'un document par siège, mis à jour par updateOne + arrayFilters.
+ *   Les vols encore stockés siège par siège (collection seats) restent
+ *   lisibles et sont convertis à la première lecture.
+ * 
+ * Format compact :
+ * { flightId, layoutVersion: 1,
+ *   seats: [{n: "1A", c: "FIRST_CLASS", s: "AVAILABLE"}, ...],
+ *   classPrices: {FIRST_CLASS: 50000, ...}, priceOverrides: {"12A": 16000} }
+ * Les documents siège renvoyés gardent la forme historique
+ * (flightId, seatNumber, seatClass, status, price).
+ * 
+ * Les sièges restent des sous-documents {n, c, s} plutôt qu'un tableau de
+ * statuts compacté ou des bitmaps par classe : un statut s'écrit par numéro
+ * de siège (arrayFilters, sans relire le plan pour trouver sa position), et
+ * les agrégations ($lookup de FlightRepository.findSeatCounts) filtrent
+ * directement sur s et c. Le gain attendu (un document par vol au lieu d'un
+ * par siège) est acquis ; les bitmaps sont tenus en mémoire par SeatInventory.
  */
 public class SeatRepository extends BaseRepository {
     
+    public static final int LAYOUT_VERSION = 1;
+    
+    // 🆕 Plans compacts ; "collection" (héritée) = ancien format siège par siège
+    private final MongoCollection<Document> seatMaps;
+    
+    // 🆕 Faux une fois l'ancien format entièrement converti (plus de lecture de secours)
+    private static volatile boolean legacySeatsPresent = true;
+    
     public SeatRepository() {
         super(Constants.COLLECTION_SEATS);
+        this.seatMaps = database.getCollection(Constants.COLLECTION_SEAT_MAPS);
     }
     
     /**
      * Trouver un siège spécifique
      */
     public Document findSeat(String flightId, String seatNumber) {
-        return collection.find(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.eq("seatNumber", seatNumber)
-            )
-        ).first();
+        for (Document seat : findSeatsByFlightId(flightId)) {
+            if (seatNumber.equals(seat.getString("seatNumber"))) {
+                return seat;
+            }
+        }
+        return null;
     }
     
     /**
-     * Trouver tous les sièges d'un vol
+     * Trouver tous les sièges d'un vol (une lecture du plan compact)
      */
     public List<Document> findSeatsByFlightId(String flightId) {
-        return collection.find(Filters.eq("flightId", flightId))
-                        .into(new ArrayList<>());
+        Document seatMap = seatMaps.find(Filters.eq("flightId", flightId)).first();
+        if (seatMap != null) {
+            return expand(seatMap);
+        }
+        
+        // 🆕 Ancien format : converti au passage
+        if (!legacySeatsPresent) {
+            return new ArrayList<>();
+        }
+        List<Document> legacySeats = collection.find(Filters.eq("flightId", flightId))
+                                               .into(new ArrayList<>());
+        if (!legacySeats.isEmpty()) {
+            migrateFlight(flightId, legacySeats);
+        }
+        return legacySeats;
     }
     
     /**
      * Obtenir les sièges disponibles d'un vol
      */
     public List<Document> getAvailableSeats(String flightId, int limit) {
-        return collection.find(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.eq("status", "AVAILABLE")
-            )
-        ).limit(limit).into(new ArrayList<>());
+        List<Document> available = new ArrayList<>();
+        for (Document seat : findSeatsByFlightId(flightId)) {
+            if (available.size() >= limit) {
+                break;
+            }
+            if ("AVAILABLE".equals(seat.getString("status"))) {
+                available.add(seat);
+            }
+        }
+        return available;
     }
     
     /**
-     * Insérer plusieurs sièges
+     * Insérer plusieurs sièges (un plan compact par vol)
+     * Un plan déjà présent (génération concurrente du même vol) est gardé
      */
     public void insertSeats(List<Document> seats) {
-        if (!seats.isEmpty()) {
-            collection.insertMany(seats);
+        Map<String, List<Document>> seatsByFlight = new LinkedHashMap<>();
+        for (Document seat : seats) {
+            seatsByFlight.computeIfAbsent(seat.getString("flightId"), k -> new ArrayList<>()).add(seat);
+        }
+        
+        List<Document> maps = new ArrayList<>();
+        for (Map.Entry<String, List<Document>> flight : seatsByFlight.entrySet()) {
+            maps.add(compact(flight.getKey(), flight.getValue()));
+        }
+        if (maps.isEmpty()) {
+            return;
+        }
+        try {
+            seatMaps.insertMany(maps, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                if (ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY) {
+                    throw e;
+                }
+            }
         }
     }
     
@@ -71,18 +151,12 @@ public class SeatRepository extends BaseRepository {
      * Mettre à jour le statut d'un siège
      */
     public boolean updateSeatStatus(String flightId, String seatNumber, String status) {
-        Bson update = Updates.combine(
-            Updates.set("status", status),
-            Updates.set("updatedAt", new Date())
+        return updateSeatMap(
+            Filters.and(Filters.eq("flightId", flightId), Filters.eq("seats.n", seatNumber)),
+            statusUpdate(status),
+            seatFilter(Collections.singletonList(seatNumber), null),
+            flightId
         );
-        
-        return collection.updateOne(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.eq("seatNumber", seatNumber)
-            ),
-            update
-        ).getModifiedCount() > 0;
     }
     
     /**
@@ -93,21 +167,25 @@ public class SeatRepository extends BaseRepository {
                                           String expectedStatus, String newStatus) {
         Bson filter = Filters.and(
             Filters.eq("flightId", flightId),
-            Filters.eq("seatNumber", seatNumber),
-            Filters.eq("status", expectedStatus)
+            Filters.elemMatch("seats", Filters.and(
+                Filters.eq("n", seatNumber),
+                Filters.eq("s", expectedStatus)
+            ))
         );
         
-        Bson update = Updates.combine(
-            Updates.set("status", newStatus),
-            Updates.set("updatedAt", new Date())
+        return updateSeatMap(
+            filter,
+            statusUpdate(newStatus),
+            seatFilter(Collections.singletonList(seatNumber), null),
+            flightId
         );
-        
-        return collection.updateOne(filter, update).getModifiedCount() > 0;
     }
     
     /**
      * Mise à jour en lot (bulk) pour performance
      * Permet de réserver plusieurs sièges en une seule opération
+     * 
+     * @return nombre de sièges passés de expectedStatus à newStatus
      */
     public long updateSeatsStatusBulk(String flightId, List<String> seatNumbers,
                                       String expectedStatus, String newStatus) {
@@ -115,24 +193,23 @@ public class SeatRepository extends BaseRepository {
             return 0;
         }
         
-        Bson filter = Filters.and(
+        // Document avant modification : sièges effectivement changés
+        Document before = seatMapBeforeUpdate(
             Filters.eq("flightId", flightId),
-            Filters.in("seatNumber", seatNumbers),
-            Filters.eq("status", expectedStatus)
+            statusUpdate(newStatus),
+            seatFilter(seatNumbers, expectedStatus),
+            flightId
         );
-        
-        Bson update = Updates.combine(
-            Updates.set("status", newStatus),
-            Updates.set("updatedAt", new Date())
-        );
-        
-        return collection.updateMany(filter, update).getModifiedCount();
+        return before == null ? 0 : countSeats(before, seatNumbers, expectedStatus);
     }
     
     /**
      * 🔒 RÉSERVER PLUSIEURS SIÈGES DE MANIÈRE ATOMIQUE
      * Utilisée par ReservationManagerImpl
      * 
+     * 🆕 Un seul updateOne conditionnel : tous les sièges existent et sont
+     * AVAILABLE, sinon aucun n'est modifié
+     * 
      * @param flightId ID du vol
      * @param seatNumbers Liste des numéros de sièges
      * @param expectedCount Nombre attendu de sièges (pour validation)
@@ -146,28 +223,37 @@ public class SeatRepository extends BaseRepository {
         
         System.out.println("→ [SeatRepository] Réservation batch de " + seatNumbers.size() + " siège(s)");
         
-        // Mise à jour atomique: AVAILABLE → OCCUPIED
+        Set<String> distinctSeats = new LinkedHashSet<>(seatNumbers);
+        if (distinctSeats.size() != expectedCount) {
+            System.err.println("❌ [SeatRepository] " + distinctSeats.size() + " siège(s) distinct(s) pour " +
+                             expectedCount + " attendu(s)");
+            return false;
+        }
+        
+        // Condition critique : sièges tous présents, aucun déjà pris
         Bson filter = Filters.and(
             Filters.eq("flightId", flightId),
-            Filters.in("seatNumber", seatNumbers),
-            Filters.eq("status", "AVAILABLE")  // Condition critique
+            Filters.all("seats.n", distinctSeats),
+            Filters.not(Filters.elemMatch("seats", Filters.and(
+                Filters.in("n", distinctSeats),
+                Filters.ne("s", "AVAILABLE")
+            )))
         );
         
         Bson update = Updates.combine(
-            Updates.set("status", "OCCUPIED"),
+            Updates.set("seats.$[seat].s", "OCCUPIED"),
             Updates.set("reservedAt", new Date()),
             Updates.set("updatedAt", new Date())
         );
         
-        long modifiedCount = collection.updateMany(filter, update).getModifiedCount();
-        
-        // Vérification stricte: TOUS les sièges doivent être mis à jour
-        boolean success = (modifiedCount == expectedCount);
+        boolean success = updateSeatMap(
+            filter, update, seatFilter(new ArrayList<>(distinctSeats), null), flightId
+        );
         
         if (success) {
-            System.out.println("✅ [SeatRepository] " + modifiedCount + " siège(s) réservé(s) avec succès");
+            System.out.println("✅ [SeatRepository] " + expectedCount + " siège(s) réservé(s) avec succès");
         } else {
-            System.err.println("❌ [SeatRepository] Échec partiel: " + modifiedCount + "/" + expectedCount + " siège(s) réservé(s)");
+            System.err.println("❌ [SeatRepository] Échec: aucun siège réservé");
             System.err.println("   Certains sièges n'étaient plus disponibles");
         }
         
@@ -190,20 +276,17 @@ public class SeatRepository extends BaseRepository {
         
         System.out.println("→ [SeatRepository] Libération batch de " + seatNumbers.size() + " siège(s)");
         
-        // Mise à jour: OCCUPIED → AVAILABLE
-        Bson filter = Filters.and(
-            Filters.eq("flightId", flightId),
-            Filters.in("seatNumber", seatNumbers),
-            Filters.eq("status", "OCCUPIED")  // Libérer uniquement les sièges occupés
-        );
-        
+        // Mise à jour: OCCUPIED → AVAILABLE (uniquement les sièges occupés)
         Bson update = Updates.combine(
-            Updates.set("status", "AVAILABLE"),
+            Updates.set("seats.$[seat].s", "AVAILABLE"),
             Updates.set("releasedAt", new Date()),
             Updates.set("updatedAt", new Date())
         );
         
-        long modifiedCount = collection.updateMany(filter, update).getModifiedCount();
+        Document before = seatMapBeforeUpdate(
+            Filters.eq("flightId", flightId), update, seatFilter(seatNumbers, "OCCUPIED"), flightId
+        );
+        long modifiedCount = before == null ? 0 : countSeats(before, seatNumbers, "OCCUPIED");
         
         if (modifiedCount > 0) {
             System.out.println("✅ [SeatRepository] " + modifiedCount + " siège(s) libéré(s) avec succès");
@@ -214,30 +297,142 @@ public class SeatRepository extends BaseRepository {
         }
     }
     
+    /**
+     * 🆕 Répartition par classe d'une liste de sièges (ex: {ECONOMY=2, BUSINESS=1})
+     * Sert à ajuster les compteurs par classe du vol avec reserveSeatsInBatch / releaseSeatsInBatch
+     */
+    public Map<String, Integer> countSeatsByClass(String flightId, Collection<String> seatNumbers) {
+        Map<String, Integer> counts = new HashMap<>();
+        if (seatNumbers == null || seatNumbers.isEmpty()) {
+            return counts;
+        }
+        
+        Set<String> wanted = new HashSet<>(seatNumbers);
+        for (Document seat : findSeatsByFlightId(flightId)) {
+            if (wanted.contains(seat.getString("seatNumber"))) {
+                counts.merge(seat.getString("seatClass"), 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * 🆕 Sièges disponibles par classe pour plusieurs vols (une agrégation)
+     * Les vols sans plan de sièges sont absents du résultat
+     */
+    public Map<String, Map<String, Integer>> countAvailableByClass(Collection<String> flightIds) {
+        Map<String, Map<String, Integer>> counts = new HashMap<>();
+        if (flightIds == null || flightIds.isEmpty()) {
+            return counts;
+        }
+        
+        List<Bson> pipeline = Arrays.asList(
+            Aggregates.match(Filters.in("flightId", flightIds)),
+            Aggregates.unwind("$seats"),
+            Aggregates.group(
+                new Document("flightId", "$flightId").append("seatClass", "$seats.c"),
+                Accumulators.sum("available", new Document("$cond", Arrays.asList(
+                    new Document("$eq", Arrays.asList("$seats.s", "AVAILABLE")), 1, 0
+                )))
+            )
+        );
+        
+        for (Document group : seatMaps.aggregate(pipeline)) {
+            Document id = (Document) group.get("_id");
+            counts.computeIfAbsent(id.getString("flightId"), k -> new HashMap<>())
+                  .put(id.getString("seatClass"), group.getInteger("available", 0));
+        }
+        
+        // Vols encore au format siège par siège
+        List<String> legacyFlights = new ArrayList<>(flightIds);
+        legacyFlights.removeAll(counts.keySet());
+        if (!legacyFlights.isEmpty()) {
+            List<Bson> legacyPipeline = Arrays.asList(
+                Aggregates.match(Filters.in("flightId", legacyFlights)),
+                Aggregates.group(
+                    new Document("flightId", "$flightId").append("seatClass", "$seatClass"),
+                    Accumulators.sum("available", new Document("$cond", Arrays.asList(
+                        new Document("$eq", Arrays.asList("$status", "AVAILABLE")), 1, 0
+                    )))
+                )
+            );
+            for (Document group : collection.aggregate(legacyPipeline)) {
+                Document id = (Document) group.get("_id");
+                counts.computeIfAbsent(id.getString("flightId"), k -> new HashMap<>())
+                      .put(id.getString("seatClass"), group.getInteger("available", 0));
+            }
+        }
+        return counts;
+    }
+    
+    /**
+     * 🆕 Plan de sièges d'un vol (champs utiles au chargement de SeatInventory)
+     */
+    public List<Document> findSeatLayout(String flightId) {
+        return findSeatsByFlightId(flightId);
+    }
+    
+    /**
+     * 🆕 Écrire des statuts de sièges en une seule requête bulkWrite
+     * Entrée : flightId → (statut → sièges), appliquée dans l'ordre donné
+     * Sans condition sur l'ancien statut : SeatInventory fait foi
+     * (plans déjà convertis : SeatInventory lit le vol avant d'y écrire)
+     */
+    public void applySeatStatuses(Map<String, Map<String, List<String>>> statusesByFlight) {
+        List<WriteModel<Document>> updates = new ArrayList<>();
+        Date now = new Date();
+        
+        for (Map.Entry<String, Map<String, List<String>>> flight : statusesByFlight.entrySet()) {
+            for (Map.Entry<String, List<String>> status : flight.getValue().entrySet()) {
+                updates.add(new UpdateOneModel<>(
+                    Filters.eq("flightId", flight.getKey()),
+                    Updates.combine(
+                        Updates.set("seats.$[seat].s", status.getKey()),
+                        Updates.set("updatedAt", now)
+                    ),
+                    new UpdateOptions().arrayFilters(seatFilter(status.getValue(), null))
+                ));
+            }
+        }
+        
+        if (!updates.isEmpty()) {
+            seatMaps.bulkWrite(updates, new BulkWriteOptions().ordered(true));
+        }
+    }
+    
     /**
      * Supprimer tous les sièges d'un vol
      */
     public void deleteSeatsForFlight(String flightId) {
+        seatMaps.deleteOne(Filters.eq("flightId", flightId));
         collection.deleteMany(Filters.eq("flightId", flightId));
     }
     
+    /**
+     * 🆕 Nombre total de sièges (plans compacts + ancien format)
+     */
+    @Override
+    public long count() {
+        List<Bson> pipeline = Arrays.asList(
+            Aggregates.group(null, Accumulators.sum("seats", new Document("$size", "$seats")))
+        );
+        Document total = seatMaps.aggregate(pipeline).first();
+        long compactSeats = total == null ? 0 : ((Number) total.get("seats")).longValue();
+        return compactSeats + collection.countDocuments();
+    }
+    
     /**
      * Compter tous les sièges d'un vol
      */
     public long countSeatsByFlight(String flightId) {
-        return collection.countDocuments(Filters.eq("flightId", flightId));
+        return findSeatsByFlightId(flightId).size();
     }
     
     /**
      * Compter les sièges disponibles d'UN vol spécifique
      */
     public long countAvailableSeats(String flightId) {
-        return collection.countDocuments(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.eq("status", "AVAILABLE")
-            )
-        );
+        return countSeats(flightId, "AVAILABLE", true);
     }
     
     /**
@@ -248,7 +443,15 @@ public class SeatRepository extends BaseRepository {
      * @return Nombre total de sièges disponibles (tous vols confondus)
      */
     public long countTotalAvailableSeats() {
-        return collection.countDocuments(
+        List<Bson> pipeline = Arrays.asList(
+            Aggregates.unwind("$seats"),
+            Aggregates.match(Filters.eq("seats.s", "AVAILABLE")),
+            Aggregates.count("available")
+        );
+        Document total = seatMaps.aggregate(pipeline).first();
+        long compactAvailable = total == null ? 0 : ((Number) total.get("available")).longValue();
+        
+        return compactAvailable + collection.countDocuments(
             Filters.eq("status", "AVAILABLE")
         );
     }
@@ -257,24 +460,14 @@ public class SeatRepository extends BaseRepository {
      * Compter les sièges occupés d'un vol
      */
     public long countOccupiedSeats(String flightId) {
-        return collection.countDocuments(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.eq("status", "OCCUPIED")
-            )
-        );
+        return countSeats(flightId, "OCCUPIED", true);
     }
     
     /**
      * Compter les sièges réservés (non disponibles)
      */
     public long countReservedSeats(String flightId) {
-        return collection.countDocuments(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.ne("status", "AVAILABLE")
-            )
-        );
+        return countSeats(flightId, "AVAILABLE", false);
     }
     
     /**
@@ -286,13 +479,14 @@ public class SeatRepository extends BaseRepository {
             return false;
         }
         
-        long availableCount = collection.countDocuments(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.in("seatNumber", seatNumbers),
-                Filters.eq("status", "AVAILABLE")
-            )
-        );
+        Set<String> wanted = new HashSet<>(seatNumbers);
+        long availableCount = 0;
+        for (Document seat : findSeatsByFlightId(flightId)) {
+            if (wanted.contains(seat.getString("seatNumber"))
+                    && "AVAILABLE".equals(seat.getString("status"))) {
+                availableCount++;
+            }
+        }
         
         return availableCount == seatNumbers.size();
     }
@@ -301,60 +495,53 @@ public class SeatRepository extends BaseRepository {
      * Obtenir les sièges d'une classe spécifique
      */
     public List<Document> getSeatsByClass(String flightId, String seatClass) {
-        return collection.find(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.eq("seatClass", seatClass)
-            )
-        ).into(new ArrayList<>());
+        return filterSeats(flightId, seatClass, null);
     }
     
     /**
      * Obtenir les sièges disponibles par classe
      */
     public List<Document> getAvailableSeatsByClass(String flightId, String seatClass) {
-        return collection.find(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.eq("seatClass", seatClass),
-                Filters.eq("status", "AVAILABLE")
-            )
-        ).into(new ArrayList<>());
+        return filterSeats(flightId, seatClass, "AVAILABLE");
     }
     
     /**
      * Mettre à jour le prix d'un siège
+     * 🆕 Plan compact : prix propre au siège (priceOverrides)
      */
     public boolean updateSeatPrice(String flightId, String seatNumber, double newPrice) {
         Bson update = Updates.combine(
-            Updates.set("price", newPrice),
+            Updates.set("priceOverrides." + seatNumber, newPrice),
             Updates.set("priceUpdatedAt", new Date())
         );
         
-        return collection.updateOne(
-            Filters.and(
-                Filters.eq("flightId", flightId),
-                Filters.eq("seatNumber", seatNumber)
-            ),
-            update
-        ).getModifiedCount() > 0;
+        return updateSeatMap(
+            Filters.and(Filters.eq("flightId", flightId), Filters.eq("seats.n", seatNumber)),
+            update,
+            null,
+            flightId
+        );
     }
     
     /**
      * Mettre à jour les prix en lot
+     * 🆕 Plan compact : prix de la classe, prix propres de ses sièges retirés
      */
     public long updateSeatsPriceBulk(String flightId, String seatClass, double newPrice) {
-        Bson filter = Filters.and(
-            Filters.eq("flightId", flightId),
-            Filters.eq("seatClass", seatClass)
-        );
+        List<Document> seats = getSeatsByClass(flightId, seatClass);
+        if (seats.isEmpty()) {
+            return 0;
+        }
         
-        Bson update = Updates.combine(
-            Updates.set("price", newPrice),
-            Updates.set("priceUpdatedAt", new Date())
-        );
+        List<Bson> updates = new ArrayList<>();
+        updates.add(Updates.set("classPrices." + seatClass, newPrice));
+        updates.add(Updates.set("priceUpdatedAt", new Date()));
+        for (Document seat : seats) {
+            updates.add(Updates.unset("priceOverrides." + seat.getString("seatNumber")));
+        }
         
-        return collection.updateMany(filter, update).getModifiedCount();
+        seatMaps.updateOne(Filters.eq("flightId", flightId), Updates.combine(updates));
+        return seats.size();
     }
     
     /**
@@ -363,25 +550,24 @@ public class SeatRepository extends BaseRepository {
     public Map<String, SeatClassStats> getSeatStatsByClass(String flightId) {
         Map<String, SeatClassStats> stats = new HashMap<>();
         
+        // 🆕 Une seule lecture du plan pour toutes les classes
+        Map<String, long[]> counts = new HashMap<>();
+        for (Document seat : findSeatsByFlightId(flightId)) {
+            long[] count = counts.computeIfAbsent(seat.getString("seatClass"), k -> new long[2]);
+            count[0]++;
+            if ("AVAILABLE".equals(seat.getString("status"))) {
+                count[1]++;
+            }
+        }
+        
         String[] classes = {"ECONOMY", "BUSINESS", "FIRST_CLASS"};
         
         for (String seatClass : classes) {
-            long total = collection.countDocuments(
-                Filters.and(
-                    Filters.eq("flightId", flightId),
-                    Filters.eq("seatClass", seatClass)
-                )
-            );
-            
-            long available = collection.countDocuments(
-                Filters.and(
-                    Filters.eq("flightId", flightId),
-                    Filters.eq("seatClass", seatClass),
-                    Filters.eq("status", "AVAILABLE")
-                )
-            );
+            long[] count = counts.get(seatClass);
             
-            if (total > 0) {
+            if (count != null) {
+                long total = count[0];
+                long available = count[1];
                 stats.put(seatClass, new SeatClassStats(
                     seatClass, total, available, total - available
                 ));
@@ -391,6 +577,215 @@ public class SeatRepository extends BaseRepository {
         return stats;
     }
     
+    // ==================== 🆕 PLAN COMPACT ====================
+    
+    /**
+     * Convertir tous les vols encore au format siège par siège, puis
+     * supprimer l'ancienne collection (et ses index) une fois vide
+     * 
+     * @return nombre de vols convertis
+     */
+    public int migrateLegacySeatMaps() {
+        int migrated = 0;
+        for (String flightId : collection.distinct("flightId", String.class)) {
+            List<Document> legacySeats = collection.find(Filters.eq("flightId", flightId))
+                                                   .into(new ArrayList<>());
+            if (!legacySeats.isEmpty() && migrateFlight(flightId, legacySeats)) {
+                migrated++;
+            }
+        }
+        if (migrated > 0) {
+            System.out.println("✅ [SeatRepository] " + migrated + " plan(s) de sièges convertis au format compact");
+        }
+        if (collection.countDocuments() == 0) {
+            // Conversion terminée : ancienne collection et ses index supprimés
+            collection.drop();
+            legacySeatsPresent = false;
+        }
+        return migrated;
+    }
+    
+    /**
+     * Plan compact écrit avant la suppression des anciens documents :
+     * le vol reste lisible à tout instant. Index unique sur flightId :
+     * une conversion concurrente du même vol échoue sans effet.
+     */
+    private boolean migrateFlight(String flightId, List<Document> legacySeats) {
+        try {
+            seatMaps.insertOne(compact(flightId, legacySeats));
+        } catch (MongoWriteException e) {
+            if (e.getError().getCategory() != ErrorCategory.DUPLICATE_KEY) {
+                throw e;
+            }
+        }
+        collection.deleteMany(Filters.eq("flightId", flightId));
+        return true;
+    }
+    
+    /**
+     * Sièges → plan compact (prix le plus courant de chaque classe, écarts
+     * en priceOverrides)
+     */
+    private static Document compact(String flightId, List<Document> seats) {
+        Map<String, Map<Double, Integer>> priceFrequency = new HashMap<>();
+        for (Document seat : seats) {
+            priceFrequency.computeIfAbsent(seat.getString("seatClass"), k -> new HashMap<>())
+                          .merge(price(seat), 1, Integer::sum);
+        }
+        
+        Document classPrices = new Document();
+        for (Map.Entry<String, Map<Double, Integer>> entry : priceFrequency.entrySet()) {
+            classPrices.append(entry.getKey(), Collections.max(
+                entry.getValue().entrySet(), Map.Entry.comparingByValue()).getKey());
+        }
+        
+        List<Document> entries = new ArrayList<>(seats.size());
+        Document priceOverrides = new Document();
+        for (Document seat : seats) {
+            String seatNumber = seat.getString("seatNumber");
+            String seatClass = seat.getString("seatClass");
+            String status = seat.getString("status");
+            entries.add(new Document("n", seatNumber)
+                .append("c", seatClass)
+                .append("s", status != null ? status : "AVAILABLE"));
+            
+            double price = price(seat);
+            if (price != classPrices.getDouble(seatClass)) {
+                priceOverrides.append(seatNumber, price);
+            }
+        }
+        
+        return new Document("flightId", flightId)
+            .append("layoutVersion", LAYOUT_VERSION)
+            .append("seats", entries)
+            .append("classPrices", classPrices)
+            .append("priceOverrides", priceOverrides)
+            .append("createdAt", new Date());
+    }
+    
+    /**
+     * Plan compact → documents siège (forme historique)
+     */
+    private static List<Document> expand(Document seatMap) {
+        String flightId = seatMap.getString("flightId");
+        Document classPrices = seatMap.get("classPrices", new Document());
+        Document priceOverrides = seatMap.get("priceOverrides", new Document());
+        
+        List<Document> entries = seatMap.getList("seats", Document.class, Collections.emptyList());
+        List<Document> seats = new ArrayList<>(entries.size());
+        for (Document entry : entries) {
+            String seatNumber = entry.getString("n");
+            String seatClass = entry.getString("c");
+            Object price = priceOverrides.containsKey(seatNumber)
+                ? priceOverrides.get(seatNumber)
+                : classPrices.get(seatClass);
+            
+            seats.add(new Document("flightId", flightId)
+                .append("seatNumber", seatNumber)
+                .append("seatClass", seatClass)
+                .append("status", entry.getString("s"))
+                .append("price", price instanceof Number ? ((Number) price).doubleValue() : 0.0));
+        }
+        return seats;
+    }
+    
+    /**
+     * updateOne sur le plan compact ; si le vol est encore à l'ancien
+     * format (conversion de démarrage pas terminée), conversion puis nouvel essai
+     */
+    private boolean updateSeatMap(Bson filter, Bson update, List<Bson> arrayFilters, String flightId) {
+        UpdateOptions options = new UpdateOptions();
+        if (arrayFilters != null) {
+            options.arrayFilters(arrayFilters);
+        }
+        
+        if (seatMaps.updateOne(filter, update, options).getModifiedCount() > 0) {
+            return true;
+        }
+        return migrateIfLegacy(flightId)
+            && seatMaps.updateOne(filter, update, options).getModifiedCount() > 0;
+    }
+    
+    /**
+     * findOneAndUpdate renvoyant le plan avant modification (sièges changés)
+     */
+    private Document seatMapBeforeUpdate(Bson filter, Bson update, List<Bson> arrayFilters, String flightId) {
+        FindOneAndUpdateOptions options = new FindOneAndUpdateOptions()
+            .arrayFilters(arrayFilters)
+            .projection(Projections.include("seats"))
+            .returnDocument(ReturnDocument.BEFORE);
+        
+        Document before = seatMaps.findOneAndUpdate(filter, update, options);
+        if (before == null && migrateIfLegacy(flightId)) {
+            before = seatMaps.findOneAndUpdate(filter, update, options);
+        }
+        return before;
+    }
+    
+    private boolean migrateIfLegacy(String flightId) {
+        if (!legacySeatsPresent) {
+            return false;
+        }
+        List<Document> legacySeats = collection.find(Filters.eq("flightId", flightId))
+                                               .into(new ArrayList<>());
+        return !legacySeats.isEmpty() && migrateFlight(flightId, legacySeats);
+    }
+    
+    private static Bson statusUpdate(String status) {
+        return Updates.combine(
+            Updates.set("seats.$[seat].s", status),
+            Updates.set("updatedAt", new Date())
+        );
+    }
+    
+    /**
+     * Filtre "seat" des arrayFilters : sièges visés (et statut actuel si précisé)
+     */
+    private static List<Bson> seatFilter(Collection<String> seatNumbers, String currentStatus) {
+        Document filter = new Document("seat.n", new Document("$in", new ArrayList<>(seatNumbers)));
+        if (currentStatus != null) {
+            filter.append("seat.s", currentStatus);
+        }
+        return Collections.singletonList(filter);
+    }
+    
+    private static long countSeats(Document seatMap, Collection<String> seatNumbers, String status) {
+        Set<String> wanted = new HashSet<>(seatNumbers);
+        long count = 0;
+        for (Document entry : seatMap.getList("seats", Document.class, Collections.emptyList())) {
+            if (wanted.contains(entry.getString("n")) && status.equals(entry.getString("s"))) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private long countSeats(String flightId, String status, boolean matching) {
+        long count = 0;
+        for (Document seat : findSeatsByFlightId(flightId)) {
+            if (status.equals(seat.getString("status")) == matching) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    private List<Document> filterSeats(String flightId, String seatClass, String status) {
+        List<Document> seats = new ArrayList<>();
+        for (Document seat : findSeatsByFlightId(flightId)) {
+            if (seatClass.equals(seat.getString("seatClass"))
+                    && (status == null || status.equals(seat.getString("status")))) {
+                seats.add(seat);
+            }
+        }
+        return seats;
+    }
+    
+    private static double price(Document seat) {
+        Object price = seat.get("price");
+        return price instanceof Number ? ((Number) price).doubleValue() : 0;
+    }
+    
     /**
      * Classe pour les statistiques par classe de siège
      */
@@ -420,4 +815,4 @@ public class SeatRepository extends BaseRepository {
             );
         }
     }
-}
\ No newline at end of file
+}
@@ -2,7 +2,9 @@
 
 package com.skybooking.database.repositories;
 
+import com.mongodb.client.ClientSession;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import org.bson.Document;
 import com.skybooking.utils.Constants;
 import java.util.*;
@@ -151,6 +153,14 @@ public class TicketRepository extends BaseRepository {
         }
     }
     
+    /**
+     * 🆕 Insérer les tickets d'une réservation dans une transaction
+     * (erreur propagée : la transaction est annulée)
+     */
+    public void insertTickets(ClientSession session, List<Document> tickets) {
+        collection.insertMany(session, tickets);
+    }
+    
     /**
      * Mettre à jour un ticket
      */
@@ -194,6 +204,21 @@ public class TicketRepository extends BaseRepository {
         }
     }
     
+    /**
+     * 🆕 Tickets existants parmi des identifiants (reprise des intentions)
+     */
+    public Set<String> findExistingIds(Collection<String> ticketIds) {
+        Set<String> existing = new HashSet<>();
+        if (ticketIds.isEmpty()) {
+            return existing;
+        }
+        for (Document ticket : collection.find(Filters.in("ticketId", ticketIds))
+                .projection(Projections.include("ticketId"))) {
+            existing.add(ticket.getString("ticketId"));
+        }
+        return existing;
+    }
+    
     /**
      * Trouver un ticket par siège
      */
@@ -0,0 +1,306 @@
+// src/main/java/com/skybooking/managers/helpers/BookingIntents.java
+
+package com.skybooking.managers.helpers;
+
+import com.mongodb.client.ClientSession;
+import com.skybooking.database.repositories.BookingIntentRepository;
+import com.skybooking.database.repositories.FlightRepository;
+import com.skybooking.database.repositories.ReservationRepository;
+import com.skybooking.database.repositories.TicketRepository;
+import com.skybooking.utils.Constants;
+import org.bson.Document;
+
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🧾 Intentions de réservation : journal d'écriture anticipée des réservations
+ *
+ * Une intention (réservation et tickets prêts à écrire, sièges, étape) est
+ * écrite avant la prise des sièges et supprimée avec la réservation. Étapes :
+ * STARTED (sièges pris en mémoire) → SEATS_COUNTED (places du vol décomptées)
+ * → supprimée (réservation écrite, ou défaite).
+ *
+ * Une intention restée en base est reprise :
+ * - réservation présente : terminée (tickets manquants insérés)
+ * - sinon : compensée (places rendues au vol, et sièges rendus si elle vient
+ *   d'un processus arrêté brutalement)
+ * Seules les intentions sans nouvelles depuis BOOKING_INTENT_STALE_SECONDS
+ * sont reprises (celles d'un autre serveur actif sont en cours) : au
+ * démarrage, avant de servir les réservations, puis par un thread. Les
+ * reprises sont faites par lots (insertMany, bulkWrite, deleteMany).
+ */
+public class BookingIntents {
+
+    public static final String STARTED = "STARTED";
+    public static final String SEATS_COUNTED = "SEATS_COUNTED";
+
+    // Processus propriétaire : ses intentions en cours ne sont reprises qu'une fois périmées
+    private final String owner = UUID.randomUUID().toString();
+
+    private final BookingIntentRepository intentRepository;
+    private final ReservationRepository reservationRepository;
+    private final TicketRepository ticketRepository;
+    private final FlightRepository flightRepository;
+    private final SeatInventory seatInventory;
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong compensated = new AtomicLong();
+
+    public BookingIntents(BookingIntentRepository intentRepository, ReservationRepository reservationRepository,
+                          TicketRepository ticketRepository, FlightRepository flightRepository,
+                          SeatInventory seatInventory) {
+        this.intentRepository = intentRepository;
+        this.reservationRepository = reservationRepository;
+        this.ticketRepository = ticketRepository;
+        this.flightRepository = flightRepository;
+        this.seatInventory = seatInventory;
+
+        recoverForeign();
+
+        ScheduledExecutorService worker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "booking-intent-recovery");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.scheduleWithFixedDelay(this::recoverStale,
+            Constants.BOOKING_INTENT_SWEEP_SECONDS, Constants.BOOKING_INTENT_SWEEP_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // ==================== ÉTAPES ====================
+
+    /**
+     * Écrire l'intention d'une réservation, avant la prise de ses sièges
+     *
+     * @param heldSeats sièges retenus par le client (déjà décomptés du vol)
+     */
+    public Intent begin(Document reservation, List<Document> tickets, Collection<String> heldSeats) {
+        Intent intent = new Intent("BKI" + UUID.randomUUID().toString().replace("-", ""),
+                                   reservation.getString("reservationId"), reservation.getString("flightId"),
+                                   reservation.getList("seatNumbers", String.class), heldSeats);
+        Date now = new Date();
+        intentRepository.insertIntent(new Document("intentId", intent.intentId)
+            .append("owner", owner)
+            .append("reservationId", intent.reservationId)
+            .append("flightId", intent.flightId)
+            .append("seatNumbers", intent.seatNumbers)
+            .append("heldSeats", new ArrayList<>(intent.heldSeats))
+            .append("step", STARTED)
+            .append("reservation", reservation)
+            .append("tickets", tickets)
+            .append("createdAt", now)
+            .append("updatedAt", now));
+        return intent;
+    }
+
+    /**
+     * Places du vol décomptées (écriture sans transaction)
+     */
+    public void seatsCounted(Intent intent) {
+        // Étape connue en mémoire d'abord : une compensation immédiate rend les places
+        intent.step = SEATS_COUNTED;
+        intentRepository.updateStep(intent.intentId, SEATS_COUNTED);
+    }
+
+    /**
+     * Réservation écrite : intention terminée
+     */
+    public void finish(Intent intent) {
+        intentRepository.deleteIntent(intent.intentId);
+    }
+
+    /**
+     * Réservation écrite dans une transaction : intention supprimée avec elle
+     */
+    public void finish(ClientSession session, Intent intent) {
+        intentRepository.deleteIntent(session, intent.intentId);
+    }
+
+    /**
+     * Réservation abandonnée, sièges déjà rendus en mémoire : places rendues
+     * au vol, puis intention supprimée. En cas d'échec, l'intention reste et
+     * sera compensée par le thread de reprise.
+     */
+    public void compensate(Intent intent) {
+        try {
+            Map<String, Integer> seatsByClass = classesOf(intent.flightId, intent.countedSeats());
+            if (!seatsByClass.isEmpty()) {
+                flightRepository.incrementAvailableSeats(intent.flightId, seatsByClass);
+            }
+            intentRepository.deleteIntent(intent.intentId);
+            compensated.incrementAndGet();
+        } catch (RuntimeException e) {
+            System.err.println("❌ Compensation de " + intent.reservationId + " reportée : " + e.getMessage());
+        }
+    }
+
+    public String getStats() {
+        return String.format("Terminées: %d | Compensées: %d", completed.get(), compensated.get());
+    }
+
+    // ==================== REPRISE ====================
+
+    /**
+     * Intentions périmées d'un autre processus (arrêt brutal) : sièges encore pris à rendre
+     */
+    private void recoverForeign() {
+        try {
+            List<Document> batch;
+            while (!(batch = intentRepository.findForeign(owner, staleBefore(),
+                                                          Constants.BOOKING_INTENT_BATCH)).isEmpty()) {
+                recover(batch, true);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("❌ Reprise des réservations interrompues: " + e.getMessage());
+        }
+    }
+
+    private void recoverStale() {
+        try {
+            List<Document> batch = intentRepository.findStale(owner, staleBefore(), Constants.BOOKING_INTENT_BATCH);
+            if (!batch.isEmpty()) {
+                recover(batch, false);
+            }
+            recoverForeign();
+        } catch (RuntimeException e) {
+            System.err.println("❌ Reprise des réservations interrompues: " + e.getMessage());
+        }
+    }
+
+    private static Date staleBefore() {
+        return new Date(System.currentTimeMillis() - Constants.BOOKING_INTENT_STALE_SECONDS * 1000L);
+    }
+
+    /**
+     * Terminer ou compenser un lot d'intentions
+     *
+     * @param releaseSeats sièges encore pris à rendre (processus arrêté) ;
+     *                     sinon déjà rendus en mémoire par la requête
+     */
+    private void recover(List<Document> intents, boolean releaseSeats) {
+        List<String> reservationIds = new ArrayList<>();
+        for (Document intent : intents) {
+            reservationIds.add(intent.getString("reservationId"));
+        }
+        Set<String> booked = reservationRepository.findExistingIds(reservationIds);
+
+        List<Document> tickets = new ArrayList<>();
+        Map<String, Map<String, Integer>> seatsByFlight = new HashMap<>();
+        Map<String, Set<String>> soldByFlight = new HashMap<>();
+        List<String> done = new ArrayList<>();
+        int completedNow = 0;
+
+        for (Document doc : intents) {
+            if (booked.contains(doc.getString("reservationId"))) {
+                tickets.addAll(doc.getList("tickets", Document.class, Collections.emptyList()));
+                completedNow++;
+            } else {
+                Intent intent = Intent.of(doc);
+                Collection<String> counted = intent.countedSeats();
+                List<String> restored = new ArrayList<>();
+                if (releaseSeats) {
+                    // Sièges vendus par une réservation confirmée : jamais rendus
+                    Set<String> sold = soldByFlight.computeIfAbsent(intent.flightId,
+                        reservationRepository::findOccupiedSeatNumbers);
+                    for (String seatNumber : intent.seatNumbers) {
+                        if (!sold.contains(seatNumber)
+                                && !seatInventory.release(intent.flightId, Collections.singletonList(seatNumber),
+                                                          SeatInventory.OCCUPIED).isEmpty()
+                                && counted.contains(seatNumber)) {
+                            restored.add(seatNumber);
+                        }
+                    }
+                } else {
+                    restored.addAll(counted);
+                }
+                classesOf(intent.flightId, restored).forEach((seatClass, count) ->
+                    seatsByFlight.computeIfAbsent(intent.flightId, k -> new HashMap<>())
+                                 .merge(seatClass, count, Integer::sum));
+            }
+            done.add(doc.getString("intentId"));
+        }
+
+        // Tickets manquants des réservations écrites
+        if (!tickets.isEmpty()) {
+            List<String> ticketIds = new ArrayList<>();
+            for (Document ticket : tickets) {
+                ticketIds.add(ticket.getString("ticketId"));
+            }
+            Set<String> existing = ticketRepository.findExistingIds(ticketIds);
+            tickets.removeIf(ticket -> existing.contains(ticket.getString("ticketId")));
+            if (!tickets.isEmpty()) {
+                ticketRepository.insertTickets(tickets);
+            }
+        }
+
+        flightRepository.incrementAvailableSeatsBatch(seatsByFlight);
+        intentRepository.deleteIntents(done);
+
+        completed.addAndGet(completedNow);
+        compensated.addAndGet(done.size() - completedNow);
+        System.out.println("🧾 Réservations interrompues reprises : " + completedNow + " terminée(s), " +
+                         (done.size() - completedNow) + " compensée(s)");
+    }
+
+    private Map<String, Integer> classesOf(String flightId, Collection<String> seatNumbers) {
+        Map<String, Integer> seatsByClass = new HashMap<>();
+        for (String seatNumber : seatNumbers) {
+            SeatInventory.SeatInfo seat = seatInventory.seat(flightId, seatNumber);
+            if (seat != null) {
+                seatsByClass.merge(seat.seatClass, 1, Integer::sum);
+            }
+        }
+        return seatsByClass;
+    }
+
+    /**
+     * Intention en cours d'une réservation
+     */
+    public static final class Intent {
+        final String intentId;
+        final String reservationId;
+        final String flightId;
+        final List<String> seatNumbers;
+        volatile Set<String> heldSeats;
+        volatile String step = STARTED;
+
+        Intent(String intentId, String reservationId, String flightId,
+               List<String> seatNumbers, Collection<String> heldSeats) {
+            this.intentId = intentId;
+            this.reservationId = reservationId;
+            this.flightId = flightId;
+            this.seatNumbers = seatNumbers;
+            this.heldSeats = new HashSet<>(heldSeats);
+            this.heldSeats.retainAll(seatNumbers);
+        }
+
+        static Intent of(Document doc) {
+            Intent intent = new Intent(doc.getString("intentId"), doc.getString("reservationId"),
+                                       doc.getString("flightId"),
+                                       doc.getList("seatNumbers", String.class, Collections.emptyList()),
+                                       doc.getList("heldSeats", String.class, Collections.emptyList()));
+            intent.step = doc.getString("step");
+            return intent;
+        }
+
+        /**
+         * Sièges réellement venus de la retenue du client (après la prise)
+         */
+        public void seatsClaimed(Collection<String> heldSeats) {
+            Set<String> held = new HashSet<>(heldSeats);
+            held.retainAll(seatNumbers);
+            this.heldSeats = held;
+        }
+
+        /**
+         * Sièges dont les places sont décomptées du vol à cette étape :
+         * retenus (décomptés à la retenue), ou tous après SEATS_COUNTED
+         */
+        Collection<String> countedSeats() {
+            return SEATS_COUNTED.equals(step) ? seatNumbers : heldSeats;
+        }
+    }
+}
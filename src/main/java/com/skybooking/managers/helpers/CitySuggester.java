@@ -0,0 +1,231 @@
+// src/main/java/com/skybooking/managers/helpers/CitySuggester.java
+
+package com.skybooking.managers.helpers;
+
+import FlightReservation.CitySuggestion;
+import com.skybooking.database.repositories.FlightRepository;
+import com.skybooking.database.repositories.HotelRepository;
+import com.skybooking.utils.CityKeys;
+import com.skybooking.utils.Constants;
+import org.bson.Document;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🔤 Autocomplétion des villes (champs départ / arrivée / ville d'hôtel)
+ *
+ * Arbre de préfixes en mémoire construit à partir des villes des vols, des
+ * hôtels et des villes configurées, sur les noms sans accents : "bej",
+ * "béj" et "BEJ" mènent au même nœud. Chaque nom est inséré en entier et à
+ * partir de chacun de ses mots ("caire" → Le Caire), ainsi que son code IATA.
+ *
+ * Chaque nœud porte ses meilleures villes déjà classées par popularité
+ * (vols + hôtels) : une suggestion = un parcours de la saisie, sans tri.
+ * La clé renvoyée (cityKey) peut être passée telle quelle à la recherche.
+ */
+public class CitySuggester implements FlightRepository.ChangeListener {
+
+    private static final CitySuggestion[] NO_SUGGESTIONS = new CitySuggestion[0];
+
+    private final FlightRepository flightRepository;
+    private final HotelRepository hotelRepository;
+    private final Collection<String> configuredCities;
+
+    // Clé normalisée → ville ; l'arbre est reconstruit à partir de cette table
+    private final ConcurrentHashMap<String, City> cities = new ConcurrentHashMap<>();
+    private volatile Node root = new Node();
+
+    public CitySuggester(FlightRepository flightRepository, HotelRepository hotelRepository,
+                         Collection<String> configuredCities) {
+        this.flightRepository = flightRepository;
+        this.hotelRepository = hotelRepository;
+        this.configuredCities = configuredCities;
+    }
+
+    // ==================== SUGGESTIONS ====================
+
+    /**
+     * Villes dont un nom, un mot du nom ou le code commence par la saisie
+     */
+    public CitySuggestion[] suggest(String prefix, int limit) {
+        String normalized = CityKeys.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return NO_SUGGESTIONS;
+        }
+
+        Node node = root;
+        for (int i = 0; i < normalized.length() && node != null; i++) {
+            node = node.children.get(normalized.charAt(i));
+        }
+        if (node == null) {
+            return NO_SUGGESTIONS;
+        }
+
+        int count = Math.min(limit, node.top.length);
+        CitySuggestion[] suggestions = new CitySuggestion[count];
+        for (int i = 0; i < count; i++) {
+            City city = node.top[i];
+            suggestions[i] = new CitySuggestion(city.key, city.name, city.flights, city.hotels);
+        }
+        return suggestions;
+    }
+
+    public String getStats() {
+        return String.format("Villes: %d | Nœuds: %d", cities.size(), root.size());
+    }
+
+    // ==================== CONSTRUCTION ====================
+
+    /**
+     * Recompter les villes des vols et des hôtels puis reconstruire l'arbre
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        cities.clear();
+
+        for (String name : configuredCities) {
+            cities.computeIfAbsent(CityKeys.toKey(name), key -> new City(key, name));
+        }
+        for (Document row : flightRepository.countFlightsByCityKey()) {
+            City city = cityFor(row);
+            if (city != null) {
+                city.flights = ((Number) row.get("count")).intValue();
+            }
+        }
+        for (Document row : hotelRepository.countHotelsByCityKey()) {
+            City city = cityFor(row);
+            if (city != null) {
+                city.hotels = ((Number) row.get("count")).intValue();
+            }
+        }
+
+        rebuild();
+        System.out.println("✅ Autocomplétion des villes: " + getStats() +
+                         " (" + (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    /**
+     * Nouvelle ville apparue avec un vol (création admin) : ajoutée à l'arbre
+     */
+    @Override
+    public synchronized void flightChanged(Document flight) {
+        boolean added = addIfAbsent(flight.getString("depKey"), flight.getString("departureCity"))
+                      | addIfAbsent(flight.getString("arrKey"), flight.getString("arrivalCity"));
+        if (added) {
+            rebuild();
+        }
+    }
+
+    @Override
+    public void flightRemoved(String flightId) {
+        // Popularité recalculée au prochain rechargement
+    }
+
+    @Override
+    public void flightsReset() {
+        reload();
+    }
+
+    private boolean addIfAbsent(String key, String name) {
+        if (name == null || name.trim().isEmpty()) {
+            return false;
+        }
+        String cityKey = key != null ? key : CityKeys.toKey(name);
+        if (cities.containsKey(cityKey)) {
+            return false;
+        }
+        City city = new City(cityKey, name);
+        city.flights = 1;
+        cities.put(cityKey, city);
+        return true;
+    }
+
+    private City cityFor(Document row) {
+        String name = row.getString("name");
+        if (name == null || name.trim().isEmpty()) {
+            return null;
+        }
+        String key = row.getString("_id");
+        return cities.computeIfAbsent(key != null ? key : CityKeys.toKey(name), k -> new City(k, name));
+    }
+
+    /**
+     * Nouvel arbre publié d'un bloc : les lectures en cours gardent l'ancien
+     */
+    private void rebuild() {
+        Node next = new Node();
+        for (City city : cities.values()) {
+            Set<String> terms = new HashSet<>();
+            terms.add(CityKeys.normalize(city.key));
+            terms.add(CityKeys.normalize(city.name));
+            for (String alias : CityKeys.names(city.key)) {
+                terms.add(CityKeys.normalize(alias));
+            }
+
+            // Nom complet et chacun de ses mots
+            Set<String> starts = new HashSet<>();
+            for (String term : terms) {
+                String[] words = term.split(" ");
+                int offset = 0;
+                for (String word : words) {
+                    starts.add(term.substring(offset));
+                    offset += word.length() + 1;
+                }
+            }
+            for (String start : starts) {
+                next.insert(start, city);
+            }
+        }
+        next.rank(Constants.AUTOCOMPLETE_MAX_LIMIT);
+        root = next;
+    }
+
+    /**
+     * Nœud de l'arbre : enfants par caractère et meilleures villes du préfixe
+     */
+    private static final class Node {
+        final Map<Character, Node> children = new HashMap<>();
+        Set<City> matches = new HashSet<>();
+        City[] top = new City[0];
+
+        void insert(String term, City city) {
+            Node node = this;
+            for (int i = 0; i < term.length(); i++) {
+                node = node.children.computeIfAbsent(term.charAt(i), c -> new Node());
+                node.matches.add(city);
+            }
+        }
+
+        void rank(int keep) {
+            List<City> ranked = new ArrayList<>(matches);
+            ranked.sort(Comparator.comparingInt((City c) -> c.flights + c.hotels).reversed()
+                .thenComparing(c -> c.name));
+            top = ranked.subList(0, Math.min(keep, ranked.size())).toArray(new City[0]);
+            matches = null;
+            for (Node child : children.values()) {
+                child.rank(keep);
+            }
+        }
+
+        int size() {
+            int size = 1;
+            for (Node child : children.values()) {
+                size += child.size();
+            }
+            return size;
+        }
+    }
+
+    private static final class City {
+        final String key;
+        final String name;
+        int flights;
+        int hotels;
+
+        City(String key, String name) {
+            this.key = key;
+            this.name = name;
+        }
+    }
+}
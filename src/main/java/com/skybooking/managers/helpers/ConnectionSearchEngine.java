@@ -0,0 +1,523 @@
+// src/main/java/com/skybooking/managers/helpers/ConnectionSearchEngine.java
+
+package com.skybooking.managers.helpers;
+
+import FlightReservation.Flight;
+import FlightReservation.Itinerary;
+import com.skybooking.database.repositories.FlightRepository;
+import com.skybooking.utils.CityKeys;
+import com.skybooking.utils.Constants;
+import org.bson.Document;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🧭 Recherche d'itinéraires avec correspondances (Alger → Tokyo via Istanbul)
+ *
+ * Graphe horaire résident en mémoire :
+ * - départs regroupés par (ville, jour), triés par heure : la correspondance
+ *   suivante est trouvée par recherche dichotomique après le temps minimum
+ * - graphe des routes (ville → ville) tenu à jour avec les vols, parcouru à
+ *   l'envers depuis la destination pour écarter les escales sans issue
+ * - parcours en profondeur borné (nombre de segments, durée d'escale,
+ *   nombre d'expansions) avec élagage par le K-ième meilleur résultat
+ *
+ * Tenu à jour par les notifications de {@link FlightRepository} : création,
+ * annulation ou suppression d'un vol (admin), variation des places ou des prix
+ * (une notification plus ancienne que le segment indexé est ignorée).
+ */
+public class ConnectionSearchEngine implements FlightRepository.ChangeListener {
+
+    private static final Itinerary[] NO_ITINERARIES = new Itinerary[0];
+    private static final Leg[] NO_LEGS = new Leg[0];
+
+    private static final int MINUTES_PER_DAY = 1440;
+    private static final int CITY_BITS = 21;
+
+    private final FlightRepository flightRepository;
+
+    private final ConcurrentHashMap<String, Integer> cityIds = new ConcurrentHashMap<>();
+
+    // (ville, jour) → départs triés ; flightId → segment indexé
+    private volatile ConcurrentHashMap<Long, Leg[]> departures = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, Leg> legsById = new ConcurrentHashMap<>();
+    private volatile FlightVersions versions = new FlightVersions();
+
+    // Graphe des routes inversé : arrivée → (départ → nombre de vols)
+    private volatile ConcurrentHashMap<Integer, ConcurrentHashMap<Integer, Integer>> inboundRoutes =
+        new ConcurrentHashMap<>();
+
+    private final AtomicLong searches = new AtomicLong();
+    private final AtomicLong truncated = new AtomicLong();
+
+    public ConnectionSearchEngine(FlightRepository flightRepository) {
+        this.flightRepository = flightRepository;
+    }
+
+    // ==================== RECHERCHE ====================
+
+    /**
+     * Meilleurs itinéraires partant à la date donnée
+     *
+     * @param maxLegs nombre maximum de vols (1 = directs uniquement)
+     * @param minConnectionMinutes temps minimum entre l'arrivée et le vol suivant
+     * @param sortBy "duration" pour la durée totale, sinon le prix total
+     */
+    public Itinerary[] search(String departureCity, String arrivalCity, String date, String seatClass,
+                              int maxLegs, int minConnectionMinutes, String sortBy, int limit) {
+        searches.incrementAndGet();
+
+        long day;
+        try {
+            day = LocalDate.parse(date.trim()).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return NO_ITINERARIES;
+        }
+        if (day < LocalDate.now().toEpochDay()) {
+            return NO_ITINERARIES;
+        }
+
+        Set<Integer> origins = cityIdsFor(departureCity);
+        Set<Integer> destinations = cityIdsFor(arrivalCity);
+        if (origins.isEmpty() || destinations.isEmpty()) {
+            return NO_ITINERARIES;
+        }
+
+        Query query = new Query(
+            destinations,
+            Math.max(1, Math.min(maxLegs, Constants.CONNECTION_MAX_LEGS)),
+            minConnectionMinutes > 0 ? minConnectionMinutes : Constants.CONNECTION_MIN_MINUTES,
+            FlightSearchIndex.seatColumn(seatClass),
+            "duration".equalsIgnoreCase(sortBy),
+            limit > 0 ? Math.min(limit, Constants.CONNECTION_MAX_LIMIT) : Constants.CONNECTION_DEFAULT_LIMIT
+        );
+        query.hopsToDestination = hopsToDestination(destinations, query.maxLegs);
+
+        for (int origin : origins) {
+            if (destinations.contains(origin) || !query.canReach(origin, query.maxLegs)) {
+                continue;
+            }
+            for (Leg leg : departures.getOrDefault(dayKey(origin, day), NO_LEGS)) {
+                if (query.accepts(leg, 1)) {
+                    query.path[0] = leg;
+                    extend(query, 1, leg.departure, leg.price(query.seatColumn));
+                }
+            }
+        }
+
+        if (query.expansions > Constants.CONNECTION_MAX_EXPANSIONS) {
+            truncated.incrementAndGet();
+        }
+        return query.results();
+    }
+
+    /**
+     * Statistiques (taille du graphe, recherches, recherches tronquées)
+     */
+    public String getStats() {
+        int routes = 0;
+        for (Map<Integer, Integer> inbound : inboundRoutes.values()) {
+            routes += inbound.size();
+        }
+        return String.format("Vols: %d | Routes: %d | Recherches: %d | Tronquées: %d",
+            legsById.size(), routes, searches.get(), truncated.get());
+    }
+
+    private void extend(Query query, int depth, long start, double price) {
+        Leg last = query.path[depth - 1];
+        if (++query.expansions > Constants.CONNECTION_MAX_EXPANSIONS) {
+            return;
+        }
+
+        if (query.destinations.contains(last.to)) {
+            query.offer(depth, price, last.arrival - start);
+            return;
+        }
+        if (depth == query.maxLegs) {
+            return;
+        }
+
+        long earliest = last.arrival + query.minConnection;
+        long latest = last.arrival + Constants.CONNECTION_MAX_LAYOVER_MINUTES;
+
+        for (long day = Math.floorDiv(earliest, MINUTES_PER_DAY);
+                day <= Math.floorDiv(latest, MINUTES_PER_DAY); day++) {
+            Leg[] next = departures.getOrDefault(dayKey(last.to, day), NO_LEGS);
+            for (int i = firstDepartureAtOrAfter(next, earliest); i < next.length; i++) {
+                Leg leg = next[i];
+                if (leg.departure > latest) {
+                    break;
+                }
+                if (!query.accepts(leg, depth + 1) || query.visits(leg.to, depth)) {
+                    continue;
+                }
+                double nextPrice = price + leg.price(query.seatColumn);
+                if (query.bounded(nextPrice, leg.arrival - start)) {
+                    continue;
+                }
+                query.path[depth] = leg;
+                extend(query, depth + 1, start, nextPrice);
+            }
+        }
+    }
+
+    /**
+     * Nombre minimal de vols vers la destination, par parcours inverse du graphe des routes
+     */
+    private Map<Integer, Integer> hopsToDestination(Set<Integer> destinations, int maxLegs) {
+        Map<Integer, Integer> hops = new HashMap<>();
+        Deque<Integer> frontier = new ArrayDeque<>();
+        for (int destination : destinations) {
+            hops.put(destination, 0);
+            frontier.add(destination);
+        }
+
+        while (!frontier.isEmpty()) {
+            int city = frontier.poll();
+            int distance = hops.get(city);
+            if (distance == maxLegs) {
+                continue;
+            }
+            Map<Integer, Integer> inbound = inboundRoutes.get(city);
+            if (inbound == null) {
+                continue;
+            }
+            for (int previous : inbound.keySet()) {
+                if (!hops.containsKey(previous)) {
+                    hops.put(previous, distance + 1);
+                    frontier.add(previous);
+                }
+            }
+        }
+        return hops;
+    }
+
+    private static int firstDepartureAtOrAfter(Leg[] legs, long minute) {
+        int low = 0;
+        int high = legs.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (legs[mid].departure < minute) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Set<Integer> cityIdsFor(String city) {
+        Set<Integer> ids = new HashSet<>();
+        for (String key : CityKeys.resolve(city)) {
+            Integer id = cityIds.get(key);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    // ==================== MISES À JOUR ====================
+
+    /**
+     * Reconstruire le graphe depuis MongoDB (vols non annulés à venir)
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        departures = new ConcurrentHashMap<>();
+        legsById = new ConcurrentHashMap<>();
+        inboundRoutes = new ConcurrentHashMap<>();
+        versions = new FlightVersions();
+
+        for (Document flight : flightRepository.findSearchableFlights(LocalDate.now().toString())) {
+            flightChanged(flight);
+        }
+
+        System.out.println("✅ Graphe des correspondances: " + getStats() +
+                         " (" + (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    @Override
+    public synchronized void flightChanged(Document flight) {
+        if (!versions.advance(flight)) {
+            return;
+        }
+        String flightId = flight.getString("flightId");
+        Leg leg = "CANCELLED".equals(flight.getString("status")) ? null : toLeg(flight);
+
+        Leg previous = leg == null ? legsById.remove(flightId) : legsById.put(flightId, leg);
+        if (previous != null) {
+            removeDeparture(previous);
+            removeRoute(previous.from, previous.to);
+        }
+        if (leg != null) {
+            addDeparture(leg);
+            inboundRoutes.computeIfAbsent(leg.to, k -> new ConcurrentHashMap<>())
+                         .merge(leg.from, 1, Integer::sum);
+        }
+    }
+
+    @Override
+    public synchronized void flightRemoved(String flightId) {
+        versions.removed(flightId);
+        Leg previous = legsById.remove(flightId);
+        if (previous != null) {
+            removeDeparture(previous);
+            removeRoute(previous.from, previous.to);
+        }
+    }
+
+    @Override
+    public void flightsReset() {
+        reload();
+    }
+
+    private void addDeparture(Leg leg) {
+        long key = dayKey(leg.from, Math.floorDiv(leg.departure, MINUTES_PER_DAY));
+        Leg[] current = departures.getOrDefault(key, NO_LEGS);
+        int position = firstDepartureAtOrAfter(current, leg.departure);
+
+        Leg[] next = new Leg[current.length + 1];
+        System.arraycopy(current, 0, next, 0, position);
+        next[position] = leg;
+        System.arraycopy(current, position, next, position + 1, current.length - position);
+        departures.put(key, next);
+    }
+
+    private void removeDeparture(Leg leg) {
+        long key = dayKey(leg.from, Math.floorDiv(leg.departure, MINUTES_PER_DAY));
+        Leg[] current = departures.get(key);
+        if (current == null) {
+            return;
+        }
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == leg) {
+                if (current.length == 1) {
+                    departures.remove(key);
+                    return;
+                }
+                Leg[] next = new Leg[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                departures.put(key, next);
+                return;
+            }
+        }
+    }
+
+    private void removeRoute(int from, int to) {
+        Map<Integer, Integer> inbound = inboundRoutes.get(to);
+        if (inbound != null) {
+            inbound.computeIfPresent(from, (k, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private Leg toLeg(Document flight) {
+        try {
+            long departureDay = LocalDate.parse(flight.getString("departureDate")).toEpochDay();
+            long departure = departureDay * MINUTES_PER_DAY + minutesOfDay(flight.getString("departureTime"));
+            long arrival = departure + travelMinutes(flight, departure);
+
+            String departureKey = flight.getString("depKey");
+            String arrivalKey = flight.getString("arrKey");
+            return new Leg(
+                ManagerHelper.documentToFlight(flight),
+                cityId(departureKey != null ? departureKey : CityKeys.toKey(flight.getString("departureCity"))),
+                cityId(arrivalKey != null ? arrivalKey : CityKeys.toKey(flight.getString("arrivalCity"))),
+                departure, arrival,
+                new int[] {
+                    flight.getInteger("availableSeats", 0),
+                    flight.getInteger("availableEconomy", 0),
+                    flight.getInteger("availableBusiness", 0),
+                    flight.getInteger("availableFirst", 0)
+                }
+            );
+        } catch (RuntimeException e) {
+            // Date/heure mal formée ou champ manquant : vol ignoré par le graphe
+            return null;
+        }
+    }
+
+    /**
+     * Durée du vol : champ "duration" (ex: "2h 30m"), sinon écart avec l'arrivée
+     * (arrivée avant le départ = lendemain)
+     */
+    private static long travelMinutes(Document flight, long departure) {
+        String duration = flight.getString("duration");
+        if (duration != null) {
+            String[] parts = duration.replaceAll("[^0-9]+", " ").trim().split(" ");
+            if (parts.length == 2 && !parts[0].isEmpty()) {
+                return Integer.parseInt(parts[0]) * 60L + Integer.parseInt(parts[1]);
+            }
+        }
+
+        String arrivalDate = flight.getString("arrivalDate");
+        long arrival = LocalDate.parse(arrivalDate != null ? arrivalDate : flight.getString("departureDate"))
+            .toEpochDay() * MINUTES_PER_DAY + minutesOfDay(flight.getString("arrivalTime"));
+        return arrival > departure ? arrival - departure : arrival + MINUTES_PER_DAY - departure;
+    }
+
+    private static int minutesOfDay(String time) {
+        String[] parts = time.trim().split(":");
+        return Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
+    }
+
+    // Appelé sous le verrou des mises à jour : identifiants attribués séquentiellement
+    private int cityId(String cityKey) {
+        Integer id = cityIds.get(cityKey);
+        if (id == null) {
+            id = cityIds.size() + 1;
+            cityIds.put(cityKey, id);
+        }
+        return id;
+    }
+
+    private static long dayKey(int cityId, long epochDay) {
+        return ((long) cityId << CITY_BITS) | epochDay;
+    }
+
+    /**
+     * Segment du graphe horaire (minutes depuis l'epoch, heure locale des vols)
+     */
+    private static final class Leg {
+        final Flight flight;
+        final int from;
+        final int to;
+        final long departure;
+        final long arrival;
+        final int[] seats;
+
+        Leg(Flight flight, int from, int to, long departure, long arrival, int[] seats) {
+            this.flight = flight;
+            this.from = from;
+            this.to = to;
+            this.departure = departure;
+            this.arrival = arrival;
+            this.seats = seats;
+        }
+
+        /** Prix de la classe (colonne de places de FlightSearchIndex, économique par défaut) */
+        double price(int seatColumn) {
+            if (seatColumn == 2) return flight.businessPrice;
+            if (seatColumn == 3) return flight.firstClassPrice;
+            return flight.economyPrice;
+        }
+
+        Flight copy() {
+            return new Flight(flight.flightId, flight.flightNumber, flight.airline,
+                flight.departureCity, flight.arrivalCity, flight.departureDate,
+                flight.departureTime, flight.arrivalDate, flight.arrivalTime,
+                flight.duration, flight.economyPrice, flight.businessPrice,
+                flight.firstClassPrice, flight.availableSeats, flight.aircraftType);
+        }
+    }
+
+    /**
+     * État d'une recherche : chemin courant et K meilleurs itinéraires
+     * (le moins bon en tête de file pour l'élagage)
+     */
+    private static final class Query {
+        final Set<Integer> destinations;
+        final int maxLegs;
+        final int minConnection;
+        final int seatColumn;
+        final boolean byDuration;
+        final int limit;
+        final Leg[] path;
+        final PriorityQueue<Candidate> best;
+        Map<Integer, Integer> hopsToDestination;
+        int expansions;
+
+        Query(Set<Integer> destinations, int maxLegs, int minConnection, int seatColumn,
+              boolean byDuration, int limit) {
+            this.destinations = destinations;
+            this.maxLegs = maxLegs;
+            this.minConnection = minConnection;
+            this.seatColumn = seatColumn;
+            this.byDuration = byDuration;
+            this.limit = limit;
+            this.path = new Leg[maxLegs];
+            this.best = new PriorityQueue<>(limit + 1, Collections.reverseOrder(this::compare));
+        }
+
+        boolean canReach(int city, int legsLeft) {
+            Integer hops = hopsToDestination.get(city);
+            return hops != null && hops <= legsLeft;
+        }
+
+        /** Places disponibles et destination encore atteignable avec les vols restants */
+        boolean accepts(Leg leg, int depth) {
+            return leg.seats[seatColumn] > 0 && canReach(leg.to, maxLegs - depth);
+        }
+
+        /** Ville déjà traversée par le chemin courant (pas de boucle) */
+        boolean visits(int city, int depth) {
+            for (int i = 0; i < depth; i++) {
+                if (path[i].from == city) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /** Le chemin partiel ne peut plus entrer dans les K meilleurs */
+        boolean bounded(double price, long minutes) {
+            if (best.size() < limit) {
+                return false;
+            }
+            Candidate worst = best.peek();
+            return byDuration ? minutes >= worst.minutes : price >= worst.price;
+        }
+
+        void offer(int depth, double price, long minutes) {
+            Candidate candidate = new Candidate(Arrays.copyOf(path, depth), price, minutes);
+            if (best.size() < limit) {
+                best.add(candidate);
+            } else if (compare(candidate, best.peek()) < 0) {
+                best.poll();
+                best.add(candidate);
+            }
+        }
+
+        Itinerary[] results() {
+            List<Candidate> sorted = new ArrayList<>(best);
+            sorted.sort(this::compare);
+
+            Itinerary[] itineraries = new Itinerary[sorted.size()];
+            for (int i = 0; i < itineraries.length; i++) {
+                Candidate candidate = sorted.get(i);
+                Flight[] flights = new Flight[candidate.legs.length];
+                for (int j = 0; j < flights.length; j++) {
+                    flights[j] = candidate.legs[j].copy();
+                }
+                itineraries[i] = new Itinerary(flights, candidate.price,
+                    (int) candidate.minutes, flights.length - 1);
+            }
+            return itineraries;
+        }
+
+        int compare(Candidate a, Candidate b) {
+            int primary = byDuration ? Long.compare(a.minutes, b.minutes) : Double.compare(a.price, b.price);
+            if (primary != 0) return primary;
+            int secondary = byDuration ? Double.compare(a.price, b.price) : Long.compare(a.minutes, b.minutes);
+            if (secondary != 0) return secondary;
+            return Integer.compare(a.legs.length, b.legs.length);
+        }
+    }
+
+    private static final class Candidate {
+        final Leg[] legs;
+        final double price;
+        final long minutes;
+
+        Candidate(Leg[] legs, double price, long minutes) {
+            this.legs = legs;
+            this.price = price;
+            this.minutes = minutes;
+        }
+    }
+}
@@ -0,0 +1,366 @@
+// src/main/java/com/skybooking/managers/helpers/DestinationFareTable.java
+
+package com.skybooking.managers.helpers;
+
+import FlightReservation.DestinationFare;
+import com.skybooking.database.repositories.FlightRepository;
+import com.skybooking.utils.CityKeys;
+import org.bson.Document;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🗺️ Table des tarifs minimum par destination ("où partir depuis Oran en mars ?")
+ *
+ * Une table par (ville de départ, mois, classe) : pour chaque destination, le
+ * vol disponible le moins cher et le nombre de vols disponibles. Les
+ * destinations sont gardées classées par tarif, si bien qu'une recherche se
+ * limite à la lecture du début d'un tableau.
+ *
+ * Tenue à jour par les notifications de {@link FlightRepository} : seule la
+ * destination du vol modifié est recalculée, et le classement n'est refait
+ * que si son tarif minimum ou son nombre de vols change. Une notification
+ * plus ancienne que le vol déjà placé est ignorée.
+ */
+public class DestinationFareTable implements FlightRepository.ChangeListener {
+
+    private static final DestinationFare[] NO_FARES = new DestinationFare[0];
+    private static final Summary[] NO_SUMMARIES = new Summary[0];
+
+    private static final String[] PRICE_FIELDS = {"economyPrice", "businessPrice", "firstClassPrice"};
+
+    // Mêmes colonnes que FlightSearchIndex (0 : total, tarif économique)
+    private static final String[] SEAT_FIELDS = {
+        "availableSeats", "availableEconomy", "availableBusiness", "availableFirst"
+    };
+
+    private final FlightRepository flightRepository;
+
+    // (départ, mois, colonne de places) → table des destinations
+    private volatile ConcurrentHashMap<String, Table> tables = new ConcurrentHashMap<>();
+
+    // flightId → (départ, destination, mois) du vol indexé
+    private volatile ConcurrentHashMap<String, Placement> placements = new ConcurrentHashMap<>();
+    private volatile FlightVersions versions = new FlightVersions();
+
+    private final AtomicLong queries = new AtomicLong();
+
+    public DestinationFareTable(FlightRepository flightRepository) {
+        this.flightRepository = flightRepository;
+    }
+
+    // ==================== RECHERCHE ====================
+
+    /**
+     * Destinations les moins chères depuis une ville sur un mois
+     *
+     * @param maxBudget tarif maximum (0 = sans limite)
+     */
+    public DestinationFare[] cheapest(String departureCity, YearMonth month, String seatClass,
+                                      double maxBudget, int limit) {
+        queries.incrementAndGet();
+
+        int seatColumn = FlightSearchIndex.seatColumn(seatClass);
+        long today = LocalDate.now().toEpochDay();
+        boolean current = !month.isAfter(YearMonth.now());
+
+        List<Summary> candidates = new ArrayList<>();
+        Set<String> origins = CityKeys.resolve(departureCity);
+        for (String origin : origins) {
+            Table table = tables.get(tableKey(origin, month.toString(), seatColumn));
+            if (table == null) {
+                continue;
+            }
+            if (current && table.prunedDay < today) {
+                prune(table, today);
+            }
+
+            int taken = 0;
+            for (Summary summary : table.ranking) {
+                if (taken >= limit || (maxBudget > 0 && summary.best.price > maxBudget)) {
+                    break;
+                }
+                if (!origins.contains(summary.destination)) {
+                    candidates.add(summary);
+                    taken++;
+                }
+            }
+        }
+
+        // Plusieurs villes de départ (préfixe) : fusion par destination
+        if (origins.size() > 1) {
+            candidates.sort(Comparator.comparingDouble(s -> s.best.price));
+        }
+
+        Set<String> seen = new HashSet<>();
+        List<DestinationFare> fares = new ArrayList<>();
+        for (Summary summary : candidates) {
+            if (fares.size() >= limit) {
+                break;
+            }
+            if (seen.add(summary.destination)) {
+                Fare best = summary.best;
+                fares.add(new DestinationFare(
+                    best.arrivalCity, best.date, best.flightId, best.price, summary.flightCount
+                ));
+            }
+        }
+        return fares.isEmpty() ? NO_FARES : fares.toArray(NO_FARES);
+    }
+
+    /**
+     * Statistiques (tables, vols indexés, recherches)
+     */
+    public String getStats() {
+        return String.format("Tables: %d | Vols: %d | Recherches: %d",
+            tables.size(), placements.size(), queries.get());
+    }
+
+    // ==================== MISES À JOUR ====================
+
+    /**
+     * Reconstruire les tables depuis MongoDB (vols non annulés à venir)
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        tables = new ConcurrentHashMap<>();
+        placements = new ConcurrentHashMap<>();
+        versions = new FlightVersions();
+
+        Set<Table> touched = new HashSet<>();
+        for (Document flight : flightRepository.findSearchableFlights(LocalDate.now().toString())) {
+            versions.advance(flight);
+            place(flight, touched);
+        }
+        for (Table table : touched) {
+            table.rank();
+        }
+
+        System.out.println("✅ Tarifs par destination: " + getStats() +
+                         " (" + (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    @Override
+    public synchronized void flightChanged(Document flight) {
+        if (!versions.advance(flight)) {
+            return;
+        }
+        Set<Table> touched = new HashSet<>();
+        unplace(flight.getString("flightId"), touched);
+        place(flight, touched);
+        for (Table table : touched) {
+            table.rank();
+        }
+    }
+
+    @Override
+    public synchronized void flightRemoved(String flightId) {
+        versions.removed(flightId);
+        Set<Table> touched = new HashSet<>();
+        unplace(flightId, touched);
+        for (Table table : touched) {
+            table.rank();
+        }
+    }
+
+    @Override
+    public void flightsReset() {
+        reload();
+    }
+
+    private void place(Document flight, Set<Table> touched) {
+        if ("CANCELLED".equals(flight.getString("status"))) {
+            return;
+        }
+
+        LocalDate date;
+        try {
+            date = LocalDate.parse(flight.getString("departureDate"));
+        } catch (RuntimeException e) {
+            return;
+        }
+        if (date.toEpochDay() < LocalDate.now().toEpochDay()) {
+            return;
+        }
+
+        String flightId = flight.getString("flightId");
+        String origin = flight.getString("depKey");
+        String destination = flight.getString("arrKey");
+        Placement placement = new Placement(
+            origin != null ? origin : CityKeys.toKey(flight.getString("departureCity")),
+            destination != null ? destination : CityKeys.toKey(flight.getString("arrivalCity")),
+            YearMonth.from(date).toString()
+        );
+        placements.put(flightId, placement);
+
+        for (int column = 0; column < SEAT_FIELDS.length; column++) {
+            if (number(flight, SEAT_FIELDS[column]) <= 0) {
+                continue;
+            }
+            Fare fare = new Fare(
+                flightId,
+                flight.getString("arrivalCity"),
+                date.toString(),
+                number(flight, PRICE_FIELDS[Math.max(0, column - 1)])
+            );
+            Table table = tables.computeIfAbsent(
+                tableKey(placement.origin, placement.month, column), k -> new Table()
+            );
+            Cell cell = table.cells.computeIfAbsent(placement.destination, k -> new Cell());
+            cell.flights.put(flightId, fare);
+            if (cell.refresh()) {
+                touched.add(table);
+            }
+        }
+    }
+
+    private void unplace(String flightId, Set<Table> touched) {
+        Placement previous = placements.remove(flightId);
+        if (previous == null) {
+            return;
+        }
+        for (int column = 0; column < SEAT_FIELDS.length; column++) {
+            Table table = tables.get(tableKey(previous.origin, previous.month, column));
+            Cell cell = table == null ? null : table.cells.get(previous.destination);
+            if (cell == null || cell.flights.remove(flightId) == null) {
+                continue;
+            }
+            if (cell.flights.isEmpty()) {
+                table.cells.remove(previous.destination);
+            }
+            if (cell.refresh()) {
+                touched.add(table);
+            }
+        }
+    }
+
+    /**
+     * Retirer les vols déjà partis du mois en cours (une fois par jour et par table)
+     */
+    private synchronized void prune(Table table, long today) {
+        if (table.prunedDay >= today) {
+            return;
+        }
+        String cutoff = LocalDate.ofEpochDay(today).toString();
+        boolean changed = false;
+
+        Iterator<Cell> cells = table.cells.values().iterator();
+        while (cells.hasNext()) {
+            Cell cell = cells.next();
+            if (cell.flights.values().removeIf(fare -> fare.date.compareTo(cutoff) < 0)) {
+                changed |= cell.refresh();
+                if (cell.flights.isEmpty()) {
+                    cells.remove();
+                }
+            }
+        }
+        if (changed) {
+            table.rank();
+        }
+        table.prunedDay = today;
+    }
+
+    private static String tableKey(String origin, String month, int seatColumn) {
+        return origin + '|' + month + '|' + seatColumn;
+    }
+
+    private static double number(Document doc, String field) {
+        Object value = doc.get(field);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    /**
+     * Destinations d'un départ pour un mois et une classe
+     */
+    private static final class Table {
+        // Modifiées sous le verrou de la table des tarifs
+        final Map<String, Cell> cells = new HashMap<>();
+        long prunedDay;
+
+        // Classement publié, lu sans verrou
+        volatile Summary[] ranking = NO_SUMMARIES;
+
+        void rank() {
+            List<Summary> summaries = new ArrayList<>(cells.size());
+            for (Map.Entry<String, Cell> entry : cells.entrySet()) {
+                Cell cell = entry.getValue();
+                if (cell.best != null) {
+                    summaries.add(new Summary(entry.getKey(), cell.best, cell.flights.size()));
+                }
+            }
+            summaries.sort(Comparator.comparingDouble(s -> s.best.price));
+            ranking = summaries.toArray(NO_SUMMARIES);
+        }
+    }
+
+    /**
+     * Vols disponibles vers une destination
+     */
+    private static final class Cell {
+        final Map<String, Fare> flights = new HashMap<>();
+        Fare best;
+        int count;
+
+        /**
+         * Recalculer le tarif minimum ; vrai si le classement doit être refait
+         */
+        boolean refresh() {
+            Fare cheapest = null;
+            for (Fare fare : flights.values()) {
+                if (cheapest == null || fare.price < cheapest.price
+                        || (fare.price == cheapest.price && fare.date.compareTo(cheapest.date) < 0)) {
+                    cheapest = fare;
+                }
+            }
+            // Variation de places sans effet sur le tarif : classement inchangé
+            boolean changed = flights.size() != count || (cheapest == null
+                ? best != null
+                : best == null || !cheapest.flightId.equals(best.flightId) || cheapest.price != best.price);
+            best = cheapest;
+            count = flights.size();
+            return changed;
+        }
+    }
+
+    private static final class Summary {
+        final String destination;
+        final Fare best;
+        final int flightCount;
+
+        Summary(String destination, Fare best, int flightCount) {
+            this.destination = destination;
+            this.best = best;
+            this.flightCount = flightCount;
+        }
+    }
+
+    private static final class Fare {
+        final String flightId;
+        final String arrivalCity;
+        final String date;
+        final double price;
+
+        Fare(String flightId, String arrivalCity, String date, double price) {
+            this.flightId = flightId;
+            this.arrivalCity = arrivalCity;
+            this.date = date;
+            this.price = price;
+        }
+    }
+
+    private static final class Placement {
+        final String origin;
+        final String destination;
+        final String month;
+
+        Placement(String origin, String destination, String month) {
+            this.origin = origin;
+            this.destination = destination;
+            this.month = month;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+// src/main/java/com/skybooking/managers/helpers/DocumentRenderTrigger.java
+
+package com.skybooking.managers.helpers;
+
+import FlightReservation.*;
+import com.skybooking.managers.impl.CustomerManagerImpl;
+import com.skybooking.managers.impl.FlightManagerImpl;
+import com.skybooking.managers.impl.PaymentManagerImpl;
+import com.skybooking.managers.impl.ReservationManagerImpl;
+import com.skybooking.pdf.DocumentArtifactStore;
+import com.skybooking.pdf.DocumentRenderQueue;
+import com.skybooking.pdf.InvoicePDFGenerator;
+import com.skybooking.pdf.TicketPDFGenerator;
+import java.nio.file.Path;
+
+/**
+ * 🖨️ Pré-génération des PDF côté serveur CORBA
+ *
+ * Déclenchée après un paiement confirmé ou une modification de réservation :
+ * les données sont chargées via les mêmes servants que ceux appelés par le
+ * pont REST, ce qui garantit la même empreinte de fichier des deux côtés.
+ * Tout se déroule dans la file de rendu (jamais dans l'appel CORBA).
+ */
+public class DocumentRenderTrigger {
+
+    private final ReservationManagerImpl reservationManager;
+    private final FlightManagerImpl flightManager;
+    private final CustomerManagerImpl customerManager;
+    private final PaymentManagerImpl paymentManager;
+
+    public DocumentRenderTrigger(ReservationManagerImpl reservationManager,
+                                 FlightManagerImpl flightManager,
+                                 CustomerManagerImpl customerManager,
+                                 PaymentManagerImpl paymentManager) {
+        this.reservationManager = reservationManager;
+        this.flightManager = flightManager;
+        this.customerManager = customerManager;
+        this.paymentManager = paymentManager;
+    }
+
+    /**
+     * Planifier le rendu du PDF complet d'une réservation de vol
+     */
+    public void scheduleReservationTickets(String reservationId) {
+        DocumentRenderQueue queue = DocumentRenderQueue.getInstance();
+
+        queue.runInBackground(() -> {
+            Reservation reservation = reservationManager.getReservation(reservationId);
+            if (reservation == null) return;
+
+            Ticket[] tickets = reservationManager.getTickets(reservationId);
+            if (tickets.length == 0) return;
+
+            Flight flight = loadFlight(reservation.flightId);
+            Customer customer = customerManager.getCustomerById(reservation.customerId);
+            if (flight == null || customer == null) return;
+
+            Path target = DocumentArtifactStore.reservationTicketsPath(
+                reservation, tickets, flight, customer
+            );
+            queue.submit(target, () -> TicketPDFGenerator.generateReservationTickets(
+                reservation, tickets, flight, customer
+            ));
+            System.out.println("🖨️ Rendu tickets planifié: " + reservationId);
+        });
+    }
+
+    /**
+     * Planifier le rendu du PDF d'une facture
+     */
+    public void scheduleInvoice(String invoiceId) {
+        DocumentRenderQueue queue = DocumentRenderQueue.getInstance();
+
+        queue.runInBackground(() -> {
+            Invoice invoice = paymentManager.getInvoice(invoiceId);
+            if (invoice == null) return;
+
+            Payment payment = paymentManager.getPayment(invoice.paymentId);
+            Reservation reservation = reservationManager.getReservation(invoice.reservationId);
+            if (payment == null || reservation == null) return;
+
+            Flight flight = loadFlight(reservation.flightId);
+            Customer customer = customerManager.getCustomerById(reservation.customerId);
+            if (flight == null || customer == null) return;
+
+            Path target = DocumentArtifactStore.invoicePath(
+                invoice, payment, reservation, customer, flight
+            );
+            queue.submit(target, () -> InvoicePDFGenerator.generateInvoicePDF(
+                invoice, payment, reservation, customer, flight
+            ));
+            System.out.println("🖨️ Rendu facture planifié: " + invoiceId);
+        });
+    }
+
+    private Flight loadFlight(String flightId) {
+        try {
+            return flightManager.getFlightById(flightId);
+        } catch (FlightNotFoundException e) {
+            System.err.println("⚠️ Rendu PDF ignoré, vol introuvable: " + flightId);
+            return null;
+        }
+    }
+}
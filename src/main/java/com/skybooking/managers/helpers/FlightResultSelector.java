@@ -0,0 +1,223 @@
+// src/main/java/com/skybooking/managers/helpers/FlightResultSelector.java
+
+package com.skybooking.managers.helpers;
+
+import FlightReservation.Flight;
+import FlightReservation.FlightPage;
+import FlightReservation.SearchOptions;
+import com.skybooking.utils.Constants;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * 📑 Tri, filtres et pagination des résultats de recherche côté serveur
+ *
+ * Les vols filtrés sont classés par (clé de tri, flightId) ; seuls les
+ * K premiers après le curseur sont retenus, par un tas borné à K éléments
+ * (O(n log K) au lieu d'un tri complet). Le jeton de continuation porte la
+ * clé et le flightId du dernier vol renvoyé : la page suivante reprend juste
+ * après, même si des vols ont été ajoutés ou retirés entre-temps.
+ */
+public class FlightResultSelector {
+
+    private static final Flight[] NO_FLIGHTS = new Flight[0];
+    private static final int MINUTES_PER_DAY = 1440;
+
+    /**
+     * Page de résultats selon les options (valeurs vides ou 0 = sans effet)
+     */
+    public static FlightPage select(Flight[] flights, String seatClass, SearchOptions options) {
+        Criteria criteria = new Criteria(seatClass, options);
+
+        List<Entry> matches = new ArrayList<>();
+        for (Flight flight : flights) {
+            if (criteria.accepts(flight)) {
+                matches.add(new Entry(flight, criteria.sortValue(flight)));
+            }
+        }
+
+        Comparator<Entry> order = Comparator.<Entry>comparingDouble(e -> e.value)
+            .thenComparing(e -> e.flight.flightId);
+        if (criteria.descending) {
+            order = order.reversed();
+        }
+
+        Entry cursor = decodeToken(options.pageToken, criteria);
+        int limit = criteria.limit > 0 ? criteria.limit : Integer.MAX_VALUE;
+
+        // Tas borné : le pire des K retenus en tête, remplacé par tout vol meilleur
+        PriorityQueue<Entry> top = new PriorityQueue<>(
+            Math.min(limit, Math.max(1, matches.size())), order.reversed());
+        int remaining = 0;
+        for (Entry entry : matches) {
+            if (cursor != null && order.compare(entry, cursor) <= 0) {
+                continue;
+            }
+            remaining++;
+            if (top.size() < limit) {
+                top.add(entry);
+            } else if (order.compare(entry, top.peek()) < 0) {
+                top.poll();
+                top.add(entry);
+            }
+        }
+
+        Entry[] page = top.toArray(new Entry[0]);
+        Arrays.sort(page, order);
+
+        Flight[] result = page.length == 0 ? NO_FLIGHTS : new Flight[page.length];
+        for (int i = 0; i < page.length; i++) {
+            result[i] = page[i].flight;
+        }
+
+        String nextToken = remaining > page.length && page.length > 0
+            ? encodeToken(criteria, page[page.length - 1])
+            : "";
+        return new FlightPage(result, matches.size(), nextToken);
+    }
+
+    // ==================== JETON DE CONTINUATION ====================
+
+    private static String encodeToken(Criteria criteria, Entry last) {
+        String raw = criteria.sortBy + "|" + criteria.descending + "|" + last.value + "|" + last.flight.flightId;
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Curseur du jeton, ou null (première page) si absent, illisible ou
+     * émis pour un autre tri
+     */
+    private static Entry decodeToken(String token, Criteria criteria) {
+        if (token == null || token.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !parts[0].equals(criteria.sortBy)
+                    || Boolean.parseBoolean(parts[1]) != criteria.descending) {
+                System.err.println("⚠️ Jeton de pagination ignoré (tri différent)");
+                return null;
+            }
+            Flight marker = new Flight();
+            marker.flightId = parts[3];
+            return new Entry(marker, Double.parseDouble(parts[2]));
+        } catch (IllegalArgumentException e) {
+            System.err.println("⚠️ Jeton de pagination invalide: " + e.getMessage());
+            return null;
+        }
+    }
+
+    // ==================== CRITÈRES ====================
+
+    private static final class Criteria {
+        final String sortBy;
+        final boolean descending;
+        final int seatColumn;
+        final Set<String> airlines = new HashSet<>();
+        final int departureFrom;
+        final int departureTo;
+        final int maxDuration;
+        final String aircraftType;
+        final int limit;
+
+        Criteria(String seatClass, SearchOptions options) {
+            String sort = options.sortBy == null ? "" : options.sortBy.trim().toLowerCase(Locale.ROOT);
+            this.sortBy = sort.equals("price") || sort.equals("duration") ? sort : "departure";
+            this.descending = options.descending;
+            this.seatColumn = FlightSearchIndex.seatColumn(seatClass);
+
+            if (options.airlines != null) {
+                for (String airline : options.airlines.split(",")) {
+                    if (!airline.trim().isEmpty()) {
+                        airlines.add(airline.trim().toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            this.departureFrom = minutesOfDay(options.departureFrom, 0);
+            this.departureTo = minutesOfDay(options.departureTo, MINUTES_PER_DAY - 1);
+            this.maxDuration = Math.max(0, options.maxDurationMinutes);
+            this.aircraftType = options.aircraftType == null ? "" : options.aircraftType.trim();
+            this.limit = options.limit > 0
+                ? Math.min(options.limit, Constants.SEARCH_PAGE_MAX_LIMIT)
+                : Constants.SEARCH_PAGE_DEFAULT_LIMIT;
+        }
+
+        boolean accepts(Flight flight) {
+            if (!airlines.isEmpty()
+                    && (flight.airline == null || !airlines.contains(flight.airline.toLowerCase(Locale.ROOT)))) {
+                return false;
+            }
+            if (!aircraftType.isEmpty() && !aircraftType.equalsIgnoreCase(flight.aircraftType)) {
+                return false;
+            }
+            int departure = minutesOfDay(flight.departureTime, departureFrom);
+            if (departure < departureFrom || departure > departureTo) {
+                return false;
+            }
+            return maxDuration == 0 || durationMinutes(flight) <= maxDuration;
+        }
+
+        double sortValue(Flight flight) {
+            switch (sortBy) {
+                case "price":
+                    return seatColumn == 2 ? flight.businessPrice
+                         : seatColumn == 3 ? flight.firstClassPrice
+                         : flight.economyPrice;
+                case "duration":
+                    return durationMinutes(flight);
+                default:
+                    return departureDay(flight) * MINUTES_PER_DAY + minutesOfDay(flight.departureTime, 0);
+            }
+        }
+    }
+
+    /**
+     * Durée en minutes : champ "duration" (ex: "2h 30m"), sinon écart avec
+     * l'arrivée (arrivée avant le départ = lendemain)
+     */
+    private static int durationMinutes(Flight flight) {
+        String[] parts = flight.duration == null ? new String[0]
+            : flight.duration.replaceAll("[^0-9]+", " ").trim().split(" ");
+        if (parts.length == 2 && !parts[0].isEmpty()) {
+            return Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
+        }
+
+        int departure = minutesOfDay(flight.departureTime, 0);
+        int arrival = minutesOfDay(flight.arrivalTime, departure);
+        return arrival >= departure ? arrival - departure : arrival + MINUTES_PER_DAY - departure;
+    }
+
+    private static long departureDay(Flight flight) {
+        try {
+            return LocalDate.parse(flight.departureDate).toEpochDay();
+        } catch (RuntimeException e) {
+            return 0;
+        }
+    }
+
+    private static int minutesOfDay(String time, int fallback) {
+        if (time == null || time.trim().isEmpty()) {
+            return fallback;
+        }
+        try {
+            String[] parts = time.trim().split(":");
+            return Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
+        } catch (RuntimeException e) {
+            return fallback;
+        }
+    }
+
+    private static final class Entry {
+        final Flight flight;
+        final double value;
+
+        Entry(Flight flight, double value) {
+            this.flight = flight;
+            this.value = value;
+        }
+    }
+}
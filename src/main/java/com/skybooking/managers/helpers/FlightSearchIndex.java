@@ -0,0 +1,478 @@
+// src/main/java/com/skybooking/managers/helpers/FlightSearchIndex.java
+
+package com.skybooking.managers.helpers;
+
+import FlightReservation.FareDay;
+import FlightReservation.Flight;
+import com.skybooking.database.repositories.FlightRepository;
+import com.skybooking.utils.CityKeys;
+import org.bson.Document;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🗂️ Index de recherche de vols résident en mémoire
+ *
+ * Vols regroupés par (ville de départ, ville d'arrivée, jour) : une recherche
+ * complète (départ + arrivée + date) est servie sans requête MongoDB.
+ *
+ * - Un groupe par route/jour, clé long (identifiants de ville + jour epoch)
+ * - Colonnes compactes : prix en double[], places en int[], textes internés
+ * - Groupes immuables remplacés en copie : lectures sans verrou
+ * - Tenu à jour par les notifications de {@link FlightRepository} (document
+ *   après écriture), rechargé entièrement après une écriture en masse ;
+ *   un document plus ancien que la ligne qu'il remplacerait est ignoré
+ *
+ * Les recherches partielles (ville ou date absente) restent servies par MongoDB.
+ *
+ * 🆕 Calendrier des prix : tarif minimum par jour calculé depuis les groupes,
+ * mémorisé par route et effacé dès qu'un vol de la route change.
+ */
+public class FlightSearchIndex implements FlightRepository.ChangeListener {
+
+    private static final Flight[] NO_FLIGHTS = new Flight[0];
+
+    // Colonnes texte, dans l'ordre du constructeur Flight
+    private static final String[] TEXT_FIELDS = {
+        "flightId", "flightNumber", "airline", "departureCity", "arrivalCity",
+        "departureDate", "departureTime", "arrivalDate", "arrivalTime", "duration",
+        "aircraftType"
+    };
+    private static final int FLIGHT_ID = 0;
+    private static final int DEPARTURE_TIME = 6;
+
+    private static final String[] PRICE_FIELDS = {"economyPrice", "businessPrice", "firstClassPrice"};
+
+    // Colonne 0 : total ; colonnes suivantes : compteurs par classe
+    private static final String[] SEAT_FIELDS = {
+        "availableSeats", "availableEconomy", "availableBusiness", "availableFirst"
+    };
+
+    private static final int CITY_BITS = 21;
+    private static final long DAY_MASK = (1L << CITY_BITS) - 1;
+
+    private final FlightRepository flightRepository;
+
+    // Clés de ville et textes partagés par tous les groupes
+    private final ConcurrentHashMap<String, Integer> cityIds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> strings = new ConcurrentHashMap<>();
+
+    private volatile ConcurrentHashMap<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile ConcurrentHashMap<String, Long> bucketByFlight = new ConcurrentHashMap<>();
+    private volatile FlightVersions versions = new FlightVersions();
+
+    // Route (départ, arrivée) → tarifs du jour par (jour, colonne de places)
+    private final ConcurrentHashMap<Long, ConcurrentHashMap<Long, DayFare>> fareCache =
+        new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong fallbacks = new AtomicLong();
+    private final AtomicLong updates = new AtomicLong();
+
+    public FlightSearchIndex(FlightRepository flightRepository) {
+        this.flightRepository = flightRepository;
+    }
+
+    // ==================== RECHERCHE ====================
+
+    /**
+     * Vols d'une route à une date, ayant des places dans la classe demandée
+     * (toutes classes si la classe est absente ou inconnue)
+     *
+     * @return null si la recherche n'est pas couverte par l'index (critère
+     *         manquant ou date mal formée) : l'appelant interroge MongoDB
+     */
+    public Flight[] search(String departureCity, String arrivalCity, String date, String seatClass) {
+        if (departureCity.isEmpty() || arrivalCity.isEmpty() || date.isEmpty()) {
+            fallbacks.incrementAndGet();
+            return null;
+        }
+
+        long day;
+        try {
+            day = LocalDate.parse(date).toEpochDay();
+        } catch (DateTimeParseException e) {
+            fallbacks.incrementAndGet();
+            return null;
+        }
+
+        hits.incrementAndGet();
+        if (day < LocalDate.now().toEpochDay()) {
+            return NO_FLIGHTS;
+        }
+
+        int seatColumn = seatColumn(seatClass);
+        Set<String> arrivalKeys = CityKeys.resolve(arrivalCity);
+        List<Flight> flights = new ArrayList<>();
+
+        for (String departureKey : CityKeys.resolve(departureCity)) {
+            Integer departureId = cityIds.get(departureKey);
+            if (departureId == null) {
+                continue;
+            }
+            for (String arrivalKey : arrivalKeys) {
+                Integer arrivalId = cityIds.get(arrivalKey);
+                if (arrivalId == null) {
+                    continue;
+                }
+                Bucket bucket = buckets.get(bucketKey(departureId, arrivalId, day));
+                if (bucket != null) {
+                    bucket.collect(seatColumn, flights);
+                }
+            }
+        }
+
+        return flights.toArray(NO_FLIGHTS);
+    }
+
+    // ==================== CALENDRIER DES PRIX ====================
+
+    /**
+     * Tarif minimum, places et nombre de vols disponibles pour chaque jour
+     * de la fenêtre (jours epoch inclus), jours sans vol compris
+     */
+    public FareDay[] fareCalendar(String departureCity, String arrivalCity,
+                                  long fromDay, long toDay, String seatClass) {
+        int seatColumn = seatColumn(seatClass);
+        List<Long> routes = new ArrayList<>();
+        Set<String> arrivalKeys = CityKeys.resolve(arrivalCity);
+
+        for (String departureKey : CityKeys.resolve(departureCity)) {
+            Integer departureId = cityIds.get(departureKey);
+            for (String arrivalKey : arrivalKeys) {
+                Integer arrivalId = cityIds.get(arrivalKey);
+                if (departureId != null && arrivalId != null) {
+                    routes.add(bucketKey(departureId, arrivalId, 0) >>> CITY_BITS);
+                }
+            }
+        }
+
+        FareDay[] calendar = new FareDay[(int) (toDay - fromDay + 1)];
+        for (long day = fromDay; day <= toDay; day++) {
+            double minPrice = 0;
+            int seats = 0;
+            int flights = 0;
+            for (long route : routes) {
+                DayFare fare = dayFare(route, day, seatColumn);
+                if (fare.flights > 0) {
+                    minPrice = flights == 0 ? fare.minPrice : Math.min(minPrice, fare.minPrice);
+                    seats += fare.seats;
+                    flights += fare.flights;
+                }
+            }
+            calendar[(int) (day - fromDay)] = new FareDay(
+                LocalDate.ofEpochDay(day).toString(), minPrice, seats, flights
+            );
+        }
+        return calendar;
+    }
+
+    /**
+     * Tarif d'un jour pour une route, recalculé si le groupe a changé depuis
+     * (l'effacement par route libère la mémoire ; la comparaison du groupe
+     * source écarte un calcul concurrent d'une écriture)
+     */
+    private DayFare dayFare(long route, long day, int seatColumn) {
+        long key = (route << CITY_BITS) | (day & DAY_MASK);
+        Bucket bucket = buckets.get(key);
+        ConcurrentHashMap<Long, DayFare> fares = fareCache.computeIfAbsent(route, k -> new ConcurrentHashMap<>());
+
+        long fareKey = day * SEAT_FIELDS.length + seatColumn;
+        DayFare fare = fares.get(fareKey);
+        if (fare == null || fare.source != bucket) {
+            fare = DayFare.of(bucket, seatColumn);
+            fares.put(fareKey, fare);
+        }
+        return fare;
+    }
+
+    // ==================== MISES À JOUR ====================
+
+    /**
+     * Charger tous les vols à venir (remplace le contenu de l'index)
+     */
+    public synchronized void reload() {
+        long start = System.currentTimeMillis();
+        ConcurrentHashMap<Long, Bucket> loaded = new ConcurrentHashMap<>();
+        ConcurrentHashMap<String, Long> loadedByFlight = new ConcurrentHashMap<>();
+        FlightVersions loadedVersions = new FlightVersions();
+
+        for (Document flight : flightRepository.findSearchableFlights(LocalDate.now().toString())) {
+            loadedVersions.advance(flight);
+            upsert(flight, loaded, loadedByFlight);
+        }
+
+        buckets = loaded;
+        bucketByFlight = loadedByFlight;
+        versions = loadedVersions;
+        fareCache.clear();
+        System.out.println("✅ Index de recherche: " + loadedByFlight.size() + " vols, " +
+                         loaded.size() + " routes/jour (" +
+                         (System.currentTimeMillis() - start) + "ms)");
+    }
+
+    @Override
+    public synchronized void flightChanged(Document flight) {
+        if (!versions.advance(flight)) {
+            return;
+        }
+        updates.incrementAndGet();
+        upsert(flight, buckets, bucketByFlight);
+    }
+
+    @Override
+    public synchronized void flightRemoved(String flightId) {
+        updates.incrementAndGet();
+        versions.removed(flightId);
+        remove(flightId, buckets, bucketByFlight);
+    }
+
+    @Override
+    public void flightsReset() {
+        reload();
+    }
+
+    /**
+     * Statistiques (recherches servies / renvoyées à MongoDB / mises à jour)
+     */
+    public String getStats() {
+        return String.format("Vols: %d | Routes/jour: %d | Servies: %d | MongoDB: %d | Mises à jour: %d",
+            bucketByFlight.size(), buckets.size(), hits.get(), fallbacks.get(), updates.get());
+    }
+
+    // ==================== MÉTHODES PRIVÉES ====================
+
+    private void upsert(Document flight, ConcurrentHashMap<Long, Bucket> target,
+                        ConcurrentHashMap<String, Long> byFlight) {
+        String flightId = flight.getString("flightId");
+        if ("CANCELLED".equals(flight.getString("status"))) {
+            remove(flightId, target, byFlight);
+            return;
+        }
+        
+        long day;
+        try {
+            day = LocalDate.parse(flight.getString("departureDate")).toEpochDay();
+        } catch (RuntimeException e) {
+            remove(flightId, target, byFlight);
+            return;
+        }
+
+        String departureKey = flight.getString("depKey");
+        String arrivalKey = flight.getString("arrKey");
+        long key = bucketKey(
+            cityId(departureKey != null ? departureKey : CityKeys.toKey(flight.getString("departureCity"))),
+            cityId(arrivalKey != null ? arrivalKey : CityKeys.toKey(flight.getString("arrivalCity"))),
+            day
+        );
+
+        // Vol déplacé (ville ou date modifiée) : retrait de l'ancien groupe
+        Long previous = byFlight.put(flightId, key);
+        if (previous != null && previous != key) {
+            replaceInBucket(target, previous, flightId, null);
+        }
+        replaceInBucket(target, key, flightId, flight);
+    }
+
+    private void remove(String flightId, ConcurrentHashMap<Long, Bucket> target,
+                        ConcurrentHashMap<String, Long> byFlight) {
+        Long previous = byFlight.remove(flightId);
+        if (previous != null) {
+            replaceInBucket(target, previous, flightId, null);
+        }
+    }
+
+    private void replaceInBucket(ConcurrentHashMap<Long, Bucket> target, long key,
+                                 String flightId, Document flight) {
+        Bucket current = target.get(key);
+        Bucket next = current == null
+            ? (flight == null ? null : new Bucket(0).replace(flightId, flight, this))
+            : current.replace(flightId, flight, this);
+
+        if (next == null) {
+            target.remove(key);
+        } else {
+            target.put(key, next);
+        }
+        fareCache.remove(key >>> CITY_BITS);
+    }
+
+    // Appelé sous le verrou des mises à jour : identifiants attribués séquentiellement
+    private int cityId(String cityKey) {
+        Integer id = cityIds.get(cityKey);
+        if (id == null) {
+            id = cityIds.size() + 1;
+            cityIds.put(cityKey, id);
+        }
+        return id;
+    }
+
+    private String intern(String value) {
+        if (value == null) {
+            return "";
+        }
+        String existing = strings.putIfAbsent(value, value);
+        return existing != null ? existing : value;
+    }
+
+    private static long bucketKey(int departureId, int arrivalId, long epochDay) {
+        return ((long) departureId << (2 * CITY_BITS)) | ((long) arrivalId << CITY_BITS) | (epochDay & DAY_MASK);
+    }
+
+    /**
+     * Colonne de places de la classe : 0 = total, 1 = ECONOMY, 2 = BUSINESS, 3 = FIRST_CLASS
+     */
+    static int seatColumn(String seatClass) {
+        String counter = FlightRepository.classCounterField(seatClass);
+        for (int i = 1; i < SEAT_FIELDS.length; i++) {
+            if (SEAT_FIELDS[i].equals(counter)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private static double number(Document doc, String field) {
+        Object value = doc.get(field);
+        return value instanceof Number ? ((Number) value).doubleValue() : 0;
+    }
+
+    /**
+     * Tarif minimum d'un jour dans une classe (0 si aucun vol disponible)
+     */
+    private static final class DayFare {
+        final Bucket source;
+        final double minPrice;
+        final int seats;
+        final int flights;
+
+        private DayFare(Bucket source, double minPrice, int seats, int flights) {
+            this.source = source;
+            this.minPrice = minPrice;
+            this.seats = seats;
+            this.flights = flights;
+        }
+
+        static DayFare of(Bucket bucket, int seatColumn) {
+            double minPrice = 0;
+            int seats = 0;
+            int flights = 0;
+            // Colonne 0 (toutes classes) : tarif économique
+            int priceColumn = Math.max(0, seatColumn - 1);
+
+            for (int r = 0; bucket != null && r < bucket.size; r++) {
+                int available = bucket.seats[r * SEAT_FIELDS.length + seatColumn];
+                if (available <= 0) {
+                    continue;
+                }
+                double price = bucket.prices[r * PRICE_FIELDS.length + priceColumn];
+                minPrice = flights == 0 ? price : Math.min(minPrice, price);
+                seats += available;
+                flights++;
+            }
+            return new DayFare(bucket, minPrice, seats, flights);
+        }
+    }
+
+    /**
+     * Vols d'une route/jour, triés par heure de départ, en colonnes
+     * (ligne r : text[r * TEXT_FIELDS.length + champ], prices[r * 3 + classe]...)
+     * Immuable une fois publié dans l'index.
+     */
+    private static final class Bucket {
+        private final int size;
+        private final String[] text;
+        private final double[] prices;
+        private final int[] seats;
+
+        private Bucket(int size) {
+            this.size = size;
+            this.text = new String[size * TEXT_FIELDS.length];
+            this.prices = new double[size * PRICE_FIELDS.length];
+            this.seats = new int[size * SEAT_FIELDS.length];
+        }
+
+        void collect(int seatColumn, List<Flight> out) {
+            for (int r = 0; r < size; r++) {
+                if (seats[r * SEAT_FIELDS.length + seatColumn] <= 0) {
+                    continue;
+                }
+                int t = r * TEXT_FIELDS.length;
+                int p = r * PRICE_FIELDS.length;
+                out.add(new Flight(
+                    text[t], text[t + 1], text[t + 2], text[t + 3], text[t + 4],
+                    text[t + 5], text[t + 6], text[t + 7], text[t + 8], text[t + 9],
+                    prices[p], prices[p + 1], prices[p + 2],
+                    seats[r * SEAT_FIELDS.length],
+                    text[t + 10]
+                ));
+            }
+        }
+
+        /**
+         * Copie du groupe où le vol est remplacé par le document (ou retiré si null)
+         * @return null si le groupe devient vide
+         */
+        Bucket replace(String flightId, Document flight, FlightSearchIndex index) {
+            int existing = -1;
+            for (int r = 0; r < size; r++) {
+                if (text[r * TEXT_FIELDS.length + FLIGHT_ID].equals(flightId)) {
+                    existing = r;
+                    break;
+                }
+            }
+
+            int nextSize = size - (existing >= 0 ? 1 : 0) + (flight != null ? 1 : 0);
+            if (nextSize == 0) {
+                return null;
+            }
+
+            Bucket next = new Bucket(nextSize);
+            String departureTime = flight == null ? null : index.intern(flight.getString("departureTime"));
+            boolean placed = flight == null;
+            int w = 0;
+
+            for (int r = 0; r < size; r++) {
+                if (r == existing) {
+                    continue;
+                }
+                if (!placed && departureTime.compareTo(text[r * TEXT_FIELDS.length + DEPARTURE_TIME]) < 0) {
+                    next.write(w++, flight, index);
+                    placed = true;
+                }
+                next.copy(w++, this, r);
+            }
+            if (!placed) {
+                next.write(w, flight, index);
+            }
+            return next;
+        }
+
+        private void write(int row, Document flight, FlightSearchIndex index) {
+            for (int i = 0; i < TEXT_FIELDS.length; i++) {
+                text[row * TEXT_FIELDS.length + i] = index.intern(flight.getString(TEXT_FIELDS[i]));
+            }
+            for (int i = 0; i < PRICE_FIELDS.length; i++) {
+                prices[row * PRICE_FIELDS.length + i] = number(flight, PRICE_FIELDS[i]);
+            }
+            for (int i = 0; i < SEAT_FIELDS.length; i++) {
+                seats[row * SEAT_FIELDS.length + i] = (int) number(flight, SEAT_FIELDS[i]);
+            }
+        }
+
+        private void copy(int row, Bucket source, int sourceRow) {
+            System.arraycopy(source.text, sourceRow * TEXT_FIELDS.length,
+                             text, row * TEXT_FIELDS.length, TEXT_FIELDS.length);
+            System.arraycopy(source.prices, sourceRow * PRICE_FIELDS.length,
+                             prices, row * PRICE_FIELDS.length, PRICE_FIELDS.length);
+            System.arraycopy(source.seats, sourceRow * SEAT_FIELDS.length,
+                             seats, row * SEAT_FIELDS.length, SEAT_FIELDS.length);
+        }
+    }
+}
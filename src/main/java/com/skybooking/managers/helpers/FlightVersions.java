@@ -0,0 +1,43 @@
+// src/main/java/com/skybooking/managers/helpers/FlightVersions.java
+
+package com.skybooking.managers.helpers;
+
+import com.skybooking.database.repositories.FlightRepository;
+import org.bson.Document;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🔢 Versions des vols appliquées par un abonné aux écritures
+ *
+ * Chaque écriture d'un vol incrémente son champ version dans la même mise à
+ * jour ; deux écritures concurrentes peuvent toutefois prévenir les abonnés
+ * dans le désordre. Un document plus ancien que celui déjà appliqué est
+ * ignoré. Un vol supprimé reste marqué jusqu'au prochain rechargement.
+ */
+final class FlightVersions {
+
+    private static final long REMOVED = Long.MAX_VALUE;
+
+    private final ConcurrentHashMap<String, Long> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Retenir la version du document s'il n'est pas plus ancien que l'état appliqué
+     *
+     * @return false si le document est périmé (à ignorer)
+     */
+    boolean advance(Document flight) {
+        String flightId = flight.getString("flightId");
+        long version = FlightRepository.versionOf(flight);
+        Long applied = versions.get(flightId);
+        if (applied != null && applied > version) {
+            return false;
+        }
+        versions.put(flightId, version);
+        return true;
+    }
+
+    void removed(String flightId) {
+        versions.put(flightId, REMOVED);
+    }
+}
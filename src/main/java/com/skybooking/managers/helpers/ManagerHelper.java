@@ -4,6 +4,7 @@ package com.skybooking.managers.helpers;
 
 import FlightReservation.*;
 import org.bson.Document;
+import java.util.Date;
 
 /**
  * 📄 Helper pour conversions entre CORBA et MongoDB
@@ -195,4 +196,21 @@ public class ManagerHelper {
         res.hasFlightDiscount = doc.getBoolean("hasFlightDiscount", false);
         return res;
     }
-}
\ No newline at end of file
+    
+    // ==================== 🆕 VERSIONS (REQUÊTES CONDITIONNELLES) ====================
+    
+    /**
+     * 🆕 Construire la version d'un document : "<dernière modification ms>-<compteur>-<statut>"
+     * La date la plus récente parmi les champs d'horodatage est retenue.
+     */
+    public static String buildVersion(Document doc, String counterField, String... dateFields) {
+        long lastModified = 0L;
+        for (String field : dateFields) {
+            Object value = doc.get(field);
+            if (value instanceof Date) {
+                lastModified = Math.max(lastModified, ((Date) value).getTime());
+            }
+        }
+        return lastModified + "-" + doc.getInteger(counterField, 0) + "-" + doc.getString("status");
+    }
+}
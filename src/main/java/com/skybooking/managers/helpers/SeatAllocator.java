@@ -0,0 +1,205 @@
+// src/main/java/com/skybooking/managers/helpers/SeatAllocator.java
+
+package com.skybooking.managers.helpers;
+
+/**
+ * 🧩 Choix automatique de sièges voisins (groupes, familles)
+ *
+ * Travaille sur l'occupation d'une classe sous forme d'une grille rangées ×
+ * colonnes : un masque par rangée, bit c posé = colonne c libre. Aucun accès
+ * au plan ni allocation autre que le résultat : le choix d'un groupe sur un
+ * vol de 25 rangées prend quelques microsecondes, et peut être refait sans
+ * frais si la prise échoue (siège pris entre-temps).
+ *
+ * Ordre de préférence pour un groupe :
+ * 1. Une seule rangée, sièges contigus sans traverser l'allée, puis en la
+ *    traversant ; à égalité, le bloc qui laisse le moins de sièges isolés,
+ *    puis la rangée la plus à l'avant
+ * 2. Sinon, rangées consécutives les plus proches possible : le moins de
+ *    rangées couvertes, puis le moins de blocs, puis le plus à l'avant
+ */
+public final class SeatAllocator {
+
+    private SeatAllocator() {
+    }
+
+    /**
+     * Places choisies (rangée × colonnes + colonne), ou null s'il n'y a pas
+     * assez de sièges libres
+     *
+     * @param free         masque des colonnes libres de chaque rangée
+     * @param columns      colonnes par rangée (au plus 31)
+     * @param aisleAfter   colonne suivie de l'allée, -1 si aucune
+     * @param keepTogether false : premiers sièges libres dans l'ordre du plan
+     */
+    public static int[] choose(int[] free, int columns, int aisleAfter, int count, boolean keepTogether) {
+        int available = 0;
+        for (int mask : free) {
+            available += Integer.bitCount(mask);
+        }
+        if (count <= 0 || count > available) {
+            return null;
+        }
+
+        if (!keepTogether) {
+            return firstFree(free, columns, count);
+        }
+
+        int[] sameRow = count <= columns ? sameRow(free, columns, aisleAfter, count) : null;
+        return sameRow != null ? sameRow : nearbyRows(free, columns, count);
+    }
+
+    // ==================== UNE RANGÉE ====================
+
+    private static int[] sameRow(int[] free, int columns, int aisleAfter, int count) {
+        int bestRow = -1;
+        int bestStart = -1;
+        long bestScore = Long.MAX_VALUE;
+        int block = (1 << count) - 1;
+
+        for (int row = 0; row < free.length; row++) {
+            int mask = free[row];
+            if (Integer.bitCount(mask) < count) {
+                continue;
+            }
+            for (int start = 0; start + count <= columns; start++) {
+                int seats = block << start;
+                if ((mask & seats) != seats) {
+                    continue;
+                }
+                boolean crossesAisle = aisleAfter >= start && aisleAfter < start + count - 1;
+                long score = ((crossesAisle ? 1L : 0L) << 40)
+                           | ((long) isolated(mask & ~seats, columns, aisleAfter) << 32)
+                           | ((long) row << 8)
+                           | start;
+                if (score < bestScore) {
+                    bestScore = score;
+                    bestRow = row;
+                    bestStart = start;
+                }
+            }
+        }
+        if (bestRow < 0) {
+            return null;
+        }
+
+        int[] places = new int[count];
+        for (int i = 0; i < count; i++) {
+            places[i] = bestRow * columns + bestStart + i;
+        }
+        return places;
+    }
+
+    /**
+     * Sièges libres restés seuls entre deux sièges pris (ou un bord / l'allée)
+     */
+    private static int isolated(int mask, int columns, int aisleAfter) {
+        int isolated = 0;
+        for (int c = 0; c < columns; c++) {
+            if ((mask & (1 << c)) == 0) {
+                continue;
+            }
+            boolean left = c > 0 && c - 1 != aisleAfter && (mask & (1 << (c - 1))) != 0;
+            boolean right = c + 1 < columns && c != aisleAfter && (mask & (1 << (c + 1))) != 0;
+            if (!left && !right) {
+                isolated++;
+            }
+        }
+        return isolated;
+    }
+
+    // ==================== RANGÉES VOISINES ====================
+
+    /**
+     * À partir de chaque rangée, plus longs blocs libres des rangées suivantes
+     * jusqu'à placer tout le groupe ; la fenêtre la plus courte l'emporte
+     */
+    private static int[] nearbyRows(int[] free, int columns, int count) {
+        int bestFirst = -1;
+        long bestScore = Long.MAX_VALUE;
+
+        for (int first = 0; first < free.length; first++) {
+            if (free[first] == 0) {
+                continue;
+            }
+            int remaining = count;
+            int blocks = 0;
+            int row = first;
+            for (; row < free.length && remaining > 0; row++) {
+                int mask = free[row];
+                while (mask != 0 && remaining > 0) {
+                    int run = longestRun(mask, columns);
+                    int length = run >>> 8;
+                    remaining -= length;
+                    mask &= ~(((1 << length) - 1) << (run & 0xFF));
+                    blocks++;
+                }
+            }
+            if (remaining > 0) {
+                break;
+            }
+            long span = row - first;
+            long score = (span << 40) | ((long) blocks << 20) | first;
+            if (score < bestScore) {
+                bestScore = score;
+                bestFirst = first;
+            }
+        }
+        if (bestFirst < 0) {
+            return null;
+        }
+
+        int[] places = new int[count];
+        int n = 0;
+        for (int row = bestFirst; n < count; row++) {
+            int mask = free[row];
+            while (mask != 0 && n < count) {
+                int run = longestRun(mask, columns);
+                int start = run & 0xFF;
+                int length = Math.min(run >>> 8, count - n);
+                for (int c = start; c < start + length; c++) {
+                    places[n++] = row * columns + c;
+                }
+                mask &= ~(((1 << (run >>> 8)) - 1) << start);
+            }
+        }
+        return places;
+    }
+
+    /**
+     * Plus long bloc de colonnes libres : (longueur << 8) | début
+     */
+    private static int longestRun(int mask, int columns) {
+        int bestStart = 0;
+        int bestLength = 0;
+        int c = 0;
+        while (c < columns) {
+            if ((mask & (1 << c)) == 0) {
+                c++;
+                continue;
+            }
+            int start = c;
+            while (c < columns && (mask & (1 << c)) != 0) {
+                c++;
+            }
+            if (c - start > bestLength) {
+                bestLength = c - start;
+                bestStart = start;
+            }
+        }
+        return (bestLength << 8) | bestStart;
+    }
+
+    private static int[] firstFree(int[] free, int columns, int count) {
+        int[] places = new int[count];
+        int n = 0;
+        for (int row = 0; row < free.length && n < count; row++) {
+            for (int c = 0; c < columns && n < count; c++) {
+                if ((free[row] & (1 << c)) != 0) {
+                    places[n++] = row * columns + c;
+                }
+            }
+        }
+        return places;
+    }
+}
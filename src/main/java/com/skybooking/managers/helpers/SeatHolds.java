@@ -0,0 +1,364 @@
+// src/main/java/com/skybooking/managers/helpers/SeatHolds.java
+
+package com.skybooking.managers.helpers;
+
+import FlightReservation.SeatHold;
+import com.skybooking.database.repositories.FlightRepository;
+import com.skybooking.database.repositories.SeatHoldRepository;
+import com.skybooking.utils.Constants;
+import org.bson.Document;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🛒 Retenues de sièges (panier) : AVAILABLE → HELD → OCCUPIED
+ *
+ * Les sièges choisis sur le plan sont pris d'un coup au statut HELD pour
+ * une durée limitée ; createReservation les confirme sans nouvelle course
+ * avec les autres clients. Une retenue par client et par vol : une nouvelle
+ * sélection remplace l'ancienne.
+ *
+ * Les sièges retenus sont décomptés des places du vol (recherche et plan de
+ * sièges à jour). Un thread libère les retenues expirées et rend leurs places.
+ * La retenue est écrite en base avant la prise des sièges : elle est reprise
+ * au redémarrage, puis expirée normalement.
+ */
+public class SeatHolds {
+
+    private final SeatInventory seatInventory;
+    private final FlightRepository flightRepository;
+    private final SeatHoldRepository seatHoldRepository;
+
+    // holdId → retenue ; (client, vol) → holdId
+    private final ConcurrentHashMap<String, Hold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, String> holdByCustomerFlight = new ConcurrentHashMap<>();
+
+    // Retenues terminées dont seule la suppression en base reste à faire
+    private final Set<String> undeleted = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong confirmed = new AtomicLong();
+    private final AtomicLong expired = new AtomicLong();
+
+    public SeatHolds(SeatInventory seatInventory, FlightRepository flightRepository,
+                     SeatHoldRepository seatHoldRepository) {
+        this.seatInventory = seatInventory;
+        this.flightRepository = flightRepository;
+        this.seatHoldRepository = seatHoldRepository;
+
+        recover();
+
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "seat-hold-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::expire,
+            Constants.SEAT_HOLD_SWEEP_SECONDS, Constants.SEAT_HOLD_SWEEP_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // ==================== RETENUES ====================
+
+    /**
+     * Retenir des sièges pour un client (remplace sa retenue sur ce vol)
+     *
+     * @return la retenue, ou null si un siège est inexistant ou déjà pris
+     */
+    public SeatHold hold(String customerId, String flightId, List<String> seatNumbers) {
+        release(holdByCustomerFlight.get(key(customerId, flightId)));
+
+        long expiresAt = System.currentTimeMillis() + Constants.SEAT_HOLD_TTL_SECONDS * 1000L;
+        Hold hold = new Hold(newHoldId(), customerId, flightId,
+                             new ArrayList<>(new LinkedHashSet<>(seatNumbers)), expiresAt);
+
+        // Écrite avant la prise : un siège HELD a toujours sa retenue en base
+        seatHoldRepository.insertHold(hold.toDocument());
+
+        Map<String, Integer> seatsByClass = seatInventory.claim(flightId, hold.seatNumbers, SeatInventory.HELD);
+        if (seatsByClass == null) {
+            seatHoldRepository.deleteHold(hold.holdId);
+            return null;
+        }
+        if (!flightRepository.decrementAvailableSeats(flightId, seatsByClass)) {
+            seatInventory.release(flightId, hold.seatNumbers, SeatInventory.HELD);
+            seatHoldRepository.deleteHold(hold.holdId);
+            return null;
+        }
+
+        register(hold);
+        created.incrementAndGet();
+        System.out.println("🛒 Retenue " + hold.holdId + " : " + hold.seatNumbers + " (vol " + flightId + ")");
+        return hold.toSeatHold();
+    }
+
+    /**
+     * Retenir les meilleurs sièges voisins d'une classe, choisis par SeatInventory
+     * (remplace la retenue du client sur ce vol)
+     *
+     * Les sièges ne sont connus qu'une fois pris : la retenue est écrite juste
+     * après. Un arrêt entre les deux laisse des sièges HELD sans retenue en
+     * base, rendus disponibles au rechargement du vol.
+     *
+     * @return la retenue, ou null s'il n'y a plus assez de sièges libres
+     */
+    public SeatHold holdBest(String customerId, String flightId, String seatClass,
+                             int count, boolean keepTogether) {
+        release(holdByCustomerFlight.get(key(customerId, flightId)));
+
+        List<String> seatNumbers = seatInventory.allocate(flightId, seatClass, count, keepTogether,
+                                                          SeatInventory.HELD);
+        if (seatNumbers == null) {
+            return null;
+        }
+
+        long expiresAt = System.currentTimeMillis() + Constants.SEAT_HOLD_TTL_SECONDS * 1000L;
+        Hold hold = new Hold(newHoldId(), customerId, flightId,
+                             seatNumbers, expiresAt);
+        Map<String, Integer> seatsByClass = new HashMap<>();
+        for (String seatNumber : seatNumbers) {
+            seatsByClass.merge(seatInventory.seat(flightId, seatNumber).seatClass, 1, Integer::sum);
+        }
+
+        try {
+            seatHoldRepository.insertHold(hold.toDocument());
+        } catch (RuntimeException e) {
+            seatInventory.release(flightId, seatNumbers, SeatInventory.HELD);
+            throw e;
+        }
+        if (!flightRepository.decrementAvailableSeats(flightId, seatsByClass)) {
+            seatInventory.release(flightId, seatNumbers, SeatInventory.HELD);
+            seatHoldRepository.deleteHold(hold.holdId);
+            return null;
+        }
+
+        register(hold);
+        created.incrementAndGet();
+        System.out.println("🧩 Retenue " + hold.holdId + " attribuée : " + seatNumbers + " (vol " + flightId + ")");
+        return hold.toSeatHold();
+    }
+
+    /**
+     * Libérer une retenue (abandon du panier)
+     */
+    public boolean release(String holdId) {
+        Hold hold = holdId == null ? null : unregister(holdId);
+        if (hold == null) {
+            return false;
+        }
+        giveBack(hold, hold.seatNumbers);
+        return true;
+    }
+
+    /**
+     * Confirmer la réservation des sièges d'un client : sièges retenus par lui
+     * passés à OCCUPIED, autres sièges pris normalement, sièges retenus non
+     * réservés rendus
+     *
+     * @return sièges confirmés, ou null si un siège non retenu n'est plus
+     *         disponible (rien n'est alors modifié)
+     */
+    public Confirmation confirm(String customerId, String flightId, List<String> seatNumbers) {
+        String holdId = holdByCustomerFlight.get(key(customerId, flightId));
+        Hold hold = holdId == null ? null : unregister(holdId);
+        if (hold == null) {
+            return claimAll(flightId, seatNumbers);
+        }
+
+        List<String> heldSeats = new ArrayList<>(seatNumbers);
+        heldSeats.retainAll(hold.seatNumbers);
+        List<String> otherSeats = new ArrayList<>(seatNumbers);
+        otherSeats.removeAll(hold.seatNumbers);
+
+        Map<String, Integer> claimed = otherSeats.isEmpty()
+            ? new HashMap<>()
+            : seatInventory.claim(flightId, otherSeats, SeatInventory.OCCUPIED);
+        if (claimed == null) {
+            register(hold);
+            return null;
+        }
+
+        if (seatInventory.convert(flightId, heldSeats, SeatInventory.HELD, SeatInventory.OCCUPIED) == null) {
+            // Retenue libérée entre-temps (admin, reprise) : sièges repris normalement
+            seatInventory.release(flightId, otherSeats, SeatInventory.OCCUPIED);
+            giveBack(hold, hold.seatNumbers);
+            return claimAll(flightId, seatNumbers);
+        }
+
+        List<String> unused = new ArrayList<>(hold.seatNumbers);
+        unused.removeAll(seatNumbers);
+        giveBack(hold, unused);
+
+        confirmed.incrementAndGet();
+        System.out.println("🛒 Retenue " + hold.holdId + " confirmée (" + heldSeats.size() + " siège(s))");
+        return new Confirmation(claimed, otherSeats, heldSeats);
+    }
+
+    /**
+     * Sièges retenus par un client sur un vol (vides si aucune retenue)
+     */
+    public Set<String> heldBy(String customerId, String flightId) {
+        String holdId = holdByCustomerFlight.get(key(customerId, flightId));
+        Hold hold = holdId == null ? null : holds.get(holdId);
+        return hold == null ? Collections.emptySet() : new HashSet<>(hold.seatNumbers);
+    }
+
+    public String getStats() {
+        return String.format("Actives: %d | Créées: %d | Confirmées: %d | Expirées: %d",
+            holds.size(), created.get(), confirmed.get(), expired.get());
+    }
+
+    // ==================== EXPIRATION ET REPRISE ====================
+
+    private void expire() {
+        for (String holdId : undeleted) {
+            deleteRecord(holdId);
+        }
+
+        long now = System.currentTimeMillis();
+        for (Hold hold : holds.values()) {
+            if (hold.expiresAt <= now && unregister(hold.holdId) != null) {
+                try {
+                    giveBack(hold, hold.seatNumbers);
+                    expired.incrementAndGet();
+                    System.out.println("⌛ Retenue expirée " + hold.holdId + " : " + hold.seatNumbers);
+                } catch (RuntimeException e) {
+                    // Aucun siège rendu : nouvel essai au prochain passage
+                    register(hold);
+                    System.err.println("❌ Expiration de " + hold.holdId + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Retenues encore en base au démarrage (expirées au premier passage)
+     */
+    private void recover() {
+        for (Document doc : seatHoldRepository.findAllHolds()) {
+            List<String> seats = doc.getList("seatNumbers", String.class, Collections.emptyList());
+            Date expiresAt = doc.getDate("expiresAt");
+            register(new Hold(doc.getString("holdId"), doc.getString("customerId"),
+                              doc.getString("flightId"), new ArrayList<>(seats),
+                              expiresAt == null ? 0 : expiresAt.getTime()));
+        }
+        if (!holds.isEmpty()) {
+            System.out.println("✅ " + holds.size() + " retenue(s) de sièges reprise(s)");
+        }
+    }
+
+    /**
+     * Sièges rendus disponibles et places rendues au vol, puis retenue supprimée
+     *
+     * Seule la suppression est retentée : les sièges peuvent déjà être
+     * retenus par un autre client, et des places rendues deux fois
+     * fausseraient les compteurs (corrigés sinon par SeatReconciler).
+     */
+    private void giveBack(Hold hold, List<String> seatNumbers) {
+        if (!seatNumbers.isEmpty()) {
+            Map<String, Integer> released = seatInventory.release(hold.flightId, seatNumbers, SeatInventory.HELD);
+            try {
+                flightRepository.incrementAvailableSeats(hold.flightId, released);
+            } catch (RuntimeException e) {
+                System.err.println("❌ Places de la retenue " + hold.holdId + " non rendues au vol " +
+                                 hold.flightId + ": " + e.getMessage());
+            }
+        }
+        deleteRecord(hold.holdId);
+    }
+
+    private void deleteRecord(String holdId) {
+        try {
+            seatHoldRepository.deleteHold(holdId);
+            undeleted.remove(holdId);
+        } catch (RuntimeException e) {
+            undeleted.add(holdId);
+            System.err.println("❌ Suppression de la retenue " + holdId + " reportée: " + e.getMessage());
+        }
+    }
+
+    private Confirmation claimAll(String flightId, List<String> seatNumbers) {
+        Map<String, Integer> claimed = seatInventory.claim(flightId, seatNumbers, SeatInventory.OCCUPIED);
+        return claimed == null ? null
+            : new Confirmation(claimed, new ArrayList<>(seatNumbers), Collections.emptyList());
+    }
+
+    private void register(Hold hold) {
+        holds.put(hold.holdId, hold);
+        holdByCustomerFlight.put(key(hold.customerId, hold.flightId), hold.holdId);
+    }
+
+    /**
+     * Retirer une retenue du registre ; null si déjà retirée par un autre thread
+     */
+    private Hold unregister(String holdId) {
+        Hold hold = holds.remove(holdId);
+        if (hold != null) {
+            holdByCustomerFlight.remove(key(hold.customerId, hold.flightId), holdId);
+        }
+        return hold;
+    }
+
+    /**
+     * Identifiant unique même pour deux retenues prises dans la même milliseconde
+     */
+    private static String newHoldId() {
+        return "HLD" + UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private static String key(String customerId, String flightId) {
+        return customerId + '|' + flightId;
+    }
+
+    /**
+     * Résultat d'une confirmation : sièges pris à l'instant (places du vol
+     * à décompter) et sièges venant de la retenue (déjà décomptés)
+     */
+    public static final class Confirmation {
+        public final Map<String, Integer> claimedByClass;
+        public final List<String> claimedSeats;
+        public final List<String> heldSeats;
+
+        Confirmation(Map<String, Integer> claimedByClass, List<String> claimedSeats, List<String> heldSeats) {
+            this.claimedByClass = claimedByClass;
+            this.claimedSeats = claimedSeats;
+            this.heldSeats = heldSeats;
+        }
+    }
+
+    private static final class Hold {
+        final String holdId;
+        final String customerId;
+        final String flightId;
+        final List<String> seatNumbers;
+        final long expiresAt;
+
+        Hold(String holdId, String customerId, String flightId, List<String> seatNumbers, long expiresAt) {
+            this.holdId = holdId;
+            this.customerId = customerId;
+            this.flightId = flightId;
+            this.seatNumbers = seatNumbers;
+            this.expiresAt = expiresAt;
+        }
+
+        Document toDocument() {
+            return new Document("holdId", holdId)
+                .append("customerId", customerId)
+                .append("flightId", flightId)
+                .append("seatNumbers", seatNumbers)
+                .append("expiresAt", new Date(expiresAt))
+                .append("purgeAt", new Date(expiresAt + TimeUnit.HOURS.toMillis(Constants.SEAT_HOLD_PURGE_HOURS)))
+                .append("createdAt", new Date());
+        }
+
+        SeatHold toSeatHold() {
+            return new SeatHold(holdId, customerId, flightId, seatNumbers.toArray(new String[0]),
+                Instant.ofEpochMilli(expiresAt).toString(), Constants.SEAT_HOLD_TTL_SECONDS);
+        }
+    }
+}
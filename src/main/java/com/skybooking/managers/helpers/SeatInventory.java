@@ -0,0 +1,839 @@
+// src/main/java/com/skybooking/managers/helpers/SeatInventory.java
+
+package com.skybooking.managers.helpers;
+
+import com.skybooking.database.repositories.ReservationRepository;
+import com.skybooking.database.repositories.SeatHoldRepository;
+import com.skybooking.database.repositories.SeatRepository;
+import com.skybooking.utils.Constants;
+import org.bson.Document;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 💺 Inventaire des sièges en mémoire, source de vérité du serveur CORBA
+ *
+ * - Un bitset par vol et par classe (1 bit = siège pris : OCCUPIED, BLOCKED ou HELD)
+ * - Prise d'un groupe de sièges sans verrou : un compareAndSet par mot de
+ *   64 sièges, dans un ordre fixe ; au premier siège déjà pris, les mots
+ *   déjà posés sont rendus et la prise échoue en entier. Un bit ne peut être
+ *   posé que par un seul appelant : pas de double réservation.
+ * - Écriture MongoDB différée (write-behind) : les changements de statut sont
+ *   journalisés puis appliqués par lots (bulkWrite) par un thread dédié,
+ *   vidé aussi à l'arrêt de la JVM. Les libérations et les blocages sont
+ *   écrits avant de rendre la main : aucune réservation ne permet de les
+ *   retrouver après un arrêt brutal. Un lot en échec est retenté
+ *   SEAT_WRITE_BEHIND_MAX_RETRIES fois, puis vol par vol : les vols encore
+ *   refusés alors que d'autres passent sont abandonnés (journalisés en erreur)
+ * - Reprise au premier accès d'un vol : plan de sièges MongoDB, complété par
+ *   les sièges des réservations confirmées (prises non encore écrites avant
+ *   un arrêt brutal), corrigés dans le plan de sièges MongoDB ; un siège
+ *   HELD sans retenue enregistrée (SeatHolds) est rendu disponible
+ * - Attribution automatique de sièges voisins d'une classe (SeatAllocator),
+ *   choisis sur une grille rangées × colonnes puis pris comme ci-dessus
+ *
+ * Les écritures de sièges passent toutes par le serveur CORBA (le pont REST
+ * l'appelle à distance) : une seule JVM tient l'inventaire.
+ */
+public class SeatInventory {
+
+    public static final String AVAILABLE = "AVAILABLE";
+    public static final String OCCUPIED = "OCCUPIED";
+    public static final String BLOCKED = "BLOCKED";
+    public static final String HELD = "HELD";
+
+    private static final FlightSeats NO_SEATS = new FlightSeats(Collections.emptyList());
+
+    private static SeatInventory instance;
+
+    private final SeatRepository seatRepository;
+    private final ReservationRepository reservationRepository;
+    private final SeatHoldRepository seatHoldRepository;
+
+    private final ConcurrentHashMap<String, FlightSeats> flights = new ConcurrentHashMap<>();
+
+    // Journal des statuts à écrire, dans l'ordre des prises / libérations
+    private final LinkedBlockingQueue<SeatWrite> journal = new LinkedBlockingQueue<>();
+    private final ReentrantLock persistLock = new ReentrantLock();
+    private final List<SeatWrite> retrying = new ArrayList<>();
+    private int failedAttempts;
+
+    private final AtomicLong claims = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private SeatInventory(SeatRepository seatRepository, ReservationRepository reservationRepository,
+                          SeatHoldRepository seatHoldRepository) {
+        this.seatRepository = seatRepository;
+        this.reservationRepository = reservationRepository;
+        this.seatHoldRepository = seatHoldRepository;
+
+        Thread writer = new Thread(this::runWriteBehind, "seat-write-behind");
+        writer.setDaemon(true);
+        writer.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "seat-write-behind-flush"));
+    }
+
+    public static synchronized SeatInventory getInstance() {
+        if (instance == null) {
+            instance = new SeatInventory(new SeatRepository(), new ReservationRepository(),
+                                         new SeatHoldRepository());
+        }
+        return instance;
+    }
+
+    // ==================== LECTURES ====================
+
+    /**
+     * Siège d'un vol, ou null s'il n'existe pas
+     */
+    public SeatInfo seat(String flightId, String seatNumber) {
+        FlightSeats seats = seats(flightId);
+        Integer index = seats.indexBySeat.get(seatNumber);
+        return index == null ? null : seats.info(index);
+    }
+
+    public boolean isAvailable(String flightId, String seatNumber) {
+        SeatInfo seat = seat(flightId, seatNumber);
+        return seat != null && AVAILABLE.equals(seat.status);
+    }
+
+    /**
+     * Sièges non réservables, avec la raison (ex: "12A (OCCUPIED)", "40Z (inexistant)")
+     */
+    public List<String> unavailable(String flightId, Collection<String> seatNumbers) {
+        FlightSeats seats = seats(flightId);
+        List<String> unavailable = new ArrayList<>();
+        for (String seatNumber : seatNumbers) {
+            Integer index = seats.indexBySeat.get(seatNumber);
+            if (index == null) {
+                unavailable.add(seatNumber + " (inexistant)");
+            } else if (seats.isTaken(index)) {
+                unavailable.add(seatNumber + " (" + seats.statuses.get(index) + ")");
+            }
+        }
+        return unavailable;
+    }
+
+    /**
+     * Statut courant d'un siège lu en base (écriture différée pas encore faite)
+     */
+    public String currentStatus(String flightId, String seatNumber, String storedStatus) {
+        FlightSeats seats = flights.get(flightId);
+        Integer index = seats == null ? null : seats.indexBySeat.get(seatNumber);
+        return index == null ? storedStatus : seats.statuses.get(index);
+    }
+
+    /**
+     * Premiers sièges libres d'un vol, dans l'ordre du plan (à prendre ensuite par claim)
+     */
+    public List<String> firstAvailable(String flightId, int count) {
+        FlightSeats seats = seats(flightId);
+        List<String> available = new ArrayList<>();
+        for (int i = 0; i < seats.size() && available.size() < count; i++) {
+            if (!seats.isTaken(i)) {
+                available.add(seats.numbers[i]);
+            }
+        }
+        return available;
+    }
+
+    public long countAvailable(String flightId) {
+        FlightSeats seats = seats(flightId);
+        long available = 0;
+        for (int i = 0; i < seats.size(); i++) {
+            if (!seats.isTaken(i)) {
+                available++;
+            }
+        }
+        return available;
+    }
+
+    /**
+     * Sièges libres d'un vol par classe, ou null si son plan n'existe pas encore
+     */
+    public Map<String, Integer> availableByClass(String flightId) {
+        FlightSeats seats = seats(flightId);
+        if (seats == NO_SEATS) {
+            return null;
+        }
+        Map<String, Integer> available = new HashMap<>();
+        for (int i = 0; i < seats.size(); i++) {
+            if (!seats.isTaken(i)) {
+                available.merge(seats.classes[i], 1, Integer::sum);
+            }
+        }
+        return available;
+    }
+
+    // ==================== PRISES ET LIBÉRATIONS ====================
+
+    /**
+     * Choisir et prendre d'un coup des sièges voisins d'une classe (SeatAllocator)
+     *
+     * Le choix se fait sur une photo de l'occupation ; si un siège choisi a
+     * été pris entre-temps, la prise échoue en entier et le choix est refait
+     * sur l'occupation à jour.
+     *
+     * @return sièges pris, ou null s'il n'y a plus assez de sièges libres
+     */
+    public List<String> allocate(String flightId, String seatClass, int count,
+                                 boolean keepTogether, String status) {
+        FlightSeats seats = seats(flightId);
+        SeatGrid grid = seats.grid(seatClass);
+        for (int attempt = 0; attempt < Constants.SEAT_AUTO_ASSIGN_ATTEMPTS; attempt++) {
+            int[] places = SeatAllocator.choose(grid.free(seats), grid.columns, grid.aisleAfter,
+                                                count, keepTogether);
+            if (places == null) {
+                return null;
+            }
+            List<String> chosen = new ArrayList<>(places.length);
+            for (int place : places) {
+                chosen.add(seats.numbers[grid.indexes[place]]);
+            }
+            if (claim(flightId, chosen, status) != null) {
+                return chosen;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Prendre un groupe de sièges en entier (OCCUPIED, BLOCKED ou HELD)
+     *
+     * @return sièges pris par classe, ou null si un siège est inexistant,
+     *         en double ou déjà pris (aucun siège n'est alors pris)
+     */
+    public Map<String, Integer> claim(String flightId, Collection<String> seatNumbers, String status) {
+        FlightSeats seats = seats(flightId);
+        int[] indexes = seats.resolve(seatNumbers);
+        if (indexes == null) {
+            conflicts.incrementAndGet();
+            return null;
+        }
+
+        // Masques par (classe, mot) dans l'ordre des index : ordre de prise fixe
+        long[] groups = seats.groups(indexes);
+        int done = 0;
+        while (done < groups.length) {
+            long group = groups[done];
+            if (!seats.setBits(group, seats.masks(indexes, group))) {
+                for (int i = 0; i < done; i++) {
+                    seats.clearBits(groups[i], seats.masks(indexes, groups[i]));
+                }
+                conflicts.incrementAndGet();
+                return null;
+            }
+            done++;
+        }
+
+        claims.incrementAndGet();
+        Map<String, Integer> claimed = seats.apply(flightId, indexes, status, this::log);
+        if (BLOCKED.equals(status)) {
+            flush();
+        }
+        return claimed;
+    }
+
+    /**
+     * Rendre des sièges disponibles (écrits en base avant de rendre la main)
+     *
+     * @param expectedStatus statut attendu (OCCUPIED, BLOCKED) ou null pour tout siège pris
+     * @return sièges libérés par classe (ceux qui n'étaient pas pris sont ignorés)
+     */
+    public Map<String, Integer> release(String flightId, Collection<String> seatNumbers,
+                                        String expectedStatus) {
+        FlightSeats seats = seats(flightId);
+        Map<String, Integer> released = new HashMap<>();
+        for (String seatNumber : new LinkedHashSet<>(seatNumbers)) {
+            Integer index = seats.indexBySeat.get(seatNumber);
+            if (index != null && seats.releaseOne(flightId, index, expectedStatus, this::log)) {
+                released.merge(seats.classes[index], 1, Integer::sum);
+            }
+        }
+        if (!released.isEmpty()) {
+            flush();
+        }
+        return released;
+    }
+
+    /**
+     * Changer le statut de sièges déjà pris (ex: HELD → OCCUPIED), sans
+     * les rendre disponibles entre-temps
+     *
+     * @return sièges convertis par classe, ou null si l'un n'est pas au
+     *         statut attendu (aucun siège n'est alors converti)
+     */
+    public Map<String, Integer> convert(String flightId, Collection<String> seatNumbers,
+                                        String fromStatus, String toStatus) {
+        FlightSeats seats = seats(flightId);
+        List<Integer> converted = new ArrayList<>();
+        for (String seatNumber : new LinkedHashSet<>(seatNumbers)) {
+            Integer index = seats.indexBySeat.get(seatNumber);
+            String current = index == null ? null : seats.statuses.get(index);
+            if (index == null || !seats.isTaken(index) || !fromStatus.equals(current)
+                    || !seats.statuses.compareAndSet(index, current, toStatus)) {
+                for (int done : converted) {
+                    seats.statuses.set(done, fromStatus);
+                }
+                return null;
+            }
+            converted.add(index);
+        }
+
+        Map<String, Integer> byClass = new HashMap<>();
+        for (int index : converted) {
+            byClass.merge(seats.classes[index], 1, Integer::sum);
+            log(new SeatWrite(flightId, seats.numbers[index], toStatus));
+        }
+        return byClass;
+    }
+
+    /**
+     * Prix modifié par l'administration
+     */
+    public void updatePrice(String flightId, String seatNumber, double price) {
+        FlightSeats seats = flights.get(flightId);
+        Integer index = seats == null ? null : seats.indexBySeat.get(seatNumber);
+        if (index != null) {
+            seats.prices[index] = price;
+        }
+    }
+
+    /**
+     * Vol supprimé : plus aucun siège à servir
+     */
+    public void forget(String flightId) {
+        flights.remove(flightId);
+    }
+
+    public String getStats() {
+        return String.format("Vols: %d | Prises: %d | Conflits: %d | Écrits: %d | En attente: %d | Repris: %d | Abandonnés: %d",
+            flights.size(), claims.get(), conflicts.get(), persisted.get(), journal.size(), recovered.get(),
+            dropped.get());
+    }
+
+    // ==================== CHARGEMENT ET REPRISE ====================
+
+    private FlightSeats seats(String flightId) {
+        FlightSeats seats = flights.get(flightId);
+        if (seats != null) {
+            return seats;
+        }
+        seats = flights.computeIfAbsent(flightId, this::load);
+        if (seats == NO_SEATS) {
+            // Plan pas encore généré (lazy) : rechargé au prochain accès
+            flights.remove(flightId, NO_SEATS);
+        }
+        return seats;
+    }
+
+    private FlightSeats load(String flightId) {
+        List<Document> layout = seatRepository.findSeatLayout(flightId);
+        if (layout.isEmpty()) {
+            return NO_SEATS;
+        }
+        FlightSeats seats = new FlightSeats(layout);
+
+        // Sièges vendus absents du plan (écriture différée perdue à l'arrêt)
+        for (String seatNumber : reservationRepository.findOccupiedSeatNumbers(flightId)) {
+            Integer index = seats.indexBySeat.get(seatNumber);
+            if (index != null && !seats.isTaken(index)) {
+                seats.setBits(seats.group(index), 1L << (seats.bits[index] & 63));
+                seats.statuses.set(index, OCCUPIED);
+                log(new SeatWrite(flightId, seatNumber, OCCUPIED));
+                recovered.incrementAndGet();
+                System.out.println("⚠️ Siège " + seatNumber + " du vol " + flightId +
+                                 " repris depuis les réservations");
+            }
+        }
+
+        // Retenues perdues (arrêt entre la libération et son écriture) : sièges rendus
+        List<String> held = new ArrayList<>();
+        for (int i = 0; i < seats.size(); i++) {
+            if (HELD.equals(seats.statuses.get(i))) {
+                held.add(seats.numbers[i]);
+            }
+        }
+        if (!held.isEmpty()) {
+            held.removeAll(seatHoldRepository.findHeldSeatNumbers(flightId));
+            for (String seatNumber : held) {
+                seats.releaseOne(flightId, seats.indexBySeat.get(seatNumber), HELD, this::log);
+                recovered.incrementAndGet();
+                System.out.println("⚠️ Siège " + seatNumber + " du vol " + flightId +
+                                 " retenu sans retenue enregistrée : rendu disponible");
+            }
+        }
+        return seats;
+    }
+
+    // ==================== ÉCRITURE DIFFÉRÉE ====================
+
+    private void log(SeatWrite write) {
+        journal.add(write);
+    }
+
+    /**
+     * Écrire immédiatement tout le journal (arrêt, contrôles de cohérence)
+     */
+    public void flush() {
+        persistLock.lock();
+        try {
+            List<SeatWrite> batch = new ArrayList<>();
+            journal.drainTo(batch);
+            persist(batch);
+        } finally {
+            persistLock.unlock();
+        }
+    }
+
+    /**
+     * Le journal est lu sous persistLock : un flush() concurrent ne peut pas
+     * écrire une prise plus récente avant une plus ancienne du même siège.
+     * Les pauses (journal vide, échec) se font hors du verrou.
+     */
+    private void runWriteBehind() {
+        while (true) {
+            try {
+                boolean written;
+                boolean idle;
+                persistLock.lock();
+                try {
+                    List<SeatWrite> batch = new ArrayList<>();
+                    journal.drainTo(batch, Constants.SEAT_WRITE_BEHIND_BATCH);
+                    idle = batch.isEmpty();
+                    written = persist(batch);
+                } finally {
+                    persistLock.unlock();
+                }
+                if (!written) {
+                    Thread.sleep(Constants.SEAT_WRITE_BEHIND_RETRY_MS);
+                } else if (idle) {
+                    Thread.sleep(Constants.SEAT_WRITE_BEHIND_FLUSH_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                System.err.println("❌ Écriture différée des sièges: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Appliquer un lot, précédé des écritures en échec (ordre conservé,
+     * dernier statut retenu par siège). Appelé sous persistLock.
+     */
+    private boolean persist(List<SeatWrite> batch) {
+        if (batch.isEmpty() && retrying.isEmpty()) {
+            return true;
+        }
+        List<SeatWrite> writes = new ArrayList<>(retrying);
+        writes.addAll(batch);
+        retrying.clear();
+
+        Map<String, Map<String, String>> latest = new LinkedHashMap<>();
+        for (SeatWrite write : writes) {
+            latest.computeIfAbsent(write.flightId, k -> new LinkedHashMap<>())
+                  .put(write.seatNumber, write.status);
+        }
+
+        try {
+            seatRepository.applySeatStatuses(byStatus(latest));
+            failedAttempts = 0;
+            persisted.addAndGet(writes.size());
+            return true;
+        } catch (RuntimeException e) {
+            System.err.println("❌ Écriture des sièges différée (" + writes.size() +
+                             " en attente): " + e.getMessage());
+            if (++failedAttempts < Constants.SEAT_WRITE_BEHIND_MAX_RETRIES) {
+                retrying.addAll(writes);
+                return false;
+            }
+            return persistByFlight(latest);
+        }
+    }
+
+    /**
+     * Lot refusé plusieurs fois : chaque vol écrit séparément. Si aucun ne
+     * passe (base indisponible), tous sont retentés ; sinon les vols refusés
+     * sont abandonnés pour ne plus bloquer les écritures suivantes.
+     */
+    private boolean persistByFlight(Map<String, Map<String, String>> latest) {
+        Map<String, RuntimeException> failures = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> flight : latest.entrySet()) {
+            try {
+                seatRepository.applySeatStatuses(
+                    byStatus(Collections.singletonMap(flight.getKey(), flight.getValue())));
+                persisted.addAndGet(flight.getValue().size());
+            } catch (RuntimeException e) {
+                failures.put(flight.getKey(), e);
+            }
+        }
+
+        if (failures.isEmpty()) {
+            failedAttempts = 0;
+            return true;
+        }
+        if (failures.size() == latest.size()) {
+            for (Map.Entry<String, Map<String, String>> flight : latest.entrySet()) {
+                for (Map.Entry<String, String> seat : flight.getValue().entrySet()) {
+                    retrying.add(new SeatWrite(flight.getKey(), seat.getKey(), seat.getValue()));
+                }
+            }
+            return false;
+        }
+
+        for (Map.Entry<String, RuntimeException> failure : failures.entrySet()) {
+            Map<String, String> seats = latest.get(failure.getKey());
+            dropped.addAndGet(seats.size());
+            System.err.println("❌ Sièges du vol " + failure.getKey() + " non écrits, abandonnés " + seats +
+                             " : " + failure.getValue().getMessage());
+        }
+        failedAttempts = 0;
+        return true;
+    }
+
+    private static Map<String, Map<String, List<String>>> byStatus(Map<String, Map<String, String>> latest) {
+        Map<String, Map<String, List<String>>> grouped = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, String>> flight : latest.entrySet()) {
+            Map<String, List<String>> byStatus = new LinkedHashMap<>();
+            for (Map.Entry<String, String> seat : flight.getValue().entrySet()) {
+                byStatus.computeIfAbsent(seat.getValue(), k -> new ArrayList<>()).add(seat.getKey());
+            }
+            grouped.put(flight.getKey(), byStatus);
+        }
+        return grouped;
+    }
+
+    /**
+     * Statut lu en base remplacé par la constante correspondante
+     */
+    private static String canonical(String status) {
+        if (status == null) {
+            return null;
+        }
+        switch (status) {
+            case AVAILABLE: return AVAILABLE;
+            case OCCUPIED: return OCCUPIED;
+            case BLOCKED: return BLOCKED;
+            case HELD: return HELD;
+            default: return status;
+        }
+    }
+
+    // ==================== STRUCTURES ====================
+
+    /**
+     * Vue d'un siège (statut au moment de la lecture)
+     */
+    public static final class SeatInfo {
+        public final String seatNumber;
+        public final String seatClass;
+        public final double price;
+        public final String status;
+
+        SeatInfo(String seatNumber, String seatClass, double price, String status) {
+            this.seatNumber = seatNumber;
+            this.seatClass = seatClass;
+            this.price = price;
+            this.status = status;
+        }
+    }
+
+    /**
+     * Grille rangées × colonnes d'une classe ("12C" → rangée 12, colonne C),
+     * index du siège par case (-1 : pas de siège)
+     */
+    private static final class SeatGrid {
+        final int columns;
+        final int aisleAfter;
+        final int[] indexes;
+
+        SeatGrid(FlightSeats seats, String seatClass) {
+            TreeSet<Integer> rows = new TreeSet<>();
+            TreeSet<String> letters = new TreeSet<>();
+            List<Integer> members = new ArrayList<>();
+            for (int i = 0; i < seats.size(); i++) {
+                int split = rowLength(seats.numbers[i]);
+                if (seatClass.equalsIgnoreCase(seats.classes[i]) && split > 0
+                        && split < seats.numbers[i].length()) {
+                    rows.add(Integer.parseInt(seats.numbers[i].substring(0, split)));
+                    letters.add(seats.numbers[i].substring(split));
+                    members.add(i);
+                }
+            }
+
+            // Masques de colonnes sur un int : au plus 31 colonnes
+            List<String> columnLetters = new ArrayList<>(letters);
+            if (columnLetters.size() > 31) {
+                members.clear();
+                rows.clear();
+                columnLetters.clear();
+            }
+            List<Integer> rowNumbers = new ArrayList<>(rows);
+            columns = Math.max(1, columnLetters.size());
+            aisleAfter = columnLetters.size() >= 4 && columnLetters.size() % 2 == 0
+                ? columnLetters.size() / 2 - 1
+                : -1;
+
+            indexes = new int[rowNumbers.size() * columns];
+            Arrays.fill(indexes, -1);
+            for (int i : members) {
+                int split = rowLength(seats.numbers[i]);
+                int row = Collections.binarySearch(rowNumbers, Integer.parseInt(seats.numbers[i].substring(0, split)));
+                int column = columnLetters.indexOf(seats.numbers[i].substring(split));
+                indexes[row * columns + column] = i;
+            }
+        }
+
+        /**
+         * Colonnes libres de chaque rangée, lues sur les bitsets
+         */
+        int[] free(FlightSeats seats) {
+            int[] free = new int[indexes.length / columns];
+            for (int place = 0; place < indexes.length; place++) {
+                int index = indexes[place];
+                if (index >= 0 && !seats.isTaken(index)) {
+                    free[place / columns] |= 1 << (place % columns);
+                }
+            }
+            return free;
+        }
+
+        private static int rowLength(String seatNumber) {
+            int length = 0;
+            while (length < Math.min(seatNumber.length(), 9) && Character.isDigit(seatNumber.charAt(length))) {
+                length++;
+            }
+            return length;
+        }
+    }
+
+    private static final class SeatWrite {
+        final String flightId;
+        final String seatNumber;
+        final String status;
+
+        SeatWrite(String flightId, String seatNumber, String status) {
+            this.flightId = flightId;
+            this.seatNumber = seatNumber;
+            this.status = status;
+        }
+    }
+
+    /**
+     * Sièges d'un vol : un bitset par classe, statut détaillé par siège
+     */
+    private static final class FlightSeats {
+        final Map<String, Integer> indexBySeat = new HashMap<>();
+        final String[] numbers;
+        final String[] classes;
+        final double[] prices;
+
+        // Classe (rang) et bit dans le bitset de cette classe
+        final int[] classSlots;
+        final int[] bits;
+        final AtomicLongArray[] taken;
+
+        // Statut détaillé, écrit par le détenteur du bit
+        final AtomicReferenceArray<String> statuses;
+
+        // Grilles par classe pour le choix automatique (plan figé : construites une fois)
+        final ConcurrentHashMap<String, SeatGrid> grids = new ConcurrentHashMap<>();
+
+        FlightSeats(List<Document> layout) {
+            int size = layout.size();
+            numbers = new String[size];
+            classes = new String[size];
+            prices = new double[size];
+            classSlots = new int[size];
+            bits = new int[size];
+            statuses = new AtomicReferenceArray<>(size);
+
+            Map<String, Integer> slotByClass = new LinkedHashMap<>();
+            List<Integer> seatsPerClass = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                Document seat = layout.get(i);
+                numbers[i] = seat.getString("seatNumber");
+                classes[i] = seat.getString("seatClass");
+                Object price = seat.get("price");
+                prices[i] = price instanceof Number ? ((Number) price).doubleValue() : 0;
+                indexBySeat.put(numbers[i], i);
+
+                int slot = slotByClass.computeIfAbsent(String.valueOf(classes[i]), k -> {
+                    seatsPerClass.add(0);
+                    return seatsPerClass.size() - 1;
+                });
+                classSlots[i] = slot;
+                bits[i] = seatsPerClass.get(slot);
+                seatsPerClass.set(slot, bits[i] + 1);
+            }
+
+            taken = new AtomicLongArray[seatsPerClass.size()];
+            for (int slot = 0; slot < taken.length; slot++) {
+                taken[slot] = new AtomicLongArray((seatsPerClass.get(slot) + 63) / 64);
+            }
+
+            for (int i = 0; i < size; i++) {
+                // Constantes de la classe : les CAS de statut comparent les références
+                String status = canonical(layout.get(i).getString("status"));
+                boolean isTaken = status != null && !AVAILABLE.equals(status);
+                statuses.set(i, isTaken ? status : AVAILABLE);
+                if (isTaken) {
+                    setBits(group(i), 1L << (bits[i] & 63));
+                }
+            }
+        }
+
+        int size() {
+            return numbers.length;
+        }
+
+        SeatGrid grid(String seatClass) {
+            String key = String.valueOf(seatClass).toUpperCase(Locale.ROOT);
+            return grids.computeIfAbsent(key, k -> new SeatGrid(this, k));
+        }
+
+        SeatInfo info(int index) {
+            return new SeatInfo(numbers[index], classes[index], prices[index], statuses.get(index));
+        }
+
+        boolean isTaken(int index) {
+            long word = taken[classSlots[index]].get(bits[index] >>> 6);
+            return (word & (1L << (bits[index] & 63))) != 0;
+        }
+
+        /**
+         * Index triés (classe, bit) ; null si un siège est inconnu ou en double
+         */
+        int[] resolve(Collection<String> seatNumbers) {
+            if (seatNumbers.isEmpty()) {
+                return null;
+            }
+            int[] indexes = new int[seatNumbers.size()];
+            int n = 0;
+            for (String seatNumber : seatNumbers) {
+                Integer index = indexBySeat.get(seatNumber);
+                if (index == null) {
+                    return null;
+                }
+                indexes[n++] = index;
+            }
+
+            Integer[] boxed = new Integer[n];
+            for (int i = 0; i < n; i++) {
+                boxed[i] = indexes[i];
+            }
+            Arrays.sort(boxed, Comparator.comparingLong(this::group).thenComparingInt(i -> bits[i]));
+            for (int i = 0; i < n; i++) {
+                indexes[i] = boxed[i];
+                if (i > 0 && indexes[i] == indexes[i - 1]) {
+                    return null;
+                }
+            }
+            return indexes;
+        }
+
+        // Mot (classe, numéro de mot) d'un siège
+        long group(int index) {
+            return ((long) classSlots[index] << 32) | (bits[index] >>> 6);
+        }
+
+        long[] groups(int[] indexes) {
+            long[] groups = new long[indexes.length];
+            int n = 0;
+            for (int index : indexes) {
+                long group = group(index);
+                if (n == 0 || groups[n - 1] != group) {
+                    groups[n++] = group;
+                }
+            }
+            return Arrays.copyOf(groups, n);
+        }
+
+        long masks(int[] indexes, long group) {
+            long mask = 0;
+            for (int index : indexes) {
+                if (group(index) == group) {
+                    mask |= 1L << (bits[index] & 63);
+                }
+            }
+            return mask;
+        }
+
+        /**
+         * Poser tous les bits du masque d'un coup, ou aucun si l'un est déjà posé
+         */
+        boolean setBits(long group, long mask) {
+            AtomicLongArray words = taken[(int) (group >>> 32)];
+            int word = (int) group;
+            while (true) {
+                long current = words.get(word);
+                if ((current & mask) != 0) {
+                    return false;
+                }
+                if (words.compareAndSet(word, current, current | mask)) {
+                    return true;
+                }
+            }
+        }
+
+        void clearBits(long group, long mask) {
+            AtomicLongArray words = taken[(int) (group >>> 32)];
+            int word = (int) group;
+            while (true) {
+                long current = words.get(word);
+                if (words.compareAndSet(word, current, current & ~mask)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Bits posés : statut détaillé, journal, décompte par classe
+         */
+        Map<String, Integer> apply(String flightId, int[] indexes, String status,
+                                   java.util.function.Consumer<SeatWrite> journal) {
+            Map<String, Integer> byClass = new HashMap<>();
+            for (int index : indexes) {
+                statuses.set(index, status);
+                byClass.merge(classes[index], 1, Integer::sum);
+                journal.accept(new SeatWrite(flightId, numbers[index], status));
+            }
+            return byClass;
+        }
+
+        /**
+         * Libérer un siège pris (avec le statut attendu si précisé)
+         * L'écriture AVAILABLE est journalisée avant de rendre le bit : le
+         * statut d'une nouvelle prise du siège est toujours journalisé après
+         */
+        boolean releaseOne(String flightId, int index, String expectedStatus,
+                           java.util.function.Consumer<SeatWrite> journal) {
+            String status = statuses.get(index);
+            // AVAILABLE avec bit posé : prise en cours d'un autre appelant
+            if (!isTaken(index) || AVAILABLE.equals(status)
+                    || (expectedStatus != null && !expectedStatus.equals(status))) {
+                return false;
+            }
+            // Statut remis avant le bit : une nouvelle prise voit un siège cohérent
+            if (!statuses.compareAndSet(index, status, AVAILABLE)) {
+                return false;
+            }
+            journal.accept(new SeatWrite(flightId, numbers[index], AVAILABLE));
+            clearBits(group(index), 1L << (bits[index] & 63));
+            return true;
+        }
+    }
+}
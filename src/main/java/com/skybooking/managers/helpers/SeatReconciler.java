@@ -0,0 +1,297 @@
+// src/main/java/com/skybooking/managers/helpers/SeatReconciler.java
+
+package com.skybooking.managers.helpers;
+
+import com.skybooking.database.repositories.BookingIntentRepository;
+import com.skybooking.database.repositories.FlightRepository;
+import com.skybooking.utils.Constants;
+import org.bson.Document;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🔎 Vérification continue des compteurs de places des vols
+ *
+ * Les compteurs (availableSeats, availableEconomy, ...) et les plans de sièges
+ * sont écrits séparément : un échec entre les deux les fait diverger. Un
+ * passage parcourt les vols à venir par pages (flightId croissant) ; chaque
+ * page est comparée à son plan par une seule agrégation
+ * (FlightRepository.findSeatCounts).
+ *
+ * Un écart peut venir d'une réservation en cours (siège pris, compteur pas
+ * encore mis à jour). Avant correction, les vols en écart sont donc revérifiés
+ * après SEAT_RECONCILE_SETTLE_MS, en parallèle du parcours : seuls ceux dont
+ * l'écart est identique et sans réservation en cours sont retenus. Le plan
+ * MongoDB ne sert qu'à repérer les écarts : les compteurs sont comparés puis
+ * corrigés d'après SeatInventory (source de vérité, plan en base pouvant être
+ * en retard), par un bulkWrite qui ne touche pas un compteur modifié entre-temps.
+ *
+ * Limitation de charge : une page à la fois, suivie d'une pause au moins
+ * égale à sa durée (la base n'est jamais occupée plus d'un temps sur deux),
+ * et SEAT_RECONCILE_INTERVAL_SECONDS entre deux passages.
+ */
+public class SeatReconciler {
+
+    private final FlightRepository flightRepository;
+    private final BookingIntentRepository intentRepository;
+    private final SeatInventory seatInventory;
+
+    private final ScheduledExecutorService scanner;
+    private final ScheduledExecutorService workers;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong totalRepaired = new AtomicLong();
+    private volatile Report lastReport;
+
+    public SeatReconciler(FlightRepository flightRepository, BookingIntentRepository intentRepository,
+                          SeatInventory seatInventory) {
+        this.flightRepository = flightRepository;
+        this.intentRepository = intentRepository;
+        this.seatInventory = seatInventory;
+
+        this.scanner = Executors.newSingleThreadScheduledExecutor(daemon("seat-reconciler"));
+        this.workers = Executors.newScheduledThreadPool(Constants.SEAT_RECONCILE_THREADS,
+                                                        daemon("seat-reconciler-repair"));
+
+        scanner.scheduleWithFixedDelay(() -> {
+            if (running.compareAndSet(false, true)) {
+                runPass(true);
+            }
+        }, Constants.SEAT_RECONCILE_INTERVAL_SECONDS, Constants.SEAT_RECONCILE_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Lancer un passage tout de suite (admin)
+     *
+     * @param repair false : écarts seulement signalés
+     * @return false si un passage est déjà en cours
+     */
+    public boolean start(boolean repair) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        scanner.execute(() -> runPass(repair));
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Dernier passage terminé (null si aucun)
+     */
+    public Report getLastReport() {
+        return lastReport;
+    }
+
+    public long getTotalRepaired() {
+        return totalRepaired.get();
+    }
+
+    // ==================== PASSAGE ====================
+
+    private void runPass(boolean repair) {
+        long startTime = System.currentTimeMillis();
+        Pass pass = new Pass(repair);
+        List<Future<?>> checks = new ArrayList<>();
+
+        try {
+            String today = LocalDate.now().toString();
+            String after = null;
+            while (true) {
+                long pageStart = System.currentTimeMillis();
+
+                // Statuts en attente écrits avant de compter
+                seatInventory.flush();
+                List<Document> counts = flightRepository.findSeatCounts(
+                    after, today, Constants.SEAT_RECONCILE_PAGE_SIZE);
+                if (counts.isEmpty()) {
+                    break;
+                }
+                pass.scanned += counts.size();
+                after = counts.get(counts.size() - 1).getString("flightId");
+
+                List<Document> drifts = new ArrayList<>();
+                for (Document count : counts) {
+                    if (Boolean.TRUE.equals(count.getBoolean("drift"))) {
+                        drifts.add(count);
+                    }
+                }
+                if (!drifts.isEmpty()) {
+                    checks.add(workers.schedule(() -> settle(pass, drifts),
+                        Constants.SEAT_RECONCILE_SETTLE_MS, TimeUnit.MILLISECONDS));
+                }
+
+                if (counts.size() < Constants.SEAT_RECONCILE_PAGE_SIZE) {
+                    break;
+                }
+                long elapsed = System.currentTimeMillis() - pageStart;
+                Thread.sleep(Math.max(Constants.SEAT_RECONCILE_PAGE_PAUSE_MS, elapsed));
+            }
+
+            for (Future<?> check : checks) {
+                check.get();
+            }
+
+            long duration = System.currentTimeMillis() - startTime;
+            lastReport = pass.report(duration);
+            if (pass.drifted.get() > 0) {
+                System.out.println("🔎 Compteurs de places : " + pass.drifted.get() + " vol(s) en écart sur " +
+                                 pass.scanned + ", " + pass.repaired.get() + " corrigé(s) (" + duration + " ms)");
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            System.err.println("❌ Vérification des compteurs de places: " + e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Revérifier les vols en écart d'une page, puis corriger ceux dont
+     * l'écart n'a pas bougé
+     */
+    private void settle(Pass pass, List<Document> drifts) {
+        seatInventory.flush();
+        Set<String> booking = intentRepository.findFlightIds();
+
+        Map<String, Document> firstSeen = new HashMap<>();
+        for (Document drift : drifts) {
+            firstSeen.put(drift.getString("flightId"), drift);
+        }
+
+        List<Document> confirmed = new ArrayList<>();
+        for (Document count : flightRepository.findSeatCounts(firstSeen.keySet())) {
+            Document first = firstSeen.get(count.getString("flightId"));
+            if (Boolean.TRUE.equals(count.getBoolean("drift"))
+                    && !booking.contains(count.getString("flightId"))
+                    && count.get("recorded").equals(first.get("recorded"))
+                    && count.get("actual").equals(first.get("actual"))) {
+                Document recorded = count.get("recorded", Document.class);
+                Document actual = inventoryCounts(count.getString("flightId"), recorded);
+                // Plan en base en retard sur la mémoire : compteurs justes
+                if (actual != null && !sameCounts(recorded, actual)) {
+                    confirmed.add(new Document(count).append("actual", actual));
+                }
+            }
+        }
+        if (confirmed.isEmpty()) {
+            return;
+        }
+
+        pass.drifted.addAndGet(confirmed.size());
+        synchronized (pass.drifts) {
+            for (Document drift : confirmed) {
+                if (pass.drifts.size() < Constants.SEAT_RECONCILE_REPORT_LIMIT) {
+                    pass.drifts.add(drift);
+                }
+            }
+        }
+
+        if (pass.repair) {
+            int repaired = flightRepository.repairSeatCounters(confirmed);
+            pass.repaired.addAndGet(repaired);
+            totalRepaired.addAndGet(repaired);
+        }
+    }
+
+    /**
+     * Compteurs du vol d'après l'inventaire en mémoire, mêmes champs que
+     * recorded (null si le plan du vol n'existe pas)
+     */
+    private Document inventoryCounts(String flightId, Document recorded) {
+        Map<String, Integer> byClass = seatInventory.availableByClass(flightId);
+        if (byClass == null) {
+            return null;
+        }
+        Map<String, Integer> byCounter = new HashMap<>();
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : byClass.entrySet()) {
+            String counter = FlightRepository.classCounterField(entry.getKey());
+            if (counter != null) {
+                byCounter.merge(counter, entry.getValue(), Integer::sum);
+            }
+            total += entry.getValue();
+        }
+
+        Document actual = new Document();
+        for (String counter : recorded.keySet()) {
+            actual.append(counter, "availableSeats".equals(counter) ? total : byCounter.getOrDefault(counter, 0));
+        }
+        return actual;
+    }
+
+    private static boolean sameCounts(Document recorded, Document actual) {
+        for (Map.Entry<String, Object> counter : actual.entrySet()) {
+            Object value = recorded.get(counter.getKey());
+            if (!(value instanceof Number)
+                    || ((Number) value).longValue() != ((Number) counter.getValue()).longValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return r -> {
+            Thread thread = new Thread(r, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Passage en cours (compteurs partagés avec les vérifications parallèles)
+     */
+    private static final class Pass {
+        final boolean repair;
+        int scanned;
+        final AtomicInteger drifted = new AtomicInteger();
+        final AtomicInteger repaired = new AtomicInteger();
+        final List<Document> drifts = new ArrayList<>();
+
+        Pass(boolean repair) {
+            this.repair = repair;
+        }
+
+        Report report(long durationMs) {
+            synchronized (drifts) {
+                return new Report(new Date(), durationMs, scanned, drifted.get(), repaired.get(),
+                                  repair, new ArrayList<>(drifts));
+            }
+        }
+    }
+
+    /**
+     * Résultat d'un passage ; drifts : entrées de findSeatCounts
+     * (au plus SEAT_RECONCILE_REPORT_LIMIT)
+     */
+    public static final class Report {
+        public final Date finishedAt;
+        public final long durationMs;
+        public final int flightsScanned;
+        public final int driftedFlights;
+        public final int repairedFlights;
+        public final boolean repair;
+        public final List<Document> drifts;
+
+        Report(Date finishedAt, long durationMs, int flightsScanned, int driftedFlights,
+               int repairedFlights, boolean repair, List<Document> drifts) {
+            this.finishedAt = finishedAt;
+            this.durationMs = durationMs;
+            this.flightsScanned = flightsScanned;
+            this.driftedFlights = driftedFlights;
+            this.repairedFlights = repairedFlights;
+            this.repair = repair;
+            this.drifts = Collections.unmodifiableList(drifts);
+        }
+    }
+}
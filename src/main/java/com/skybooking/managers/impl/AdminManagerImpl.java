@@ -4,6 +4,8 @@ package com.skybooking.managers.impl;
 
 import FlightReservation.*;
 import com.skybooking.database.repositories.*;
+import com.skybooking.managers.helpers.SeatInventory;
+import com.skybooking.managers.helpers.SeatReconciler;
 import com.skybooking.security.PasswordHasher;
 import com.skybooking.security.SessionManager;
 import com.skybooking.security.TokenManager;
@@ -25,6 +27,8 @@ public class AdminManagerImpl extends AdminManagerPOA {
     private final PaymentRepository paymentRepository;
     private final SeatRepository seatRepository;
     private final SessionManager sessionManager;
+    private final SeatInventory seatInventory; // 🆕 Sièges en mémoire (source de vérité)
+    private final SeatReconciler seatReconciler; // 🆕 Vérification continue des compteurs de places
     
     // 🆕 REPOSITORIES HÔTELS
     private final HotelRepository hotelRepository;
@@ -38,6 +42,8 @@ public class AdminManagerImpl extends AdminManagerPOA {
         this.paymentRepository = new PaymentRepository();
         this.seatRepository = new SeatRepository();
         this.sessionManager = new SessionManager();
+        this.seatInventory = SeatInventory.getInstance();
+        this.seatReconciler = new SeatReconciler(flightRepository, new BookingIntentRepository(), seatInventory);
         
         // 🆕 INITIALISATION REPOSITORIES HÔTELS
         this.hotelRepository = new HotelRepository();
@@ -325,6 +331,7 @@ public class AdminManagerImpl extends AdminManagerPOA {
         
         flightRepository.deleteFlight(flightId);
         seatRepository.deleteSeatsForFlight(flightId);
+        seatInventory.forget(flightId);
         
         System.out.println("✅ Vol supprimé");
         return true;
@@ -493,11 +500,13 @@ public class AdminManagerImpl extends AdminManagerPOA {
         
         for (int i = 0; i < seatDocs.size(); i++) {
             Document seat = seatDocs.get(i);
+            String seatNumber = seat.getString("seatNumber");
             seats[i] = new SeatMapData(
                 flightId,
-                seat.getString("seatNumber"),
+                seatNumber,
                 seat.getString("seatClass"),
-                seat.getString("status"),
+                // 🆕 Statut en mémoire (écriture MongoDB différée)
+                seatInventory.currentStatus(flightId, seatNumber, seat.getString("status")),
                 seat.getDouble("price"),
                 "",
                 ""
@@ -515,6 +524,8 @@ public class AdminManagerImpl extends AdminManagerPOA {
         boolean updated = seatRepository.updateSeatPrice(flightId, seatNumber, newPrice);
         
         if (updated) {
+            seatInventory.updatePrice(flightId, seatNumber, newPrice);
+            flightRepository.touchFlight(flightId);
             System.out.println("✅ Prix mis à jour");
         }
         
@@ -525,8 +536,14 @@ public class AdminManagerImpl extends AdminManagerPOA {
     public boolean blockSeat(String flightId, String seatNumber, String reason) {
         System.out.println("→ Blocage siège: " + seatNumber);
         
-        seatRepository.updateSeatStatus(flightId, seatNumber, "BLOCKED");
-        flightRepository.decrementAvailableSeats(flightId);
+        // 🆕 Seul un siège libre peut être bloqué (pas de siège vendu retiré)
+        Map<String, Integer> blocked = seatInventory.claim(
+            flightId, Collections.singletonList(seatNumber), SeatInventory.BLOCKED);
+        if (blocked == null) {
+            System.err.println("❌ Siège inexistant ou déjà pris: " + seatNumber);
+            return false;
+        }
+        flightRepository.decrementAvailableSeats(flightId, blocked);
         
         System.out.println("✅ Siège bloqué");
         return true;
@@ -536,13 +553,75 @@ public class AdminManagerImpl extends AdminManagerPOA {
     public boolean unblockSeat(String flightId, String seatNumber) {
         System.out.println("→ Déblocage siège: " + seatNumber);
         
-        seatRepository.updateSeatStatus(flightId, seatNumber, "AVAILABLE");
-        flightRepository.incrementAvailableSeats(flightId);
+        Map<String, Integer> unblocked = seatInventory.release(
+            flightId, Collections.singletonList(seatNumber), SeatInventory.BLOCKED);
+        if (unblocked.isEmpty()) {
+            System.err.println("❌ Siège non bloqué: " + seatNumber);
+            return false;
+        }
+        flightRepository.incrementAvailableSeats(flightId, unblocked);
         
         System.out.println("✅ Siège débloqué");
         return true;
     }
     
+    // 🆕 ==================== COHÉRENCE DES COMPTEURS DE PLACES ====================
+    
+    @Override
+    public SeatDriftReport getSeatDriftReport() {
+        SeatReconciler.Report report = seatReconciler.getLastReport();
+        if (report == null) {
+            return new SeatDriftReport(seatReconciler.isRunning(), "", 0, 0, 0, 0,
+                                       (int) seatReconciler.getTotalRepaired(), new SeatDrift[0]);
+        }
+        
+        SeatDrift[] drifts = new SeatDrift[report.drifts.size()];
+        for (int i = 0; i < drifts.length; i++) {
+            drifts[i] = documentToSeatDrift(report.drifts.get(i));
+        }
+        
+        return new SeatDriftReport(
+            seatReconciler.isRunning(),
+            DateUtils.formatDateTime(report.finishedAt),
+            (int) report.durationMs,
+            report.flightsScanned,
+            report.driftedFlights,
+            report.repairedFlights,
+            (int) seatReconciler.getTotalRepaired(),
+            drifts
+        );
+    }
+    
+    @Override
+    public boolean startSeatReconciliation(boolean repair) {
+        System.out.println("→ Vérification des compteurs de places" + (repair ? " avec correction" : ""));
+        return seatReconciler.start(repair);
+    }
+    
+    private SeatDrift documentToSeatDrift(Document doc) {
+        Document recorded = doc.get("recorded", Document.class);
+        Document actual = doc.get("actual", Document.class);
+        
+        return new SeatDrift(
+            doc.getString("flightId"),
+            doc.getString("flightNumber") != null ? doc.getString("flightNumber") : "",
+            doc.getString("departureDate") != null ? doc.getString("departureDate") : "",
+            seatCounter(recorded, "availableSeats"),
+            seatCounter(actual, "availableSeats"),
+            seatCounter(recorded, "availableEconomy"),
+            seatCounter(actual, "availableEconomy"),
+            seatCounter(recorded, "availableBusiness"),
+            seatCounter(actual, "availableBusiness"),
+            seatCounter(recorded, "availableFirst"),
+            seatCounter(actual, "availableFirst")
+        );
+    }
+    
+    private int seatCounter(Document counters, String field) {
+        Object value = counters.get(field);
+        return value instanceof Number ? ((Number) value).intValue() : -1;
+    }
+    
     // ==================== GESTION DES PRIX ====================
     
     @Override
@@ -972,6 +1051,14 @@ public class AdminManagerImpl extends AdminManagerPOA {
         }
         
         seatRepository.insertSeats(seats);
+        
+        // 🆕 Compteurs par classe alignés sur le plan de sièges généré
+        Map<String, Integer> seatsByClass = new HashMap<>();
+        for (Document seat : seats) {
+            seatsByClass.merge(seat.getString("seatClass"), 1, Integer::sum);
+        }
+        flightRepository.setClassCounters(flightId, seatsByClass);
+        
         System.out.println("✅ " + seats.size() + " sièges créés pour " + flightId);
     }
     
@@ -4,6 +4,8 @@ package com.skybooking.managers.impl;
 
 import FlightReservation.*;
 import com.skybooking.database.repositories.*;
+import com.skybooking.managers.helpers.DocumentRenderTrigger;
+import com.skybooking.managers.helpers.SeatInventory;
 import com.skybooking.security.TokenManager;
 import com.skybooking.utils.Constants;
 import com.skybooking.utils.DateUtils;
@@ -21,16 +23,21 @@ public class CancellationManagerImpl extends CancellationManagerPOA {
     private final SeatRepository seatRepository;
     private final CancellationRepository cancellationRepository;
     private final RefundRepository refundRepository;
+    private final SeatInventory seatInventory; // 🆕 Sièges en mémoire (source de vérité)
     
     // ✅ NOUVEAU: Référence au HotelManager pour annulations liées
     private HotelManagerImpl hotelManager;
     
+    // 🆕 Régénération des PDF après modification de réservation
+    private DocumentRenderTrigger documentRenderTrigger;
+    
     public CancellationManagerImpl() {
         this.reservationRepository = new ReservationRepository();
         this.flightRepository = new FlightRepository();
         this.seatRepository = new SeatRepository();
         this.cancellationRepository = new CancellationRepository();
         this.refundRepository = new RefundRepository();
+        this.seatInventory = SeatInventory.getInstance();
         System.out.println("✅ CancellationManager initialisé");
     }
     
@@ -42,6 +49,13 @@ public class CancellationManagerImpl extends CancellationManagerPOA {
         System.out.println("✅ HotelManager injecté dans CancellationManager");
     }
     
+    /**
+     * 🆕 Setter pour injection du déclencheur de rendu PDF
+     */
+    public void setDocumentRenderTrigger(DocumentRenderTrigger documentRenderTrigger) {
+        this.documentRenderTrigger = documentRenderTrigger;
+    }
+    
     @Override
     public CancellationPolicy getCancellationPolicy(String reservationId) {
         System.out.println("→ Récupération politique pour: " + reservationId);
@@ -155,10 +169,9 @@ public class CancellationManagerImpl extends CancellationManagerPOA {
         List<String> seatNumbers = (List<String>) resDoc.get("seatNumbers");
         String flightId = resDoc.getString("flightId");
         
-        for (String seatNumber : seatNumbers) {
-            seatRepository.updateSeatStatus(flightId, seatNumber, "AVAILABLE");
-            flightRepository.incrementAvailableSeats(flightId);
-        }
+        Map<String, Integer> seatsByClass =
+            seatInventory.release(flightId, seatNumbers, SeatInventory.OCCUPIED);
+        flightRepository.incrementAvailableSeats(flightId, seatsByClass);
         
         reservationRepository.updateStatus(reservationId, "CANCELLED");
         
@@ -241,49 +254,52 @@ public class CancellationManagerImpl extends CancellationManagerPOA {
             );
         }
         
-        List<Document> seatsToReserve = new ArrayList<>();
         double totalPrice = 0;
+        List<String> addedSeats = new ArrayList<>();
         
         for (String seatNumber : newSeats) {
-            Document seatDoc = seatRepository.findSeat(flightId, seatNumber);
+            SeatInventory.SeatInfo seat = seatInventory.seat(flightId, seatNumber);
             
-            if (seatDoc == null) {
+            if (seat == null) {
                 throw new SeatNotAvailableException("Siège inexistant: " + seatNumber);
             }
             
-            String status = seatDoc.getString("status");
-            if (!"AVAILABLE".equals(status) && !oldSeats.contains(seatNumber)) {
-                throw new SeatNotAvailableException("Siège non disponible: " + seatNumber);
+            if (!oldSeats.contains(seatNumber)) {
+                if (!SeatInventory.AVAILABLE.equals(seat.status)) {
+                    throw new SeatNotAvailableException("Siège non disponible: " + seatNumber);
+                }
+                addedSeats.add(seatNumber);
             }
             
-            seatsToReserve.add(seatDoc);
-            totalPrice += seatDoc.getDouble("price");
+            totalPrice += seat.price;
         }
         
-        for (String oldSeat : oldSeats) {
-            if (!Arrays.asList(newSeats).contains(oldSeat)) {
-                seatRepository.updateSeatStatus(flightId, oldSeat, "AVAILABLE");
-                System.out.println("  ✅ Siège libéré: " + oldSeat);
-            }
+        List<String> releasedSeats = new ArrayList<>(oldSeats);
+        releasedSeats.removeAll(Arrays.asList(newSeats));
+        
+        // 🆕 Nouveaux sièges pris d'un bloc avant de rendre les anciens : rien à défaire
+        Map<String, Integer> claimedByClass = addedSeats.isEmpty()
+            ? new HashMap<>()
+            : seatInventory.claim(flightId, addedSeats, SeatInventory.OCCUPIED);
+        if (claimedByClass == null) {
+            throw new SeatNotAvailableException(
+                "Échec réservation siège(s): " + String.join(", ", addedSeats)
+            );
+        }
+        for (String newSeat : addedSeats) {
+            System.out.println("  ✅ Siège réservé: " + newSeat);
         }
         
-        for (String newSeat : newSeats) {
-            if (!oldSeats.contains(newSeat)) {
-                if (!seatRepository.updateSeatStatusAtomic(
-                        flightId, newSeat, "AVAILABLE", "OCCUPIED")) {
-                    for (String rolledSeat : oldSeats) {
-                        if (!Arrays.asList(newSeats).contains(rolledSeat)) {
-                            seatRepository.updateSeatStatus(
-                                flightId, rolledSeat, "OCCUPIED"
-                            );
-                        }
-                    }
-                    throw new SeatNotAvailableException(
-                        "Échec réservation siège: " + newSeat
-                    );
-                }
-                System.out.println("  ✅ Siège réservé: " + newSeat);
-            }
+        Map<String, Integer> releasedByClass =
+            seatInventory.release(flightId, releasedSeats, SeatInventory.OCCUPIED);
+        for (String oldSeat : releasedSeats) {
+            System.out.println("  ✅ Siège libéré: " + oldSeat);
+        }
+        
+        // 🆕 Sièges libérés (+1) et pris (-1) par classe, pour les compteurs du vol
+        Map<String, Integer> classDeltas = new HashMap<>(releasedByClass);
+        for (Map.Entry<String, Integer> entry : claimedByClass.entrySet()) {
+            classDeltas.merge(entry.getKey(), -entry.getValue(), Integer::sum);
         }
         
         Document updates = new Document()
@@ -292,6 +308,15 @@ public class CancellationManagerImpl extends CancellationManagerPOA {
         
         reservationRepository.updateReservation(reservationId, updates);
         
+        // Plan de sièges modifié sans variation du total : invalider les ETags
+        flightRepository.moveSeatsBetweenClasses(flightId, classDeltas);
+        flightRepository.touchFlight(flightId);
+        
+        // 🆕 Réservation modifiée : nouvelle version des tickets PDF
+        if (documentRenderTrigger != null) {
+            documentRenderTrigger.scheduleReservationTickets(reservationId);
+        }
+        
         System.out.println("✅ Sièges modifiés avec succès");
         System.out.println("  Ancien(s): " + String.join(", ", oldSeats));
         System.out.println("  Nouveau(x): " + String.join(", ", newSeats));
@@ -369,37 +394,34 @@ public class CancellationManagerImpl extends CancellationManagerPOA {
             );
         }
         
-        for (String seatNumber : seatNumbers) {
-            seatRepository.updateSeatStatus(oldFlightId, seatNumber, "AVAILABLE");
-            flightRepository.incrementAvailableSeats(oldFlightId);
+        // 🆕 Sièges du nouveau vol pris en mémoire avant de rendre les anciens
+        // (nouvel essai si un autre client prend l'un d'eux entre-temps)
+        List<String> newSeatNumbers = Collections.emptyList();
+        Map<String, Integer> newSeatsByClass = null;
+        for (int attempt = 0; attempt < 3 && newSeatsByClass == null; attempt++) {
+            newSeatNumbers = seatInventory.firstAvailable(newFlightId, requiredSeats);
+            if (newSeatNumbers.size() < requiredSeats) {
+                break;
+            }
+            newSeatsByClass = seatInventory.claim(newFlightId, newSeatNumbers, SeatInventory.OCCUPIED);
         }
         
-        List<Document> newSeatsAvailable = seatRepository.getAvailableSeats(
-            newFlightId, 
-            requiredSeats
-        );
-        
-        if (newSeatsAvailable.size() < requiredSeats) {
-            for (String seatNumber : seatNumbers) {
-                seatRepository.updateSeatStatus(oldFlightId, seatNumber, "OCCUPIED");
-                flightRepository.decrementAvailableSeats(oldFlightId);
-            }
+        if (newSeatsByClass == null) {
             throw new ModificationNotAllowedException(
                 "Échec lors de la réservation des nouveaux sièges"
             );
         }
+        flightRepository.decrementAvailableSeats(newFlightId, newSeatsByClass);
         
-        List<String> newSeatNumbers = new ArrayList<>();
         double newTotalPrice = 0;
-        
-        for (Document seatDoc : newSeatsAvailable) {
-            String seatNumber = seatDoc.getString("seatNumber");
-            seatRepository.updateSeatStatus(newFlightId, seatNumber, "OCCUPIED");
-            flightRepository.decrementAvailableSeats(newFlightId);
-            newSeatNumbers.add(seatNumber);
-            newTotalPrice += seatDoc.getDouble("price");
+        for (String seatNumber : newSeatNumbers) {
+            newTotalPrice += seatInventory.seat(newFlightId, seatNumber).price;
         }
         
+        Map<String, Integer> oldSeatsByClass =
+            seatInventory.release(oldFlightId, seatNumbers, SeatInventory.OCCUPIED);
+        flightRepository.incrementAvailableSeats(oldFlightId, oldSeatsByClass);
+        
         Document updates = new Document()
             .append("flightId", newFlightId)
             .append("seatNumbers", newSeatNumbers)
@@ -408,6 +430,10 @@ public class CancellationManagerImpl extends CancellationManagerPOA {
         
         reservationRepository.updateReservation(reservationId, updates);
         
+        if (documentRenderTrigger != null) {
+            documentRenderTrigger.scheduleReservationTickets(reservationId);
+        }
+        
         System.out.println("✅ Vol changé avec succès");
         System.out.println("  Ancien vol: " + oldFlightId);
         System.out.println("  Nouveau vol: " + newFlightId);
@@ -4,12 +4,25 @@ package com.skybooking.managers.impl;
 
 import FlightReservation.*;
 import com.skybooking.database.repositories.FlightRepository;
+import com.skybooking.database.repositories.HotelRepository;
 import com.skybooking.database.repositories.SeatRepository;
+import com.skybooking.managers.helpers.CitySuggester;
+import com.skybooking.managers.helpers.ConnectionSearchEngine;
+import com.skybooking.managers.helpers.DestinationFareTable;
+import com.skybooking.managers.helpers.FlightResultSelector;
+import com.skybooking.managers.helpers.FlightSearchIndex;
 import com.skybooking.managers.helpers.ManagerHelper;
+import com.skybooking.managers.helpers.RequestCoalescer;
+import com.skybooking.managers.helpers.SeatInventory;
+import com.skybooking.utils.CityKeys;
+import com.skybooking.utils.Constants;
 import com.skybooking.utils.DateUtils;
 import org.bson.Document;
 import java.util.*;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
 
 /**
  * ✈️ GESTIONNAIRE DE VOLS - OTA MONDIALE
@@ -21,12 +34,32 @@ import java.text.SimpleDateFormat;
  * - Vols internes algériens quotidiens
  * - Vols internationaux depuis multiples hubs algériens
  * - Lazy loading des sièges pour performance optimale
+ * - 🆕 Recherches route + date servies par un index en mémoire
+ * - 🆕 Itinéraires avec correspondances sur un graphe horaire en mémoire
  */
 public class FlightManagerImpl extends FlightManagerPOA {
     
     private final FlightRepository flightRepository;
     public final SeatRepository seatRepository;
     
+    // 🆕 Recherches identiques simultanées regroupées en une seule requête MongoDB
+    private final RequestCoalescer<String, Flight[]> searchCoalescer = new RequestCoalescer<>();
+    
+    // 🆕 Index route/jour tenu à jour par les écritures de FlightRepository
+    private final FlightSearchIndex searchIndex;
+    
+    // 🆕 Graphe des correspondances, suit les créations / annulations de vols
+    private final ConnectionSearchEngine connectionEngine;
+    
+    // 🆕 Tarif minimum par (départ, destination, mois, classe), suit les prix et les places
+    private final DestinationFareTable destinationFares;
+    
+    // 🆕 Arbre de préfixes des villes (vols, hôtels, villes configurées)
+    private final CitySuggester citySuggester;
+    
+    // 🆕 Sièges en mémoire (bitset par classe), écrits en différé dans MongoDB
+    private final SeatInventory seatInventory = SeatInventory.getInstance();
+    
     // Configuration des villes algériennes
     private static final String[] ALGERIAN_CITIES = {
         "Alger", "Oran", "Constantine", "Annaba", "Tlemcen", 
@@ -78,16 +111,79 @@ public class FlightManagerImpl extends FlightManagerPOA {
         put("Airbus A350", 350);
     }};
     
+    // 🆕 Plan de sièges généré à la demande : rangées de 6 sièges jusqu'à la
+    // capacité de l'appareil (dernière rangée éventuellement incomplète)
+    private static final String[] SEAT_LETTERS = {"A", "B", "C", "D", "E", "F"};
+    private static final int FIRST_CLASS_LAST_ROW = 2;
+    private static final int BUSINESS_LAST_ROW = 6;
+    private static final int DEFAULT_SEAT_CAPACITY = 150; // Appareil inconnu : 25 rangées
+    
     public FlightManagerImpl() {
         this.flightRepository = new FlightRepository();
         this.seatRepository = new SeatRepository();
         
+        // 🆕 Plans siège par siège → un document compact par vol
+        seatRepository.migrateLegacySeatMaps();
+        
         if (flightRepository.count() == 0) {
             initializeFlights();
         } else {
             System.out.println("✅ Base de données initialisée: " + 
                              flightRepository.count() + " vols");
+            backfillClassCounters();
         }
+        
+        // Abonnement avant le chargement : aucune écriture perdue entre les deux
+        this.searchIndex = new FlightSearchIndex(flightRepository);
+        FlightRepository.addChangeListener(searchIndex);
+        searchIndex.reload();
+        
+        this.connectionEngine = new ConnectionSearchEngine(flightRepository);
+        FlightRepository.addChangeListener(connectionEngine);
+        connectionEngine.reload();
+        
+        this.destinationFares = new DestinationFareTable(flightRepository);
+        FlightRepository.addChangeListener(destinationFares);
+        destinationFares.reload();
+        
+        List<String> configuredCities = new ArrayList<>(Arrays.asList(ALGERIAN_CITIES));
+        for (String[] region : INTERNATIONAL_DESTINATIONS.values()) {
+            configuredCities.addAll(Arrays.asList(region));
+        }
+        this.citySuggester = new CitySuggester(flightRepository, new HotelRepository(), configuredCities);
+        FlightRepository.addChangeListener(citySuggester);
+        citySuggester.reload();
+    }
+    
+    /**
+     * 🆕 Compteurs par classe des vols existants (bases créées avant leur ajout)
+     * - plan de sièges présent : sièges AVAILABLE comptés par classe
+     * - plan pas encore généré : répartition du plan lazy de l'appareil
+     */
+    private void backfillClassCounters() {
+        List<Document> flights = flightRepository.findFlightsWithoutClassCounters();
+        if (flights.isEmpty()) {
+            return;
+        }
+        
+        Map<String, Map<String, Integer>> counters = new HashMap<>();
+        for (int i = 0; i < flights.size(); i += 1000) {
+            List<Document> batch = flights.subList(i, Math.min(i + 1000, flights.size()));
+            List<String> batchIds = new ArrayList<>();
+            for (Document flight : batch) {
+                batchIds.add(flight.getString("flightId"));
+            }
+            Map<String, Map<String, Integer>> fromSeats = seatRepository.countAvailableByClass(batchIds);
+            for (Document flight : batch) {
+                String flightId = flight.getString("flightId");
+                Map<String, Integer> available = fromSeats.get(flightId);
+                counters.put(flightId, available != null ? available
+                    : seatPlanByClass(seatCapacity(flight.getString("aircraftType"))));
+            }
+        }
+        
+        flightRepository.setClassCountersBatch(counters);
+        System.out.println("✅ Compteurs par classe ajoutés à " + counters.size() + " vol(s)");
     }
     
     /**
@@ -348,43 +444,61 @@ public class FlightManagerImpl extends FlightManagerPOA {
     /**
      * LAZY LOADING: Génération des sièges à la demande
      * Inclut les 3 classes: FIRST_CLASS, BUSINESS, ECONOMY
+     * 🆕 Autant de sièges que la capacité de l'appareil (availableSeats initial)
      */
-    private void initializeSeatsForFlight(String flightId) {
+    private void initializeSeatsForFlight(String flightId, int capacity) {
         List<Document> seats = new ArrayList<>();
-        String[] rows = {"A", "B", "C", "D", "E", "F"};
         
-        for (int i = 1; i <= 25; i++) {
-            for (String row : rows) {
-                String seatNumber = i + row;
-                String seatClass;
-                double basePrice;
-                
-                if (i <= 2) {
-                    seatClass = "FIRST_CLASS";
-                    basePrice = 50000.0;
-                } else if (i <= 6) {
-                    seatClass = "BUSINESS";
-                    basePrice = 30000.0;
-                } else {
-                    seatClass = "ECONOMY";
-                    basePrice = 15000.0;
-                }
-                
-                Document seat = new Document()
-                    .append("flightId", flightId)
-                    .append("seatNumber", seatNumber)
-                    .append("seatClass", seatClass)
-                    .append("status", "AVAILABLE")
-                    .append("price", basePrice);
-                
-                seats.add(seat);
+        for (int index = 0; index < capacity; index++) {
+            int row = index / SEAT_LETTERS.length + 1;
+            String seatClass = lazySeatClass(row);
+            double basePrice;
+            
+            if ("FIRST_CLASS".equals(seatClass)) {
+                basePrice = 50000.0;
+            } else if ("BUSINESS".equals(seatClass)) {
+                basePrice = 30000.0;
+            } else {
+                basePrice = 15000.0;
             }
+            
+            Document seat = new Document()
+                .append("flightId", flightId)
+                .append("seatNumber", row + SEAT_LETTERS[index % SEAT_LETTERS.length])
+                .append("seatClass", seatClass)
+                .append("status", "AVAILABLE")
+                .append("price", basePrice);
+            
+            seats.add(seat);
         }
         
         seatRepository.insertSeats(seats);
         System.out.println("✅ " + seats.size() + " sièges générés (lazy) pour " + flightId);
     }
     
+    private static String lazySeatClass(int row) {
+        if (row <= FIRST_CLASS_LAST_ROW) {
+            return "FIRST_CLASS";
+        }
+        return row <= BUSINESS_LAST_ROW ? "BUSINESS" : "ECONOMY";
+    }
+    
+    /**
+     * 🆕 Places par classe du plan lazy (mêmes rangées que initializeSeatsForFlight)
+     */
+    private static Map<String, Integer> seatPlanByClass(int capacity) {
+        Map<String, Integer> seatsByClass = new HashMap<>();
+        for (int index = 0; index < capacity; index++) {
+            seatsByClass.merge(lazySeatClass(index / SEAT_LETTERS.length + 1), 1, Integer::sum);
+        }
+        return seatsByClass;
+    }
+    
+    private static int seatCapacity(String aircraftType) {
+        Integer capacity = aircraftType != null ? AIRCRAFT_TYPES.get(aircraftType) : null;
+        return capacity != null ? capacity : DEFAULT_SEAT_CAPACITY;
+    }
+    
     // ========== MÉTHODES UTILITAIRES ==========
     
     private int calculateDomesticDuration(String from, String to) {
@@ -475,7 +589,7 @@ public class FlightManagerImpl extends FlightManagerPOA {
             double businessPrice, double firstClassPrice,
             int availableSeats, String aircraftType) {
         
-        return new Document()
+        Document flight = new Document()
             .append("flightId", flightId)
             .append("flightNumber", flightNumber)
             .append("airline", airline)
@@ -491,10 +605,47 @@ public class FlightManagerImpl extends FlightManagerPOA {
             .append("firstClassPrice", firstClassPrice)
             .append("availableSeats", availableSeats)
             .append("aircraftType", aircraftType);
+        
+        // 🆕 Compteurs par classe du plan de sièges lazy (même capacité que availableSeats)
+        flight.putAll(FlightRepository.classCounters(seatPlanByClass(availableSeats)));
+        return flight;
     }
     
     // ========== MÉTHODES CORBA ==========
     
+    @Override
+    public CitySuggestion[] suggestCities(String prefix, int limit) {
+        long start = System.nanoTime();
+        CitySuggestion[] suggestions = citySuggester.suggest(
+            prefix,
+            limit > 0 ? Math.min(limit, Constants.AUTOCOMPLETE_MAX_LIMIT) : Constants.AUTOCOMPLETE_DEFAULT_LIMIT
+        );
+        
+        System.out.println("🔤 Autocomplétion \"" + prefix + "\": " + suggestions.length +
+                         " ville(s) en " + (System.nanoTime() - start) / 1000 + "µs");
+        return suggestions;
+    }
+    
+    @Override
+    public FlightPage searchFlightsPage(
+            String departureCity,
+            String arrivalCity,
+            String date,
+            String seatClass,
+            SearchOptions options) {
+        
+        Flight[] flights = searchFlights(departureCity, arrivalCity, date, seatClass);
+        
+        // 🆕 Seule la page demandée traverse CORBA et HTTP
+        long start = System.nanoTime();
+        FlightPage page = FlightResultSelector.select(flights, seatClass, options);
+        
+        System.out.println("📑 Page: " + page.flights.length + "/" + page.totalMatches +
+                         " vol(s) | tri: " + options.sortBy + " | " +
+                         (System.nanoTime() - start) / 1000 + "µs");
+        return page;
+    }
+    
     @Override
     public Flight[] searchFlights(
             String departureCity,
@@ -505,17 +656,155 @@ public class FlightManagerImpl extends FlightManagerPOA {
         System.out.println("🔍 Recherche: " + departureCity + " → " + 
                          arrivalCity + " | " + date + " | " + seatClass);
         
-        List<Document> flightDocs = flightRepository.searchFlights(
-            departureCity, arrivalCity, date, seatClass
+        String from = departureCity == null ? "" : departureCity.trim();
+        String to = arrivalCity == null ? "" : arrivalCity.trim();
+        String day = date == null ? "" : date.trim();
+        String travelClass = seatClass == null ? "" : seatClass.trim();
+        
+        // 🆕 Route + date connues : réponse depuis l'index, sans MongoDB
+        Flight[] indexed = searchIndex.search(from, to, day, travelClass);
+        if (indexed != null) {
+            System.out.println("✅ " + indexed.length + " vol(s) trouvé(s) (index)");
+            return indexed;
+        }
+        
+        // Clé normalisée : "Béjaïa", "bejaia" et "BJA" partagent la même requête
+        String key = CityKeys.toKey(from) + "|" + CityKeys.toKey(to) +
+                     "|" + day + "|" + travelClass.toUpperCase(Locale.ROOT);
+        
+        try {
+            Flight[] flights = searchCoalescer.execute(key, () -> {
+                List<Document> flightDocs = flightRepository.searchFlights(
+                    from, to, day, travelClass
+                );
+                
+                Flight[] result = new Flight[flightDocs.size()];
+                for (int i = 0; i < flightDocs.size(); i++) {
+                    result[i] = ManagerHelper.documentToFlight(flightDocs.get(i));
+                }
+                return result;
+            });
+            
+            System.out.println("✅ " + flights.length + " vol(s) trouvé(s)");
+            return flights;
+            
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("Recherche de vols interrompue: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public Itinerary[] searchConnections(
+            String departureCity,
+            String arrivalCity,
+            String date,
+            String seatClass,
+            int maxLegs,
+            int minConnectionMinutes,
+            String sortBy,
+            int limit) {
+        
+        System.out.println("🧭 Correspondances: " + departureCity + " → " + arrivalCity +
+                         " | " + date + " | " + seatClass + " | max " + maxLegs + " vol(s)");
+        
+        long start = System.nanoTime();
+        Itinerary[] itineraries = connectionEngine.search(
+            departureCity == null ? "" : departureCity,
+            arrivalCity == null ? "" : arrivalCity,
+            date == null ? "" : date,
+            seatClass, maxLegs, minConnectionMinutes, sortBy, limit
+        );
+        
+        System.out.println("✅ " + itineraries.length + " itinéraire(s) en " +
+                         (System.nanoTime() - start) / 1000 + "µs");
+        return itineraries;
+    }
+    
+    @Override
+    public FareDay[] getFareCalendar(
+            String departureCity,
+            String arrivalCity,
+            String fromDate,
+            String toDate,
+            String seatClass) {
+        
+        System.out.println("📅 Calendrier des prix: " + departureCity + " → " + arrivalCity +
+                         " | " + fromDate + " → " + toDate + " | " + seatClass);
+        
+        if (departureCity == null || departureCity.trim().isEmpty()
+                || arrivalCity == null || arrivalCity.trim().isEmpty()) {
+            return new FareDay[0];
+        }
+        
+        long today = LocalDate.now().toEpochDay();
+        long fromDay;
+        long toDay;
+        try {
+            fromDay = fromDate == null || fromDate.trim().isEmpty()
+                ? today : LocalDate.parse(fromDate.trim()).toEpochDay();
+            toDay = toDate == null || toDate.trim().isEmpty()
+                ? fromDay + Constants.FARE_CALENDAR_DEFAULT_DAYS - 1
+                : LocalDate.parse(toDate.trim()).toEpochDay();
+        } catch (DateTimeParseException e) {
+            System.err.println("❌ Date invalide pour le calendrier: " + e.getParsedString());
+            return new FareDay[0];
+        }
+        
+        // Jours passés ignorés, fenêtre bornée
+        fromDay = Math.max(fromDay, today);
+        toDay = Math.min(toDay, fromDay + Constants.FARE_CALENDAR_MAX_DAYS - 1);
+        if (toDay < fromDay) {
+            return new FareDay[0];
+        }
+        
+        long start = System.nanoTime();
+        FareDay[] calendar = searchIndex.fareCalendar(
+            departureCity, arrivalCity, fromDay, toDay, seatClass
         );
         
-        Flight[] flights = new Flight[flightDocs.size()];
-        for (int i = 0; i < flightDocs.size(); i++) {
-            flights[i] = ManagerHelper.documentToFlight(flightDocs.get(i));
+        System.out.println("✅ " + calendar.length + " jour(s) en " +
+                         (System.nanoTime() - start) / 1000 + "µs");
+        return calendar;
+    }
+    
+    @Override
+    public DestinationFare[] exploreDestinations(
+            String departureCity,
+            String month,
+            String seatClass,
+            double maxBudget,
+            int limit) {
+        
+        System.out.println("🗺️ Explorer depuis " + departureCity + " | " + month + " | " +
+                         seatClass + " | budget " + (maxBudget > 0 ? maxBudget : "illimité"));
+        
+        if (departureCity == null || departureCity.trim().isEmpty()) {
+            return new DestinationFare[0];
         }
         
-        System.out.println("✅ " + flights.length + " vol(s) trouvé(s)");
-        return flights;
+        YearMonth target;
+        try {
+            target = month == null || month.trim().isEmpty()
+                ? YearMonth.now() : YearMonth.parse(month.trim());
+        } catch (DateTimeParseException e) {
+            System.err.println("❌ Mois invalide: " + month);
+            return new DestinationFare[0];
+        }
+        if (target.isBefore(YearMonth.now())) {
+            return new DestinationFare[0];
+        }
+        
+        long start = System.nanoTime();
+        DestinationFare[] fares = destinationFares.cheapest(
+            departureCity, target, seatClass, maxBudget,
+            limit > 0 ? Math.min(limit, Constants.EXPLORE_MAX_LIMIT) : Constants.EXPLORE_DEFAULT_LIMIT
+        );
+        
+        System.out.println("✅ " + fares.length + " destination(s) en " +
+                         (System.nanoTime() - start) / 1000 + "µs");
+        return fares;
     }
     
     @Override
@@ -527,23 +816,37 @@ public class FlightManagerImpl extends FlightManagerPOA {
         return ManagerHelper.documentToFlight(doc);
     }
     
+    @Override
+    public String getFlightVersion(String flightId) throws FlightNotFoundException {
+        Document doc = flightRepository.findVersionFields(flightId);
+        if (doc == null) {
+            throw new FlightNotFoundException("Vol non trouvé: " + flightId);
+        }
+        return ManagerHelper.buildVersion(doc, "availableSeats",
+            "createdAt", "updatedAt", "pricesUpdatedAt", "lastSyncAt");
+    }
+    
     @Override
     public Seat[] getAvailableSeats(String flightId) throws FlightNotFoundException {
-        if (flightRepository.findById(flightId) == null) {
+        Document flight = flightRepository.findById(flightId);
+        if (flight == null) {
             throw new FlightNotFoundException("Vol non trouvé: " + flightId);
         }
         
-        // LAZY LOADING: Vérifier si sièges existent
-        if (seatRepository.countSeatsByFlight(flightId) == 0) {
+        // 🆕 Plan compact : une seule lecture (LAZY LOADING si absent)
+        List<Document> seatDocs = seatRepository.findSeatsByFlightId(flightId);
+        if (seatDocs.isEmpty()) {
             System.out.println("⚡ Lazy loading: génération des sièges pour " + flightId);
-            initializeSeatsForFlight(flightId);
+            initializeSeatsForFlight(flightId, seatCapacity(flight.getString("aircraftType")));
+            seatDocs = seatRepository.findSeatsByFlightId(flightId);
         }
         
-        List<Document> seatDocs = seatRepository.findSeatsByFlightId(flightId);
         Seat[] seats = new Seat[seatDocs.size()];
         
         for (int i = 0; i < seatDocs.size(); i++) {
             seats[i] = ManagerHelper.documentToSeat(seatDocs.get(i));
+            // 🆕 Statut en mémoire (écriture MongoDB différée)
+            seats[i].status = seatInventory.currentStatus(flightId, seats[i].seatNumber, seats[i].status);
         }
         
         return seats;
@@ -551,89 +854,55 @@ public class FlightManagerImpl extends FlightManagerPOA {
     
     @Override
     public boolean isSeatAvailable(String flightId, String seatNumber) {
-        Document seatDoc = seatRepository.findSeat(flightId, seatNumber);
-        if (seatDoc == null) {
+        SeatInventory.SeatInfo seat = seatInventory.seat(flightId, seatNumber);
+        if (seat == null) {
             System.err.println("✗ Siège introuvable: " + seatNumber);
             return false;
         }
         
-        boolean available = "AVAILABLE".equals(seatDoc.getString("status"));
-        return available;
+        return SeatInventory.AVAILABLE.equals(seat.status);
     }
     
     public boolean reserveSeat(String flightId, String seatNumber) {
-        try {
-            boolean updated = seatRepository.updateSeatStatusAtomic(
-                flightId, seatNumber, "AVAILABLE", "OCCUPIED"
-            );
-            
-            if (updated) {
-                boolean decremented = flightRepository.decrementAvailableSeats(flightId);
-                
-                if (decremented) {
-                    System.out.println("✅ Siège réservé: " + seatNumber);
-                    return true;
-                } else {
-                    seatRepository.updateSeatStatus(flightId, seatNumber, "AVAILABLE");
-                    System.err.println("✗ Échec - Rollback: " + seatNumber);
-                    return false;
-                }
-            }
-            
-        } catch (Exception e) {
-            System.err.println("✗ Erreur réservation: " + e.getMessage());
-        }
-        
-        return false;
+        return reserveSeats(flightId, Collections.singletonList(seatNumber));
     }
     
+    /**
+     * 🆕 Prise en mémoire tout ou rien (SeatInventory), puis compteurs du vol
+     */
     public boolean reserveSeats(String flightId, List<String> seatNumbers) {
         if (seatNumbers == null || seatNumbers.isEmpty()) {
             return false;
         }
         
         try {
-            long modifiedCount = seatRepository.updateSeatsStatusBulk(
-                flightId, seatNumbers, "AVAILABLE", "OCCUPIED"
-            );
+            Map<String, Integer> seatsByClass =
+                seatInventory.claim(flightId, seatNumbers, SeatInventory.OCCUPIED);
             
-            if (modifiedCount == seatNumbers.size()) {
+            if (seatsByClass != null) {
                 boolean decremented = flightRepository.decrementAvailableSeats(
-                    flightId, (int) modifiedCount
+                    flightId, seatsByClass
                 );
                 
                 if (decremented) {
-                    System.out.println("✅ Réservation bulk: " + modifiedCount + " sièges");
+                    System.out.println("✅ Réservation: " + seatNumbers.size() + " siège(s)");
                     return true;
                 } else {
-                    seatRepository.updateSeatsStatusBulk(
-                        flightId, seatNumbers, "OCCUPIED", "AVAILABLE"
-                    );
+                    seatInventory.release(flightId, seatNumbers, SeatInventory.OCCUPIED);
+                    System.err.println("✗ Échec - Rollback: " + seatNumbers);
                     return false;
                 }
             }
             
         } catch (Exception e) {
-            System.err.println("✗ Erreur bulk: " + e.getMessage());
+            System.err.println("✗ Erreur réservation: " + e.getMessage());
         }
         
         return false;
     }
     
     public boolean releaseSeat(String flightId, String seatNumber) {
-        try {
-            boolean updated = seatRepository.updateSeatStatus(
-                flightId, seatNumber, "AVAILABLE"
-            );
-            
-            if (updated) {
-                flightRepository.incrementAvailableSeats(flightId);
-                return true;
-            }
-        } catch (Exception e) {
-            System.err.println("✗ Erreur libération: " + e.getMessage());
-        }
-        return false;
+        return releaseSeats(flightId, Collections.singletonList(seatNumber));
     }
     
     public boolean releaseSeats(String flightId, List<String> seatNumbers) {
@@ -642,16 +911,15 @@ public class FlightManagerImpl extends FlightManagerPOA {
         }
         
         try {
-            long modifiedCount = seatRepository.updateSeatsStatusBulk(
-                flightId, seatNumbers, "OCCUPIED", "AVAILABLE"
-            );
+            Map<String, Integer> seatsByClass =
+                seatInventory.release(flightId, seatNumbers, SeatInventory.OCCUPIED);
             
-            if (modifiedCount > 0) {
-                flightRepository.incrementAvailableSeats(flightId, (int) modifiedCount);
+            if (!seatsByClass.isEmpty()) {
+                flightRepository.incrementAvailableSeats(flightId, seatsByClass);
                 return true;
             }
         } catch (Exception e) {
-            System.err.println("✗ Erreur libération bulk: " + e.getMessage());
+            System.err.println("✗ Erreur libération: " + e.getMessage());
         }
         return false;
     }
@@ -661,12 +929,15 @@ public class FlightManagerImpl extends FlightManagerPOA {
         if (flight == null) return false;
         
         int recorded = flight.getInteger("availableSeats");
+        seatInventory.flush();
         long actual = seatRepository.countAvailableSeats(flightId);
         
         return recorded == actual;
     }
     
     public boolean fixFlightDataConsistency(String flightId) {
+        // 🆕 Statuts en attente écrits avant de recompter depuis MongoDB
+        seatInventory.flush();
         long actual = seatRepository.countAvailableSeats(flightId);
         
         Document updates = new Document()
@@ -674,6 +945,12 @@ public class FlightManagerImpl extends FlightManagerPOA {
             .append("lastConsistencyCheck", new Date());
         
         flightRepository.updateFlight(flightId, updates);
+        
+        // 🆕 Compteurs par classe recalculés depuis le plan de sièges
+        flightRepository.setClassCounters(flightId, seatRepository
+            .countAvailableByClass(Collections.singletonList(flightId))
+            .getOrDefault(flightId, Collections.emptyMap()));
+        
         System.out.println("✅ Cohérence corrigée pour " + flightId);
         return true;
     }
@@ -682,6 +959,7 @@ public class FlightManagerImpl extends FlightManagerPOA {
         Document flight = flightRepository.findById(flightId);
         if (flight == null) return null;
         
+        seatInventory.flush();
         long totalSeats = seatRepository.countSeatsByFlight(flightId);
         long availableSeats = seatRepository.countAvailableSeats(flightId);
         long occupiedSeats = seatRepository.countOccupiedSeats(flightId);
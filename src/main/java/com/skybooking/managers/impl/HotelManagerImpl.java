@@ -93,6 +93,15 @@ public class HotelManagerImpl extends HotelManagerPOA {
         return ManagerHelper.documentToHotel(doc);
     }
     
+    @Override
+    public String getHotelVersion(String hotelId) throws HotelNotFoundException {
+        Document doc = hotelRepository.findVersionFields(hotelId);
+        if (doc == null) {
+            throw new HotelNotFoundException("Hôtel non trouvé: " + hotelId);
+        }
+        return ManagerHelper.buildVersion(doc, "availableRooms", "createdAt", "updatedAt");
+    }
+    
     @Override
     public HotelReservation bookHotel(
             String customerId,
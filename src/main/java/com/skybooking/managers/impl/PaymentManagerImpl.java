@@ -4,6 +4,7 @@ package com.skybooking.managers.impl;
 
 import FlightReservation.*;
 import com.skybooking.database.repositories.*;
+import com.skybooking.managers.helpers.DocumentRenderTrigger;
 import com.skybooking.managers.helpers.ManagerHelper;
 import com.skybooking.managers.helpers.ValidationHelper;
 import com.skybooking.security.AESEncryptionManager;
@@ -37,6 +38,9 @@ public class PaymentManagerImpl extends PaymentManagerPOA {
     // ✅ NOUVEAU: Référence au HotelManager pour confirmer les réservations
     private HotelManagerImpl hotelManager;
     
+    // 🆕 Pré-génération des PDF (tickets, factures) en arrière-plan
+    private DocumentRenderTrigger documentRenderTrigger;
+    
     public PaymentManagerImpl() {
         this.paymentRepository = new PaymentRepository();
         this.reservationRepository = new ReservationRepository();
@@ -60,6 +64,13 @@ public class PaymentManagerImpl extends PaymentManagerPOA {
         this.hotelManager = hotelManager;
     }
     
+    /**
+     * 🆕 Setter pour injection du déclencheur de rendu PDF
+     */
+    public void setDocumentRenderTrigger(DocumentRenderTrigger documentRenderTrigger) {
+        this.documentRenderTrigger = documentRenderTrigger;
+    }
+    
     @Override
     public Payment processPayment(
             String reservationId,
@@ -239,6 +250,11 @@ public class PaymentManagerImpl extends PaymentManagerPOA {
         } else {
             // Marquer la réservation de vol comme payée
             reservationRepository.markAsPaid(reservationId, paymentId);
+            
+            // 🆕 Tickets rendus en arrière-plan, prêts au premier téléchargement
+            if (documentRenderTrigger != null) {
+                documentRenderTrigger.scheduleReservationTickets(reservationId);
+            }
         }
         
         System.out.println("╔═══════════════════════════════════════════════════╗");
@@ -389,6 +405,10 @@ public class PaymentManagerImpl extends PaymentManagerPOA {
         
         System.out.println("✅ Facture générée : " + invoiceId);
         
+        if (documentRenderTrigger != null) {
+            documentRenderTrigger.scheduleInvoice(invoiceId);
+        }
+        
         return new Invoice(
             invoiceId,
             paymentId,
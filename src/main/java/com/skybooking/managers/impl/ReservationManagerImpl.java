@@ -3,10 +3,15 @@
 package com.skybooking.managers.impl;
 
 import FlightReservation.*;
+import com.skybooking.database.MongoDBConnector;
 import com.skybooking.database.repositories.*;
+import com.skybooking.managers.helpers.BookingIntents;
 import com.skybooking.managers.helpers.ManagerHelper;
+import com.skybooking.managers.helpers.SeatHolds;
+import com.skybooking.managers.helpers.SeatInventory;
 import com.skybooking.managers.helpers.ValidationHelper;
 import com.skybooking.security.AESEncryptionManager;
+import com.skybooking.utils.Constants;
 import com.skybooking.utils.DateUtils;
 import org.bson.Document;
 import java.util.*;
@@ -28,6 +33,9 @@ public class ReservationManagerImpl extends ReservationManagerPOA {
     private final CustomerRepository customerRepository;
     private final FlightRepository flightRepository;
     private final FlightManagerImpl flightManager;
+    private final SeatInventory seatInventory; // 🆕 Sièges en mémoire (source de vérité)
+    private final SeatHolds seatHolds; // 🆕 Sièges retenus le temps de la saisie (panier)
+    private final BookingIntents bookingIntents; // 🆕 Réservations en cours, reprises après un arrêt
     
     public ReservationManagerImpl(FlightManagerImpl flightManager) {
         this.reservationRepository = new ReservationRepository();
@@ -35,6 +43,10 @@ public class ReservationManagerImpl extends ReservationManagerPOA {
         this.customerRepository = new CustomerRepository();
         this.flightRepository = new FlightRepository();
         this.flightManager = flightManager;
+        this.seatInventory = SeatInventory.getInstance();
+        this.seatHolds = new SeatHolds(seatInventory, flightRepository, new SeatHoldRepository());
+        this.bookingIntents = new BookingIntents(new BookingIntentRepository(), reservationRepository,
+                                                 ticketRepository, flightRepository, seatInventory);
         
         // Test de la configuration AES-256
         if (AESEncryptionManager.testConfiguration()) {
@@ -73,63 +85,58 @@ public class ReservationManagerImpl extends ReservationManagerPOA {
             );
         }
         
-        Document customerDoc = customerRepository.findById(customerId);
-        if (customerDoc == null) {
+        // 🆕 Lectures ciblées : existence du client (index seul), champs utiles du vol
+        if (!customerRepository.exists(customerId)) {
             throw new ReservationException("Client introuvable : " + customerId);
         }
         
-        Document flightDoc = flightRepository.findById(flightId);
+        Document flightDoc = flightRepository.findBookingFields(flightId);
         if (flightDoc == null) {
             throw new ReservationException("Vol introuvable : " + flightId);
         }
         
-        if (!flightRepository.isFlightValid(flightId)) {
+        if (!DateUtils.isFutureDate(flightDoc.getString("departureDate"))) {
             throw new ReservationException("Ce vol est déjà parti ou invalide");
         }
         
-        int currentAvailable = flightDoc.getInteger("availableSeats", 0);
-        if (currentAvailable < seatNumbers.length) {
-            throw new ReservationException(
-                "Sièges insuffisants : " + currentAvailable + " disponible(s), " +
-                seatNumbers.length + " demandé(s)"
-            );
-        }
-        
         // ==================== PHASE 2 : VÉRIFICATION DÉTAILLÉE DES SIÈGES ====================
         
-        List<Document> seatsToReserve = new ArrayList<>();
+        // 🆕 Lecture en mémoire (SeatInventory) : plus de requête par siège
+        List<SeatInventory.SeatInfo> seatsToReserve = new ArrayList<>();
         List<String> seatNumbersList = Arrays.asList(seatNumbers);
         double totalPrice = 0;
         
         System.out.println("→ Vérification de " + seatNumbers.length + " siège(s)...");
         
-        if (!flightManager.seatRepository.areSeatsAvailable(flightId, seatNumbersList)) {
-            StringBuilder unavailableSeats = new StringBuilder();
-            for (String seatNumber : seatNumbers) {
-                Document seatDoc = flightManager.seatRepository.findSeat(flightId, seatNumber);
-                
-                if (seatDoc == null) {
-                    throw new ReservationException("Siège inexistant : " + seatNumber);
-                }
-                
-                if (!"AVAILABLE".equals(seatDoc.getString("status"))) {
-                    unavailableSeats.append(seatNumber).append(" ");
-                }
+        // 🆕 Sièges retenus par ce client : réservables malgré le statut HELD
+        Set<String> heldSeats = seatHolds.heldBy(customerId, flightId);
+        
+        StringBuilder unavailableSeats = new StringBuilder();
+        for (String seatNumber : seatNumbers) {
+            SeatInventory.SeatInfo seat = seatInventory.seat(flightId, seatNumber);
+            
+            if (seat == null) {
+                throw new ReservationException("Siège inexistant : " + seatNumber);
             }
             
+            if (!SeatInventory.AVAILABLE.equals(seat.status) && !heldSeats.contains(seatNumber)) {
+                unavailableSeats.append(seatNumber).append(" ");
+            }
+            seatsToReserve.add(seat);
+        }
+        
+        if (unavailableSeats.length() > 0) {
             throw new SeatNotAvailableException(
                 "Siège(s) non disponible(s) : " + unavailableSeats.toString().trim()
             );
         }
         
-        for (String seatNumber : seatNumbers) {
-            Document seatDoc = flightManager.seatRepository.findSeat(flightId, seatNumber);
-            seatsToReserve.add(seatDoc);
-            totalPrice += seatDoc.getDouble("price");
+        for (SeatInventory.SeatInfo seat : seatsToReserve) {
+            totalPrice += seat.price;
             
-            System.out.println("  ✅ Siège validé : " + seatNumber + 
-                             " (" + seatDoc.getString("seatClass") + 
-                             ", " + seatDoc.getDouble("price") + " DZD)");
+            System.out.println("  ✅ Siège validé : " + seat.seatNumber + 
+                             " (" + seat.seatClass + 
+                             ", " + seat.price + " DZD)");
         }
         
         // Validation des passagers
@@ -146,151 +153,132 @@ public class ReservationManagerImpl extends ReservationManagerPOA {
         System.out.println("✅ Toutes les validations passées");
         System.out.println("   Prix total : " + totalPrice + " DZD");
         
-        // ==================== PHASE 3 : RÉSERVATION ATOMIQUE ====================
-        
-        try {
-            System.out.println("→ Début réservation atomique...");
-            
-            boolean seatsReserved = reserveSeats(flightId, seatNumbersList);
-            
-            if (!seatsReserved) {
-                throw new ReservationException(
-                    "Échec lors de la réservation des sièges. " +
-                    "Certains sièges ont peut-être été réservés entre-temps."
-                );
+        // ==================== PHASE 3 : PRÉPARATION DE LA RÉSERVATION ====================
+        
+        // 🆕 Documents construits (passeports chiffrés) avant toute prise ou écriture
+        String reservationId = "RES" + System.currentTimeMillis();
+        String reservationDate = DateUtils.getCurrentDateTime();
+        
+        Document reservationDoc = new Document()
+            .append("reservationId", reservationId)
+            .append("customerId", customerId)
+            .append("flightId", flightId)
+            .append("status", "CONFIRMED")
+            .append("totalPrice", totalPrice)
+            .append("reservationDate", reservationDate)
+            .append("seatNumbers", seatNumbersList)
+            .append("passengerCount", passengers.length)
+            .append("flightNumber", flightDoc.getString("flightNumber"))
+            .append("departureCity", flightDoc.getString("departureCity"))
+            .append("arrivalCity", flightDoc.getString("arrivalCity"))
+            .append("departureDate", flightDoc.getString("departureDate"))
+            .append("encryptionAlgorithm", "AES-256-CBC"); // Audit
+        
+        System.out.println("→ Chiffrement AES-256 des données passagers...");
+        
+        List<Document> ticketDocs = new ArrayList<>();
+        
+        for (int i = 0; i < seatNumbers.length; i++) {
+            String ticketId = "TKT" + System.currentTimeMillis() + "-" + i;
+            Passenger passenger = passengers[i];
+            SeatInventory.SeatInfo seat = seatsToReserve.get(i);
+            
+            // 🔒 CHIFFREMENT AES-256 DU NUMÉRO DE PASSEPORT
+            String encryptedPassport;
+            try {
+                encryptedPassport = AESEncryptionManager.encrypt(passenger.passportNumber);
+                System.out.println("  🔐 Passeport chiffré pour " + passenger.firstName + 
+                                 " " + passenger.lastName);
+            } catch (Exception e) {
+                System.err.println("❌ ERREUR CRITIQUE : Échec du chiffrement du passeport");
+                // Aucun siège pris ni écriture faite à ce stade : rien à défaire
+                throw new ReservationException("Erreur de sécurité lors du chiffrement des données");
             }
             
-            System.out.println("✅ Réservation des sièges réussie");
+            // Masquage pour affichage (conforme RGPD)
+            String maskedPassport = AESEncryptionManager.mask(passenger.passportNumber, 4);
             
-            // ==================== PHASE 4 : CRÉATION DE LA RÉSERVATION ====================
+            // 🔒 CHIFFREMENT OPTIONNEL DE L'EMAIL (données personnelles)
+            String encryptedEmail;
+            try {
+                encryptedEmail = AESEncryptionManager.encrypt(passenger.email);
+            } catch (Exception e) {
+                encryptedEmail = null; // Fallback : stockage en clair si échec
+            }
             
-            String reservationId = "RES" + System.currentTimeMillis();
-            String reservationDate = DateUtils.getCurrentDateTime();
+            // 🔒 CHIFFREMENT OPTIONNEL DU TÉLÉPHONE
+            String encryptedPhone;
+            try {
+                encryptedPhone = AESEncryptionManager.encrypt(passenger.phone);
+            } catch (Exception e) {
+                encryptedPhone = null;
+            }
             
-            Document reservationDoc = new Document()
+            Document ticketDoc = new Document()
+                .append("ticketId", ticketId)
                 .append("reservationId", reservationId)
-                .append("customerId", customerId)
-                .append("flightId", flightId)
-                .append("status", "CONFIRMED")
-                .append("totalPrice", totalPrice)
-                .append("reservationDate", reservationDate)
-                .append("seatNumbers", seatNumbersList)
-                .append("passengerCount", passengers.length)
+                .append("passengerName", passenger.firstName + " " + passenger.lastName)
+                .append("seatNumber", seatNumbers[i])
+                .append("seatClass", seat.seatClass)
                 .append("flightNumber", flightDoc.getString("flightNumber"))
                 .append("departureCity", flightDoc.getString("departureCity"))
                 .append("arrivalCity", flightDoc.getString("arrivalCity"))
                 .append("departureDate", flightDoc.getString("departureDate"))
-                .append("encryptionAlgorithm", "AES-256-CBC"); // Audit
-            
-            reservationRepository.insertReservation(reservationDoc);
-            System.out.println("✅ Réservation créée : " + reservationId);
-            
-            // ==================== PHASE 5 : CRÉATION DES TICKETS AVEC CHIFFREMENT ====================
-            
-            System.out.println("→ Chiffrement AES-256 des données passagers...");
-            
-            List<Document> ticketDocs = new ArrayList<>();
-            
-            for (int i = 0; i < seatNumbers.length; i++) {
-                String ticketId = "TKT" + System.currentTimeMillis() + "-" + i;
-                Passenger passenger = passengers[i];
-                Document seatDoc = seatsToReserve.get(i);
-                
-                // 🔒 CHIFFREMENT AES-256 DU NUMÉRO DE PASSEPORT
-                String encryptedPassport;
-                try {
-                    encryptedPassport = AESEncryptionManager.encrypt(passenger.passportNumber);
-                    System.out.println("  🔐 Passeport chiffré pour " + passenger.firstName + 
-                                     " " + passenger.lastName);
-                } catch (Exception e) {
-                    System.err.println("❌ ERREUR CRITIQUE : Échec du chiffrement du passeport");
-                    // Rollback
-                    releaseSeats(flightId, seatNumbersList);
-                    throw new ReservationException("Erreur de sécurité lors du chiffrement des données");
-                }
-                
-                // Masquage pour affichage (conforme RGPD)
-                String maskedPassport = AESEncryptionManager.mask(passenger.passportNumber, 4);
-                
-                // 🔒 CHIFFREMENT OPTIONNEL DE L'EMAIL (données personnelles)
-                String encryptedEmail;
-                try {
-                    encryptedEmail = AESEncryptionManager.encrypt(passenger.email);
-                } catch (Exception e) {
-                    encryptedEmail = null; // Fallback : stockage en clair si échec
-                }
-                
-                // 🔒 CHIFFREMENT OPTIONNEL DU TÉLÉPHONE
-                String encryptedPhone;
-                try {
-                    encryptedPhone = AESEncryptionManager.encrypt(passenger.phone);
-                } catch (Exception e) {
-                    encryptedPhone = null;
-                }
-                
-                Document ticketDoc = new Document()
-                    .append("ticketId", ticketId)
-                    .append("reservationId", reservationId)
-                    .append("passengerName", passenger.firstName + " " + passenger.lastName)
-                    .append("seatNumber", seatNumbers[i])
-                    .append("seatClass", seatDoc.getString("seatClass"))
-                    .append("flightNumber", flightDoc.getString("flightNumber"))
-                    .append("departureCity", flightDoc.getString("departureCity"))
-                    .append("arrivalCity", flightDoc.getString("arrivalCity"))
-                    .append("departureDate", flightDoc.getString("departureDate"))
-                    .append("departureTime", flightDoc.getString("departureTime"))
-                    .append("arrivalDate", flightDoc.getString("arrivalDate"))
-                    .append("arrivalTime", flightDoc.getString("arrivalTime"))
-                    .append("price", seatDoc.getDouble("price"))
-                    .append("passengerDetails", new Document()
-                        .append("firstName", passenger.firstName)
-                        .append("lastName", passenger.lastName)
-                        .append("dateOfBirth", passenger.dateOfBirth)
-                        
-                        // Données masquées (affichage)
-                        .append("passportNumberMasked", maskedPassport)
-                        .append("email", passenger.email) // Email visible pour communication
-                        .append("phone", passenger.phone) // Téléphone visible pour communication
-                        
-                        // Données chiffrées (stockage sécurisé)
-                        .append("encryptedPassport", encryptedPassport)
-                        .append("encryptedEmail", encryptedEmail)
-                        .append("encryptedPhone", encryptedPhone)
-                    );
-                
-                ticketDocs.add(ticketDoc);
-                
-                System.out.println("  ✅ Ticket généré : " + ticketId + 
-                                 " - " + passenger.firstName + " " + passenger.lastName + 
-                                 " (Siège : " + seatNumbers[i] + ")");
-            }
-            
-            ticketRepository.insertTickets(ticketDocs);
-            System.out.println("✅ " + ticketDocs.size() + " ticket(s) créé(s) et sécurisé(s)");
-            
-            // ==================== PHASE 6 : FINALISATION ====================
+                .append("departureTime", flightDoc.getString("departureTime"))
+                .append("arrivalDate", flightDoc.getString("arrivalDate"))
+                .append("arrivalTime", flightDoc.getString("arrivalTime"))
+                .append("price", seat.price)
+                .append("passengerDetails", new Document()
+                    .append("firstName", passenger.firstName)
+                    .append("lastName", passenger.lastName)
+                    .append("dateOfBirth", passenger.dateOfBirth)
+                    
+                    // Données masquées (affichage)
+                    .append("passportNumberMasked", maskedPassport)
+                    .append("email", passenger.email) // Email visible pour communication
+                    .append("phone", passenger.phone) // Téléphone visible pour communication
+                    
+                    // Données chiffrées (stockage sécurisé)
+                    .append("encryptedPassport", encryptedPassport)
+                    .append("encryptedEmail", encryptedEmail)
+                    .append("encryptedPhone", encryptedPhone)
+                );
             
-            long duration = System.currentTimeMillis() - startTime;
+            ticketDocs.add(ticketDoc);
             
-            System.out.println("╔═══════════════════════════════════════════════════╗");
-            System.out.println("║  ✅ RÉSERVATION CRÉÉE AVEC SUCCÈS                  ║");
-            System.out.println("╠═══════════════════════════════════════════════════╣");
-            System.out.println("║  ID : " + reservationId);
-            System.out.println("║  Client : " + customerId);
-            System.out.println("║  Vol : " + flightDoc.getString("flightNumber"));
-            System.out.println("║  Route : " + flightDoc.getString("departureCity") + 
-                             " → " + flightDoc.getString("arrivalCity"));
-            System.out.println("║  Date : " + flightDoc.getString("departureDate"));
-            System.out.println("║  Sièges : " + String.join(", ", seatNumbers));
-            System.out.println("║  Passagers : " + passengers.length);
-            System.out.println("║  Prix total : " + totalPrice + " DZD");
-            System.out.println("║  Sécurité : AES-256-CBC ✓");
-            System.out.println("║  Temps : " + duration + " ms");
-            System.out.println("╚═══════════════════════════════════════════════════╝");
-            
-            return ManagerHelper.documentToReservation(reservationDoc);
+            System.out.println("  ✅ Ticket généré : " + ticketId + 
+                             " - " + passenger.firstName + " " + passenger.lastName + 
+                             " (Siège : " + seatNumbers[i] + ")");
+        }
+        
+        // ==================== PHASE 4 : PRISE DES SIÈGES ET ÉCRITURE ====================
+        
+        System.out.println("→ Début réservation atomique...");
+        
+        // 🆕 Intention écrite avant la prise : reprise si le serveur s'arrête en cours de route
+        BookingIntents.Intent intent;
+        try {
+            intent = bookingIntents.begin(reservationDoc, ticketDocs, heldSeats);
+        } catch (RuntimeException e) {
+            throw new ReservationException("Erreur système lors de la réservation : " + e.getMessage());
+        }
+        
+        SeatHolds.Confirmation confirmation;
+        try {
+            confirmation = claimSeats(customerId, flightId, seatNumbersList);
+        } catch (SeatNotAvailableException e) {
+            bookingIntents.finish(intent);
+            throw e;
+        }
+        intent.seatsClaimed(confirmation.heldSeats);
+        
+        try {
+            persistBooking(flightId, intent, confirmation, reservationDoc, ticketDocs);
+            System.out.println("✅ Réservation créée : " + reservationId + 
+                             " (" + ticketDocs.size() + " ticket(s))");
             
-        } catch (SeatNotAvailableException | ReservationException e) {
+        } catch (ReservationException e) {
+            rollbackSeats(flightId, intent, seatNumbersList);
             throw e;
             
         } catch (Exception e) {
@@ -302,101 +290,151 @@ public class ReservationManagerImpl extends ReservationManagerPOA {
             System.err.println("╚═══════════════════════════════════════════════════╝");
             e.printStackTrace();
             
-            System.out.println("→ Tentative de rollback d'urgence...");
-            
-            try {
-                boolean rollbackSuccess = releaseSeats(flightId, seatNumbersList);
-                if (rollbackSuccess) {
-                    System.out.println("✅ Rollback d'urgence réussi");
-                } else {
-                    System.err.println("⚠️ Rollback d'urgence partiel ou échoué");
-                }
-            } catch (Exception rollbackError) {
-                System.err.println("❌ ÉCHEC CRITIQUE DU ROLLBACK : " + 
-                                 rollbackError.getMessage());
-            }
+            rollbackSeats(flightId, intent, seatNumbersList);
             
             throw new ReservationException(
                 "Erreur système lors de la réservation : " + e.getMessage()
             );
         }
+        
+        // ==================== PHASE 5 : FINALISATION ====================
+        
+        long duration = System.currentTimeMillis() - startTime;
+        
+        System.out.println("╔═══════════════════════════════════════════════════╗");
+        System.out.println("║  ✅ RÉSERVATION CRÉÉE AVEC SUCCÈS                  ║");
+        System.out.println("╠═══════════════════════════════════════════════════╣");
+        System.out.println("║  ID : " + reservationId);
+        System.out.println("║  Client : " + customerId);
+        System.out.println("║  Vol : " + flightDoc.getString("flightNumber"));
+        System.out.println("║  Route : " + flightDoc.getString("departureCity") + 
+                         " → " + flightDoc.getString("arrivalCity"));
+        System.out.println("║  Date : " + flightDoc.getString("departureDate"));
+        System.out.println("║  Sièges : " + String.join(", ", seatNumbers));
+        System.out.println("║  Passagers : " + passengers.length);
+        System.out.println("║  Prix total : " + totalPrice + " DZD");
+        System.out.println("║  Sécurité : AES-256-CBC ✓");
+        System.out.println("║  Temps : " + duration + " ms");
+        System.out.println("╚═══════════════════════════════════════════════════╝");
+        
+        return ManagerHelper.documentToReservation(reservationDoc);
     }
     
     /**
-     * 🔒 RÉSERVE PLUSIEURS SIÈGES DE MANIÈRE ATOMIQUE
+     * 🔒 PREND LES SIÈGES EN MÉMOIRE (TOUT OU RIEN)
+     * Les sièges retenus par le client sont confirmés sans nouvelle prise
      */
-    private boolean reserveSeats(String flightId, List<String> seatNumbers) 
-        throws SeatNotAvailableException, ReservationException {
+    private SeatHolds.Confirmation claimSeats(String customerId, String flightId, List<String> seatNumbers) 
+        throws SeatNotAvailableException {
         
         System.out.println("→ Réservation atomique de " + seatNumbers.size() + " siège(s)...");
         
-        if (seatNumbers == null || seatNumbers.isEmpty()) {
-            throw new ReservationException("Liste de sièges vide ou nulle");
-        }
+        SeatHolds.Confirmation confirmation = seatHolds.confirm(customerId, flightId, seatNumbers);
         
-        Document flightDoc = flightRepository.findById(flightId);
-        if (flightDoc == null) {
-            throw new ReservationException("Vol introuvable : " + flightId);
+        if (confirmation == null) {
+            List<String> unavailableSeats = seatInventory.unavailable(flightId, seatNumbers);
+            throw new SeatNotAvailableException(unavailableSeats.isEmpty()
+                ? "Un ou plusieurs sièges ont été réservés par un autre utilisateur entre-temps. " +
+                  "Veuillez réessayer avec d'autres sièges."
+                : "Siège(s) non disponible(s) : " + String.join(", ", unavailableSeats)
+            );
         }
         
-        if (!flightManager.seatRepository.areSeatsAvailable(flightId, seatNumbers)) {
-            List<String> unavailableSeats = new ArrayList<>();
-            
-            for (String seatNumber : seatNumbers) {
-                Document seatDoc = flightManager.seatRepository.findSeat(flightId, seatNumber);
-                
-                if (seatDoc == null) {
-                    unavailableSeats.add(seatNumber + " (inexistant)");
-                } else if (!"AVAILABLE".equals(seatDoc.getString("status"))) {
-                    unavailableSeats.add(seatNumber + " (" + seatDoc.getString("status") + ")");
-                }
+        return confirmation;
+    }
+    
+    /**
+     * 🆕 ÉCRIT LA RÉSERVATION EN UNE SEULE TRANSACTION
+     * Places du vol, réservation et tickets validés ensemble, transaction
+     * rejouée sur erreur transitoire. Sans replica set : écritures successives,
+     * défaites en cas d'échec.
+     * Les sièges retenus ont déjà été décomptés du vol lors de la retenue.
+     * L'intention est supprimée avec la réservation écrite.
+     */
+    private void persistBooking(String flightId, BookingIntents.Intent intent,
+                                SeatHolds.Confirmation confirmation,
+                                Document reservationDoc, List<Document> ticketDocs)
+        throws ReservationException {
+        
+        Map<String, Integer> seatsByClass = confirmation.claimedByClass;
+        MongoDBConnector connector = MongoDBConnector.getInstance();
+        
+        if (connector.supportsTransactions()) {
+            Document updatedFlight;
+            try {
+                updatedFlight = connector.inTransaction(session -> {
+                    Document flight = null;
+                    if (!seatsByClass.isEmpty()) {
+                        flight = flightRepository.decrementAvailableSeats(session, flightId, seatsByClass);
+                        if (flight == null) {
+                            throw new SeatCountConflict();
+                        }
+                    }
+                    reservationRepository.insertReservation(session, reservationDoc);
+                    ticketRepository.insertTickets(session, ticketDocs);
+                    bookingIntents.finish(session, intent);
+                    return flight;
+                });
+            } catch (SeatCountConflict e) {
+                throw new ReservationException("Impossible de mettre à jour le vol. Veuillez réessayer.");
             }
             
-            throw new SeatNotAvailableException(
-                "Siège(s) non disponible(s) : " + String.join(", ", unavailableSeats)
-            );
+            if (updatedFlight != null) {
+                FlightRepository.publishChanged(updatedFlight);
+            }
+            return;
         }
         
+        if (!seatsByClass.isEmpty() && !flightRepository.decrementAvailableSeats(flightId, seatsByClass)) {
+            throw new ReservationException("Impossible de mettre à jour le vol. Veuillez réessayer.");
+        }
+        bookingIntents.seatsCounted(intent);
+        
         try {
-            boolean reservationSuccess = flightManager.seatRepository.reserveSeatsInBatch(
-                flightId, 
-                seatNumbers, 
-                seatNumbers.size()
-            );
-            
-            if (!reservationSuccess) {
-                throw new SeatNotAvailableException(
-                    "Un ou plusieurs sièges ont été réservés par un autre utilisateur entre-temps. " +
-                    "Veuillez réessayer avec d'autres sièges."
-                );
-            }
-            
-            boolean flightUpdated = flightRepository.decrementAvailableSeats(
-                flightId, 
-                seatNumbers.size()
-            );
-            
-            if (!flightUpdated) {
-                flightManager.seatRepository.releaseSeatsInBatch(flightId, seatNumbers);
-                throw new ReservationException("Impossible de mettre à jour le vol. Veuillez réessayer.");
-            }
-            
-            System.out.println("✅ Réservation atomique réussie");
-            return true;
-            
-        } catch (SeatNotAvailableException | ReservationException e) {
+            reservationRepository.insertReservation(reservationDoc);
+            ticketRepository.insertTickets(ticketDocs);
+        } catch (RuntimeException e) {
+            // Places rendues au vol par la compensation de l'intention
+            String reservationId = reservationDoc.getString("reservationId");
+            ticketRepository.deleteByReservationId(reservationId);
+            reservationRepository.deleteReservation(reservationId);
             throw e;
-        } catch (Exception e) {
-            System.err.println("❌ Erreur système : " + e.getMessage());
-            e.printStackTrace();
-            
-            try {
-                flightManager.seatRepository.releaseSeatsInBatch(flightId, seatNumbers);
-            } catch (Exception rollbackError) {
-                System.err.println("❌ ÉCHEC DU ROLLBACK");
-            }
-            
-            throw new ReservationException("Erreur système lors de la réservation des sièges");
+        }
+        
+        // Réservation écrite : un échec ici ne la défait pas, l'intention
+        // restante est terminée par le thread de reprise
+        try {
+            bookingIntents.finish(intent);
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Intention de " + reservationDoc.getString("reservationId") +
+                             " non supprimée : " + e.getMessage());
+        }
+    }
+    
+    /**
+     * 🔙 REND LES SIÈGES D'UNE RÉSERVATION NON ÉCRITE
+     * Sièges rendus en mémoire ; places décomptées (retenue, ou vol déjà mis
+     * à jour) rendues au vol par la compensation de l'intention
+     */
+    private void rollbackSeats(String flightId, BookingIntents.Intent intent, List<String> seatNumbers) {
+        System.out.println("→ Rollback des sièges...");
+        try {
+            seatInventory.release(flightId, seatNumbers, SeatInventory.OCCUPIED);
+            System.out.println("✅ Rollback réussi");
+        } catch (Exception rollbackError) {
+            System.err.println("❌ ÉCHEC DU ROLLBACK : " + rollbackError.getMessage());
+        }
+        bookingIntents.compensate(intent);
+    }
+    
+    /**
+     * Compteur de places refusé dans la transaction (annule la transaction)
+     */
+    private static final class SeatCountConflict extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+        
+        SeatCountConflict() {
+            super("Places insuffisantes sur le vol", null, false, false);
         }
     }
     
@@ -413,13 +451,13 @@ public class ReservationManagerImpl extends ReservationManagerPOA {
         }
         
         try {
-            boolean releaseSuccess = flightManager.seatRepository.releaseSeatsInBatch(
-                flightId, 
-                seatNumbers
-            );
+            // 🆕 Seuls les sièges effectivement rendus sont recomptés
+            Map<String, Integer> seatsByClass =
+                seatInventory.release(flightId, seatNumbers, SeatInventory.OCCUPIED);
             
+            boolean releaseSuccess = !seatsByClass.isEmpty();
             if (releaseSuccess) {
-                flightRepository.incrementAvailableSeats(flightId, seatNumbers.size());
+                flightRepository.incrementAvailableSeats(flightId, seatsByClass);
                 System.out.println("✅ Libération réussie");
             }
             
@@ -625,4 +663,99 @@ public class ReservationManagerImpl extends ReservationManagerPOA {
         System.out.println("→ " + reservations.length + " réservation(s) pour " + customerId);
         return reservations;
     }
+    
+    // ==================== 🆕 RETENUES DE SIÈGES ====================
+    
+    /**
+     * 🛒 RETENIR DES SIÈGES LE TEMPS DE LA SAISIE DES PASSAGERS
+     * Les sièges passent HELD pour une durée limitée et sont confirmés par
+     * createReservation ; une nouvelle sélection remplace la précédente
+     */
+    @Override
+    public SeatHold holdSeats(String customerId, String flightId, String[] seatNumbers)
+        throws SeatNotAvailableException, ReservationException {
+        
+        if (seatNumbers == null || seatNumbers.length == 0) {
+            throw new ReservationException("Liste de sièges vide ou nulle");
+        }
+        
+        if (customerRepository.findById(customerId) == null) {
+            throw new ReservationException("Client introuvable : " + customerId);
+        }
+        
+        if (!flightRepository.isFlightValid(flightId)) {
+            throw new ReservationException("Ce vol est déjà parti ou invalide");
+        }
+        
+        List<String> seatNumbersList = Arrays.asList(seatNumbers);
+        for (String seatNumber : seatNumbersList) {
+            if (seatInventory.seat(flightId, seatNumber) == null) {
+                throw new ReservationException("Siège inexistant : " + seatNumber);
+            }
+        }
+        
+        SeatHold hold = seatHolds.hold(customerId, flightId, seatNumbersList);
+        
+        if (hold == null) {
+            List<String> unavailableSeats = seatInventory.unavailable(flightId, seatNumbersList);
+            throw new SeatNotAvailableException(unavailableSeats.isEmpty()
+                ? "Impossible de retenir les sièges. Veuillez réessayer."
+                : "Siège(s) non disponible(s) : " + String.join(", ", unavailableSeats)
+            );
+        }
+        
+        return hold;
+    }
+    
+    /**
+     * 🧩 ATTRIBUER AUTOMATIQUEMENT DES SIÈGES VOISINS (GROUPES, FAMILLES)
+     * Même rangée d'abord, puis rangées voisines ; les sièges choisis sont
+     * retenus comme une sélection sur le plan, puis confirmés par createReservation
+     */
+    @Override
+    public SeatHold autoAssignSeats(String customerId, String flightId, String seatClass,
+                                    int seatCount, boolean keepTogether)
+        throws SeatNotAvailableException, ReservationException {
+        
+        if (seatCount <= 0 || seatCount > Constants.SEAT_AUTO_ASSIGN_MAX_SEATS) {
+            throw new ReservationException(
+                "Nombre de sièges invalide (1 à " + Constants.SEAT_AUTO_ASSIGN_MAX_SEATS + ")"
+            );
+        }
+        
+        if (seatClass == null || seatClass.trim().isEmpty()) {
+            throw new ReservationException("Classe de siège manquante");
+        }
+        
+        if (customerRepository.findById(customerId) == null) {
+            throw new ReservationException("Client introuvable : " + customerId);
+        }
+        
+        if (!flightRepository.isFlightValid(flightId)) {
+            throw new ReservationException("Ce vol est déjà parti ou invalide");
+        }
+        
+        SeatHold hold = seatHolds.holdBest(customerId, flightId, seatClass.trim(), seatCount, keepTogether);
+        
+        if (hold == null) {
+            throw new SeatNotAvailableException(
+                "Pas assez de sièges disponibles en " + seatClass + " pour " + seatCount + " passager(s)"
+            );
+        }
+        
+        System.out.println("✅ Sièges attribués (" + seatClass + ") : " + String.join(", ", hold.seatNumbers));
+        return hold;
+    }
+    
+    /**
+     * 🔓 LIBÉRER UNE RETENUE (ABANDON DU PANIER)
+     */
+    @Override
+    public boolean releaseHold(String holdId) {
+        boolean released = seatHolds.release(holdId);
+        System.out.println(released
+            ? "✅ Retenue libérée : " + holdId
+            : "⚠️ Retenue introuvable ou expirée : " + holdId);
+        return released;
+    }
 }
\ No newline at end of file
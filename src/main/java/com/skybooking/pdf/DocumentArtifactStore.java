@@ -0,0 +1,209 @@
+// src/main/java/com/skybooking/pdf/DocumentArtifactStore.java
+
+package com.skybooking.pdf;
+
+import FlightReservation.*;
+import com.skybooking.utils.Constants;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * 🗄️ Stockage sur disque des PDF générés, adressé par contenu
+ *
+ * Le nom de fichier contient une empreinte SHA-256 de toutes les données
+ * rendues (réservation, tickets, vol, client...) et de la version du moteur
+ * de rendu : toute modification de la réservation produit un nouveau fichier,
+ * sinon le fichier existant est servi tel quel. Du vol, seuls les champs
+ * imprimés comptent : places restantes et tarifs changent à chaque
+ * réservation d'un autre client sans changer le document.
+ *
+ * Les dossiers tickets/ et invoices/ sont partagés entre le serveur CORBA
+ * et le pont REST (volumes docker-compose).
+ */
+public class DocumentArtifactStore {
+
+    private static final String PDF_EXTENSION = ".pdf";
+    private static final int FINGERPRINT_LENGTH = 16;
+
+    /**
+     * PDF complet d'une réservation : tickets/<reservationId>/tickets-<empreinte>.pdf
+     */
+    public static Path reservationTicketsPath(Reservation reservation, Ticket[] tickets,
+                                              Flight flight, Customer customer) {
+        return Paths.get(Constants.TICKETS_DIR, safeName(reservation.reservationId),
+            "tickets-" + fingerprint(reservation, tickets, renderedFields(flight), customer) + PDF_EXTENSION);
+    }
+
+    /**
+     * PDF d'un ticket : tickets/<reservationId>/ticket-<ticketId>-<empreinte>.pdf
+     */
+    public static Path singleTicketPath(Reservation reservation, Ticket ticket,
+                                        Flight flight, Customer customer) {
+        return Paths.get(Constants.TICKETS_DIR, safeName(reservation.reservationId),
+            "ticket-" + safeName(ticket.ticketId) + "-" +
+            fingerprint(reservation, ticket, renderedFields(flight), customer) + PDF_EXTENSION);
+    }
+
+    /**
+     * PDF d'une facture : invoices/<invoiceId>/invoice-<empreinte>.pdf
+     */
+    public static Path invoicePath(Invoice invoice, Payment payment, Reservation reservation,
+                                   Customer customer, Flight flight) {
+        return Paths.get(Constants.INVOICES_DIR, safeName(invoice.invoiceId),
+            "invoice-" + fingerprint(invoice, payment, reservation, customer, renderedFields(flight)) + PDF_EXTENSION);
+    }
+
+    /**
+     * Écrire un PDF de façon atomique (fichier temporaire + renommage)
+     * puis supprimer les anciennes versions du même document.
+     */
+    public static void write(Path target, byte[] pdfBytes) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, ".render-", ".tmp");
+        try {
+            Files.write(temp, pdfBytes);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+                           StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+
+        pruneOlderVersions(target);
+    }
+
+    /**
+     * Supprimer les versions précédentes (même préfixe, empreinte différente)
+     */
+    private static void pruneOlderVersions(Path target) {
+        String name = target.getFileName().toString();
+        String prefix = name.substring(0, name.length() - PDF_EXTENSION.length() - FINGERPRINT_LENGTH);
+
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(
+                target.toAbsolutePath().getParent(), prefix + "*" + PDF_EXTENSION)) {
+            for (Path sibling : siblings) {
+                String siblingName = sibling.getFileName().toString();
+                if (!siblingName.equals(name) &&
+                    siblingName.length() == name.length()) {
+                    Files.deleteIfExists(sibling);
+                    System.out.println("🗑️ Ancienne version PDF supprimée: " + siblingName);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("⚠️ Nettoyage versions PDF impossible: " + e.getMessage());
+        }
+    }
+
+    // ==================== EMPREINTE ====================
+
+    /**
+     * Empreinte SHA-256 (tronquée) de toutes les données rendues
+     */
+    static String fingerprint(Object... parts) {
+        StringBuilder sb = new StringBuilder("v").append(Constants.PDF_RENDERER_VERSION);
+        for (Object part : parts) {
+            sb.append('|');
+            appendValue(sb, part);
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (int i = 0; i < FINGERPRINT_LENGTH / 2; i++) {
+                hex.append(String.format("%02x", hash[i]));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponible", e);
+        }
+    }
+
+    /**
+     * Champs du vol imprimés sur les tickets et factures
+     */
+    private static String[] renderedFields(Flight flight) {
+        if (flight == null) {
+            return null;
+        }
+        return new String[] {
+            flight.flightNumber, flight.airline, flight.aircraftType,
+            flight.departureCity, flight.arrivalCity,
+            flight.departureDate, flight.departureTime,
+            flight.arrivalDate, flight.arrivalTime, flight.duration
+        };
+    }
+
+    /**
+     * Sérialisation canonique des structures IDL (champs publics triés par nom)
+     */
+    private static void appendValue(StringBuilder sb, Object value) {
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            sb.append('[');
+            for (int i = 0; i < Array.getLength(value); i++) {
+                appendValue(sb, Array.get(value, i));
+                sb.append(',');
+            }
+            sb.append(']');
+            return;
+        }
+
+        if (value instanceof CharSequence || value instanceof Number ||
+            value instanceof Boolean || value instanceof Character) {
+            sb.append(value);
+            return;
+        }
+
+        Field[] fields = Arrays.stream(type.getFields())
+            .filter(f -> !Modifier.isStatic(f.getModifiers()))
+            .sorted(Comparator.comparing(Field::getName))
+            .toArray(Field[]::new);
+
+        if (fields.length == 0) {
+            // Enum IDL (idlj) : valeur ordinale
+            try {
+                Method ordinal = type.getMethod("value");
+                sb.append(ordinal.invoke(value));
+            } catch (ReflectiveOperationException e) {
+                sb.append(value);
+            }
+            return;
+        }
+
+        sb.append('{');
+        for (Field field : fields) {
+            sb.append(field.getName()).append('=');
+            try {
+                appendValue(sb, field.get(value));
+            } catch (IllegalAccessException e) {
+                sb.append('?');
+            }
+            sb.append(';');
+        }
+        sb.append('}');
+    }
+
+    private static String safeName(String id) {
+        return id == null ? "unknown" : id.replaceAll("[^A-Za-z0-9_-]", "_");
+    }
+}
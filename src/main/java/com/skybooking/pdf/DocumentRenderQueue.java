@@ -0,0 +1,256 @@
+// src/main/java/com/skybooking/pdf/DocumentRenderQueue.java
+
+package com.skybooking.pdf;
+
+import com.skybooking.utils.Constants;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🖨️ File de rendu PDF en arrière-plan
+ *
+ * - Un seul rendu par fichier cible (les demandes concurrentes partagent le job)
+ * - Marqueur ".rendering" sur disque : le serveur CORBA et le pont REST
+ *   (JVM distinctes, même volume) ne rendent pas deux fois le même document
+ * - Le résultat est écrit via {@link DocumentArtifactStore} (écriture atomique)
+ * - File bornée : une fois pleine, les nouveaux rendus sont rejetés
+ *   ({@link RejectedExecutionException}) au lieu de s'accumuler en mémoire
+ */
+public class DocumentRenderQueue {
+
+    /**
+     * 📋 États d'un job de rendu
+     */
+    public enum JobStatus { PENDING, RENDERING, READY, FAILED }
+
+    /**
+     * Fonction de rendu d'un document
+     */
+    @FunctionalInterface
+    public interface Renderer {
+        byte[] render() throws Exception;
+    }
+
+    private static DocumentRenderQueue instance;
+
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentHashMap<Path, RenderJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicLong rendered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private DocumentRenderQueue() {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+            Constants.PDF_RENDER_THREADS,
+            Constants.PDF_RENDER_THREADS,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(Constants.PDF_RENDER_QUEUE_CAPACITY),
+            r -> {
+                Thread thread = new Thread(r, "pdf-render-" + counter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    public static synchronized DocumentRenderQueue getInstance() {
+        if (instance == null) {
+            instance = new DocumentRenderQueue();
+        }
+        return instance;
+    }
+
+    /**
+     * Obtenir le job d'un document : déjà prêt, en cours, ou nouvellement planifié
+     *
+     * @throws RejectedExecutionException si la file de rendu est pleine
+     */
+    public RenderJob submit(Path target, Renderer renderer) {
+        Path key = target.toAbsolutePath();
+
+        if (Files.exists(key)) {
+            return RenderJob.ready(key);
+        }
+
+        RenderJob job = jobs.computeIfAbsent(key, k -> new RenderJob(k));
+        if (job.claim()) {
+            if (isRenderingElsewhere(key)) {
+                // Rendu en cours dans l'autre processus : on surveille le fichier
+                job.watchRemote();
+                jobs.remove(key, job);
+                return job;
+            }
+            try {
+                executor.execute(() -> render(job, renderer));
+            } catch (RejectedExecutionException e) {
+                // Les demandes qui partagent déjà ce job échouent aussi ; le suivant repartira de zéro
+                rejected.incrementAndGet();
+                jobs.remove(key, job);
+                job.complete(e);
+                throw e;
+            }
+        }
+        return job;
+    }
+
+    /**
+     * Exécuter une tâche de préparation (chargement des données) dans la file
+     * File pleine : la pré-génération est abandonnée (le document sera rendu à la demande)
+     */
+    public void runInBackground(Runnable task) {
+        try {
+            executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    System.err.println("⚠️ Préparation rendu PDF échouée: " + e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            System.err.println("⚠️ File de rendu PDF pleine, pré-génération ignorée");
+        }
+    }
+
+    public String getStats() {
+        return String.format("En file: %d/%d | En cours: %d | Rendus: %d | Échecs: %d | Rejetés: %d",
+            executor.getQueue().size(), Constants.PDF_RENDER_QUEUE_CAPACITY,
+            executor.getActiveCount(), rendered.get(), failed.get(), rejected.get());
+    }
+
+    // ==================== MÉTHODES PRIVÉES ====================
+
+    private void render(RenderJob job, Renderer renderer) {
+        Path marker = markerOf(job.target);
+        long start = System.currentTimeMillis();
+        job.status = JobStatus.RENDERING;
+
+        try {
+            if (Files.exists(job.target)) {
+                job.complete(null);
+                return;
+            }
+
+            Files.createDirectories(job.target.getParent());
+            try {
+                Files.createFile(marker);
+            } catch (IOException ignored) {
+                // Marqueur périmé ou déjà présent : on rend quand même
+            }
+
+            DocumentArtifactStore.write(job.target, renderer.render());
+            rendered.incrementAndGet();
+            job.complete(null);
+            System.out.println("🖨️ PDF prêt: " + job.target.getFileName() +
+                             " (" + (System.currentTimeMillis() - start) + " ms)");
+
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            job.complete(e);
+            System.err.println("❌ Rendu PDF échoué: " + job.target.getFileName() +
+                             " - " + e.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(marker);
+            } catch (IOException ignored) {
+            }
+            jobs.remove(job.target, job);
+        }
+    }
+
+    private static boolean isRenderingElsewhere(Path target) {
+        Path marker = markerOf(target);
+        try {
+            if (!Files.exists(marker)) {
+                return false;
+            }
+            long age = System.currentTimeMillis() - Files.getLastModifiedTime(marker).toMillis();
+            if (age > TimeUnit.SECONDS.toMillis(Constants.PDF_RENDER_STALE_SECONDS)) {
+                Files.deleteIfExists(marker);
+                return false;
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static Path markerOf(Path target) {
+        return Paths.get(target.toString() + ".rendering");
+    }
+
+    /**
+     * 🎫 Job de rendu d'un document
+     */
+    public static class RenderJob {
+        private final Path target;
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final AtomicInteger claimed = new AtomicInteger();
+        private volatile JobStatus status = JobStatus.PENDING;
+        private volatile Exception error;
+        private volatile boolean remote;
+
+        RenderJob(Path target) {
+            this.target = target;
+        }
+
+        static RenderJob ready(Path target) {
+            RenderJob job = new RenderJob(target);
+            job.complete(null);
+            return job;
+        }
+
+        public Path getTarget() {
+            return target;
+        }
+
+        public JobStatus getStatus() {
+            if (remote && status != JobStatus.READY && Files.exists(target)) {
+                complete(null);
+            }
+            return status;
+        }
+
+        public Exception getError() {
+            return error;
+        }
+
+        /**
+         * Attendre la fin du rendu (true si le document est prêt)
+         */
+        public boolean await(long timeoutSeconds) throws InterruptedException {
+            if (!remote) {
+                done.await(timeoutSeconds, TimeUnit.SECONDS);
+                return status == JobStatus.READY;
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            while (getStatus() != JobStatus.READY && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            return status == JobStatus.READY;
+        }
+
+        private boolean claim() {
+            return claimed.compareAndSet(0, 1);
+        }
+
+        private void watchRemote() {
+            remote = true;
+            status = JobStatus.RENDERING;
+        }
+
+        private void complete(Exception failure) {
+            error = failure;
+            status = failure == null ? JobStatus.READY : JobStatus.FAILED;
+            done.countDown();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+// src/main/java/com/skybooking/pdf/PdfRenderContext.java
+
+package com.skybooking.pdf;
+
+import com.itextpdf.io.font.FontProgram;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.io.image.ImageDataFactory;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
+import com.itextpdf.layout.Canvas;
+import com.itextpdf.layout.element.IBlockElement;
+import com.itextpdf.layout.element.Image;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.MultiFormatWriter;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 🎨 Ressources de rendu réutilisables pour un document PDF
+ *
+ * - Programmes de police Helvetica chargés une seule fois (partagés entre threads)
+ * - Blocs statiques (instructions, contact...) mis en page une seule fois par
+ *   document puis réutilisés comme XObject sur chaque page
+ * - QR codes et codes-barres écrits directement depuis la BitMatrix ZXing
+ *   (1 module = 1 pixel, plus d'aller-retour PNG ni de décodage)
+ *
+ * Un PdfFont et un XObject appartiennent à un PdfDocument : une instance par
+ * document, non partagée entre threads.
+ */
+public class PdfRenderContext {
+
+    private static final FontProgram HELVETICA = loadFontProgram(StandardFonts.HELVETICA);
+    private static final FontProgram HELVETICA_BOLD = loadFontProgram(StandardFonts.HELVETICA_BOLD);
+
+    private static final float FRAGMENT_MAX_HEIGHT = 10000f;
+
+    private static final Map<EncodeHintType, Object> QR_HINTS;
+
+    static {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.H);
+        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
+        hints.put(EncodeHintType.MARGIN, 1);
+        QR_HINTS = Collections.unmodifiableMap(hints);
+    }
+
+    private final PdfDocument pdf;
+    private final PdfFont boldFont;
+    private final PdfFont regularFont;
+    private final Map<String, PdfFormXObject> fragments = new HashMap<>();
+
+    public PdfRenderContext(PdfDocument pdf) {
+        this.pdf = pdf;
+        this.boldFont = PdfFontFactory.createFont(HELVETICA_BOLD, PdfEncodings.WINANSI);
+        this.regularFont = PdfFontFactory.createFont(HELVETICA, PdfEncodings.WINANSI);
+    }
+
+    public PdfFont getBoldFont() {
+        return boldFont;
+    }
+
+    public PdfFont getRegularFont() {
+        return regularFont;
+    }
+
+    // ==================== BLOCS STATIQUES ====================
+
+    /**
+     * Bloc statique mis en page au premier appel puis réutilisé tel quel
+     * (même XObject référencé par toutes les pages du document)
+     */
+    public Image fragment(String key, float width, Supplier<? extends IBlockElement> builder) {
+        PdfFormXObject xObject = fragments.get(key);
+        if (xObject == null) {
+            xObject = renderFragment(builder, width);
+            fragments.put(key, xObject);
+        }
+        return new Image(xObject);
+    }
+
+    private PdfFormXObject renderFragment(Supplier<? extends IBlockElement> builder, float width) {
+        // Mise en page unique sur une zone haute, puis recadrage à la hauteur occupée
+        PdfFormXObject layout = new PdfFormXObject(new Rectangle(width, FRAGMENT_MAX_HEIGHT));
+        float height;
+        try (Canvas canvas = new Canvas(layout, pdf)) {
+            canvas.add(builder.get());
+            height = FRAGMENT_MAX_HEIGHT -
+                canvas.getRenderer().getCurrentArea().getBBox().getHeight();
+        }
+
+        PdfFormXObject fragment = new PdfFormXObject(new Rectangle(width, height));
+        new PdfCanvas(fragment, pdf)
+            .addXObjectAt(layout, 0, height - FRAGMENT_MAX_HEIGHT)
+            .release();
+        return fragment;
+    }
+
+    // ==================== QR CODES ET CODES-BARRES ====================
+
+    /**
+     * QR Code à la taille minimale de la matrice, agrandi à l'affichage
+     */
+    public Image qrCode(String data, float size) throws WriterException {
+        BitMatrix matrix = new MultiFormatWriter().encode(data, BarcodeFormat.QR_CODE, 0, 0, QR_HINTS);
+        return new Image(drawMatrix(matrix)).setWidth(size).setHeight(size);
+    }
+
+    /**
+     * Code-barres CODE_128 sur une seule ligne de pixels, étirée en hauteur
+     */
+    public Image barcode(String data, float width, float height) throws WriterException {
+        BitMatrix matrix = new MultiFormatWriter().encode(data, BarcodeFormat.CODE_128, 0, 1);
+        return new Image(drawMatrix(matrix)).setWidth(width).setHeight(height);
+    }
+
+    /**
+     * Image monochrome 1 bit/pixel construite depuis la matrice (0 = noir)
+     */
+    private static PdfImageXObject drawMatrix(BitMatrix matrix) {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        int rowBytes = (width + 7) / 8;
+        byte[] data = new byte[rowBytes * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                if (!matrix.get(x, y)) {
+                    data[y * rowBytes + x / 8] |= (byte) (0x80 >>> (x % 8));
+                }
+            }
+        }
+        return new PdfImageXObject(ImageDataFactory.create(width, height, 1, 1, data, null));
+    }
+
+    private static FontProgram loadFontProgram(String name) {
+        try {
+            return FontProgramFactory.createFont(name);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Police " + name + " introuvable", e);
+        }
+    }
+}
@@ -2,11 +2,9 @@
 
 package com.skybooking.pdf;
 
-import com.itextpdf.io.image.ImageDataFactory;
 import com.itextpdf.kernel.colors.ColorConstants;
 import com.itextpdf.kernel.colors.DeviceRgb;
 import com.itextpdf.kernel.font.PdfFont;
-import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.geom.PageSize;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfWriter;
@@ -19,13 +17,6 @@ import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.layout.properties.VerticalAlignment;
 
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.EncodeHintType;
-import com.google.zxing.MultiFormatWriter;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
-import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
-
 import FlightReservation.*;
 import java.io.*;
 import java.nio.file.*;
@@ -44,6 +35,7 @@ import java.util.*;
  * - Multi-tickets (pour familles)
  * - Ticket individuel optimisé
  * - Watermark de sécurité
+ * - 🆕 Polices, blocs statiques et codes réutilisés via {@link PdfRenderContext}
  */
 public class TicketPDFGenerator {
     
@@ -87,14 +79,14 @@ public class TicketPDFGenerator {
         // Marges
         document.setMargins(20, 20, 20, 20);
         
-        // Police
-        PdfFont boldFont = PdfFontFactory.createFont(
-            com.itextpdf.io.font.constants.StandardFonts.HELVETICA_BOLD);
-        PdfFont regularFont = PdfFontFactory.createFont(
-            com.itextpdf.io.font.constants.StandardFonts.HELVETICA);
+        // 🆕 Polices et blocs statiques partagés par toutes les pages
+        PdfRenderContext context = new PdfRenderContext(pdf);
+        PdfFont boldFont = context.getBoldFont();
+        PdfFont regularFont = context.getRegularFont();
+        document.setFont(regularFont);
         
         // ========== PAGE UNIQUE DU TICKET ==========
-        addSingleTicketPage(document, ticket, flight, reservation, customer, 
+        addSingleTicketPage(document, context, ticket, flight, reservation, customer, 
                            boldFont, regularFont);
         
         // Fermer le document (force l'écriture dans le stream)
@@ -123,7 +115,8 @@ public class TicketPDFGenerator {
     /**
      * 🎫 PAGE DE TICKET INDIVIDUEL (version optimisée)
      */
-    private static void addSingleTicketPage(Document document, Ticket ticket, 
+    private static void addSingleTicketPage(Document document, PdfRenderContext context,
+                                           Ticket ticket, 
                                            Flight flight, Reservation reservation, 
                                            Customer customer,
                                            PdfFont boldFont, PdfFont regularFont) 
@@ -236,8 +229,6 @@ public class TicketPDFGenerator {
             ticket.flightNumber, ticket.departureDate, reservation.reservationId,
             customer.customerId
         );
-        byte[] qrCode = generateQRCode(qrData, 200, 200);
-        
         Cell qrCell = new Cell().setBorder(Border.NO_BORDER);
         qrCell.add(new Paragraph("QR Code de vérification")
             .setFont(boldFont)
@@ -249,15 +240,12 @@ public class TicketPDFGenerator {
             .setFontSize(9)
             .setTextAlignment(TextAlignment.CENTER)
             .setFontColor(TEXT_LIGHT));
-        qrCell.add(new Image(ImageDataFactory.create(qrCode))
-            .setWidth(160)
-            .setHeight(160)
+        qrCell.add(context.qrCode(qrData, 160)
             .setHorizontalAlignment(
                 com.itextpdf.layout.properties.HorizontalAlignment.CENTER));
         codesTable.addCell(qrCell);
         
         // Barcode
-        byte[] barcode = generateBarcode(ticket.ticketId, 350, 100);
         Cell barcodeCell = new Cell().setBorder(Border.NO_BORDER);
         barcodeCell.add(new Paragraph("Code-barres d'embarquement")
             .setFont(boldFont)
@@ -269,9 +257,7 @@ public class TicketPDFGenerator {
             .setFontSize(9)
             .setTextAlignment(TextAlignment.CENTER)
             .setFontColor(TEXT_LIGHT));
-        barcodeCell.add(new Image(ImageDataFactory.create(barcode))
-            .setWidth(260)
-            .setHeight(75)
+        barcodeCell.add(context.barcode(ticket.ticketId, 260, 75)
             .setHorizontalAlignment(
                 com.itextpdf.layout.properties.HorizontalAlignment.CENTER));
         barcodeCell.add(new Paragraph(ticket.ticketId)
@@ -286,14 +272,14 @@ public class TicketPDFGenerator {
         
         // ========== INSTRUCTIONS IMPORTANTES ==========
         document.add(new Paragraph("\n"));
-        addImportantNotice(document, boldFont, regularFont);
+        addImportantNotice(document, context);
         
         document.add(new Paragraph("\n"));
-        addBoardingInstructions(document, boldFont, regularFont);
+        addBoardingInstructions(document, context);
         
         // ========== FOOTER ==========
         document.add(new Paragraph("\n"));
-        addContactInfo(document, boldFont, regularFont);
+        addContactInfo(document, context);
         
         // Watermark discret en bas
         Paragraph watermark = new Paragraph("Billet électronique généré le " + 
@@ -334,26 +320,26 @@ public class TicketPDFGenerator {
         // Marges
         document.setMargins(20, 20, 20, 20);
         
-        // Police
-        PdfFont boldFont = PdfFontFactory.createFont(
-            com.itextpdf.io.font.constants.StandardFonts.HELVETICA_BOLD);
-        PdfFont regularFont = PdfFontFactory.createFont(
-            com.itextpdf.io.font.constants.StandardFonts.HELVETICA);
+        // 🆕 Polices et blocs statiques partagés par toutes les pages
+        PdfRenderContext context = new PdfRenderContext(pdf);
+        PdfFont boldFont = context.getBoldFont();
+        PdfFont regularFont = context.getRegularFont();
+        document.setFont(regularFont);
         
         // ========== PAGE DE COUVERTURE ==========
-        addCoverPage(document, reservation, flight, customer, tickets.length, 
+        addCoverPage(document, context, reservation, flight, customer, tickets.length, 
                     boldFont, regularFont);
         
         // ========== TICKETS INDIVIDUELS ==========
         for (int i = 0; i < tickets.length; i++) {
             document.add(new AreaBreak());
-            addTicketPage(document, tickets[i], flight, reservation, customer, 
+            addTicketPage(document, context, tickets[i], flight, reservation, customer, 
                          i + 1, tickets.length, boldFont, regularFont);
         }
         
         // ========== PAGE RÉCAPITULATIVE ==========
         document.add(new AreaBreak());
-        addSummaryPage(document, reservation, tickets, flight, customer, 
+        addSummaryPage(document, context, reservation, tickets, flight, customer, 
                       boldFont, regularFont);
         
         // Fermer le document
@@ -428,7 +414,8 @@ public class TicketPDFGenerator {
     /**
      * ✈️ PAGE DE COUVERTURE
      */
-    private static void addCoverPage(Document document, Reservation reservation, 
+    private static void addCoverPage(Document document, PdfRenderContext context,
+                                     Reservation reservation, 
                                      Flight flight, Customer customer, int ticketCount,
                                      PdfFont boldFont, PdfFont regularFont) throws Exception {
         
@@ -513,11 +500,7 @@ public class TicketPDFGenerator {
         // QR Code de la réservation
         String qrData = String.format("RESERVATION:%s|FLIGHT:%s|CUSTOMER:%s", 
             reservation.reservationId, flight.flightNumber, customer.customerId);
-        byte[] qrCode = generateQRCode(qrData, 200, 200);
-        
-        Image qrImage = new Image(ImageDataFactory.create(qrCode))
-            .setWidth(150)
-            .setHeight(150)
+        Image qrImage = context.qrCode(qrData, 150)
             .setHorizontalAlignment(com.itextpdf.layout.properties.HorizontalAlignment.CENTER);
         
         document.add(new Paragraph("Scannez pour vérifier la réservation")
@@ -529,13 +512,14 @@ public class TicketPDFGenerator {
         
         // Instructions importantes
         document.add(new Paragraph("\n\n"));
-        addImportantNotice(document, boldFont, regularFont);
+        addImportantNotice(document, context);
     }
     
     /**
      * 🎫 PAGE DE TICKET INDIVIDUEL (multi-tickets)
      */
-    private static void addTicketPage(Document document, Ticket ticket, Flight flight,
+    private static void addTicketPage(Document document, PdfRenderContext context,
+                                     Ticket ticket, Flight flight,
                                      Reservation reservation, Customer customer,
                                      int ticketNumber, int totalTickets,
                                      PdfFont boldFont, PdfFont regularFont) throws Exception {
@@ -613,31 +597,24 @@ public class TicketPDFGenerator {
         String qrData = String.format("TICKET:%s|PASSENGER:%s|SEAT:%s|FLIGHT:%s|DATE:%s", 
             ticket.ticketId, ticket.passengerName, ticket.seatNumber, 
             ticket.flightNumber, ticket.departureDate);
-        byte[] qrCode = generateQRCode(qrData, 150, 150);
-        
         Cell qrCell = new Cell().setBorder(Border.NO_BORDER);
         qrCell.add(new Paragraph("QR Code de vérification")
             .setFont(regularFont)
             .setFontSize(9)
             .setTextAlignment(TextAlignment.CENTER)
             .setFontColor(TEXT_LIGHT));
-        qrCell.add(new Image(ImageDataFactory.create(qrCode))
-            .setWidth(120)
-            .setHeight(120)
+        qrCell.add(context.qrCode(qrData, 120)
             .setHorizontalAlignment(com.itextpdf.layout.properties.HorizontalAlignment.CENTER));
         codesTable.addCell(qrCell);
         
         // Barcode
-        byte[] barcode = generateBarcode(ticket.ticketId, 300, 80);
         Cell barcodeCell = new Cell().setBorder(Border.NO_BORDER);
         barcodeCell.add(new Paragraph("Code-barres du billet")
             .setFont(regularFont)
             .setFontSize(9)
             .setTextAlignment(TextAlignment.CENTER)
             .setFontColor(TEXT_LIGHT));
-        barcodeCell.add(new Image(ImageDataFactory.create(barcode))
-            .setWidth(200)
-            .setHeight(60)
+        barcodeCell.add(context.barcode(ticket.ticketId, 200, 60)
             .setHorizontalAlignment(com.itextpdf.layout.properties.HorizontalAlignment.CENTER));
         barcodeCell.add(new Paragraph(ticket.ticketId)
             .setFont(regularFont)
@@ -650,13 +627,14 @@ public class TicketPDFGenerator {
         
         // Instructions d'embarquement
         document.add(new Paragraph("\n"));
-        addBoardingInstructions(document, boldFont, regularFont);
+        addBoardingInstructions(document, context);
     }
     
     /**
      * 📋 PAGE RÉCAPITULATIVE
      */
-    private static void addSummaryPage(Document document, Reservation reservation,
+    private static void addSummaryPage(Document document, PdfRenderContext context,
+                                      Reservation reservation,
                                       Ticket[] tickets, Flight flight, Customer customer,
                                       PdfFont boldFont, PdfFont regularFont) throws Exception {
         
@@ -720,7 +698,7 @@ public class TicketPDFGenerator {
         
         // Informations de contact
         document.add(new Paragraph("\n\n"));
-        addContactInfo(document, boldFont, regularFont);
+        addContactInfo(document, context);
     }
     
     // ========== MÉTHODES UTILITAIRES ==========
@@ -761,7 +739,30 @@ public class TicketPDFGenerator {
             .setBorder(new SolidBorder(ColorConstants.LIGHT_GRAY, 0.5f));
     }
     
-    private static void addImportantNotice(Document document, PdfFont boldFont, PdfFont regularFont) {
+    /**
+     * 🆕 Blocs statiques : mis en page une fois par document, puis réutilisés
+     */
+    private static void addImportantNotice(Document document, PdfRenderContext context) {
+        document.add(context.fragment("notice", contentWidth(document),
+            () -> buildImportantNotice(context.getBoldFont(), context.getRegularFont())));
+    }
+    
+    private static void addBoardingInstructions(Document document, PdfRenderContext context) {
+        document.add(context.fragment("boarding", contentWidth(document),
+            () -> buildBoardingInstructions(context.getBoldFont(), context.getRegularFont())));
+    }
+    
+    private static void addContactInfo(Document document, PdfRenderContext context) {
+        document.add(context.fragment("contact", contentWidth(document),
+            () -> buildContactInfo(context.getBoldFont(), context.getRegularFont())));
+    }
+    
+    private static float contentWidth(Document document) {
+        return document.getPdfDocument().getDefaultPageSize().getWidth()
+            - document.getLeftMargin() - document.getRightMargin();
+    }
+    
+    private static Table buildImportantNotice(PdfFont boldFont, PdfFont regularFont) {
         Table noticeBox = new Table(1);
         noticeBox.setWidth(UnitValue.createPercentValue(100));
         
@@ -792,10 +793,10 @@ public class TicketPDFGenerator {
         }
         
         noticeBox.addCell(noticeCell);
-        document.add(noticeBox);
+        return noticeBox;
     }
     
-    private static void addBoardingInstructions(Document document, PdfFont boldFont, PdfFont regularFont) {
+    private static Table buildBoardingInstructions(PdfFont boldFont, PdfFont regularFont) {
         Table instructionsBox = new Table(1);
         instructionsBox.setWidth(UnitValue.createPercentValue(100));
         
@@ -818,10 +819,10 @@ public class TicketPDFGenerator {
         ).setFont(regularFont).setFontSize(9).setMarginTop(5));
         
         instructionsBox.addCell(instructionsCell);
-        document.add(instructionsBox);
+        return instructionsBox;
     }
     
-    private static void addContactInfo(Document document, PdfFont boldFont, PdfFont regularFont) {
+    private static Table buildContactInfo(PdfFont boldFont, PdfFont regularFont) {
         Table contactBox = new Table(1);
         contactBox.setWidth(UnitValue.createPercentValue(100));
         
@@ -844,38 +845,7 @@ public class TicketPDFGenerator {
         ).setFont(regularFont).setFontSize(9).setMarginTop(5));
         
         contactBox.addCell(contactCell);
-        document.add(contactBox);
-    }
-    
-    /**
-     * Générer un QR Code
-     */
-    private static byte[] generateQRCode(String data, int width, int height) throws Exception {
-        Map<EncodeHintType, Object> hints = new HashMap<>();
-        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.H);
-        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
-        hints.put(EncodeHintType.MARGIN, 1);
-        
-        BitMatrix matrix = new MultiFormatWriter().encode(
-            data, BarcodeFormat.QR_CODE, width, height, hints
-        );
-        
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        MatrixToImageWriter.writeToStream(matrix, "PNG", outputStream);
-        return outputStream.toByteArray();
-    }
-    
-    /**
-     * Générer un Code-barres (CODE_128)
-     */
-    private static byte[] generateBarcode(String data, int width, int height) throws Exception {
-        BitMatrix matrix = new MultiFormatWriter().encode(
-            data, BarcodeFormat.CODE_128, width, height
-        );
-        
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        MatrixToImageWriter.writeToStream(matrix, "PNG", outputStream);
-        return outputStream.toByteArray();
+        return contactBox;
     }
     
     /**
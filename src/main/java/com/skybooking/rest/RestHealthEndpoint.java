@@ -7,6 +7,7 @@ package com.skybooking.rest;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.database.MongoDBConnector;
+import com.skybooking.rest.middleware.DispatchExecutor;
 import org.json.JSONObject;
 
 import javax.naming.Context;
@@ -20,6 +21,16 @@ public class RestHealthEndpoint implements HttpHandler {
     
     private static final String CORBA_SERVER_NAME = com.skybooking.utils.Constants.CORBA_SERVICE_NAME;
     
+    private final DispatchExecutor dispatchExecutor;
+    
+    public RestHealthEndpoint() {
+        this(null);
+    }
+    
+    public RestHealthEndpoint(DispatchExecutor dispatchExecutor) {
+        this.dispatchExecutor = dispatchExecutor;
+    }
+    
     @Override
     public void handle(HttpExchange exchange) throws IOException {
         // Accepter uniquement GET
@@ -51,6 +62,20 @@ public class RestHealthEndpoint implements HttpHandler {
             services.put("mongodb", mongoHealthy ? "up" : "down");
             response.put("services", services);
             
+            // Charge du pool de dispatch HTTP
+            if (dispatchExecutor != null) {
+                DispatchExecutor.DispatchStats dispatch = dispatchExecutor.getStats();
+                JSONObject dispatcher = new JSONObject();
+                dispatcher.put("activeThreads", dispatch.activeThreads);
+                dispatcher.put("poolSize", dispatch.poolSize);
+                dispatcher.put("maxThreads", dispatch.maxThreads);
+                dispatcher.put("queueDepth", dispatch.queueDepth);
+                dispatcher.put("queueCapacity", dispatch.queueCapacity);
+                dispatcher.put("completedRequests", dispatch.completedRequests);
+                dispatcher.put("rejectedRequests", dispatch.rejectedRequests);
+                response.put("dispatcher", dispatcher);
+            }
+            
             // Informations supplémentaires
             if (mongoHealthy) {
                 try {
@@ -7,6 +7,10 @@ import com.google.gson.Gson;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.CompressionHelper;
+import com.skybooking.rest.utils.ConditionalHelper;
+import com.skybooking.utils.Constants;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -17,6 +21,9 @@ import java.util.concurrent.TimeUnit;
  * 
  * Route:
  * - GET /api/account/popular-destinations : Récupérer les destinations populaires
+ * 
+ * 🆕 Réponse mise en cache (TTL court) avec ETag / Last-Modified :
+ * les revalidations dans la fenêtre du cache ne déclenchent aucun appel CORBA.
  */
 public class PopularDestinationsHandler implements HttpHandler {
     
@@ -24,6 +31,10 @@ public class PopularDestinationsHandler implements HttpHandler {
     private final TimeoutExecutor timeoutExecutor;
     private final Gson gson = new Gson();
     
+    // 🆕 Dernière réponse sérialisée (remplacée atomiquement)
+    private volatile CachedResponse cache;
+    private final Object refreshLock = new Object();
+    
     public PopularDestinationsHandler(AccountManager accountManager, TimeoutExecutor timeoutExecutor) {
         this.accountManager = accountManager;
         this.timeoutExecutor = timeoutExecutor;
@@ -61,27 +72,67 @@ public class PopularDestinationsHandler implements HttpHandler {
     private void handleGet(HttpExchange exchange) throws Exception {
         System.out.println("→ GET /api/account/popular-destinations");
         
-        // Appel CORBA avec timeout
-        Destination[] destinations = timeoutExecutor.executeWithTimeout(() -> 
-            accountManager.getPopularDestinations(),
-            10, "get popular destinations"
-        );
+        CachedResponse current = getOrRefresh();
         
-        System.out.println("✅ " + destinations.length + " destination(s) populaire(s) récupérée(s)");
+        if (ConditionalHelper.isNotModified(exchange, current.etag, current.lastModified)) {
+            System.out.println("↺ 304 Not Modified (destinations populaires)");
+            ConditionalHelper.sendNotModified(exchange, current.etag, current.lastModified);
+            return;
+        }
         
-        // Conversion en JSON
-        List<Map<String, Object>> destinationsList = new ArrayList<>();
-        for (Destination dest : destinations) {
-            Map<String, Object> destMap = new HashMap<>();
-            destMap.put("cityName", dest.cityName);
-            destMap.put("countryCode", dest.countryCode);
-            destMap.put("imageUrl", dest.imageUrl);
-            destMap.put("flightCount", dest.flightCount);
-            destMap.put("startingPrice", dest.startingPrice);
-            destinationsList.add(destMap);
+        ConditionalHelper.setValidators(exchange, current.etag, current.lastModified);
+        sendJsonBytes(exchange, 200, current.body);
+    }
+    
+    /**
+     * 🆕 Retourner la réponse en cache ou la recharger via CORBA si expirée
+     */
+    private CachedResponse getOrRefresh() throws Exception {
+        CachedResponse current = cache;
+        if (current != null && !current.isExpired()) {
+            return current;
         }
         
-        sendJsonResponse(exchange, 200, destinationsList);
+        synchronized (refreshLock) {
+            current = cache;
+            if (current != null && !current.isExpired()) {
+                return current;
+            }
+            
+            // Appel CORBA avec timeout
+            Destination[] destinations = timeoutExecutor.executeWithTimeout(() -> 
+                accountManager.getPopularDestinations(),
+                10, "get popular destinations",
+                Bulkhead.SEARCH
+            );
+            
+            System.out.println("✅ " + destinations.length + " destination(s) populaire(s) récupérée(s)");
+            
+            // Conversion en JSON
+            List<Map<String, Object>> destinationsList = new ArrayList<>();
+            for (Destination dest : destinations) {
+                Map<String, Object> destMap = new LinkedHashMap<>();
+                destMap.put("cityName", dest.cityName);
+                destMap.put("countryCode", dest.countryCode);
+                destMap.put("imageUrl", dest.imageUrl);
+                destMap.put("flightCount", dest.flightCount);
+                destMap.put("startingPrice", dest.startingPrice);
+                destinationsList.add(destMap);
+            }
+            
+            byte[] body = gson.toJson(destinationsList).getBytes(StandardCharsets.UTF_8);
+            String etag = ConditionalHelper.weakETag(
+                Integer.toHexString(Arrays.hashCode(body)) + "-" + body.length
+            );
+            
+            // Contenu identique : conserver la date de modification précédente
+            long lastModified = (current != null && current.etag.equals(etag))
+                ? current.lastModified
+                : System.currentTimeMillis();
+            
+            cache = new CachedResponse(body, etag, lastModified);
+            return cache;
+        }
     }
     
     /**
@@ -97,14 +148,16 @@ public class PopularDestinationsHandler implements HttpHandler {
      * Envoyer une réponse JSON
      */
     private void sendJsonResponse(HttpExchange exchange, int statusCode, Object data) throws IOException {
+        sendJsonBytes(exchange, statusCode, gson.toJson(data).getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * 🆕 Envoyer un corps JSON déjà sérialisé (compression négociée au-delà du seuil)
+     */
+    private void sendJsonBytes(HttpExchange exchange, int statusCode, byte[] bytes) throws IOException {
         exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
         
-        String jsonResponse = gson.toJson(data);
-        byte[] bytes = jsonResponse.getBytes(StandardCharsets.UTF_8);
-        
-        exchange.sendResponseHeaders(statusCode, bytes.length);
-        
-        try (OutputStream os = exchange.getResponseBody()) {
+        try (OutputStream os = CompressionHelper.openResponseBody(exchange, statusCode)) {
             os.write(bytes);
         }
     }
@@ -119,4 +172,26 @@ public class PopularDestinationsHandler implements HttpHandler {
         
         sendJsonResponse(exchange, statusCode, error);
     }
-}
\ No newline at end of file
+    
+    /**
+     * 🆕 Réponse sérialisée + validateurs HTTP
+     */
+    private static class CachedResponse {
+        final byte[] body;
+        final String etag;
+        final long lastModified;
+        final long expiresAt;
+        
+        CachedResponse(byte[] body, String etag, long lastModified) {
+            this.body = body;
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.expiresAt = System.currentTimeMillis() +
+                TimeUnit.SECONDS.toMillis(Constants.POPULAR_DESTINATIONS_CACHE_TTL_SECONDS);
+        }
+        
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
+    }
+}
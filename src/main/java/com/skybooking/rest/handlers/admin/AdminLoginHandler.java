@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -55,7 +56,7 @@ public class AdminLoginHandler implements HttpHandler {
             
             AdminUser admin = timeoutExecutor.executeWithTimeout(() -> {
                 return adminManager.adminLogin(username, password);
-            }, Constants.TIMEOUT_DEFAULT, "admin login");
+            }, Constants.TIMEOUT_DEFAULT, "admin login", Bulkhead.ADMIN);
             
             // Générer un token de session
             String adminId = admin.adminId;
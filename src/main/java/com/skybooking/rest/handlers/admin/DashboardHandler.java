@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.ResponseHelper;
 import com.skybooking.utils.Constants;
 import FlightReservation.*;
@@ -42,7 +43,7 @@ public class DashboardHandler implements HttpHandler {
             
             DashboardStats stats = timeoutExecutor.executeWithTimeout(() -> {
                 return adminManager.getDashboardStats();
-            }, Constants.TIMEOUT_DEFAULT, "dashboard stats");
+            }, Constants.TIMEOUT_DEFAULT, "dashboard stats", Bulkhead.ADMIN);
             
             JsonObject response = new JsonObject();
             response.addProperty("totalFlights", stats.totalFlights);
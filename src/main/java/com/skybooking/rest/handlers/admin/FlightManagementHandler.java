@@ -2,12 +2,12 @@
 
 package com.skybooking.rest.handlers.admin;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -66,15 +66,11 @@ public class FlightManagementHandler implements HttpHandler {
         
         FlightManagementData[] flights = timeoutExecutor.executeWithTimeout(() -> {
             return adminManager.getAllFlights();
-        }, 15, "get all flights");
-        
-        JsonArray jsonArray = new JsonArray();
-        for (FlightManagementData flight : flights) {
-            jsonArray.add(flightManagementToJson(flight));
-        }
+        }, 15, "get all flights", Bulkhead.ADMIN);
         
         System.out.println("✅ " + flights.length + " vol(s) retourné(s)");
-        ResponseHelper.sendJsonResponse(exchange, 200, jsonArray);
+        ResponseHelper.sendJsonArrayStream(exchange, 200, flights, 
+                                           JsonHelper::writeFlightManagement);
     }
     
     private void handleCreateFlight(HttpExchange exchange) throws Exception {
@@ -92,7 +88,7 @@ public class FlightManagementHandler implements HttpHandler {
         
         String flightId = timeoutExecutor.executeWithTimeout(() -> {
             return adminManager.createFlight(flightData);
-        }, 15, "create flight");
+        }, 15, "create flight", Bulkhead.ADMIN);
         
         JsonObject response = new JsonObject();
         response.addProperty("success", true);
@@ -117,7 +113,7 @@ public class FlightManagementHandler implements HttpHandler {
         
         boolean success = timeoutExecutor.executeWithTimeout(() -> {
             return adminManager.updateFlight(flightData);
-        }, 15, "update flight");
+        }, 15, "update flight", Bulkhead.ADMIN);
         
         JsonObject response = new JsonObject();
         response.addProperty("success", success);
@@ -139,7 +135,7 @@ public class FlightManagementHandler implements HttpHandler {
         
         boolean success = timeoutExecutor.executeWithTimeout(() -> {
             return adminManager.deleteFlight(flightId);
-        }, 15, "delete flight");
+        }, 15, "delete flight", Bulkhead.ADMIN);
         
         JsonObject response = new JsonObject();
         response.addProperty("success", success);
@@ -148,28 +144,6 @@ public class FlightManagementHandler implements HttpHandler {
         ResponseHelper.sendJsonResponse(exchange, 200, response);
     }
     
-    private JsonObject flightManagementToJson(FlightManagementData flight) {
-        JsonObject json = new JsonObject();
-        json.addProperty("flightId", flight.flightId);
-        json.addProperty("flightNumber", flight.flightNumber);
-        json.addProperty("airline", flight.airline);
-        json.addProperty("departureCity", flight.departureCity);
-        json.addProperty("arrivalCity", flight.arrivalCity);
-        json.addProperty("departureDate", flight.departureDate);
-        json.addProperty("departureTime", flight.departureTime);
-        json.addProperty("arrivalDate", flight.arrivalDate);
-        json.addProperty("arrivalTime", flight.arrivalTime);
-        json.addProperty("duration", flight.duration);
-        json.addProperty("economyPrice", flight.economyPrice);
-        json.addProperty("businessPrice", flight.businessPrice);
-        json.addProperty("firstClassPrice", flight.firstClassPrice);
-        json.addProperty("totalSeats", flight.totalSeats);
-        json.addProperty("availableSeats", flight.availableSeats);
-        json.addProperty("aircraftType", flight.aircraftType);
-        json.addProperty("status", flight.status);
-        return json;
-    }
-    
     private FlightManagementData jsonToFlightManagement(JsonObject json) {
         return new FlightManagementData(
             json.has("flightId") ? json.get("flightId").getAsString() : "",
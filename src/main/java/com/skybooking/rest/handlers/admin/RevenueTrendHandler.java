@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
 import static com.skybooking.utils.Constants.*;
@@ -56,7 +57,7 @@ public class RevenueTrendHandler implements HttpHandler {
             // Appel CORBA avec timeout
             FinancialReport report = timeoutExecutor.executeWithTimeout(() -> {
                 return adminManager.getFinancialReport(period, startDate, endDate);
-            }, TIMEOUT_ADMIN, "récupération rapport financier");
+            }, TIMEOUT_ADMIN, "récupération rapport financier", Bulkhead.ADMIN);
             
             JsonObject response = new JsonObject();
             response.addProperty("period", report.period);
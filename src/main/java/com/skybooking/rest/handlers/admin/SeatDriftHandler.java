@@ -0,0 +1,91 @@
+// src/main/java/com/skybooking/rest/handlers/admin/SeatDriftHandler.java
+
+package com.skybooking.rest.handlers.admin;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.skybooking.rest.middleware.CorsMiddleware;
+import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.JsonHelper;
+import com.skybooking.rest.utils.RequestHelper;
+import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.utils.Constants;
+import FlightReservation.*;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 🔎 Handler pour la cohérence des compteurs de places (admin)
+ *
+ * GET  /api/admin/seats/drift               → rapport du dernier passage
+ * POST /api/admin/seats/drift?repair=false  → lancer un passage (correction par défaut)
+ */
+public class SeatDriftHandler implements HttpHandler {
+
+    private final AdminManager adminManager;
+    private final TimeoutExecutor timeoutExecutor;
+
+    public SeatDriftHandler(AdminManager adminManager,
+                           TimeoutExecutor timeoutExecutor) {
+        this.adminManager = adminManager;
+        this.timeoutExecutor = timeoutExecutor;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        CorsMiddleware.setCorsHeaders(exchange);
+
+        if (CorsMiddleware.handlePreFlight(exchange)) return;
+
+        String method = exchange.getRequestMethod();
+
+        try {
+            switch (method) {
+                case "GET":
+                    handleGetReport(exchange);
+                    break;
+                case "POST":
+                    handleStart(exchange);
+                    break;
+                default:
+                    ResponseHelper.sendError(exchange, 405, "Méthode non autorisée");
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Erreur cohérence sièges: " + e.getMessage());
+            ResponseHelper.sendError(exchange, 500, e.getMessage());
+        }
+    }
+
+    private void handleGetReport(HttpExchange exchange) throws Exception {
+        System.out.println("→ GET SEAT DRIFT REPORT (Admin)");
+
+        SeatDriftReport report = timeoutExecutor.executeWithTimeout(() -> {
+            return adminManager.getSeatDriftReport();
+        }, Constants.TIMEOUT_ADMIN, "seat drift report", Bulkhead.ADMIN);
+
+        ResponseHelper.sendJsonResponse(exchange, 200, JsonHelper.seatDriftReportToJson(report));
+    }
+
+    private void handleStart(HttpExchange exchange) throws Exception {
+        Map<String, String> params = RequestHelper.parseQueryParams(exchange.getRequestURI());
+        boolean repair = !"false".equalsIgnoreCase(params.get("repair"));
+
+        System.out.println("→ START SEAT RECONCILIATION (Admin, repair=" + repair + ")");
+
+        boolean started = timeoutExecutor.executeWithTimeout(() -> {
+            return adminManager.startSeatReconciliation(repair);
+        }, Constants.TIMEOUT_ADMIN, "seat reconciliation", Bulkhead.ADMIN);
+
+        if (!started) {
+            ResponseHelper.sendError(exchange, 409, "Une vérification est déjà en cours");
+            return;
+        }
+
+        JsonObject response = new JsonObject();
+        response.addProperty("started", true);
+        response.addProperty("repair", repair);
+        ResponseHelper.sendAccepted(exchange, response, 5);
+    }
+}
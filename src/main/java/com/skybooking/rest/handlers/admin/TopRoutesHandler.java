@@ -8,6 +8,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
 import static com.skybooking.utils.Constants.*;
@@ -61,7 +62,7 @@ public class TopRoutesHandler implements HttpHandler {
             // Appel CORBA avec timeout
             String[] topRoutes = timeoutExecutor.executeWithTimeout(() -> {
                 return adminManager.getTopRoutes(finalLimit);
-            }, TIMEOUT_ADMIN, "récupération top routes");
+            }, TIMEOUT_ADMIN, "récupération top routes", Bulkhead.ADMIN);
             
             JsonArray routesArray = new JsonArray();
             for (String route : topRoutes) {
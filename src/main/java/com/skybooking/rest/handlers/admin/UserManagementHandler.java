@@ -2,12 +2,12 @@
 
 package com.skybooking.rest.handlers.admin;
 
-import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -55,31 +55,17 @@ public class UserManagementHandler implements HttpHandler {
             // Appel CORBA avec timeout
             UserManagementData[] users = timeoutExecutor.executeWithTimeout(() -> {
                 return adminManager.getAllUsers();
-            }, TIMEOUT_ADMIN, "récupération utilisateurs");
-            
-            JsonArray usersArray = new JsonArray();
-            for (UserManagementData user : users) {
-                JsonObject userJson = new JsonObject();
-                userJson.addProperty("customerId", user.customerId);
-                userJson.addProperty("username", user.username);
-                userJson.addProperty("firstName", user.firstName);
-                userJson.addProperty("lastName", user.lastName);
-                userJson.addProperty("email", user.email);
-                userJson.addProperty("phoneNumber", user.phoneNumber);
-                userJson.addProperty("totalBookings", user.totalBookings);
-                userJson.addProperty("totalSpent", user.totalSpent);
-                userJson.addProperty("lastBooking", user.lastBooking);
-                userJson.addProperty("isActive", user.isActive);
-                userJson.addProperty("registeredAt", user.registeredAt);
-                usersArray.add(userJson);
-            }
-            
-            JsonObject response = new JsonObject();
-            response.add("users", usersArray);
-            response.addProperty("count", users.length);
+            }, TIMEOUT_ADMIN, "récupération utilisateurs", Bulkhead.ADMIN);
             
             System.out.println("✅ " + users.length + " utilisateur(s) trouvé(s)");
-            ResponseHelper.sendJsonResponse(exchange, 200, response);
+            
+            ResponseHelper.sendJsonStream(exchange, 200, out -> {
+                out.beginObject();
+                out.name("users");
+                JsonHelper.writeArray(out, users, JsonHelper::writeUserManagement);
+                out.name("count").value(users.length);
+                out.endObject();
+            });
             
         } catch (Exception e) {
             System.err.println("✗ Erreur récupération utilisateurs: " + e.getMessage());
@@ -121,14 +107,14 @@ public class UserManagementHandler implements HttpHandler {
                 
                 success = timeoutExecutor.executeWithTimeout(() -> {
                     return adminManager.suspendUser(customerId, reason);
-                }, TIMEOUT_ADMIN, "suspension utilisateur");
+                }, TIMEOUT_ADMIN, "suspension utilisateur", Bulkhead.ADMIN);
                 
                 message = "Utilisateur suspendu avec succès";
                 
             } else if ("activate".equals(action)) {
                 success = timeoutExecutor.executeWithTimeout(() -> {
                     return adminManager.activateUser(customerId);
-                }, TIMEOUT_ADMIN, "activation utilisateur");
+                }, TIMEOUT_ADMIN, "activation utilisateur", Bulkhead.ADMIN);
                 
                 message = "Utilisateur activé avec succès";
                 
@@ -171,7 +157,7 @@ public class UserManagementHandler implements HttpHandler {
             // Appel CORBA avec timeout
             boolean deleted = timeoutExecutor.executeWithTimeout(() -> {
                 return adminManager.deleteUser(customerId);
-            }, TIMEOUT_ADMIN, "suppression utilisateur");
+            }, TIMEOUT_ADMIN, "suppression utilisateur", Bulkhead.ADMIN);
             
             if (deleted) {
                 JsonObject response = new JsonObject();
@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -66,17 +67,17 @@ public class CancelReservationHandler implements HttpHandler {
             // Récupérer la politique d'annulation
             CancellationPolicy policy = timeoutExecutor.executeWithTimeout(() -> {
                 return cancellationManager.getCancellationPolicy(reservationId);
-            }, TIMEOUT_DEFAULT, "récupération politique annulation");
+            }, TIMEOUT_DEFAULT, "récupération politique annulation", Bulkhead.RESERVATION);
             
             // Calculer le montant du remboursement
             double refundAmount = timeoutExecutor.executeWithTimeout(() -> {
                 return cancellationManager.calculateRefundAmount(reservationId);
-            }, TIMEOUT_DEFAULT, "calcul remboursement");
+            }, TIMEOUT_DEFAULT, "calcul remboursement", Bulkhead.RESERVATION);
             
             // Appel CORBA avec timeout
             boolean cancelled = timeoutExecutor.executeWithTimeout(() -> {
                 return cancellationManager.cancelReservation(reservationId, reason);
-            }, TIMEOUT_CANCELLATION, "annulation réservation");
+            }, TIMEOUT_CANCELLATION, "annulation réservation", Bulkhead.RESERVATION);
             
             if (cancelled) {
                 JsonObject response = new JsonObject();
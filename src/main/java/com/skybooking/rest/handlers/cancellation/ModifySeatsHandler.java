@@ -8,6 +8,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -76,7 +77,7 @@ public class ModifySeatsHandler implements HttpHandler {
             // Vérifier si la modification est autorisée
             boolean canModify = timeoutExecutor.executeWithTimeout(() -> {
                 return cancellationManager.canModifyReservation(reservationId);
-            }, TIMEOUT_DEFAULT, "vérification modification");
+            }, TIMEOUT_DEFAULT, "vérification modification", Bulkhead.RESERVATION);
             
             if (!canModify) {
                 ResponseHelper.sendError(exchange, 403, 
@@ -87,7 +88,7 @@ public class ModifySeatsHandler implements HttpHandler {
             // Appel CORBA avec timeout
             boolean modified = timeoutExecutor.executeWithTimeout(() -> {
                 return cancellationManager.modifySeats(reservationId, newSeats);
-            }, TIMEOUT_MODIFICATION, "modification sièges");
+            }, TIMEOUT_MODIFICATION, "modification sièges", Bulkhead.RESERVATION);
             
             if (modified) {
                 JsonObject response = new JsonObject();
@@ -0,0 +1,99 @@
+// src/main/java/com/skybooking/rest/handlers/download/CachedPdfResponder.java
+
+package com.skybooking.rest.handlers.download;
+
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.skybooking.pdf.DocumentRenderQueue;
+import com.skybooking.pdf.DocumentRenderQueue.JobStatus;
+import com.skybooking.pdf.DocumentRenderQueue.RenderJob;
+import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.utils.Constants;
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 📦 Réponse PDF depuis le cache disque
+ *
+ * - Fichier déjà rendu : envoyé directement depuis le disque (Range supporté)
+ * - Rendu en cours (ou lancé maintenant) : courte attente, puis 202 + statut
+ * - File de rendu pleine : 503 + Retry-After (comme l'OverloadFilter)
+ * - Fichier supprimé (purge d'une ancienne version) entre la fin du rendu et
+ *   son ouverture : nouveau rendu au lieu d'une erreur 500. Une fois ouvert,
+ *   le fichier reste lisible jusqu'à la fin de l'envoi même s'il est purgé.
+ */
+class CachedPdfResponder {
+
+    private static final int MAX_ATTEMPTS = 2;
+
+    static void respond(HttpExchange exchange, Path target,
+                        DocumentRenderQueue.Renderer renderer,
+                        String filename, String documentId) throws Exception {
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                respondOnce(exchange, target, renderer, filename, documentId);
+                return;
+            } catch (NoSuchFileException e) {
+                // sendFileResponse ouvre le fichier avant d'envoyer les en-têtes
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                System.err.println("⚠️ PDF purgé avant envoi, nouveau rendu: " + filename);
+            }
+        }
+    }
+
+    private static void respondOnce(HttpExchange exchange, Path target,
+                                    DocumentRenderQueue.Renderer renderer,
+                                    String filename, String documentId) throws Exception {
+
+        RenderJob job;
+        try {
+            job = DocumentRenderQueue.getInstance().submit(target, renderer);
+        } catch (RejectedExecutionException e) {
+            sendOverloaded(exchange, filename);
+            return;
+        }
+
+        if (!job.await(Constants.PDF_RENDER_WAIT_SECONDS)) {
+            if (job.getStatus() == JobStatus.FAILED) {
+                if (job.getError() instanceof RejectedExecutionException) {
+                    sendOverloaded(exchange, filename);
+                    return;
+                }
+                throw job.getError();
+            }
+
+            System.out.println("⏳ PDF en cours de rendu: " + filename + " → 202");
+            JsonObject body = new JsonObject();
+            body.addProperty("success", true);
+            body.addProperty("status", job.getStatus().name());
+            body.addProperty("documentId", documentId);
+            body.addProperty("retryAfter", Constants.PDF_RENDER_RETRY_AFTER_SECONDS);
+            body.addProperty("message", "Document en cours de génération, veuillez réessayer");
+            ResponseHelper.sendAccepted(exchange, body, Constants.PDF_RENDER_RETRY_AFTER_SECONDS);
+            return;
+        }
+
+        // Envoi direct depuis le disque (pas de copie du PDF sur le tas)
+        ResponseHelper.sendFileResponse(
+            exchange,
+            job.getTarget(),
+            "application/pdf",
+            filename
+        );
+
+        System.out.println("✅ PDF envoyé depuis le cache: " + filename);
+    }
+
+    private static void sendOverloaded(HttpExchange exchange, String filename) throws IOException {
+        System.err.println("⚠️ File de rendu PDF pleine: " + filename + " → 503");
+        exchange.getResponseHeaders().set("Retry-After",
+            String.valueOf(Constants.PDF_RENDER_RETRY_AFTER_SECONDS));
+        ResponseHelper.sendError(exchange, 503,
+            "Génération de documents surchargée, veuillez réessayer dans quelques instants");
+    }
+}
@@ -6,11 +6,16 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.middleware.TimeoutExecutor.FanOut;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.pdf.DocumentArtifactStore;
 import com.skybooking.pdf.InvoicePDFGenerator;
 import FlightReservation.*;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Future;
 
 /**
  * 📥 Handler pour télécharger une facture en PDF
@@ -58,49 +63,46 @@ public class DownloadInvoiceHandler implements HttpHandler {
             
             System.out.println("→ Requête DOWNLOAD INVOICE PDF: " + invoiceId);
             
-            // Récupérer les données
-            Invoice invoice = timeoutExecutor.executeWithTimeout(() -> {
-                return paymentManager.getInvoice(invoiceId);
-            }, 10, "récupération facture");
+            // Récupérer les données (seule la facture conditionne les autres appels)
+            FanOut fanOut = timeoutExecutor.fanOut(10, "récupération données facture", Bulkhead.DOCUMENT);
+            
+            Invoice invoice = fanOut.get(fanOut.submit(() ->
+                paymentManager.getInvoice(invoiceId)));
             
             if (invoice == null) {
                 ResponseHelper.sendError(exchange, 404, "Facture non trouvée");
                 return;
             }
             
-            Payment payment = timeoutExecutor.executeWithTimeout(() -> {
-                return paymentManager.getPayment(invoice.paymentId);
-            }, 10, "récupération paiement");
+            Future<Payment> paymentFuture = fanOut.submit(() ->
+                paymentManager.getPayment(invoice.paymentId));
+            Future<Reservation> reservationFuture = fanOut.submit(() ->
+                reservationManager.getReservation(invoice.reservationId));
             
-            Reservation reservation = timeoutExecutor.executeWithTimeout(() -> {
-                return reservationManager.getReservation(invoice.reservationId);
-            }, 10, "récupération réservation");
+            Reservation reservation = fanOut.get(reservationFuture);
             
-            Flight flight = timeoutExecutor.executeWithTimeout(() -> {
-                return flightManager.getFlightById(reservation.flightId);
-            }, 10, "récupération vol");
+            Future<Flight> flightFuture = fanOut.submit(() ->
+                flightManager.getFlightById(reservation.flightId));
+            Future<Customer> customerFuture = fanOut.submit(() ->
+                customerManager.getCustomerById(reservation.customerId));
             
-            Customer customer = timeoutExecutor.executeWithTimeout(() -> {
-                return customerManager.getCustomerById(reservation.customerId);
-            }, 10, "récupération client");
+            Payment payment = fanOut.get(paymentFuture);
+            Flight flight = fanOut.get(flightFuture);
+            Customer customer = fanOut.get(customerFuture);
             
-            // Générer le PDF
-            byte[] pdfBytes = InvoicePDFGenerator.generateInvoicePDF(
+            // 🆕 PDF servi depuis le cache disque (rendu en arrière-plan si absent)
+            String filename = String.format("facture_%s.pdf", invoiceId);
+            Path pdfPath = DocumentArtifactStore.invoicePath(
                 invoice, payment, reservation, customer, flight
             );
             
-            // Envoyer le PDF
-            String filename = String.format("facture_%s.pdf", invoiceId);
-            
-            ResponseHelper.sendBinaryResponse(
-                exchange, 
-                pdfBytes, 
-                "application/pdf", 
-                filename
+            CachedPdfResponder.respond(exchange, pdfPath,
+                () -> InvoicePDFGenerator.generateInvoicePDF(
+                    invoice, payment, reservation, customer, flight
+                ),
+                filename, invoiceId
             );
             
-            System.out.println("✅ PDF facture envoyé: " + filename);
-            
         } catch (Exception e) {
             System.err.println("❌ Erreur génération PDF facture: " + e.getMessage());
             ResponseHelper.sendError(exchange, 500, e.getMessage());
@@ -6,11 +6,16 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.middleware.TimeoutExecutor.FanOut;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.pdf.DocumentArtifactStore;
 import com.skybooking.pdf.TicketPDFGenerator;
 import FlightReservation.*;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Future;
 
 /**
  * 🎫 Handler pour télécharger UN SEUL ticket en PDF
@@ -68,32 +73,20 @@ public class DownloadSingleTicketHandler implements HttpHandler {
             System.out.println("║  Ticket ID: " + ticketId);
             System.out.println("╚═══════════════════════════════════════════════════╝");
             
-            // ==================== ÉTAPE 1: RÉCUPÉRER LE TICKET ====================
-            System.out.println("→ Étape 1/4: Récupération du ticket...");
+            // ==================== ÉTAPES 1-2: TICKET + RÉSERVATION (PARALLÈLE) ====================
+            System.out.println("→ Étapes 1-2/4: Récupération du ticket et de la réservation...");
             
-            Ticket targetTicket = timeoutExecutor.executeWithTimeout(() -> {
-                return reservationManager.getTicketById(ticketId);
-            }, 10, "récupération ticket");
+            FanOut fanOut = timeoutExecutor.fanOut(10, "récupération données ticket", Bulkhead.DOCUMENT);
             
-            if (targetTicket == null) {
-                System.err.println("❌ Ticket non trouvé");
-                ResponseHelper.sendError(exchange, 404, "Ticket non trouvé : " + ticketId);
-                return;
-            }
-            
-            System.out.println("✅ Ticket récupéré:");
-            System.out.println("   - Passager: " + targetTicket.passengerName);
-            System.out.println("   - Siège: " + targetTicket.seatNumber);
-            System.out.println("   - Vol: " + targetTicket.flightNumber);
+            Future<Ticket> ticketFuture = fanOut.submit(() ->
+                reservationManager.getTicketById(ticketId));
+            Future<Reservation> reservationFuture = fanOut.submit(() ->
+                reservationManager.getReservationByTicketId(ticketId));
             
-            // ==================== ÉTAPE 2: RÉCUPÉRER LA RÉSERVATION ====================
-            System.out.println("→ Étape 2/4: Récupération de la réservation...");
-            
-            Reservation reservation = timeoutExecutor.executeWithTimeout(() -> {
-                return reservationManager.getReservationByTicketId(ticketId);
-            }, 10, "récupération réservation");
+            Reservation reservation = fanOut.get(reservationFuture);
             
             if (reservation == null) {
+                fanOut.cancelAll();
                 System.err.println("❌ Réservation non trouvée");
                 ResponseHelper.sendError(exchange, 404, "Réservation non trouvée pour ce ticket");
                 return;
@@ -104,19 +97,35 @@ public class DownloadSingleTicketHandler implements HttpHandler {
             // ==================== ÉTAPE 3: RÉCUPÉRER VOL ET CLIENT ====================
             System.out.println("→ Étape 3/4: Récupération des détails (vol + client)...");
             
-            Flight flight = timeoutExecutor.executeWithTimeout(() -> {
-                return flightManager.getFlightById(reservation.flightId);
-            }, 10, "récupération vol");
+            Future<Flight> flightFuture = fanOut.submit(() ->
+                flightManager.getFlightById(reservation.flightId));
+            Future<Customer> customerFuture = fanOut.submit(() ->
+                customerManager.getCustomerById(reservation.customerId));
+            
+            Ticket targetTicket = fanOut.get(ticketFuture);
+            
+            if (targetTicket == null) {
+                fanOut.cancelAll();
+                System.err.println("❌ Ticket non trouvé");
+                ResponseHelper.sendError(exchange, 404, "Ticket non trouvé : " + ticketId);
+                return;
+            }
+            
+            System.out.println("✅ Ticket récupéré:");
+            System.out.println("   - Passager: " + targetTicket.passengerName);
+            System.out.println("   - Siège: " + targetTicket.seatNumber);
+            System.out.println("   - Vol: " + targetTicket.flightNumber);
+            
+            Flight flight = fanOut.get(flightFuture);
             
             if (flight == null) {
+                fanOut.cancelAll();
                 System.err.println("❌ Vol non trouvé");
                 ResponseHelper.sendError(exchange, 404, "Vol non trouvé");
                 return;
             }
             
-            Customer customer = timeoutExecutor.executeWithTimeout(() -> {
-                return customerManager.getCustomerById(reservation.customerId);
-            }, 10, "récupération client");
+            Customer customer = fanOut.get(customerFuture);
             
             if (customer == null) {
                 System.err.println("❌ Client non trouvé");
@@ -127,41 +136,30 @@ public class DownloadSingleTicketHandler implements HttpHandler {
             System.out.println("✅ Vol: " + flight.flightNumber + " (" + flight.airline + ")");
             System.out.println("✅ Client: " + customer.firstName + " " + customer.lastName);
             
-            // ==================== ÉTAPE 4: GÉNÉRER LE PDF ====================
-            System.out.println("→ Étape 4/4: Génération du PDF individuel...");
+            // ==================== ÉTAPE 4: PDF DEPUIS LE CACHE DISQUE ====================
+            System.out.println("→ Étape 4/4: PDF individuel (cache ou rendu en arrière-plan)...");
             
-            byte[] pdfBytes = TicketPDFGenerator.generateSingleTicket(
-                reservation, 
-                targetTicket, 
-                flight, 
-                customer
-            );
-            
-            if (pdfBytes == null || pdfBytes.length == 0) {
-                System.err.println("❌ PDF vide ou null");
-                ResponseHelper.sendError(exchange, 500, "Erreur génération PDF");
-                return;
-            }
-            
-            System.out.println("✅ PDF généré: " + pdfBytes.length + " bytes");
-            
-            // ==================== ÉTAPE 5: ENVOYER LE PDF ====================
             String filename = String.format("ticket_%s_%s.pdf", 
                 targetTicket.passengerName.replace(" ", "_").replace(".", ""), 
                 targetTicket.seatNumber.replace(" ", ""));
+            Path pdfPath = DocumentArtifactStore.singleTicketPath(
+                reservation, targetTicket, flight, customer
+            );
             
-            ResponseHelper.sendBinaryResponse(
-                exchange, 
-                pdfBytes, 
-                "application/pdf", 
-                filename
+            CachedPdfResponder.respond(exchange, pdfPath,
+                () -> TicketPDFGenerator.generateSingleTicket(
+                    reservation, 
+                    targetTicket, 
+                    flight, 
+                    customer
+                ),
+                filename, ticketId
             );
             
             System.out.println("╔═══════════════════════════════════════════════════╗");
-            System.out.println("║  ✅ TÉLÉCHARGEMENT RÉUSSI                          ║");
+            System.out.println("║  ✅ TÉLÉCHARGEMENT TRAITÉ                          ║");
             System.out.println("╠═══════════════════════════════════════════════════╣");
             System.out.println("║  Fichier: " + filename);
-            System.out.println("║  Taille: " + pdfBytes.length + " bytes");
             System.out.println("║  Passager: " + targetTicket.passengerName);
             System.out.println("║  Siège: " + targetTicket.seatNumber);
             System.out.println("╚═══════════════════════════════════════════════════╝");
@@ -6,11 +6,16 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.middleware.TimeoutExecutor.FanOut;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.pdf.DocumentArtifactStore;
 import com.skybooking.pdf.TicketPDFGenerator;
 import FlightReservation.*;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Future;
 
 /**
  * 📥 Handler pour télécharger les tickets en PDF
@@ -55,52 +60,52 @@ public class DownloadTicketsHandler implements HttpHandler {
             
             System.out.println("→ Requête DOWNLOAD TICKETS PDF: " + reservationId);
             
-            // Récupérer les données via CORBA
-            Reservation reservation = timeoutExecutor.executeWithTimeout(() -> {
-                return reservationManager.getReservation(reservationId);
-            }, 10, "récupération réservation");
+            // Récupérer les données via CORBA (appels indépendants en parallèle)
+            FanOut fanOut = timeoutExecutor.fanOut(10, "récupération données tickets", Bulkhead.DOCUMENT);
+            
+            Future<Reservation> reservationFuture = fanOut.submit(() ->
+                reservationManager.getReservation(reservationId));
+            Future<Ticket[]> ticketsFuture = fanOut.submit(() ->
+                reservationManager.getTickets(reservationId));
+            
+            Reservation reservation = fanOut.get(reservationFuture);
             
             if (reservation == null) {
+                fanOut.cancelAll();
                 ResponseHelper.sendError(exchange, 404, "Réservation non trouvée");
                 return;
             }
             
-            Ticket[] tickets = timeoutExecutor.executeWithTimeout(() -> {
-                return reservationManager.getTickets(reservationId);
-            }, 10, "récupération tickets");
+            // Vol et client ne dépendent que de la réservation
+            Future<Flight> flightFuture = fanOut.submit(() ->
+                flightManager.getFlightById(reservation.flightId));
+            Future<Customer> customerFuture = fanOut.submit(() ->
+                customerManager.getCustomerById(reservation.customerId));
+            
+            Ticket[] tickets = fanOut.get(ticketsFuture);
             
             if (tickets == null || tickets.length == 0) {
+                fanOut.cancelAll();
                 ResponseHelper.sendError(exchange, 404, "Aucun ticket trouvé");
                 return;
             }
             
-            Flight flight = timeoutExecutor.executeWithTimeout(() -> {
-                return flightManager.getFlightById(reservation.flightId);
-            }, 10, "récupération vol");
-            
-            Customer customer = timeoutExecutor.executeWithTimeout(() -> {
-                return customerManager.getCustomerById(reservation.customerId);
-            }, 10, "récupération client");
+            Flight flight = fanOut.get(flightFuture);
+            Customer customer = fanOut.get(customerFuture);
             
-            // Générer le PDF
-            System.out.println("→ Génération du PDF pour " + tickets.length + " ticket(s)...");
-            byte[] pdfBytes = TicketPDFGenerator.generateReservationTickets(
+            // 🆕 PDF servi depuis le cache disque (rendu en arrière-plan si absent)
+            String filename = String.format("tickets_%s.pdf", reservation.reservationId);
+            Path pdfPath = DocumentArtifactStore.reservationTicketsPath(
                 reservation, tickets, flight, customer
             );
             
-            // Envoyer le PDF
-            String filename = String.format("tickets_%s.pdf", reservation.reservationId);
-            
-            ResponseHelper.sendBinaryResponse(
-                exchange, 
-                pdfBytes, 
-                "application/pdf", 
-                filename
+            CachedPdfResponder.respond(exchange, pdfPath,
+                () -> TicketPDFGenerator.generateReservationTickets(
+                    reservation, tickets, flight, customer
+                ),
+                filename, reservation.reservationId
             );
             
-            System.out.println("✅ PDF généré et envoyé: " + filename + 
-                             " (" + pdfBytes.length + " bytes)");
-            
         } catch (Exception e) {
             System.err.println("❌ Erreur génération PDF: " + e.getMessage());
             e.printStackTrace();
@@ -0,0 +1,72 @@
+// src/main/java/com/skybooking/rest/handlers/flight/CityAutocompleteHandler.java
+
+package com.skybooking.rest.handlers.flight;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.skybooking.rest.middleware.CorsMiddleware;
+import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.JsonHelper;
+import com.skybooking.rest.utils.RequestHelper;
+import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.utils.Constants;
+import FlightReservation.*;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 🔤 Handler d'autocomplétion des villes
+ * GET /api/cities/autocomplete?q=bej[&limit=8]
+ *
+ * Le cityKey renvoyé ("BJA") est à transmettre tel quel comme from / to / city
+ */
+public class CityAutocompleteHandler implements HttpHandler {
+
+    private final FlightManager flightManager;
+    private final TimeoutExecutor timeoutExecutor;
+
+    public CityAutocompleteHandler(FlightManager flightManager,
+                                   TimeoutExecutor timeoutExecutor) {
+        this.flightManager = flightManager;
+        this.timeoutExecutor = timeoutExecutor;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        CorsMiddleware.setCorsHeaders(exchange);
+
+        if (CorsMiddleware.handlePreFlight(exchange)) return;
+
+        if (!CorsMiddleware.isMethodAllowed(exchange, "GET")) {
+            ResponseHelper.sendError(exchange, 405, "Méthode non autorisée");
+            return;
+        }
+
+        try {
+            Map<String, String> params = RequestHelper.parseQueryParams(exchange.getRequestURI());
+            String query = params.getOrDefault("q", "");
+            int limit;
+            try {
+                limit = Integer.parseInt(
+                    params.getOrDefault("limit", String.valueOf(Constants.AUTOCOMPLETE_DEFAULT_LIMIT)).trim());
+            } catch (NumberFormatException e) {
+                limit = Constants.AUTOCOMPLETE_DEFAULT_LIMIT;
+            }
+            int max = limit;
+
+            // Appel CORBA avec timeout
+            CitySuggestion[] suggestions = timeoutExecutor.executeWithTimeout(() -> {
+                return flightManager.suggestCities(query, max);
+            }, Constants.TIMEOUT_SEARCH, "autocomplétion des villes", Bulkhead.SEARCH);
+
+            // Liste stable entre deux rechargements : courte mise en cache navigateur
+            exchange.getResponseHeaders().set("Cache-Control", "public, max-age=60");
+            ResponseHelper.sendJsonArrayStream(exchange, 200, suggestions, JsonHelper::writeCitySuggestion);
+
+        } catch (Exception e) {
+            System.err.println("❌ Erreur autocomplétion: " + e.getMessage());
+            ResponseHelper.sendError(exchange, 500, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+// src/main/java/com/skybooking/rest/handlers/flight/ExploreDestinationsHandler.java
+
+package com.skybooking.rest.handlers.flight;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.skybooking.rest.middleware.CorsMiddleware;
+import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.JsonHelper;
+import com.skybooking.rest.utils.RequestHelper;
+import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.utils.Constants;
+import FlightReservation.*;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 🗺️ Handler "explorer depuis une ville" : destinations les moins chères du mois
+ * GET /api/flights/explore?from=Oran&month=2025-03
+ *     [&seatClass=ECONOMY][&maxBudget=60000][&limit=12]
+ */
+public class ExploreDestinationsHandler implements HttpHandler {
+
+    private final FlightManager flightManager;
+    private final TimeoutExecutor timeoutExecutor;
+
+    public ExploreDestinationsHandler(FlightManager flightManager,
+                                      TimeoutExecutor timeoutExecutor) {
+        this.flightManager = flightManager;
+        this.timeoutExecutor = timeoutExecutor;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        CorsMiddleware.setCorsHeaders(exchange);
+
+        if (CorsMiddleware.handlePreFlight(exchange)) return;
+
+        if (!CorsMiddleware.isMethodAllowed(exchange, "GET")) {
+            ResponseHelper.sendError(exchange, 405, "Méthode non autorisée");
+            return;
+        }
+
+        try {
+            System.out.println("→ Requête EXPLORE reçue");
+
+            Map<String, String> params = RequestHelper.parseQueryParams(exchange.getRequestURI());
+            String from = params.getOrDefault("from", "");
+            String month = params.getOrDefault("month", "");
+            String seatClass = params.getOrDefault("seatClass", "ECONOMY");
+            double maxBudget;
+            int limit;
+            try {
+                maxBudget = Double.parseDouble(params.getOrDefault("maxBudget", "0").trim());
+                limit = Integer.parseInt(
+                    params.getOrDefault("limit", String.valueOf(Constants.EXPLORE_DEFAULT_LIMIT)).trim());
+            } catch (NumberFormatException e) {
+                ResponseHelper.sendError(exchange, 400, "Paramètres maxBudget ou limit invalides");
+                return;
+            }
+
+            if (from.isEmpty()) {
+                ResponseHelper.sendError(exchange, 400, "Paramètre from requis");
+                return;
+            }
+
+            System.out.println("  depuis " + from + " | " + month + " | " + seatClass +
+                             " | budget " + maxBudget);
+
+            // Appel CORBA avec timeout
+            DestinationFare[] fares = timeoutExecutor.executeWithTimeout(() -> {
+                return flightManager.exploreDestinations(from, month, seatClass, maxBudget, limit);
+            }, Constants.TIMEOUT_SEARCH, "exploration des destinations", Bulkhead.SEARCH);
+
+            System.out.println("✅ " + fares.length + " destination(s) retournée(s)");
+
+            ResponseHelper.sendJsonArrayStream(exchange, 200, fares, JsonHelper::writeDestinationFare);
+
+        } catch (Exception e) {
+            System.err.println("❌ Erreur exploration: " + e.getMessage());
+            ResponseHelper.sendError(exchange, 500, e.getMessage());
+        }
+    }
+}
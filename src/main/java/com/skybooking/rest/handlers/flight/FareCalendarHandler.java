@@ -0,0 +1,77 @@
+// src/main/java/com/skybooking/rest/handlers/flight/FareCalendarHandler.java
+
+package com.skybooking.rest.handlers.flight;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.skybooking.rest.middleware.CorsMiddleware;
+import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.JsonHelper;
+import com.skybooking.rest.utils.RequestHelper;
+import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.utils.Constants;
+import FlightReservation.*;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 📅 Handler pour le calendrier des prix
+ * GET /api/flights/fare-calendar?from=Alger&to=Paris&fromDate=2025-06-01
+ *     [&toDate=2025-06-30][&seatClass=ECONOMY]
+ */
+public class FareCalendarHandler implements HttpHandler {
+
+    private final FlightManager flightManager;
+    private final TimeoutExecutor timeoutExecutor;
+
+    public FareCalendarHandler(FlightManager flightManager,
+                               TimeoutExecutor timeoutExecutor) {
+        this.flightManager = flightManager;
+        this.timeoutExecutor = timeoutExecutor;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        CorsMiddleware.setCorsHeaders(exchange);
+
+        if (CorsMiddleware.handlePreFlight(exchange)) return;
+
+        if (!CorsMiddleware.isMethodAllowed(exchange, "GET")) {
+            ResponseHelper.sendError(exchange, 405, "Méthode non autorisée");
+            return;
+        }
+
+        try {
+            System.out.println("→ Requête FARE CALENDAR reçue");
+
+            Map<String, String> params = RequestHelper.parseQueryParams(exchange.getRequestURI());
+            String from = params.getOrDefault("from", "");
+            String to = params.getOrDefault("to", "");
+            String fromDate = params.getOrDefault("fromDate", "");
+            String toDate = params.getOrDefault("toDate", "");
+            String seatClass = params.getOrDefault("seatClass", "ECONOMY");
+
+            if (from.isEmpty() || to.isEmpty()) {
+                ResponseHelper.sendError(exchange, 400, "Paramètres from et to requis");
+                return;
+            }
+
+            System.out.println("  " + from + " → " + to + " | " + fromDate + " → " + toDate +
+                             " | " + seatClass);
+
+            // Appel CORBA avec timeout
+            FareDay[] calendar = timeoutExecutor.executeWithTimeout(() -> {
+                return flightManager.getFareCalendar(from, to, fromDate, toDate, seatClass);
+            }, Constants.TIMEOUT_SEARCH, "calendrier des prix", Bulkhead.SEARCH);
+
+            System.out.println("✅ " + calendar.length + " jour(s) retourné(s)");
+
+            ResponseHelper.sendJsonArrayStream(exchange, 200, calendar, JsonHelper::writeFareDay);
+
+        } catch (Exception e) {
+            System.err.println("❌ Erreur calendrier des prix: " + e.getMessage());
+            ResponseHelper.sendError(exchange, 500, e.getMessage());
+        }
+    }
+}
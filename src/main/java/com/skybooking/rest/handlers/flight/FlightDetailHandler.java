@@ -7,6 +7,8 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.ConditionalHelper;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -53,14 +55,29 @@ public class FlightDetailHandler implements HttpHandler {
             
             System.out.println("  Vol ID: " + flightId);
             
+            // 🆕 Requête conditionnelle : version légère avant le chargement complet
+            String version = timeoutExecutor.executeWithTimeout(() -> {
+                return flightManager.getFlightVersion(flightId);
+            }, Constants.TIMEOUT_DEFAULT, "version vol", Bulkhead.SEARCH);
+            
+            String etag = ConditionalHelper.weakETag(version);
+            long lastModified = ConditionalHelper.lastModifiedOf(version);
+            
+            if (ConditionalHelper.isNotModified(exchange, etag, lastModified)) {
+                System.out.println("↺ 304 Not Modified (détails vol)");
+                ConditionalHelper.sendNotModified(exchange, etag, lastModified);
+                return;
+            }
+            
             // Appel CORBA avec timeout
             Flight flight = timeoutExecutor.executeWithTimeout(() -> {
                 return flightManager.getFlightById(flightId);
-            }, Constants.TIMEOUT_DEFAULT, "détails vol");
+            }, Constants.TIMEOUT_DEFAULT, "détails vol", Bulkhead.SEARCH);
             
             JsonObject jsonFlight = JsonHelper.flightToJson(flight);
             
             System.out.println("✅ Détails du vol " + flightId + " retournés");
+            ConditionalHelper.setValidators(exchange, etag, lastModified);
             ResponseHelper.sendJsonResponse(exchange, 200, jsonFlight);
             
         } catch (FlightNotFoundException e) {
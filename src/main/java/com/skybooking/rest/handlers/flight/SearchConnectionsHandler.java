@@ -0,0 +1,90 @@
+// src/main/java/com/skybooking/rest/handlers/flight/SearchConnectionsHandler.java
+
+package com.skybooking.rest.handlers.flight;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.skybooking.rest.middleware.CorsMiddleware;
+import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.JsonHelper;
+import com.skybooking.rest.utils.RequestHelper;
+import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.utils.Constants;
+import FlightReservation.*;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 🧭 Handler pour la recherche avec correspondances
+ * GET /api/flights/connections?from=Alger&to=Tokyo&date=2025-06-01
+ *     [&seatClass=ECONOMY][&maxLegs=3][&minConnection=90][&sortBy=price|duration][&limit=20]
+ */
+public class SearchConnectionsHandler implements HttpHandler {
+
+    private final FlightManager flightManager;
+    private final TimeoutExecutor timeoutExecutor;
+
+    public SearchConnectionsHandler(FlightManager flightManager,
+                                    TimeoutExecutor timeoutExecutor) {
+        this.flightManager = flightManager;
+        this.timeoutExecutor = timeoutExecutor;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        CorsMiddleware.setCorsHeaders(exchange);
+
+        if (CorsMiddleware.handlePreFlight(exchange)) return;
+
+        if (!CorsMiddleware.isMethodAllowed(exchange, "GET")) {
+            ResponseHelper.sendError(exchange, 405, "Méthode non autorisée");
+            return;
+        }
+
+        try {
+            System.out.println("→ Requête SEARCH CONNECTIONS reçue");
+
+            Map<String, String> params = RequestHelper.parseQueryParams(exchange.getRequestURI());
+            String from = params.getOrDefault("from", "");
+            String to = params.getOrDefault("to", "");
+            String date = params.getOrDefault("date", "");
+            String seatClass = params.getOrDefault("seatClass", "ECONOMY");
+            String sortBy = params.getOrDefault("sortBy", "price");
+            int maxLegs = intParam(params, "maxLegs", Constants.CONNECTION_MAX_LEGS);
+            int minConnection = intParam(params, "minConnection", Constants.CONNECTION_MIN_MINUTES);
+            int limit = intParam(params, "limit", Constants.CONNECTION_DEFAULT_LIMIT);
+
+            if (from.isEmpty() || to.isEmpty() || date.isEmpty()) {
+                ResponseHelper.sendError(exchange, 400, "Paramètres from, to et date requis");
+                return;
+            }
+
+            System.out.println("  " + from + " → " + to + " | " + date + " | " + seatClass +
+                             " | max " + maxLegs + " vol(s) | tri: " + sortBy);
+
+            // Appel CORBA avec timeout
+            Itinerary[] itineraries = timeoutExecutor.executeWithTimeout(() -> {
+                return flightManager.searchConnections(
+                    from, to, date, seatClass, maxLegs, minConnection, sortBy, limit
+                );
+            }, Constants.TIMEOUT_SEARCH, "recherche avec correspondances", Bulkhead.SEARCH);
+
+            System.out.println("✅ " + itineraries.length + " itinéraire(s) retourné(s)");
+
+            ResponseHelper.sendJsonArrayStream(exchange, 200, itineraries, JsonHelper::writeItinerary);
+
+        } catch (Exception e) {
+            System.err.println("❌ Erreur recherche correspondances: " + e.getMessage());
+            ResponseHelper.sendError(exchange, 500, e.getMessage());
+        }
+    }
+
+    private static int intParam(Map<String, String> params, String name, int defaultValue) {
+        try {
+            return Integer.parseInt(params.getOrDefault(name, String.valueOf(defaultValue)).trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
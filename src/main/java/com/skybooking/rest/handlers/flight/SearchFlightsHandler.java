@@ -2,24 +2,36 @@
 
 package com.skybooking.rest.handlers.flight;
 
-import com.google.gson.JsonArray;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
 import com.skybooking.utils.Constants;
 import FlightReservation.*;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 /**
  * 🔍 Handler pour la recherche de vols
+ *
+ * 🆕 Avec sortBy, order, airlines, departureFrom, departureTo, maxDuration,
+ * aircraftType, limit ou pageToken : réponse paginée
+ * { totalMatches, nextPageToken, flights } triée et filtrée côté serveur
  */
 public class SearchFlightsHandler implements HttpHandler {
     
+    // 🆕 Paramètres déclenchant la réponse paginée
+    private static final List<String> PAGE_PARAMS = Arrays.asList(
+        "sortBy", "order", "airlines", "departureFrom", "departureTo",
+        "maxDuration", "aircraftType", "limit", "pageToken"
+    );
+    
     private final FlightManager flightManager;
     private final TimeoutExecutor timeoutExecutor;
     
@@ -55,23 +67,53 @@ public class SearchFlightsHandler implements HttpHandler {
             System.out.println("  Date: " + date);
             System.out.println("  Classe: " + seatClass);
             
+            if (params.keySet().stream().anyMatch(PAGE_PARAMS::contains)) {
+                SearchOptions options;
+                try {
+                    options = toSearchOptions(params);
+                } catch (NumberFormatException e) {
+                    ResponseHelper.sendError(exchange, 400, "Paramètres maxDuration ou limit invalides");
+                    return;
+                }
+                
+                FlightPage page = timeoutExecutor.executeWithTimeout(() -> {
+                    return flightManager.searchFlightsPage(from, to, date, seatClass, options);
+                }, Constants.TIMEOUT_SEARCH, "recherche de vols", Bulkhead.SEARCH);
+                
+                System.out.println("✅ " + page.flights.length + "/" + page.totalMatches +
+                                 " vol(s) retourné(s)");
+                
+                ResponseHelper.sendJsonStream(exchange, 200, out -> JsonHelper.writeFlightPage(out, page));
+                return;
+            }
+            
             // Appel CORBA avec timeout
             Flight[] flights = timeoutExecutor.executeWithTimeout(() -> {
                 return flightManager.searchFlights(from, to, date, seatClass);
-            }, Constants.TIMEOUT_SEARCH, "recherche de vols");
-            
-            // Convertir en JSON
-            JsonArray jsonFlights = new JsonArray();
-            for (Flight flight : flights) {
-                jsonFlights.add(JsonHelper.flightToJson(flight));
-            }
+            }, Constants.TIMEOUT_SEARCH, "recherche de vols", Bulkhead.SEARCH);
             
             System.out.println("✅ " + flights.length + " vol(s) retourné(s)");
-            ResponseHelper.sendJsonResponse(exchange, 200, jsonFlights);
+            
+            // Sérialisation en streaming (pas d'arbre JSON intermédiaire)
+            ResponseHelper.sendJsonArrayStream(exchange, 200, flights, JsonHelper::writeFlight);
             
         } catch (Exception e) {
             System.err.println("❌ Erreur recherche: " + e.getMessage());
             ResponseHelper.sendError(exchange, 500, e.getMessage());
         }
     }
+    
+    private static SearchOptions toSearchOptions(Map<String, String> params) {
+        return new SearchOptions(
+            params.getOrDefault("sortBy", ""),
+            "desc".equalsIgnoreCase(params.getOrDefault("order", "asc")),
+            params.getOrDefault("airlines", ""),
+            params.getOrDefault("departureFrom", ""),
+            params.getOrDefault("departureTo", ""),
+            Integer.parseInt(params.getOrDefault("maxDuration", "0").trim()),
+            params.getOrDefault("aircraftType", ""),
+            Integer.parseInt(params.getOrDefault("limit", "0").trim()),
+            params.getOrDefault("pageToken", "")
+        );
+    }
 }
\ No newline at end of file
@@ -2,11 +2,12 @@
 
 package com.skybooking.rest.handlers.flight;
 
-import com.google.gson.JsonArray;
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.ConditionalHelper;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -53,18 +54,28 @@ public class SeatsHandler implements HttpHandler {
             
             System.out.println("  Vol ID: " + flightId);
             
+            // 🆕 Requête conditionnelle : version légère avant le chargement complet
+            String version = timeoutExecutor.executeWithTimeout(() -> {
+                return flightManager.getFlightVersion(flightId);
+            }, Constants.TIMEOUT_DEFAULT, "version vol", Bulkhead.SEARCH);
+            
+            String etag = ConditionalHelper.weakETag(version);
+            long lastModified = ConditionalHelper.lastModifiedOf(version);
+            
+            if (ConditionalHelper.isNotModified(exchange, etag, lastModified)) {
+                System.out.println("↺ 304 Not Modified (sièges disponibles)");
+                ConditionalHelper.sendNotModified(exchange, etag, lastModified);
+                return;
+            }
+            
             // Appel CORBA avec timeout
             Seat[] seats = timeoutExecutor.executeWithTimeout(() -> {
                 return flightManager.getAvailableSeats(flightId);
-            }, Constants.TIMEOUT_DEFAULT, "sièges disponibles");
-            
-            JsonArray jsonSeats = new JsonArray();
-            for (Seat seat : seats) {
-                jsonSeats.add(JsonHelper.seatToJson(seat));
-            }
+            }, Constants.TIMEOUT_DEFAULT, "sièges disponibles", Bulkhead.SEARCH);
             
             System.out.println("✅ " + seats.length + " siège(s) retourné(s)");
-            ResponseHelper.sendJsonResponse(exchange, 200, jsonSeats);
+            ConditionalHelper.setValidators(exchange, etag, lastModified);
+            ResponseHelper.sendJsonArrayStream(exchange, 200, seats, JsonHelper::writeSeat);
             
         } catch (FlightNotFoundException e) {
             System.err.println("❌ Vol non trouvé: " + e.message);
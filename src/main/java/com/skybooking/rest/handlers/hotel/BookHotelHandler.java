@@ -5,6 +5,7 @@ package com.skybooking.rest.handlers.hotel;
 import com.sun.net.httpserver.*;
 import FlightReservation.*;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.google.gson.*;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -78,7 +79,7 @@ public class BookHotelHandler implements HttpHandler {
                     customerId, hotelId, checkInDate, checkOutDate,
                     numberOfRooms, flightReservationId
                 );
-            }, 20, "réservation hôtel");
+            }, 20, "réservation hôtel", Bulkhead.RESERVATION);
             
             // Convertir en JSON
             Map<String, Object> response = hotelReservationToMap(reservation);
@@ -8,6 +8,7 @@ import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.managers.impl.HotelManagerImpl;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -68,12 +69,12 @@ public class CancelHotelReservationHandler implements HttpHandler {
             // Calculer le remboursement avant annulation
             double refundAmount = timeoutExecutor.executeWithTimeout(() -> {
                 return hotelManager.calculateHotelRefundAmount(hotelReservationId);
-            }, Constants.TIMEOUT_DEFAULT, "calcul remboursement hôtel");
+            }, Constants.TIMEOUT_DEFAULT, "calcul remboursement hôtel", Bulkhead.RESERVATION);
             
             // Annuler la réservation
             boolean cancelled = timeoutExecutor.executeWithTimeout(() -> {
                 return hotelManager.cancelHotelReservation(hotelReservationId);
-            }, Constants.TIMEOUT_CANCELLATION, "annulation hôtel");
+            }, Constants.TIMEOUT_CANCELLATION, "annulation hôtel", Bulkhead.RESERVATION);
             
             if (cancelled) {
                 JsonObject response = new JsonObject();
@@ -5,6 +5,8 @@ package com.skybooking.rest.handlers.hotel;
 import com.sun.net.httpserver.*;
 import FlightReservation.*;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.ConditionalHelper;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.io.*;
@@ -55,10 +57,24 @@ public class HotelDetailHandler implements HttpHandler {
             
             System.out.println("🏨 Détails hôtel REST: " + hotelId);
             
+            // 🆕 Requête conditionnelle : version légère avant le chargement complet
+            String version = timeoutExecutor.executeWithTimeout(() -> {
+                return hotelManager.getHotelVersion(hotelId);
+            }, 10, "version hôtel", Bulkhead.SEARCH);
+            
+            String etag = ConditionalHelper.weakETag(version);
+            long lastModified = ConditionalHelper.lastModifiedOf(version);
+            
+            if (ConditionalHelper.isNotModified(exchange, etag, lastModified)) {
+                System.out.println("↺ 304 Not Modified (hôtel " + hotelId + ")");
+                ConditionalHelper.sendNotModified(exchange, etag, lastModified);
+                return;
+            }
+            
             // ✅ CORRECTION: Ajout du 3ème paramètre (nom opération)
             Hotel hotel = timeoutExecutor.executeWithTimeout(() -> {
                 return hotelManager.getHotelById(hotelId);
-            }, 10, "détails hôtel");
+            }, 10, "détails hôtel", Bulkhead.SEARCH);
             
             // Convertir en JSON
             Map<String, Object> hotelMap = new LinkedHashMap<>();
@@ -77,6 +93,7 @@ public class HotelDetailHandler implements HttpHandler {
             
             String jsonResponse = gson.toJson(hotelMap);
             
+            ConditionalHelper.setValidators(exchange, etag, lastModified);
             exchange.getResponseHeaders().set("Content-Type", "application/json");
             exchange.sendResponseHeaders(200, jsonResponse.getBytes(StandardCharsets.UTF_8).length);
             
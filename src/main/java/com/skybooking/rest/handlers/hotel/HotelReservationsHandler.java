@@ -5,6 +5,7 @@ package com.skybooking.rest.handlers.hotel;
 import com.sun.net.httpserver.*;
 import FlightReservation.*;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.io.*;
@@ -58,7 +59,7 @@ public class HotelReservationsHandler implements HttpHandler {
             // ✅ CORRECTION: Ajout du 3ème paramètre (nom opération)
             HotelReservation[] reservations = timeoutExecutor.executeWithTimeout(() -> {
                 return hotelManager.getCustomerHotelReservations(customerId);
-            }, 10, "historique hôtels");
+            }, 10, "historique hôtels", Bulkhead.RESERVATION);
             
             // Convertir en JSON
             List<Map<String, Object>> reservationsList = new ArrayList<>();
@@ -5,6 +5,7 @@ package com.skybooking.rest.handlers.hotel;
 import com.sun.net.httpserver.*;
 import FlightReservation.*;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import java.io.*;
@@ -64,7 +65,7 @@ public class SearchHotelsHandler implements HttpHandler {
                     city, checkInDate, checkOutDate, 
                     numberOfRooms, minStarRating
                 );
-            }, 15, "recherche hôtels");
+            }, 15, "recherche hôtels", Bulkhead.SEARCH);
             
             // Convertir en JSON avec indicateur de réduction si vol lié
             List<Map<String, Object>> hotelsWithDiscount = new ArrayList<>();
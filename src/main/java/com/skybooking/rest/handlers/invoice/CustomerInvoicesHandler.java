@@ -8,6 +8,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -55,7 +56,7 @@ public class CustomerInvoicesHandler implements HttpHandler {
             // Appel CORBA avec timeout
             Invoice[] invoices = timeoutExecutor.executeWithTimeout(() -> {
                 return paymentManager.getCustomerInvoices(customerId);
-            }, Constants.TIMEOUT_DEFAULT, "récupération factures client");
+            }, Constants.TIMEOUT_DEFAULT, "récupération factures client", Bulkhead.PAYMENT);
             
             JsonArray invoicesArray = new JsonArray();
             for (Invoice invoice : invoices) {
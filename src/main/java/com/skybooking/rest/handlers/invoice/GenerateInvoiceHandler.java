@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -63,7 +64,7 @@ public class GenerateInvoiceHandler implements HttpHandler {
             // Appel CORBA avec timeout
             Invoice invoice = timeoutExecutor.executeWithTimeout(() -> {
                 return paymentManager.generateInvoice(paymentId);
-            }, Constants.TIMEOUT_DEFAULT, "génération facture");
+            }, Constants.TIMEOUT_DEFAULT, "génération facture", Bulkhead.DOCUMENT);
             
             if (invoice == null) {
                 ResponseHelper.sendError(exchange, 404, "Impossible de générer la facture");
@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -54,7 +55,7 @@ public class GetInvoiceHandler implements HttpHandler {
             // Appel CORBA avec timeout
             Invoice invoice = timeoutExecutor.executeWithTimeout(() -> {
                 return paymentManager.getInvoice(invoiceId);
-            }, Constants.TIMEOUT_DEFAULT, "récupération facture");
+            }, Constants.TIMEOUT_DEFAULT, "récupération facture", Bulkhead.PAYMENT);
             
             if (invoice == null) {
                 ResponseHelper.sendError(exchange, 404, "Facture non trouvée");
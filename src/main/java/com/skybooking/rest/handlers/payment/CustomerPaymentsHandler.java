@@ -8,6 +8,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -55,7 +56,7 @@ public class CustomerPaymentsHandler implements HttpHandler {
             // Appel CORBA avec timeout
             Payment[] payments = timeoutExecutor.executeWithTimeout(() -> {
                 return paymentManager.getCustomerPayments(customerId);
-            }, Constants.TIMEOUT_DEFAULT, "récupération paiements client");
+            }, Constants.TIMEOUT_DEFAULT, "récupération paiements client", Bulkhead.PAYMENT);
             
             JsonArray paymentsArray = new JsonArray();
             for (Payment payment : payments) {
@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -54,7 +55,7 @@ public class GetPaymentHandler implements HttpHandler {
             // Appel CORBA avec timeout
             Payment payment = timeoutExecutor.executeWithTimeout(() -> {
                 return paymentManager.getPayment(paymentId);
-            }, Constants.TIMEOUT_DEFAULT, "récupération paiement");
+            }, Constants.TIMEOUT_DEFAULT, "récupération paiement", Bulkhead.PAYMENT);
             
             if (payment == null) {
                 ResponseHelper.sendError(exchange, 404, "Paiement non trouvé");
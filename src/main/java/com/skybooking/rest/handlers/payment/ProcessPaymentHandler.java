@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -107,7 +108,7 @@ public class ProcessPaymentHandler implements HttpHandler {
                     reservationId, customerId, amount, paymentMethod,
                     cardNumber, cardHolder, expiryDate, cvv
                 );
-            }, Constants.TIMEOUT_PAYMENT, "traitement paiement");
+            }, Constants.TIMEOUT_PAYMENT, "traitement paiement", Bulkhead.PAYMENT);
             
             JsonObject response = JsonHelper.paymentToJson(payment);
             System.out.println("✅ Paiement traité: " + payment.paymentId);
@@ -7,6 +7,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
 import com.skybooking.utils.Constants;
@@ -53,7 +54,7 @@ public class RefundPaymentHandler implements HttpHandler {
             // Appel CORBA avec timeout
             boolean refunded = timeoutExecutor.executeWithTimeout(() -> {
                 return paymentManager.refundPayment(paymentId);
-            }, Constants.TIMEOUT_PAYMENT, "remboursement paiement");
+            }, Constants.TIMEOUT_PAYMENT, "remboursement paiement", Bulkhead.PAYMENT);
             
             if (refunded) {
                 JsonObject response = new JsonObject();
@@ -8,6 +8,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.JsonHelper;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
@@ -113,7 +114,7 @@ public class ReservationHandler implements HttpHandler {
                 return reservationManager.createReservation(
                     customerId, flightId, seatNumbers, passengers
                 );
-            }, Constants.TIMEOUT_RESERVATION, "création de réservation");
+            }, Constants.TIMEOUT_RESERVATION, "création de réservation", Bulkhead.RESERVATION);
             
             // Réponse
             JsonObject response = JsonHelper.reservationToJson(reservation);
@@ -0,0 +1,197 @@
+// src/main/java/com/skybooking/rest/handlers/reservation/SeatHoldHandler.java
+
+package com.skybooking.rest.handlers.reservation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.skybooking.rest.middleware.CorsMiddleware;
+import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
+import com.skybooking.rest.utils.JsonHelper;
+import com.skybooking.rest.utils.RequestHelper;
+import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.utils.Constants;
+import FlightReservation.*;
+import java.io.IOException;
+
+/**
+ * 🛒 Handler pour retenir des sièges le temps de la saisie des passagers
+ * 
+ * POST   /api/seats/hold            → retenir (remplace la retenue précédente)
+ * POST   /api/seats/hold/auto       → 🆕 attribuer et retenir des sièges voisins
+ * DELETE /api/seats/hold/{holdId}   → libérer
+ */
+public class SeatHoldHandler implements HttpHandler {
+    
+    private final ReservationManager reservationManager;
+    private final TimeoutExecutor timeoutExecutor;
+    
+    public SeatHoldHandler(ReservationManager reservationManager,
+                          TimeoutExecutor timeoutExecutor) {
+        this.reservationManager = reservationManager;
+        this.timeoutExecutor = timeoutExecutor;
+    }
+    
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        CorsMiddleware.setCorsHeaders(exchange);
+        
+        if (CorsMiddleware.handlePreFlight(exchange)) return;
+        
+        String method = exchange.getRequestMethod();
+        
+        if ("POST".equals(method) && "auto".equals(
+                RequestHelper.extractPathParameter(exchange.getRequestURI().getPath(), 4))) {
+            handleAutoAssign(exchange);
+        } else if ("POST".equals(method)) {
+            handleHold(exchange);
+        } else if ("DELETE".equals(method)) {
+            handleRelease(exchange);
+        } else {
+            ResponseHelper.sendError(exchange, 405, "Méthode non autorisée");
+        }
+    }
+    
+    private void handleHold(HttpExchange exchange) throws IOException {
+        try {
+            System.out.println("→ Requête SEAT HOLD reçue");
+            
+            String body = RequestHelper.readRequestBody(exchange);
+            
+            if (body == null || body.trim().isEmpty()) {
+                ResponseHelper.sendError(exchange, 400, "Corps de requête vide");
+                return;
+            }
+            
+            JsonObject json = JsonHelper.parseJson(body);
+            if (json == null) {
+                ResponseHelper.sendError(exchange, 400, "Format JSON invalide");
+                return;
+            }
+            
+            if (!json.has("customerId") || !json.has("flightId") || !json.has("seats")) {
+                ResponseHelper.sendError(exchange, 400, 
+                    "Paramètres manquants: customerId, flightId, seats");
+                return;
+            }
+            
+            String customerId = json.get("customerId").getAsString();
+            String flightId = json.get("flightId").getAsString();
+            
+            // Sièges : ["12A", ...] ou [{"seatNumber": "12A"}, ...] comme pour la réservation
+            JsonArray seatsArray = json.getAsJsonArray("seats");
+            String[] seatNumbers = new String[seatsArray.size()];
+            for (int i = 0; i < seatsArray.size(); i++) {
+                JsonElement seat = seatsArray.get(i);
+                seatNumbers[i] = seat.isJsonObject()
+                    ? seat.getAsJsonObject().get("seatNumber").getAsString()
+                    : seat.getAsString();
+            }
+            
+            System.out.println("  Client: " + customerId + " | Vol: " + flightId + 
+                             " | Sièges: " + String.join(", ", seatNumbers));
+            
+            // Appel CORBA avec timeout
+            SeatHold hold = timeoutExecutor.executeWithTimeout(() -> {
+                return reservationManager.holdSeats(customerId, flightId, seatNumbers);
+            }, Constants.TIMEOUT_RESERVATION, "retenue de sièges", Bulkhead.RESERVATION);
+            
+            System.out.println("✅ Sièges retenus: " + hold.holdId);
+            ResponseHelper.sendJsonResponse(exchange, 201, JsonHelper.seatHoldToJson(hold));
+            
+        } catch (SeatNotAvailableException e) {
+            System.err.println("❌ Siège non disponible: " + e.message);
+            ResponseHelper.sendError(exchange, 409, e.message);
+        } catch (ReservationException e) {
+            System.err.println("❌ Erreur retenue: " + e.message);
+            ResponseHelper.sendError(exchange, 400, e.message);
+        } catch (Exception e) {
+            System.err.println("❌ Erreur serveur: " + e.getMessage());
+            ResponseHelper.sendError(exchange, 500, e.getMessage());
+        }
+    }
+    
+    private void handleAutoAssign(HttpExchange exchange) throws IOException {
+        try {
+            System.out.println("→ Requête SEAT AUTO-ASSIGN reçue");
+            
+            JsonObject json = JsonHelper.parseJson(RequestHelper.readRequestBody(exchange));
+            if (json == null) {
+                ResponseHelper.sendError(exchange, 400, "Format JSON invalide");
+                return;
+            }
+            
+            if (!json.has("customerId") || !json.has("flightId") || 
+                !json.has("seatClass") || !json.has("seatCount")) {
+                ResponseHelper.sendError(exchange, 400, 
+                    "Paramètres manquants: customerId, flightId, seatClass, seatCount");
+                return;
+            }
+            
+            String customerId = json.get("customerId").getAsString();
+            String flightId = json.get("flightId").getAsString();
+            String seatClass = json.get("seatClass").getAsString();
+            int seatCount = json.get("seatCount").getAsInt();
+            boolean keepTogether = !json.has("keepTogether") || json.get("keepTogether").getAsBoolean();
+            
+            System.out.println("  Client: " + customerId + " | Vol: " + flightId + 
+                             " | " + seatCount + " × " + seatClass + (keepTogether ? " (ensemble)" : ""));
+            
+            // Appel CORBA avec timeout
+            SeatHold hold = timeoutExecutor.executeWithTimeout(() -> {
+                return reservationManager.autoAssignSeats(
+                    customerId, flightId, seatClass, seatCount, keepTogether
+                );
+            }, Constants.TIMEOUT_RESERVATION, "attribution de sièges", Bulkhead.RESERVATION);
+            
+            System.out.println("✅ Sièges attribués: " + String.join(", ", hold.seatNumbers));
+            ResponseHelper.sendJsonResponse(exchange, 201, JsonHelper.seatHoldToJson(hold));
+            
+        } catch (SeatNotAvailableException e) {
+            System.err.println("❌ Sièges insuffisants: " + e.message);
+            ResponseHelper.sendError(exchange, 409, e.message);
+        } catch (ReservationException e) {
+            System.err.println("❌ Erreur attribution: " + e.message);
+            ResponseHelper.sendError(exchange, 400, e.message);
+        } catch (Exception e) {
+            System.err.println("❌ Erreur serveur: " + e.getMessage());
+            ResponseHelper.sendError(exchange, 500, e.getMessage());
+        }
+    }
+    
+    private void handleRelease(HttpExchange exchange) throws IOException {
+        try {
+            String holdId = RequestHelper.extractPathParameter(
+                exchange.getRequestURI().getPath(), 4
+            );
+            
+            if (holdId == null || holdId.isEmpty()) {
+                ResponseHelper.sendError(exchange, 400, "ID de retenue invalide");
+                return;
+            }
+            
+            System.out.println("→ Requête SEAT HOLD RELEASE: " + holdId);
+            
+            // Appel CORBA avec timeout
+            boolean released = timeoutExecutor.executeWithTimeout(() -> {
+                return reservationManager.releaseHold(holdId);
+            }, Constants.TIMEOUT_RESERVATION, "libération de retenue", Bulkhead.RESERVATION);
+            
+            if (released) {
+                JsonObject response = new JsonObject();
+                response.addProperty("success", true);
+                response.addProperty("holdId", holdId);
+                ResponseHelper.sendJsonResponse(exchange, 200, response);
+            } else {
+                ResponseHelper.sendError(exchange, 404, "Retenue introuvable ou expirée");
+            }
+            
+        } catch (Exception e) {
+            System.err.println("❌ Erreur libération retenue: " + e.getMessage());
+            ResponseHelper.sendError(exchange, 500, e.getMessage());
+        }
+    }
+}
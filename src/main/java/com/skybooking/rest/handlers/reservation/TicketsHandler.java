@@ -8,6 +8,7 @@ import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
 import com.skybooking.rest.middleware.CorsMiddleware;
 import com.skybooking.rest.middleware.TimeoutExecutor;
+import com.skybooking.rest.middleware.TimeoutExecutor.Bulkhead;
 import com.skybooking.rest.utils.RequestHelper;
 import com.skybooking.rest.utils.ResponseHelper;
 import com.skybooking.utils.Constants;
@@ -54,7 +55,7 @@ public class TicketsHandler implements HttpHandler {
             // Appel CORBA avec timeout
             Ticket[] tickets = timeoutExecutor.executeWithTimeout(() -> {
                 return reservationManager.getTickets(reservationId);
-            }, Constants.TIMEOUT_DEFAULT, "tickets");
+            }, Constants.TIMEOUT_DEFAULT, "tickets", Bulkhead.RESERVATION);
             
             JsonArray jsonTickets = new JsonArray();
             for (Ticket ticket : tickets) {
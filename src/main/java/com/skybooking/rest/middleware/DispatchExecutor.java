@@ -0,0 +1,195 @@
+// src/main/java/com/skybooking/rest/middleware/DispatchExecutor.java
+
+package com.skybooking.rest.middleware;
+
+import com.skybooking.utils.Constants;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 🚦 Pool de dispatch borné pour le HttpServer du pont REST
+ *
+ * Fonctionnalités :
+ * - Threads cœur/max configurables (variables d'environnement)
+ * - File d'attente bornée (pas de croissance illimitée)
+ * - Surcharge : la requête est marquée rejetée et reçoit un 503 + Retry-After
+ *   via {@link OverloadFilter}, sans jamais atteindre le handler
+ * - Statistiques : profondeur de file, threads actifs, rejets
+ */
+public class DispatchExecutor implements Executor {
+
+    /**
+     * Marqueur posé sur le thread appelant quand une requête est rejetée.
+     * Le HttpServer exécute alors l'échange sur son propre thread et
+     * l'OverloadFilter répond immédiatement 503.
+     */
+    private static final ThreadLocal<Boolean> REJECTED = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public DispatchExecutor() {
+        this(
+            readEnv(Constants.DISPATCH_CORE_THREADS_ENV, Constants.DEFAULT_DISPATCH_CORE_THREADS),
+            readEnv(Constants.DISPATCH_MAX_THREADS_ENV, Constants.DEFAULT_DISPATCH_MAX_THREADS),
+            readEnv(Constants.DISPATCH_QUEUE_CAPACITY_ENV, Constants.DEFAULT_DISPATCH_QUEUE_CAPACITY)
+        );
+    }
+
+    public DispatchExecutor(int coreThreads, int maxThreads, int queueCapacity) {
+        int core = Math.max(1, coreThreads);
+        int max = Math.max(core, maxThreads);
+        this.queueCapacity = Math.max(1, queueCapacity);
+
+        this.executor = new ThreadPoolExecutor(
+            core,
+            max,
+            Constants.DISPATCH_KEEP_ALIVE_SECONDS,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(this.queueCapacity),
+            new DispatchThreadFactory(),
+            (task, pool) -> rejectOnCallerThread(task)
+        );
+
+        System.out.println("✅ Pool de dispatch HTTP : " + core + "-" + max +
+                         " threads, file " + this.queueCapacity);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        executor.execute(command);
+    }
+
+    /**
+     * Indique si l'échange en cours sur ce thread a été rejeté par le pool
+     */
+    public static boolean isRejectedDispatch() {
+        return Boolean.TRUE.equals(REJECTED.get());
+    }
+
+    /**
+     * Statistiques instantanées du pool
+     */
+    public DispatchStats getStats() {
+        return new DispatchStats(
+            executor.getCorePoolSize(),
+            executor.getMaximumPoolSize(),
+            executor.getPoolSize(),
+            executor.getActiveCount(),
+            executor.getLargestPoolSize(),
+            executor.getQueue().size(),
+            queueCapacity,
+            executor.getCompletedTaskCount(),
+            rejectedCount.get()
+        );
+    }
+
+    /**
+     * Arrêter le pool proprement
+     */
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isShutdown() {
+        return executor.isShutdown();
+    }
+
+    // ==================== MÉTHODES PRIVÉES ====================
+
+    /**
+     * Exécute l'échange rejeté sur le thread du HttpServer avec le marqueur
+     * de rejet : seul l'OverloadFilter tourne (réponse 503 immédiate).
+     */
+    private void rejectOnCallerThread(Runnable task) {
+        long rejected = rejectedCount.incrementAndGet();
+        if (rejected % 100 == 1) {
+            System.err.println("⚠️ Pool de dispatch saturé (" + rejected +
+                             " requête(s) rejetée(s)) - " + getStats());
+        }
+
+        REJECTED.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            REJECTED.remove();
+        }
+    }
+
+    private static int readEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("⚠️ Valeur invalide pour " + name + ": " + value +
+                             " (défaut: " + defaultValue + ")");
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Threads nommés pour faciliter le diagnostic (jstack)
+     */
+    private static class DispatchThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "rest-dispatch-" + counter.incrementAndGet());
+            thread.setDaemon(false);
+            return thread;
+        }
+    }
+
+    /**
+     * 📊 Statistiques du pool de dispatch
+     */
+    public static class DispatchStats {
+        public final int coreThreads;
+        public final int maxThreads;
+        public final int poolSize;
+        public final int activeThreads;
+        public final int largestPoolSize;
+        public final int queueDepth;
+        public final int queueCapacity;
+        public final long completedRequests;
+        public final long rejectedRequests;
+
+        public DispatchStats(int coreThreads, int maxThreads, int poolSize,
+                             int activeThreads, int largestPoolSize,
+                             int queueDepth, int queueCapacity,
+                             long completedRequests, long rejectedRequests) {
+            this.coreThreads = coreThreads;
+            this.maxThreads = maxThreads;
+            this.poolSize = poolSize;
+            this.activeThreads = activeThreads;
+            this.largestPoolSize = largestPoolSize;
+            this.queueDepth = queueDepth;
+            this.queueCapacity = queueCapacity;
+            this.completedRequests = completedRequests;
+            this.rejectedRequests = rejectedRequests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "Actifs: %d/%d | File: %d/%d | Traitées: %d | Rejetées: %d",
+                activeThreads, maxThreads, queueDepth, queueCapacity,
+                completedRequests, rejectedRequests
+            );
+        }
+    }
+}
@@ -0,0 +1,35 @@
+// src/main/java/com/skybooking/rest/middleware/OverloadFilter.java
+
+package com.skybooking.rest.middleware;
+
+import com.sun.net.httpserver.Filter;
+import com.sun.net.httpserver.HttpExchange;
+import com.skybooking.rest.utils.ResponseHelper;
+import com.skybooking.utils.Constants;
+import java.io.IOException;
+
+/**
+ * 🛑 Filtre de surcharge
+ * Répond 503 + Retry-After aux requêtes rejetées par le {@link DispatchExecutor}
+ */
+public class OverloadFilter extends Filter {
+
+    @Override
+    public void doFilter(HttpExchange exchange, Chain chain) throws IOException {
+        if (!DispatchExecutor.isRejectedDispatch()) {
+            chain.doFilter(exchange);
+            return;
+        }
+
+        CorsMiddleware.setCorsHeaders(exchange);
+        exchange.getResponseHeaders().set("Retry-After",
+            String.valueOf(Constants.DISPATCH_RETRY_AFTER_SECONDS));
+        ResponseHelper.sendError(exchange, 503,
+            "Serveur surchargé, veuillez réessayer dans quelques instants");
+    }
+
+    @Override
+    public String description() {
+        return "Rejet 503 des requêtes lorsque le pool de dispatch est saturé";
+    }
+}
@@ -2,63 +2,254 @@
 
 package com.skybooking.rest.middleware;
 
+import com.skybooking.utils.Constants;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ⏱️ Executor avec timeout pour limiter les appels CORBA
+ *
+ * Chaque famille d'opérations dispose de son propre bulkhead (pool borné +
+ * file bornée) : un afflux d'exports admin ou de téléchargements PDF ne peut
+ * plus affamer les paiements ou les réservations.
  */
 public class TimeoutExecutor {
-    
-    private final ExecutorService executor = Executors.newCachedThreadPool();
-    
+
+    /**
+     * 🧱 Bulkheads disponibles (le timeout reste fixé par chaque appel)
+     */
+    public enum Bulkhead {
+        SEARCH("recherche", Constants.BULKHEAD_SEARCH_THREADS, Constants.BULKHEAD_SEARCH_QUEUE),
+        RESERVATION("réservation", Constants.BULKHEAD_RESERVATION_THREADS,
+                    Constants.BULKHEAD_RESERVATION_QUEUE),
+        PAYMENT("paiement", Constants.BULKHEAD_PAYMENT_THREADS, Constants.BULKHEAD_PAYMENT_QUEUE),
+        DOCUMENT("pdf/téléchargement", Constants.BULKHEAD_DOCUMENT_THREADS,
+                 Constants.BULKHEAD_DOCUMENT_QUEUE),
+        ADMIN("admin", Constants.BULKHEAD_ADMIN_THREADS, Constants.BULKHEAD_ADMIN_QUEUE),
+        DEFAULT("général", Constants.BULKHEAD_DEFAULT_THREADS, Constants.BULKHEAD_DEFAULT_QUEUE);
+
+        public final String label;
+        public final int threads;
+        public final int queueCapacity;
+
+        Bulkhead(String label, int threads, int queueCapacity) {
+            this.label = label;
+            this.threads = threads;
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    private final Map<Bulkhead, ThreadPoolExecutor> executors = new EnumMap<>(Bulkhead.class);
+    private final Map<Bulkhead, AtomicLong> rejections = new EnumMap<>(Bulkhead.class);
+
+    public TimeoutExecutor() {
+        for (Bulkhead bulkhead : Bulkhead.values()) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(
+                bulkhead.threads,
+                bulkhead.threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(bulkhead.queueCapacity),
+                new BulkheadThreadFactory(bulkhead),
+                new ThreadPoolExecutor.AbortPolicy()
+            );
+            pool.allowCoreThreadTimeOut(true);
+            executors.put(bulkhead, pool);
+            rejections.put(bulkhead, new AtomicLong());
+        }
+        System.out.println("✅ TimeoutExecutor : " + Bulkhead.values().length + " bulkheads CORBA");
+    }
+
     /**
-     * Exécuter une tâche avec timeout
+     * Exécuter une tâche avec timeout (bulkhead général)
      */
-    public <T> T executeWithTimeout(Callable<T> task, long timeoutSeconds, String operationName) 
+    public <T> T executeWithTimeout(Callable<T> task, long timeoutSeconds, String operationName)
+            throws Exception {
+        return executeWithTimeout(task, timeoutSeconds, operationName, Bulkhead.DEFAULT);
+    }
+
+    /**
+     * Exécuter une tâche avec timeout dans un bulkhead donné
+     */
+    public <T> T executeWithTimeout(Callable<T> task, long timeoutSeconds, String operationName,
+                                    Bulkhead bulkhead) throws Exception {
+        Future<T> future = submit(task, operationName, bulkhead);
+        return await(future, TimeUnit.SECONDS.toNanos(timeoutSeconds), timeoutSeconds, operationName);
+    }
+
+    /**
+     * 🆕 Démarrer un lot d'appels CORBA indépendants partageant une même échéance
+     */
+    public FanOut fanOut(long timeoutSeconds, String operationName, Bulkhead bulkhead) {
+        return new FanOut(timeoutSeconds, operationName, bulkhead);
+    }
+
+    /**
+     * 🔀 Lot d'appels lancés en parallèle sous une échéance globale
+     *
+     * Les appels indépendants sont soumis immédiatement ; chaque get() n'attend
+     * que le temps restant avant l'échéance. Au premier échec, les appels
+     * encore en cours sont annulés.
+     */
+    public class FanOut {
+        private final long timeoutSeconds;
+        private final String operationName;
+        private final Bulkhead bulkhead;
+        private final long deadline;
+        private final List<Future<?>> pending = new ArrayList<>();
+
+        private FanOut(long timeoutSeconds, String operationName, Bulkhead bulkhead) {
+            this.timeoutSeconds = timeoutSeconds;
+            this.operationName = operationName;
+            this.bulkhead = bulkhead;
+            this.deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+        }
+
+        /**
+         * Lancer un appel sans attendre son résultat
+         */
+        public <T> Future<T> submit(Callable<T> task) throws Exception {
+            try {
+                Future<T> future = TimeoutExecutor.this.submit(task, operationName, bulkhead);
+                pending.add(future);
+                return future;
+            } catch (Exception e) {
+                cancelAll();
+                throw e;
+            }
+        }
+
+        /**
+         * Attendre le résultat d'un appel dans le temps restant
+         */
+        public <T> T get(Future<T> future) throws Exception {
+            try {
+                return await(future, deadline - System.nanoTime(), timeoutSeconds, operationName);
+            } catch (Exception e) {
+                cancelAll();
+                throw e;
+            }
+        }
+
+        /**
+         * Annuler les appels encore en cours
+         */
+        public void cancelAll() {
+            for (Future<?> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Statistiques par bulkhead (threads actifs, file, rejets)
+     */
+    public Map<Bulkhead, String> getStats() {
+        Map<Bulkhead, String> stats = new EnumMap<>(Bulkhead.class);
+        for (Map.Entry<Bulkhead, ThreadPoolExecutor> entry : executors.entrySet()) {
+            ThreadPoolExecutor pool = entry.getValue();
+            stats.put(entry.getKey(), String.format(
+                "Actifs: %d/%d | File: %d/%d | Rejetées: %d",
+                pool.getActiveCount(), entry.getKey().threads,
+                pool.getQueue().size(), entry.getKey().queueCapacity,
+                rejections.get(entry.getKey()).get()
+            ));
+        }
+        return stats;
+    }
+
+    /**
+     * Arrêter l'executor proprement
+     */
+    public void shutdown() {
+        for (ThreadPoolExecutor pool : executors.values()) {
+            pool.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor pool : executors.values()) {
+                if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+                    pool.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            for (ThreadPoolExecutor pool : executors.values()) {
+                pool.shutdownNow();
+            }
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Vérifier si l'executor est arrêté (tous les cloisonnements)
+     */
+    public boolean isShutdown() {
+        for (ThreadPoolExecutor pool : executors.values()) {
+            if (!pool.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ==================== MÉTHODES PRIVÉES ====================
+
+    private <T> Future<T> submit(Callable<T> task, String operationName, Bulkhead bulkhead)
             throws Exception {
-        Future<T> future = executor.submit(task);
         try {
-            return future.get(timeoutSeconds, TimeUnit.SECONDS);
-            
+            return executors.get(bulkhead).submit(task);
+        } catch (RejectedExecutionException e) {
+            rejections.get(bulkhead).incrementAndGet();
+            System.err.println("🧱 BULKHEAD SATURÉ: " + bulkhead.label + " (" + operationName + ")");
+            throw new Exception("Service " + bulkhead.label +
+                              " momentanément saturé. Veuillez réessayer.");
+        }
+    }
+
+    private <T> T await(Future<T> future, long remainingNanos, long timeoutSeconds,
+                        String operationName) throws Exception {
+        try {
+            return future.get(Math.max(0L, remainingNanos), TimeUnit.NANOSECONDS);
+
         } catch (TimeoutException e) {
             future.cancel(true);
             System.err.println("⏱ TIMEOUT: " + operationName + " (" + timeoutSeconds + "s)");
-            throw new Exception("L'opération " + operationName + 
+            throw new Exception("L'opération " + operationName +
                               " a pris trop de temps. Le serveur CORBA ne répond pas.");
-                              
+
         } catch (ExecutionException e) {
             Throwable cause = e.getCause();
             if (cause instanceof Exception) {
                 throw (Exception) cause;
             }
-            throw new Exception("Erreur lors de " + operationName + ": " + 
+            throw new Exception("Erreur lors de " + operationName + ": " +
                               cause.getMessage());
-                              
+
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new Exception("Opération " + operationName + " interrompue");
         }
     }
-    
+
     /**
-     * Arrêter l'executor proprement
+     * Threads nommés par bulkhead (diagnostic jstack)
      */
-    public void shutdown() {
-        executor.shutdown();
-        try {
-            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
-                executor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            executor.shutdownNow();
-            Thread.currentThread().interrupt();
+    private static class BulkheadThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        BulkheadThreadFactory(Bulkhead bulkhead) {
+            this.prefix = "corba-" + bulkhead.name().toLowerCase() + "-";
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
         }
     }
-    
-    /**
-     * Vérifier si l'executor est arrêté
-     */
-    public boolean isShutdown() {
-        return executor.isShutdown();
-    }
-}
\ No newline at end of file
+}
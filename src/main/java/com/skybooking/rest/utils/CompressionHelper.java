@@ -0,0 +1,212 @@
+// src/main/java/com/skybooking/rest/utils/CompressionHelper.java
+
+package com.skybooking.rest.utils;
+
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.skybooking.utils.Constants;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 🗜️ Compression gzip/deflate des réponses JSON
+ *
+ * - Négociation via l'en-tête Accept-Encoding (gzip prioritaire, q=0 respecté,
+ *   "*" limité aux encodages non cités)
+ * - Seuil de taille : les petites réponses partent non compressées avec Content-Length
+ * - Compression en streaming (aucune copie complète du corps en mémoire)
+ * - Désactivable par route via {@link #disableForContext(HttpContext)}
+ */
+public class CompressionHelper {
+
+    /** Attribut de contexte HTTP désactivant la compression pour une route */
+    public static final String NO_COMPRESSION_ATTRIBUTE = "skybooking.compression.disabled";
+
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+
+    /**
+     * Désactiver la compression pour toutes les réponses d'une route
+     * (ex: téléchargements PDF déjà compressés)
+     */
+    public static void disableForContext(HttpContext context) {
+        context.getAttributes().put(NO_COMPRESSION_ATTRIBUTE, Boolean.TRUE);
+    }
+
+    /**
+     * Choisir l'encodage accepté par le client (null = pas de compression)
+     */
+    public static String negotiate(HttpExchange exchange) {
+        if (Boolean.TRUE.equals(
+                exchange.getHttpContext().getAttributes().get(NO_COMPRESSION_ATTRIBUTE))) {
+            return null;
+        }
+
+        String header = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+        if (header == null || header.isEmpty()) {
+            return null;
+        }
+
+        // null = encodage non cité ; "*" ne vaut que pour les encodages non cités
+        Boolean gzip = null;
+        Boolean deflate = null;
+        boolean any = false;
+        for (String part : header.toLowerCase(Locale.ROOT).split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim();
+            boolean accepted = !isRefused(tokens);
+            if (GZIP.equals(coding)) {
+                gzip = accepted;
+            } else if (DEFLATE.equals(coding)) {
+                deflate = accepted;
+            } else if ("*".equals(coding)) {
+                any = accepted;
+            }
+        }
+
+        if (gzip != null ? gzip : any) return GZIP;
+        if (deflate != null ? deflate : any) return DEFLATE;
+        return null;
+    }
+
+    /**
+     * Ouvrir le corps de la réponse avec compression différée :
+     * les en-têtes ne sont envoyés qu'une fois le seuil atteint ou à la fermeture.
+     */
+    public static OutputStream openResponseBody(HttpExchange exchange, int statusCode) {
+        exchange.getResponseHeaders().add("Vary", "Accept-Encoding");
+        return new DeferredCompressionStream(
+            exchange, statusCode, negotiate(exchange), Constants.COMPRESSION_MIN_BYTES
+        );
+    }
+
+    /**
+     * 🆕 Abandonner un corps ouvert par openResponseBody sans le terminer :
+     * le tampon non envoyé est jeté, un flux déjà commencé n'est pas fermé
+     */
+    public static void abort(OutputStream body) {
+        if (body instanceof DeferredCompressionStream) {
+            ((DeferredCompressionStream) body).abort();
+        }
+    }
+
+    private static boolean isRefused(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) <= 0.0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Flux qui met en tampon les premiers octets jusqu'au seuil puis bascule
+     * en compression streaming (chunked) ; en dessous du seuil, la réponse
+     * est envoyée telle quelle avec sa taille exacte.
+     */
+    private static class DeferredCompressionStream extends OutputStream {
+
+        private final HttpExchange exchange;
+        private final int statusCode;
+        private final String encoding;
+        private final int threshold;
+
+        private ByteArrayOutputStream pending;
+        private OutputStream target;
+        private boolean closed;
+
+        DeferredCompressionStream(HttpExchange exchange, int statusCode,
+                                  String encoding, int threshold) {
+            this.exchange = exchange;
+            this.statusCode = statusCode;
+            this.encoding = encoding;
+            this.threshold = threshold;
+            this.pending = new ByteArrayOutputStream(Math.min(threshold, 4096));
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (target != null) {
+                target.write(b);
+                return;
+            }
+            pending.write(b);
+            if (pending.size() >= threshold) {
+                commitStreaming();
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (target != null) {
+                target.write(b, off, len);
+                return;
+            }
+            pending.write(b, off, len);
+            if (pending.size() >= threshold) {
+                commitStreaming();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Pas d'envoi anticipé des en-têtes : la décision dépend de la taille
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) return;
+            closed = true;
+
+            if (target == null) {
+                // Sous le seuil : réponse brute avec Content-Length exact
+                byte[] bytes = pending.toByteArray();
+                pending = null;
+                exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(bytes);
+                }
+                return;
+            }
+
+            target.close();
+        }
+
+        void abort() {
+            closed = true;
+            pending = null;
+        }
+
+        private void commitStreaming() throws IOException {
+            OutputStream body;
+            if (encoding != null) {
+                exchange.getResponseHeaders().set("Content-Encoding", encoding);
+                exchange.sendResponseHeaders(statusCode, 0);
+                OutputStream raw = new BufferedOutputStream(exchange.getResponseBody(), 8192);
+                body = GZIP.equals(encoding)
+                    ? new GZIPOutputStream(raw, 8192)
+                    : new DeflaterOutputStream(raw);
+            } else {
+                exchange.sendResponseHeaders(statusCode, 0);
+                body = new BufferedOutputStream(exchange.getResponseBody(), 8192);
+            }
+
+            pending.writeTo(body);
+            pending = null;
+            target = body;
+        }
+    }
+}
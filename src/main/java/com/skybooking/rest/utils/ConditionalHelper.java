@@ -0,0 +1,110 @@
+// src/main/java/com/skybooking/rest/utils/ConditionalHelper.java
+
+package com.skybooking.rest.utils;
+
+import com.sun.net.httpserver.HttpExchange;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 🔁 Requêtes conditionnelles (ETag / If-None-Match / Last-Modified)
+ *
+ * - ETags faibles (W/"...") : la représentation peut être compressée ou indentée
+ * - If-None-Match prioritaire sur If-Modified-Since (RFC 7232)
+ * - 304 sans corps : ni appel CORBA lourd, ni sérialisation JSON
+ */
+public class ConditionalHelper {
+
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    /**
+     * Construire un ETag faible à partir d'une version (ex: "1718012345678-142-ACTIVE")
+     */
+    public static String weakETag(String version) {
+        return "W/\"" + version.replace("\"", "") + "\"";
+    }
+
+    /**
+     * Extraire la date de dernière modification d'une version "<ms>-..." (0 si inconnue)
+     */
+    public static long lastModifiedOf(String version) {
+        if (version == null) return 0L;
+        int dash = version.indexOf('-');
+        try {
+            return Long.parseLong(dash > 0 ? version.substring(0, dash) : version);
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Vérifier si la copie du client est à jour
+     */
+    public static boolean isNotModified(HttpExchange exchange, String etag, long lastModifiedMillis) {
+        String ifNoneMatch = exchange.getRequestHeaders().getFirst("If-None-Match");
+        if (ifNoneMatch != null) {
+            return matchesAny(ifNoneMatch, etag);
+        }
+
+        String ifModifiedSince = exchange.getRequestHeaders().getFirst("If-Modified-Since");
+        if (ifModifiedSince != null && lastModifiedMillis > 0) {
+            try {
+                long since = ZonedDateTime.parse(ifModifiedSince.trim(), HTTP_DATE)
+                    .toInstant().toEpochMilli();
+                // Résolution HTTP à la seconde
+                return lastModifiedMillis / 1000 <= since / 1000;
+            } catch (DateTimeParseException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Poser les validateurs sur la réponse (200 ou 304)
+     */
+    public static void setValidators(HttpExchange exchange, String etag, long lastModifiedMillis) {
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (lastModifiedMillis > 0) {
+            exchange.getResponseHeaders().set("Last-Modified", formatHttpDate(lastModifiedMillis));
+        }
+        // Le client garde sa copie mais doit la revalider à chaque affichage
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+    }
+
+    /**
+     * Répondre 304 Not Modified (sans corps)
+     */
+    public static void sendNotModified(HttpExchange exchange, String etag, long lastModifiedMillis)
+            throws IOException {
+        setValidators(exchange, etag, lastModifiedMillis);
+        exchange.sendResponseHeaders(304, -1);
+        exchange.close();
+    }
+
+    public static String formatHttpDate(long millis) {
+        return HTTP_DATE.format(Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC));
+    }
+
+    /**
+     * Comparaison faible d'une liste If-None-Match ("*" ou ETags séparés par des virgules)
+     */
+    private static boolean matchesAny(String header, String etag) {
+        String expected = opaque(etag);
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if ("*".equals(value) || opaque(value).equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
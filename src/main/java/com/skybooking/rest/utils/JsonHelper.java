@@ -3,7 +3,9 @@
 package com.skybooking.rest.utils;
 
 import com.google.gson.*;
+import com.google.gson.stream.JsonWriter;
 import FlightReservation.*;
+import java.io.IOException;
 
 /**
  * 📄 Utilitaires pour conversion JSON
@@ -73,6 +75,57 @@ public class JsonHelper {
         return json;
     }
     
+    /**
+     * 🆕 Convertir SeatHold en JSON
+     */
+    public static JsonObject seatHoldToJson(SeatHold hold) {
+        JsonObject json = new JsonObject();
+        json.addProperty("holdId", hold.holdId);
+        json.addProperty("customerId", hold.customerId);
+        json.addProperty("flightId", hold.flightId);
+        JsonArray seats = new JsonArray();
+        for (String seatNumber : hold.seatNumbers) {
+            seats.add(seatNumber);
+        }
+        json.add("seatNumbers", seats);
+        json.addProperty("expiresAt", hold.expiresAt);
+        json.addProperty("ttlSeconds", hold.ttlSeconds);
+        return json;
+    }
+    
+    /**
+     * 🆕 Convertir SeatDriftReport en JSON (compteurs absents : -1)
+     */
+    public static JsonObject seatDriftReportToJson(SeatDriftReport report) {
+        JsonObject json = new JsonObject();
+        json.addProperty("running", report.running);
+        json.addProperty("lastRunAt", report.lastRunAt);
+        json.addProperty("durationMs", report.durationMs);
+        json.addProperty("flightsScanned", report.flightsScanned);
+        json.addProperty("driftedFlights", report.driftedFlights);
+        json.addProperty("repairedFlights", report.repairedFlights);
+        json.addProperty("totalRepaired", report.totalRepaired);
+        
+        JsonArray drifts = new JsonArray();
+        for (SeatDrift drift : report.drifts) {
+            JsonObject item = new JsonObject();
+            item.addProperty("flightId", drift.flightId);
+            item.addProperty("flightNumber", drift.flightNumber);
+            item.addProperty("departureDate", drift.departureDate);
+            item.addProperty("recordedSeats", drift.recordedSeats);
+            item.addProperty("actualSeats", drift.actualSeats);
+            item.addProperty("recordedEconomy", drift.recordedEconomy);
+            item.addProperty("actualEconomy", drift.actualEconomy);
+            item.addProperty("recordedBusiness", drift.recordedBusiness);
+            item.addProperty("actualBusiness", drift.actualBusiness);
+            item.addProperty("recordedFirst", drift.recordedFirst);
+            item.addProperty("actualFirst", drift.actualFirst);
+            drifts.add(item);
+        }
+        json.add("drifts", drifts);
+        return json;
+    }
+    
     /**
      * Convertir Payment en JSON
      */
@@ -122,4 +175,169 @@ public class JsonHelper {
         json.addProperty("phoneNumber", customer.phoneNumber);
         return json;
     }
+    
+    // 🆕 ==================== SÉRIALISATION EN STREAMING ====================
+    
+    /**
+     * Écrivain d'un élément directement dans le flux JSON (sans arbre JsonObject)
+     */
+    @FunctionalInterface
+    public interface ElementWriter<T> {
+        void write(JsonWriter out, T value) throws IOException;
+    }
+    
+    /**
+     * Écrire un tableau d'éléments directement dans le flux
+     */
+    public static <T> void writeArray(JsonWriter out, T[] items, ElementWriter<T> writer) 
+            throws IOException {
+        out.beginArray();
+        for (T item : items) {
+            writer.write(out, item);
+        }
+        out.endArray();
+    }
+    
+    /**
+     * Écrire un Flight dans le flux (mêmes champs que flightToJson)
+     */
+    public static void writeFlight(JsonWriter out, Flight flight) throws IOException {
+        out.beginObject();
+        out.name("flightId").value(flight.flightId);
+        out.name("flightNumber").value(flight.flightNumber);
+        out.name("airline").value(flight.airline);
+        out.name("departureCity").value(flight.departureCity);
+        out.name("arrivalCity").value(flight.arrivalCity);
+        out.name("departureDate").value(flight.departureDate);
+        out.name("departureTime").value(flight.departureTime);
+        out.name("arrivalDate").value(flight.arrivalDate);
+        out.name("arrivalTime").value(flight.arrivalTime);
+        out.name("duration").value(flight.duration);
+        out.name("economyPrice").value(flight.economyPrice);
+        out.name("businessPrice").value(flight.businessPrice);
+        out.name("firstClassPrice").value(flight.firstClassPrice);
+        out.name("availableSeats").value(flight.availableSeats);
+        out.name("aircraftType").value(flight.aircraftType);
+        out.endObject();
+    }
+    
+    /**
+     * 🆕 Écrire un itinéraire avec correspondances dans le flux
+     */
+    public static void writeItinerary(JsonWriter out, Itinerary itinerary) throws IOException {
+        out.beginObject();
+        out.name("totalPrice").value(itinerary.totalPrice);
+        out.name("totalMinutes").value(itinerary.totalMinutes);
+        out.name("connections").value(itinerary.connections);
+        out.name("legs");
+        writeArray(out, itinerary.legs, JsonHelper::writeFlight);
+        out.endObject();
+    }
+    
+    /**
+     * 🆕 Écrire une suggestion de ville dans le flux
+     */
+    public static void writeCitySuggestion(JsonWriter out, CitySuggestion city) throws IOException {
+        out.beginObject();
+        out.name("cityKey").value(city.cityKey);
+        out.name("cityName").value(city.cityName);
+        out.name("flightCount").value(city.flightCount);
+        out.name("hotelCount").value(city.hotelCount);
+        out.endObject();
+    }
+    
+    /**
+     * 🆕 Écrire une page de résultats de recherche dans le flux
+     */
+    public static void writeFlightPage(JsonWriter out, FlightPage page) throws IOException {
+        out.beginObject();
+        out.name("totalMatches").value(page.totalMatches);
+        out.name("nextPageToken").value(page.nextPageToken);
+        out.name("flights");
+        writeArray(out, page.flights, JsonHelper::writeFlight);
+        out.endObject();
+    }
+    
+    /**
+     * 🆕 Écrire un jour du calendrier des prix dans le flux
+     */
+    public static void writeFareDay(JsonWriter out, FareDay day) throws IOException {
+        out.beginObject();
+        out.name("date").value(day.date);
+        out.name("minPrice").value(day.minPrice);
+        out.name("availableSeats").value(day.availableSeats);
+        out.name("flightCount").value(day.flightCount);
+        out.endObject();
+    }
+    
+    /**
+     * 🆕 Écrire une destination (tarif minimum du mois) dans le flux
+     */
+    public static void writeDestinationFare(JsonWriter out, DestinationFare fare) throws IOException {
+        out.beginObject();
+        out.name("arrivalCity").value(fare.arrivalCity);
+        out.name("cheapestDate").value(fare.cheapestDate);
+        out.name("flightId").value(fare.flightId);
+        out.name("minPrice").value(fare.minPrice);
+        out.name("flightCount").value(fare.flightCount);
+        out.endObject();
+    }
+    
+    /**
+     * Écrire un Seat dans le flux (mêmes champs que seatToJson)
+     */
+    public static void writeSeat(JsonWriter out, Seat seat) throws IOException {
+        out.beginObject();
+        out.name("seatNumber").value(seat.seatNumber);
+        out.name("seatClass").value(seat.seatClass);
+        out.name("status").value(seat.status);
+        out.name("price").value(seat.price);
+        out.endObject();
+    }
+    
+    /**
+     * Écrire un FlightManagementData dans le flux (liste admin)
+     */
+    public static void writeFlightManagement(JsonWriter out, FlightManagementData flight) 
+            throws IOException {
+        out.beginObject();
+        out.name("flightId").value(flight.flightId);
+        out.name("flightNumber").value(flight.flightNumber);
+        out.name("airline").value(flight.airline);
+        out.name("departureCity").value(flight.departureCity);
+        out.name("arrivalCity").value(flight.arrivalCity);
+        out.name("departureDate").value(flight.departureDate);
+        out.name("departureTime").value(flight.departureTime);
+        out.name("arrivalDate").value(flight.arrivalDate);
+        out.name("arrivalTime").value(flight.arrivalTime);
+        out.name("duration").value(flight.duration);
+        out.name("economyPrice").value(flight.economyPrice);
+        out.name("businessPrice").value(flight.businessPrice);
+        out.name("firstClassPrice").value(flight.firstClassPrice);
+        out.name("totalSeats").value(flight.totalSeats);
+        out.name("availableSeats").value(flight.availableSeats);
+        out.name("aircraftType").value(flight.aircraftType);
+        out.name("status").value(flight.status);
+        out.endObject();
+    }
+    
+    /**
+     * Écrire un UserManagementData dans le flux (liste admin)
+     */
+    public static void writeUserManagement(JsonWriter out, UserManagementData user) 
+            throws IOException {
+        out.beginObject();
+        out.name("customerId").value(user.customerId);
+        out.name("username").value(user.username);
+        out.name("firstName").value(user.firstName);
+        out.name("lastName").value(user.lastName);
+        out.name("email").value(user.email);
+        out.name("phoneNumber").value(user.phoneNumber);
+        out.name("totalBookings").value(user.totalBookings);
+        out.name("totalSpent").value(user.totalSpent);
+        out.name("lastBooking").value(user.lastBooking);
+        out.name("isActive").value(user.isActive);
+        out.name("registeredAt").value(user.registeredAt);
+        out.endObject();
+    }
 }
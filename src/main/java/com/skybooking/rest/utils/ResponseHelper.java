@@ -5,34 +5,62 @@ package com.skybooking.rest.utils;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 import com.sun.net.httpserver.HttpExchange;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * 📤 Utilitaires pour envoyer des réponses HTTP
  */
 public class ResponseHelper {
     
+    // Compact par défaut, indentation uniquement sur demande (?pretty=true)
     private static final Gson GSON = new GsonBuilder()
+        .serializeNulls()
+        .create();
+    
+    private static final Gson PRETTY_GSON = new GsonBuilder()
         .setPrettyPrinting()
         .serializeNulls()
         .create();
     
+    // Plage "Range" non satisfaisable (réponse 416)
+    private static final long[] UNSATISFIABLE_RANGE = new long[0];
+    
+    /**
+     * Corps JSON écrit directement dans le flux de réponse
+     */
+    @FunctionalInterface
+    public interface JsonBody {
+        void write(JsonWriter out) throws IOException;
+    }
+    
     /**
      * Envoyer une réponse JSON
      */
     public static void sendJsonResponse(HttpExchange exchange, int statusCode, Object data) 
             throws IOException {
+        if (exchange.getResponseCode() != -1) {
+            // 🆕 En-têtes déjà envoyés (flux interrompu) : pas de seconde réponse,
+            // l'exception remonte et le serveur coupe la connexion
+            throw new IOException("Réponse déjà commencée (" + exchange.getResponseCode() + ")");
+        }
         try {
-            String jsonResponse = GSON.toJson(data);
+            String jsonResponse = (isPrettyRequested(exchange) ? PRETTY_GSON : GSON).toJson(data);
             byte[] bytes = jsonResponse.getBytes(StandardCharsets.UTF_8);
             
             exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
-            exchange.sendResponseHeaders(statusCode, bytes.length);
             
-            try (OutputStream os = exchange.getResponseBody()) {
+            // Compression gzip/deflate négociée au-delà du seuil
+            try (OutputStream os = CompressionHelper.openResponseBody(exchange, statusCode)) {
                 os.write(bytes);
             }
         } catch (Exception e) {
@@ -41,6 +69,62 @@ public class ResponseHelper {
         }
     }
     
+    /**
+     * 🌊 Envoyer une réponse JSON en streaming (Transfer-Encoding: chunked)
+     * Les éléments sont sérialisés directement dans le corps de la réponse,
+     * sans arbre JsonObject intermédiaire ni String/byte[] complets.
+     * Compressée en gzip/deflate à la volée si le client l'accepte.
+     * 
+     * En cas d'erreur pendant l'écriture, le corps n'est jamais terminé
+     * proprement : rien n'est envoyé si les en-têtes ne sont pas partis
+     * (l'appelant répond une erreur), sinon la réponse reste tronquée et
+     * la connexion est coupée (voir sendJsonResponse).
+     */
+    public static void sendJsonStream(HttpExchange exchange, int statusCode, JsonBody body) 
+            throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        
+        OutputStream os = CompressionHelper.openResponseBody(exchange, statusCode);
+        JsonWriter writer = new JsonWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8));
+        try {
+            writer.setSerializeNulls(true);
+            if (isPrettyRequested(exchange)) {
+                writer.setIndent("  ");
+            }
+            body.write(writer);
+        } catch (IOException | RuntimeException e) {
+            System.err.println("❌ Erreur envoi réponse (stream): " + e.getMessage());
+            CompressionHelper.abort(os);
+            throw e;
+        }
+        writer.close();
+    }
+    
+    /**
+     * 🌊 Envoyer un tableau JSON en streaming
+     */
+    public static <T> void sendJsonArrayStream(HttpExchange exchange, int statusCode, T[] items,
+                                               JsonHelper.ElementWriter<T> writer) 
+            throws IOException {
+        sendJsonStream(exchange, statusCode, out -> JsonHelper.writeArray(out, items, writer));
+    }
+    
+    /**
+     * Indentation demandée par le client (?pretty=true)
+     */
+    private static boolean isPrettyRequested(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return false;
+        }
+        for (String param : query.split("&")) {
+            if (param.equals("pretty") || param.equals("pretty=true") || param.equals("pretty=1")) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Envoyer une erreur JSON
      */
@@ -65,8 +149,18 @@ public class ResponseHelper {
         sendJsonResponse(exchange, 200, response);
     }
     
+    /**
+     * 🆕 Réponse 202 Accepted (traitement en cours) avec Retry-After
+     */
+    public static void sendAccepted(HttpExchange exchange, JsonObject body, int retryAfterSeconds) 
+            throws IOException {
+        exchange.getResponseHeaders().set("Retry-After", String.valueOf(retryAfterSeconds));
+        sendJsonResponse(exchange, 202, body);
+    }
+    
     /**
      * Envoyer des données binaires (PDF, images)
+     * Jamais compressées : les PDF le sont déjà
      */
     public static void sendBinaryResponse(HttpExchange exchange, byte[] data, 
                                          String contentType, String filename) 
@@ -83,6 +177,114 @@ public class ResponseHelper {
         }
     }
     
+    /**
+     * 🆕 Envoyer un fichier depuis le disque sans le charger en mémoire
+     * 
+     * - Copie par FileChannel.transferTo vers le flux de réponse
+     * - Content-Length exact, Accept-Ranges et ETag (nom de fichier adressé par contenu)
+     * - Requêtes Range (une seule plage) : 206 Partial Content ou 416
+     */
+    public static void sendFileResponse(HttpExchange exchange, Path file,
+                                        String contentType, String filename) 
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            String etag = "\"" + file.getFileName() + "\"";
+            
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.getResponseHeaders().set("Content-Disposition", 
+                "attachment; filename=\"" + filename + "\"");
+            exchange.getResponseHeaders().set("Accept-Ranges", "bytes");
+            exchange.getResponseHeaders().set("ETag", etag);
+            
+            long[] range = parseRange(exchange, size, etag);
+            
+            if (range == UNSATISFIABLE_RANGE) {
+                exchange.getResponseHeaders().set("Content-Range", "bytes */" + size);
+                exchange.sendResponseHeaders(416, -1);
+                exchange.close();
+                return;
+            }
+            
+            long start = 0;
+            long length = size;
+            int statusCode = 200;
+            
+            if (range != null) {
+                start = range[0];
+                length = range[1] - range[0] + 1;
+                statusCode = 206;
+                exchange.getResponseHeaders().set("Content-Range", 
+                    "bytes " + range[0] + "-" + range[1] + "/" + size);
+            }
+            
+            exchange.sendResponseHeaders(statusCode, length == 0 ? -1 : length);
+            
+            try (OutputStream os = exchange.getResponseBody()) {
+                WritableByteChannel target = Channels.newChannel(os);
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long written = channel.transferTo(position, remaining, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    position += written;
+                    remaining -= written;
+                }
+            }
+        }
+    }
+    
+    /**
+     * Analyser l'en-tête Range (bytes=a-b, bytes=a-, bytes=-n)
+     * null = réponse complète, UNSATISFIABLE_RANGE = 416
+     */
+    private static long[] parseRange(HttpExchange exchange, long size, String etag) {
+        String header = exchange.getRequestHeaders().getFirst("Range");
+        if (header == null || !header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return null; // Absente ou multi-plages : réponse complète
+        }
+        
+        // If-Range : la plage n'est valable que pour la même version du fichier
+        String ifRange = exchange.getRequestHeaders().getFirst("If-Range");
+        if (ifRange != null && !ifRange.trim().equals(etag)) {
+            return null;
+        }
+        
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            
+            if (first.isEmpty()) {
+                // Suffixe : les n derniers octets
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) return UNSATISFIABLE_RANGE;
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            }
+            
+            if (start >= size || start > end) {
+                return UNSATISFIABLE_RANGE;
+            }
+            return new long[] { start, end };
+            
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
     /**
      * Envoyer une réponse vide (204 No Content)
      */
@@ -5,6 +5,7 @@ package com.skybooking.server;
 import org.omg.CORBA.*;
 import org.omg.PortableServer.*;
 import FlightReservation.*;
+import com.skybooking.managers.helpers.DocumentRenderTrigger;
 import com.skybooking.managers.impl.*;
 
 /**
@@ -34,6 +35,13 @@ public class FlightBookingSystemImpl extends FlightBookingSystemPOA {
         // ✅ CORRECTION: Passer l'implémentation concrète au lieu de l'interface
         HotelManagerImpl hotelMgrImpl = new HotelManagerImpl(reservationMgrImpl);
         
+        // 🆕 Pré-génération des PDF après paiement / modification de réservation
+        DocumentRenderTrigger documentRenderTrigger = new DocumentRenderTrigger(
+            reservationMgrImpl, flightMgrImpl, customerMgrImpl, paymentMgrImpl
+        );
+        paymentMgrImpl.setDocumentRenderTrigger(documentRenderTrigger);
+        cancellationMgrImpl.setDocumentRenderTrigger(documentRenderTrigger);
+        
         // Activer les objets dans le POA
         byte[] custId = poa.activate_object(customerMgrImpl);
         byte[] flightId = poa.activate_object(flightMgrImpl);
@@ -0,0 +1,189 @@
+// src/main/java/com/skybooking/utils/CityKeys.java
+
+package com.skybooking.utils;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 🏙️ Clés de ville normalisées pour la recherche indexée
+ *
+ * Les vols (depKey / arrKey) et les hôtels (cityKey) stockent une clé calculée
+ * à partir du nom de ville : code IATA pour les villes connues, sinon le nom
+ * sans accents, en minuscules. La saisie utilisateur est résolue vers ces clés
+ * avant la requête : égalité exacte sur un champ indexé au lieu d'une regex
+ * insensible à la casse qui parcourait toute la collection.
+ *
+ * Exemples : "Béjaïa", "bejaia", "BJA" → BJA ; "Algiers", "alger" → ALG
+ */
+public class CityKeys {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    /** Nom normalisé (ou alias) → code IATA */
+    private static final Map<String, String> CODES_BY_NAME = new HashMap<>();
+
+    /** Noms normalisés triés, pour la résolution par préfixe */
+    private static final NavigableMap<String, String> SORTED_NAMES = new TreeMap<>();
+
+    private static final Set<String> KNOWN_CODES = new HashSet<>();
+
+    /** 🆕 Code IATA → noms et alias tels qu'enregistrés (le premier sert d'affichage) */
+    private static final Map<String, List<String>> NAMES_BY_CODE = new HashMap<>();
+
+    static {
+        // Algérie
+        register("ALG", "Alger", "Algiers", "El Djazair");
+        register("ORN", "Oran", "Wahran");
+        register("CZL", "Constantine");
+        register("AAE", "Annaba");
+        register("TLM", "Tlemcen");
+        register("BJA", "Béjaïa", "Bougie");
+        register("QSF", "Sétif");
+        register("BLJ", "Batna");
+        register("TEE", "Tébessa");
+        register("OGX", "Ouargla");
+        register("HME", "Hassi Messaoud");
+        register("GHA", "Ghardaïa");
+        register("TMR", "Tamanrasset");
+        register("AZR", "Adrar");
+
+        // Europe
+        register("PAR", "Paris");
+        register("MRS", "Marseille");
+        register("LYS", "Lyon");
+        register("TLS", "Toulouse");
+        register("NCE", "Nice");
+        register("LON", "Londres", "London");
+        register("MAN", "Manchester");
+        register("MAD", "Madrid");
+        register("BCN", "Barcelone", "Barcelona");
+        register("ROM", "Rome", "Roma");
+        register("MIL", "Milan", "Milano");
+        register("BER", "Berlin");
+        register("FRA", "Francfort", "Frankfurt");
+        register("MUC", "Munich", "München");
+        register("AMS", "Amsterdam");
+        register("BRU", "Bruxelles", "Brussels");
+        register("GVA", "Genève", "Geneva");
+        register("ZRH", "Zurich");
+        register("IST", "Istanbul");
+        register("ATH", "Athènes", "Athens");
+        register("LIS", "Lisbonne", "Lisbon");
+        register("VIE", "Vienne", "Vienna");
+        register("PRG", "Prague");
+        register("WAW", "Varsovie", "Warsaw");
+
+        // Moyen-Orient
+        register("DXB", "Dubaï", "Dubai");
+        register("DOH", "Doha");
+        register("RUH", "Riyad", "Riyadh");
+        register("JED", "Jeddah", "Djeddah");
+        register("CAI", "Le Caire", "Cairo");
+        register("BEY", "Beyrouth", "Beirut");
+        register("AMM", "Amman");
+        register("KWI", "Koweït", "Kuwait");
+        register("BAH", "Bahreïn", "Bahrain");
+        register("MCT", "Muscat", "Mascate");
+
+        // Afrique
+        register("TUN", "Tunis");
+        register("CMN", "Casablanca");
+        register("DSS", "Dakar");
+        register("BKO", "Bamako");
+        register("ABJ", "Abidjan");
+        register("NIM", "Niamey");
+        register("NDJ", "N'Djamena");
+        register("NKC", "Nouakchott");
+        register("TIP", "Tripoli");
+
+        // Amérique
+        register("NYC", "New York");
+        register("YMQ", "Montréal");
+        register("YTO", "Toronto");
+        register("LAX", "Los Angeles");
+        register("MIA", "Miami");
+        register("WAS", "Washington");
+        register("BOS", "Boston");
+        register("CHI", "Chicago");
+
+        // Asie
+        register("BJS", "Pékin", "Beijing");
+        register("SHA", "Shanghai");
+        register("SIN", "Singapour", "Singapore");
+        register("BKK", "Bangkok");
+        register("KUL", "Kuala Lumpur");
+        register("TYO", "Tokyo");
+        register("SEL", "Séoul", "Seoul");
+        register("HKG", "Hong Kong");
+    }
+
+    /**
+     * Nom sans accents, en minuscules, séparateurs réduits à un espace
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String folded = DIACRITICS.matcher(
+            Normalizer.normalize(value, Normalizer.Form.NFD)).replaceAll("");
+        return SEPARATORS.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Clé stockée pour une ville : code IATA si connu, sinon le nom normalisé
+     */
+    public static String toKey(String city) {
+        String normalized = normalize(city);
+        String code = CODES_BY_NAME.get(normalized);
+        if (code != null) {
+            return code;
+        }
+        String upper = normalized.toUpperCase(Locale.ROOT);
+        return KNOWN_CODES.contains(upper) ? upper : normalized;
+    }
+
+    /**
+     * Clés correspondant à une saisie utilisateur
+     * - nom, alias ou code exact → une clé
+     * - début de nom connu ("const", "new") → toutes les villes correspondantes
+     * - ville inconnue → son nom normalisé
+     */
+    public static Set<String> resolve(String input) {
+        String normalized = normalize(input);
+        if (normalized.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        String key = toKey(input);
+        if (!key.equals(normalized)) {
+            return Collections.singleton(key);
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        for (Map.Entry<String, String> entry
+                : SORTED_NAMES.subMap(normalized, true, normalized + Character.MAX_VALUE, false).entrySet()) {
+            keys.add(entry.getValue());
+        }
+        return keys.isEmpty() ? Collections.singleton(normalized) : keys;
+    }
+
+    /**
+     * 🆕 Noms et alias connus d'une clé (vide pour une ville hors table)
+     */
+    public static List<String> names(String key) {
+        return NAMES_BY_CODE.getOrDefault(key, Collections.emptyList());
+    }
+
+    private static void register(String code, String... names) {
+        KNOWN_CODES.add(code);
+        NAMES_BY_CODE.put(code, Collections.unmodifiableList(Arrays.asList(names)));
+        for (String name : names) {
+            String normalized = normalize(name);
+            CODES_BY_NAME.put(normalized, code);
+            SORTED_NAMES.put(normalized, code);
+        }
+    }
+}
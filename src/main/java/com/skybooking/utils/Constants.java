@@ -21,6 +21,9 @@ public class Constants {
     public static final String COLLECTION_CUSTOMERS = "customers";
     public static final String COLLECTION_FLIGHTS = "flights";
     public static final String COLLECTION_SEATS = "seats";
+    public static final String COLLECTION_SEAT_MAPS = "seat_maps"; // 🆕 Plan compact : un document par vol
+    public static final String COLLECTION_SEAT_HOLDS = "seat_holds"; // 🆕 Sièges retenus (panier)
+    public static final String COLLECTION_BOOKING_INTENTS = "booking_intents"; // 🆕 Réservations en cours d'écriture
     public static final String COLLECTION_RESERVATIONS = "reservations";
     public static final String COLLECTION_TICKETS = "tickets";
     public static final String COLLECTION_PAYMENTS = "payments";
@@ -60,6 +63,51 @@ public class Constants {
     // ==================== DESTINATIONS FAVORITES ====================
     public static final int MAX_FAVORITES_PER_USER = 20;
     public static final int POPULAR_DESTINATIONS_LIMIT = 6;
+    public static final long POPULAR_DESTINATIONS_CACHE_TTL_SECONDS = 60; // 🆕 Cache REST (ETag)
+    
+    // 🆕 ==================== INVENTAIRE DES SIÈGES (MÉMOIRE) ====================
+    public static final long SEAT_WRITE_BEHIND_FLUSH_MS = 100; // Délai maximum avant écriture MongoDB
+    public static final int SEAT_WRITE_BEHIND_BATCH = 500; // Sièges par bulkWrite
+    public static final long SEAT_WRITE_BEHIND_RETRY_MS = 1000; // Attente après un échec d'écriture
+    public static final int SEAT_WRITE_BEHIND_MAX_RETRIES = 5; // Échecs avant d'isoler les vols en erreur
+    public static final int SEAT_HOLD_TTL_SECONDS = 600; // 🆕 Durée d'une retenue de sièges (10 min)
+    public static final int SEAT_HOLD_SWEEP_SECONDS = 15; // 🆕 Fréquence de libération des retenues expirées
+    public static final int SEAT_HOLD_PURGE_HOURS = 24; // 🆕 Suppression TTL des retenues oubliées
+    public static final int SEAT_AUTO_ASSIGN_MAX_SEATS = 9; // 🆕 Sièges par attribution automatique (groupe)
+    public static final int SEAT_AUTO_ASSIGN_ATTEMPTS = 8; // 🆕 Nouveaux choix si des sièges sont pris entre-temps
+    public static final int BOOKING_INTENT_SWEEP_SECONDS = 30; // 🆕 Fréquence de reprise des réservations interrompues
+    public static final int BOOKING_INTENT_STALE_SECONDS = 300; // 🆕 Intention sans nouvelles considérée abandonnée
+    public static final int BOOKING_INTENT_BATCH = 500; // 🆕 Intentions reprises par passage
+    public static final int SEAT_RECONCILE_INTERVAL_SECONDS = 300; // 🆕 Pause entre deux vérifications sièges / vols
+    public static final int SEAT_RECONCILE_PAGE_SIZE = 200; // 🆕 Vols comparés par agrégation
+    public static final long SEAT_RECONCILE_PAGE_PAUSE_MS = 250; // 🆕 Pause minimale entre deux pages
+    public static final long SEAT_RECONCILE_SETTLE_MS = 2000; // 🆕 Délai avant de revérifier un écart (réservations en cours)
+    public static final int SEAT_RECONCILE_THREADS = 2; // 🆕 Pages vérifiées et corrigées en parallèle
+    public static final int SEAT_RECONCILE_REPORT_LIMIT = 100; // 🆕 Écarts détaillés dans le rapport admin
+    
+    // 🆕 ==================== PAGINATION DE LA RECHERCHE ====================
+    public static final int SEARCH_PAGE_DEFAULT_LIMIT = 50;
+    public static final int SEARCH_PAGE_MAX_LIMIT = 200;
+    
+    // 🆕 ==================== AUTOCOMPLÉTION DES VILLES ====================
+    public static final int AUTOCOMPLETE_DEFAULT_LIMIT = 8;
+    public static final int AUTOCOMPLETE_MAX_LIMIT = 10; // Villes gardées par nœud de l'arbre
+    
+    // 🆕 ==================== RECHERCHE AVEC CORRESPONDANCES ====================
+    public static final int CONNECTION_MAX_LEGS = 3;
+    public static final int CONNECTION_MIN_MINUTES = 90; // Temps minimum de correspondance par défaut
+    public static final int CONNECTION_MAX_LAYOVER_MINUTES = 1440; // Escale de 24h au plus
+    public static final int CONNECTION_DEFAULT_LIMIT = 20;
+    public static final int CONNECTION_MAX_LIMIT = 50;
+    public static final int CONNECTION_MAX_EXPANSIONS = 50000; // Borne du parcours par recherche
+    
+    // 🆕 ==================== CALENDRIER DES PRIX ====================
+    public static final int FARE_CALENDAR_DEFAULT_DAYS = 30; // Fenêtre si toDate absent
+    public static final int FARE_CALENDAR_MAX_DAYS = 62; // Deux mois au plus par appel
+    
+    // 🆕 ==================== EXPLORER DEPUIS UNE VILLE ====================
+    public static final int EXPLORE_DEFAULT_LIMIT = 12;
+    public static final int EXPLORE_MAX_LIMIT = 50;
     
     // 🆕 ==================== DYNAMIC PACKAGING ====================
     public static final double FLIGHT_HOTEL_DISCOUNT = 15.0; // 15% de réduction
@@ -79,12 +127,49 @@ public class Constants {
     public static final long TIMEOUT_HOTEL_SEARCH = 15L; // 🆕
     public static final long TIMEOUT_HOTEL_BOOKING = 20L; // 🆕
     
+    // 🆕 ==================== POOL DE DISPATCH HTTP ====================
+    public static final String DISPATCH_CORE_THREADS_ENV = "REST_DISPATCH_CORE_THREADS";
+    public static final String DISPATCH_MAX_THREADS_ENV = "REST_DISPATCH_MAX_THREADS";
+    public static final String DISPATCH_QUEUE_CAPACITY_ENV = "REST_DISPATCH_QUEUE_CAPACITY";
+    public static final int DEFAULT_DISPATCH_CORE_THREADS = 
+        Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    public static final int DEFAULT_DISPATCH_MAX_THREADS = 
+        Math.max(16, Runtime.getRuntime().availableProcessors() * 8);
+    public static final int DEFAULT_DISPATCH_QUEUE_CAPACITY = 200;
+    public static final long DISPATCH_KEEP_ALIVE_SECONDS = 60L;
+    public static final int DISPATCH_RETRY_AFTER_SECONDS = 2;
+    
+    // 🆕 ==================== COMPRESSION HTTP ====================
+    public static final int COMPRESSION_MIN_BYTES = 1024; // En dessous : pas de gzip
+    
+    // 🆕 ==================== BULKHEADS CORBA (threads / file) ====================
+    public static final int BULKHEAD_SEARCH_THREADS = 24;
+    public static final int BULKHEAD_SEARCH_QUEUE = 200;
+    public static final int BULKHEAD_RESERVATION_THREADS = 16;
+    public static final int BULKHEAD_RESERVATION_QUEUE = 100;
+    public static final int BULKHEAD_PAYMENT_THREADS = 12;
+    public static final int BULKHEAD_PAYMENT_QUEUE = 50;
+    public static final int BULKHEAD_DOCUMENT_THREADS = 6;
+    public static final int BULKHEAD_DOCUMENT_QUEUE = 30;
+    public static final int BULKHEAD_ADMIN_THREADS = 4;
+    public static final int BULKHEAD_ADMIN_QUEUE = 20;
+    public static final int BULKHEAD_DEFAULT_THREADS = 16;
+    public static final int BULKHEAD_DEFAULT_QUEUE = 100;
+    
     // ==================== FICHIERS ====================
     public static final String TICKETS_DIR = "tickets";
     public static final String INVOICES_DIR = "invoices";
     public static final String TEMP_IMAGES_DIR = "temp_images";
     public static final String HOTEL_IMAGES_DIR = "hotel_images"; // 🆕
     
+    // 🆕 ==================== RENDU PDF ASYNCHRONE ====================
+    public static final String PDF_RENDERER_VERSION = "2"; // À incrémenter si la mise en page change
+    public static final int PDF_RENDER_THREADS = 2;
+    public static final int PDF_RENDER_QUEUE_CAPACITY = 50; // 🆕 Au-delà : rejet 503 + Retry-After
+    public static final int PDF_RENDER_WAIT_SECONDS = 5; // Attente côté requête avant réponse 202
+    public static final int PDF_RENDER_STALE_SECONDS = 120; // Marqueur de rendu abandonné
+    public static final int PDF_RENDER_RETRY_AFTER_SECONDS = 2;
+    
     // ==================== VALIDATION ====================
     public static final int MIN_USERNAME_LENGTH = 3;
     public static final int MIN_PASSWORD_LENGTH = 6;